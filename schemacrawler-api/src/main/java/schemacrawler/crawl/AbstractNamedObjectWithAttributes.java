@@ -46,7 +46,8 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
 
   private static final long serialVersionUID = -1486322887991472729L;
 
-  private final Map<String, Object> attributeMap;
+  // Most objects have few or no attributes, so the map is created when the first attribute is set
+  private Map<String, Object> attributeMap;
 
   /**
    * Effective Java - Item 17 - Minimize Mutability - Package-private constructors make a class
@@ -56,7 +57,7 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
    */
   AbstractNamedObjectWithAttributes(final String name) {
     super(name);
-    attributeMap = new HashMap<>();
+    attributeMap = Collections.emptyMap();
   }
 
   /** {@inheritDoc} */
@@ -121,7 +122,7 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
       if (value == null) {
         attributeMap.remove(name);
       } else {
-        attributeMap.put(name, value);
+        writableAttributeMap().put(name, value);
       }
     }
   }
@@ -132,8 +133,15 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   }
 
   protected final void addAttributes(final Map<String, Object> values) {
-    if (values != null) {
-      attributeMap.putAll(values);
+    if (values != null && !values.isEmpty()) {
+      writableAttributeMap().putAll(values);
     }
   }
+
+  private Map<String, Object> writableAttributeMap() {
+    if (attributeMap.isEmpty()) {
+      attributeMap = new HashMap<>();
+    }
+    return attributeMap;
+  }
 }
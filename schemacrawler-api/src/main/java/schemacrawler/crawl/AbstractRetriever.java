@@ -33,8 +33,11 @@ import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleFor
 import static us.fatehi.utility.Utility.isBlank;
 
 import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -46,6 +49,8 @@ import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.JavaSqlType;
 import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.Retriever;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaReference;
@@ -106,8 +111,72 @@ abstract class AbstractRetriever {
     return belongsToCatalog && belongsToSchema;
   }
 
+  /**
+   * Wraps the results of a database metadata call, fetching rows with the configured fetch size.
+   *
+   * @param resultSet Results of a database metadata call
+   * @param description Description of the results, for logging
+   * @return Metadata result-set
+   * @throws SQLException On an exception
+   */
+  final MetadataResultSet createMetadataResultSet(
+      final ResultSet resultSet, final String description) throws SQLException {
+    final MetadataResultSet results =
+        new MetadataResultSet(resultSet, description, retrieverConnection.getFetchSize());
+    results.setStringPool(retrieverConnection.getStringPool());
+    return results;
+  }
+
+  /**
+   * Executes a query against the database, and wraps the results. String values read from the
+   * results are canonicalized through the pool of strings for the crawl.
+   *
+   * @param query Query to execute
+   * @param statement Statement to execute the query with
+   * @param schemaInclusionRule Schema inclusion rule, for queries that are run for each schema
+   * @return Metadata result-set
+   * @throws SQLException On an exception
+   */
+  final MetadataResultSet createMetadataResultSet(
+      final Query query, final Statement statement, final InclusionRule schemaInclusionRule)
+      throws SQLException {
+    final MetadataResultSet results = new MetadataResultSet(query, statement, schemaInclusionRule);
+    results.setStringPool(retrieverConnection.getStringPool());
+    return results;
+  }
+
   final Statement createStatement() throws SQLException {
-    return retrieverConnection.getConnection().createStatement();
+    return createStatement(retrieverConnection.getFetchSize());
+  }
+
+  /**
+   * Creates a statement for a data dictionary query, with the fetch size configured for that query
+   * and the configured query timeout.
+   *
+   * @param key Data dictionary query key
+   * @return Statement
+   * @throws SQLException On an exception
+   */
+  final Statement createStatement(final InformationSchemaKey key) throws SQLException {
+    return createStatement(retrieverConnection.getFetchSize(key));
+  }
+
+  /**
+   * Groups tables by schema, so that details for all the tables in a schema can be retrieved with
+   * a single database metadata call.
+   *
+   * @param allTables Tables to group
+   * @return Tables for each schema, in the order in which the schemas were first found
+   */
+  final Map<Schema, NamedObjectList<MutableTable>> groupTablesBySchema(
+      final NamedObjectList<MutableTable> allTables) {
+    final Map<Schema, NamedObjectList<MutableTable>> tablesBySchema = new LinkedHashMap<>();
+    for (final MutableTable table : allTables) {
+      tablesBySchema
+          .computeIfAbsent(table.getSchema(), schema -> new NamedObjectList<>())
+          .add(table);
+    }
+    return tablesBySchema;
   }
 
   final NamedObjectList<SchemaReference> getAllSchemas() {
@@ -177,31 +246,36 @@ abstract class AbstractRetriever {
       final int javaSqlTypeInt,
       final String databaseSpecificTypeName,
       final String mappedClassName) {
-    MutableColumnDataType columnDataType =
-        catalog
-            .lookupColumnDataType(schema, databaseSpecificTypeName)
-            .orElse(catalog.lookupSystemColumnDataType(databaseSpecificTypeName).orElse(null));
-    // Create new data type, if needed
-    if (columnDataType == null) {
-      columnDataType = new MutableColumnDataType(schema, databaseSpecificTypeName, type);
-      final JavaSqlType javaSqlType = retrieverConnection.getJavaSqlTypes().valueOf(javaSqlTypeInt);
-      columnDataType.setJavaSqlType(javaSqlType);
-      if (isBlank(mappedClassName)) {
-        final TypeMap typeMap = retrieverConnection.getTypeMap();
-        final Class<?> mappedClass;
-        if (typeMap.containsKey(databaseSpecificTypeName)) {
-          mappedClass = typeMap.get(databaseSpecificTypeName);
+    // Column data types are shared by tables and routines, which may be
+    // retrieved in parallel
+    synchronized (catalog) {
+      MutableColumnDataType columnDataType =
+          catalog
+              .lookupColumnDataType(schema, databaseSpecificTypeName)
+              .orElse(catalog.lookupSystemColumnDataType(databaseSpecificTypeName).orElse(null));
+      // Create new data type, if needed
+      if (columnDataType == null) {
+        columnDataType = new MutableColumnDataType(schema, databaseSpecificTypeName, type);
+        final JavaSqlType javaSqlType =
+            retrieverConnection.getJavaSqlTypes().valueOf(javaSqlTypeInt);
+        columnDataType.setJavaSqlType(javaSqlType);
+        if (isBlank(mappedClassName)) {
+          final TypeMap typeMap = retrieverConnection.getTypeMap();
+          final Class<?> mappedClass;
+          if (typeMap.containsKey(databaseSpecificTypeName)) {
+            mappedClass = typeMap.get(databaseSpecificTypeName);
+          } else {
+            mappedClass = typeMap.get(javaSqlType.getName());
+          }
+          columnDataType.setTypeMappedClass(mappedClass);
         } else {
-          mappedClass = typeMap.get(javaSqlType.getName());
+          columnDataType.setTypeMappedClass(mappedClassName);
         }
-        columnDataType.setTypeMappedClass(mappedClass);
-      } else {
-        columnDataType.setTypeMappedClass(mappedClassName);
-      }
 
-      catalog.addColumnDataType(columnDataType);
+        catalog.addColumnDataType(columnDataType);
+      }
+      return columnDataType;
     }
-    return columnDataType;
   }
 
   final Optional<MutableRoutine> lookupRoutine(
@@ -218,6 +292,22 @@ abstract class AbstractRetriever {
     return catalog.lookupTable(new NamedObjectKey(catalogName, schemaName, tableName));
   }
 
+  /**
+   * Looks up the table for a row of database metadata results, from the tables that were
+   * selected. Tables are identified by the "TABLE_CAT", "TABLE_SCHEM" and "TABLE_NAME" columns.
+   *
+   * @param tables Tables to look up
+   * @param results Current row of database metadata results
+   * @return Table for the row, or empty if the table was not selected
+   */
+  final Optional<MutableTable> lookupTable(
+      final NamedObjectList<MutableTable> tables, final MetadataResultSet results) {
+    final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
+    final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
+    final String tableName = results.getString("TABLE_NAME");
+    return tables.lookup(catalogName, schemaName, tableName);
+  }
+
   final String normalizeCatalogName(final String name) {
     if (retrieverConnection.isSupportsCatalogs()) {
       return name;
@@ -233,4 +323,20 @@ abstract class AbstractRetriever {
       return null;
     }
   }
+
+  private Statement createStatement(final int fetchSize) throws SQLException {
+    final Statement statement = retrieverConnection.getConnection().createStatement();
+    try {
+      if (fetchSize > 0) {
+        statement.setFetchSize(fetchSize);
+      }
+      final int queryTimeout = retrieverConnection.getQueryTimeout();
+      if (queryTimeout > 0) {
+        statement.setQueryTimeout(queryTimeout);
+      }
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not set fetch size or query timeout", e);
+    }
+    return statement;
+  }
 }
@@ -30,6 +30,7 @@ package schemacrawler.crawl;
 
 import static java.util.Objects.hash;
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.NamedObjectList.valuesOf;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -159,7 +160,7 @@ abstract class AbstractTableReference extends AbstractNamedObjectWithAttributes
 
   @Override
   public List<TableConstraintColumn> getConstrainedColumns() {
-    return tableConstraintColumns.values();
+    return valuesOf(tableConstraintColumns);
   }
 
   @Override
@@ -222,6 +223,11 @@ abstract class AbstractTableReference extends AbstractNamedObjectWithAttributes
     addTableConstraintColumn(columnReference);
   }
 
+  /** Freezes the constrained columns, so that they can no longer be modified. */
+  void freeze() {
+    tableConstraintColumns.freeze();
+  }
+
   private void addTableConstraintColumn(final ColumnReference columnReference) {
     final Column fkColumn = columnReference.getForeignKeyColumn();
     final MutableTableConstraintColumn tableConstraintColumn =
@@ -0,0 +1,154 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Chooses how table details are retrieved, for retrieval strategies that are set to adaptive. The
+ * choice is made once tables are retrieved, when the number of tables to crawl is known. Details
+ * for a few tables are retrieved faster with metadata calls for each table. Details for many
+ * tables are retrieved faster with a single data dictionary query, if the database plugin provides
+ * one, and otherwise with metadata calls for each schema.
+ */
+final class AdaptiveRetrievalStrategyChooser {
+
+  private static final Logger LOGGER =
+      Logger.getLogger(AdaptiveRetrievalStrategyChooser.class.getName());
+
+  /** Maximum number of tables for which details are retrieved one table at a time. */
+  static final int MAX_TABLES_FOR_METADATA = 50;
+
+  private static final Map<SchemaInfoMetadataRetrievalStrategy, InformationSchemaKey>
+      TABLE_DETAILS_QUERIES;
+
+  static {
+    TABLE_DETAILS_QUERIES = new EnumMap<>(SchemaInfoMetadataRetrievalStrategy.class);
+    TABLE_DETAILS_QUERIES.put(tableColumnsRetrievalStrategy, InformationSchemaKey.TABLE_COLUMNS);
+    TABLE_DETAILS_QUERIES.put(primaryKeysRetrievalStrategy, InformationSchemaKey.PRIMARY_KEYS);
+    TABLE_DETAILS_QUERIES.put(foreignKeysRetrievalStrategy, InformationSchemaKey.FOREIGN_KEYS);
+    TABLE_DETAILS_QUERIES.put(indexesRetrievalStrategy, InformationSchemaKey.INDEXES);
+  }
+
+  static MetadataRetrievalStrategy chooseRetrievalStrategy(
+      final int tableCount,
+      final int schemaCount,
+      final int maxTablesForMetadata,
+      final boolean hasDataDictionaryQuery) {
+    if (tableCount <= maxTablesForMetadata) {
+      return MetadataRetrievalStrategy.metadata;
+    } else if (hasDataDictionaryQuery) {
+      return MetadataRetrievalStrategy.data_dictionary_all;
+    } else if (schemaCount < tableCount) {
+      return MetadataRetrievalStrategy.metadata_bulk;
+    } else {
+      return MetadataRetrievalStrategy.metadata;
+    }
+  }
+
+  private final RetrieverConnection retrieverConnection;
+  private final MutableCatalog catalog;
+  private final int maxTablesForMetadata;
+
+  AdaptiveRetrievalStrategyChooser(
+      final RetrieverConnection retrieverConnection, final MutableCatalog catalog) {
+    this(retrieverConnection, catalog, MAX_TABLES_FOR_METADATA);
+  }
+
+  AdaptiveRetrievalStrategyChooser(
+      final RetrieverConnection retrieverConnection,
+      final MutableCatalog catalog,
+      final int maxTablesForMetadata) {
+    this.retrieverConnection =
+        requireNonNull(retrieverConnection, "No retriever connection provided");
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.maxTablesForMetadata = maxTablesForMetadata;
+  }
+
+  /**
+   * Chooses a retrieval strategy for each table details retrieval strategy that is set to
+   * adaptive. The choice is used by the retriever connection, as well as by other retriever
+   * connections that share its retrieval strategies, and is recorded in the crawl information.
+   *
+   * @param allTables Tables whose details are to be retrieved
+   */
+  void chooseRetrievalStrategies(final NamedObjectList<MutableTable> allTables) {
+    requireNonNull(allTables, "No tables provided");
+
+    final int tableCount = allTables.size();
+    final Set<Schema> schemas = new HashSet<>();
+    for (final MutableTable table : allTables) {
+      schemas.add(table.getSchema());
+    }
+    final int schemaCount = schemas.size();
+
+    final InformationSchemaViews informationSchemaViews =
+        retrieverConnection.getInformationSchemaViews();
+    for (final Map.Entry<SchemaInfoMetadataRetrievalStrategy, InformationSchemaKey> entry :
+        TABLE_DETAILS_QUERIES.entrySet()) {
+      final SchemaInfoMetadataRetrievalStrategy retrievalStrategy = entry.getKey();
+      if (!retrieverConnection.isAdaptive(retrievalStrategy)) {
+        continue;
+      }
+
+      final MetadataRetrievalStrategy chosenStrategy =
+          chooseRetrievalStrategy(
+              tableCount,
+              schemaCount,
+              maxTablesForMetadata,
+              informationSchemaViews.hasQuery(entry.getValue()));
+      retrieverConnection.setAdaptiveRetrievalStrategy(retrievalStrategy, chosenStrategy);
+      catalog.addAdaptiveRetrievalStrategy(retrievalStrategy, chosenStrategy);
+
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "Using <%s> for <%s>, for %d tables in %d schemas",
+              chosenStrategy, retrievalStrategy, tableCount, schemaCount));
+    }
+  }
+}
@@ -0,0 +1,690 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.WeakAssociation;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.schemacrawler.exceptions.InternalRuntimeException;
+import us.fatehi.utility.UtilityMarker;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Writes and reads catalog deltas. A catalog delta records the schemas, tables, routines, sequences
+ * and synonyms that were added, changed or removed since a base catalog was crawled, so that a
+ * catalog can be saved as a small delta against an earlier snapshot rather than as a full copy.
+ *
+ * <p>A table is changed when any of its columns, keys, indexes, constraints, triggers, privileges
+ * or attributes have changed, which is found by comparing a hash of the serialized table in each
+ * catalog. Objects that have not changed are written as references to the object with the same
+ * lookup key in the base catalog, and are looked up again when the delta is read.
+ *
+ * <p>A delta is applied to its base catalog, which is modified in place, so deltas can be applied
+ * one after another to a base catalog to reconstruct a chain of daily snapshots.
+ */
+@UtilityMarker
+public final class CatalogDelta {
+
+  /** Changes to a list of named objects. */
+  private static final class Changes<N extends NamedObject> implements Serializable {
+
+    private static final long serialVersionUID = -3346813461744582405L;
+
+    private final List<N> changed = new ArrayList<>();
+    private final List<NamedObjectKey> removed = new ArrayList<>();
+
+    boolean isChanged(final NamedObjectKey key) {
+      if (removed.contains(key)) {
+        return true;
+      }
+      for (final N namedObject : changed) {
+        if (namedObject.key().equals(key)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Input stream that looks up references to unchanged objects in the base catalog, and only
+   * accepts the same classes as catalog snapshots.
+   */
+  private static final class DeltaInputStream extends ObjectInputStream {
+
+    private static final List<Pattern> ACCEPT_PATTERNS =
+        Arrays.asList(
+            Pattern.compile("schemacrawler\\.(schema(crawler)?|crawl)\\.[A-Z].*"),
+            Pattern.compile("schemacrawler\\.[A-Z].*"),
+            Pattern.compile("(\\[L)?java.lang\\..*"),
+            Pattern.compile("java.(util|sql|math|time)\\..*"),
+            Pattern.compile("\\[[BC]"));
+
+    private final MutableCatalog baseCatalog;
+
+    DeltaInputStream(final InputStream in, final MutableCatalog baseCatalog) throws IOException {
+      super(in);
+      this.baseCatalog = baseCatalog;
+      enableResolveObject(true);
+    }
+
+    @Override
+    protected Class<?> resolveClass(final ObjectStreamClass objectStreamClass)
+        throws IOException, ClassNotFoundException {
+      final String className = objectStreamClass.getName();
+      for (final Pattern pattern : ACCEPT_PATTERNS) {
+        if (pattern.matcher(className).matches()) {
+          return super.resolveClass(objectStreamClass);
+        }
+      }
+      throw new InvalidClassException(String.format("Not deserializing class <%s>", className));
+    }
+
+    @Override
+    protected Object resolveObject(final Object obj) throws IOException {
+      if (obj instanceof UnchangedObjectReference) {
+        return ((UnchangedObjectReference) obj).lookup(baseCatalog);
+      }
+      return obj;
+    }
+  }
+
+  /**
+   * Output stream that writes references to objects that are not part of the changes, instead of
+   * the objects themselves.
+   */
+  private static final class DeltaOutputStream extends ObjectOutputStream {
+
+    private final Set<Object> changedObjects;
+    private final Predicate<NamedObjectKey> isBaseColumnDataType;
+
+    DeltaOutputStream(
+        final OutputStream out,
+        final Set<Object> changedObjects,
+        final Predicate<NamedObjectKey> isBaseColumnDataType)
+        throws IOException {
+      super(out);
+      this.changedObjects = changedObjects;
+      this.isBaseColumnDataType = isBaseColumnDataType;
+      enableReplaceObject(true);
+    }
+
+    @Override
+    protected Object replaceObject(final Object obj) {
+      if (obj instanceof MutableColumnDataType) {
+        final NamedObjectKey key = ((MutableColumnDataType) obj).key();
+        if (isBaseColumnDataType.test(key)) {
+          return new UnchangedObjectReference(ReferenceType.columnDataType, key, null);
+        }
+        return obj;
+      }
+      if (changedObjects.contains(obj)) {
+        return obj;
+      }
+
+      if (obj instanceof MutableTable) {
+        return new UnchangedObjectReference(ReferenceType.table, ((MutableTable) obj).key(), null);
+      } else if (obj instanceof MutableColumn) {
+        final MutableColumn column = (MutableColumn) obj;
+        final Table table = column.getParent();
+        if (table instanceof MutableTable && !changedObjects.contains(table)) {
+          return new UnchangedObjectReference(ReferenceType.column, table.key(), column.getName());
+        }
+      } else if (obj instanceof MutableRoutine) {
+        return new UnchangedObjectReference(
+            ReferenceType.routine, ((MutableRoutine) obj).key(), null);
+      } else if (obj instanceof MutableSequence) {
+        return new UnchangedObjectReference(
+            ReferenceType.sequence, ((MutableSequence) obj).key(), null);
+      } else if (obj instanceof MutableSynonym) {
+        return new UnchangedObjectReference(
+            ReferenceType.synonym, ((MutableSynonym) obj).key(), null);
+      }
+      return obj;
+    }
+  }
+
+  private enum ReferenceType {
+    columnDataType,
+    table,
+    column,
+    routine,
+    sequence,
+    synonym;
+  }
+
+  /** Reference to an object that has not changed, by the lookup key of the object. */
+  private static final class UnchangedObjectReference implements Serializable {
+
+    private static final long serialVersionUID = 6729504731428736918L;
+
+    private final ReferenceType referenceType;
+    private final NamedObjectKey key;
+    private final String name;
+
+    UnchangedObjectReference(
+        final ReferenceType referenceType, final NamedObjectKey key, final String name) {
+      this.referenceType = referenceType;
+      this.key = key;
+      this.name = name;
+    }
+
+    Object lookup(final MutableCatalog catalog) throws InvalidObjectException {
+      final Optional<?> optionalObject;
+      switch (referenceType) {
+        case columnDataType:
+          optionalObject = catalog.getAllColumnDataTypes().lookup(key);
+          break;
+        case table:
+          optionalObject = catalog.lookupTable(key);
+          break;
+        case column:
+          optionalObject = catalog.lookupTable(key).flatMap(table -> table.lookupColumn(name));
+          break;
+        case routine:
+          optionalObject = catalog.lookupRoutine(key);
+          break;
+        case sequence:
+          optionalObject = catalog.getAllSequences().lookup(key);
+          break;
+        case synonym:
+          optionalObject = catalog.getAllSynonyms().lookup(key);
+          break;
+        default:
+          optionalObject = Optional.empty();
+          break;
+      }
+      if (!optionalObject.isPresent()) {
+        throw new InvalidObjectException(
+            String.format("Cannot find %s <%s%s> in the base catalog", referenceType, key, name));
+      }
+      return optionalObject.get();
+    }
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(CatalogDelta.class.getName());
+
+  private static final String MAGIC = "SchemaCrawler catalog delta";
+  private static final int VERSION = 1;
+
+  /**
+   * Checks if a stream has a catalog delta, without reading from the stream.
+   *
+   * @param in Input stream, which needs to support mark and reset
+   * @return True if the stream has a catalog delta
+   * @throws IOException On an exception reading the stream
+   */
+  public static boolean isCatalogDelta(final InputStream in) throws IOException {
+    requireNonNull(in, "No input stream provided");
+    if (!in.markSupported()) {
+      throw new IllegalArgumentException("Input stream does not support mark and reset");
+    }
+
+    final byte[] magic = MAGIC.getBytes(UTF_8);
+    final byte[] header = new byte[magic.length + 2];
+    in.mark(header.length);
+    try {
+      int count = 0;
+      while (count < header.length) {
+        final int read = in.read(header, count, header.length - count);
+        if (read == -1) {
+          return false;
+        }
+        count += read;
+      }
+    } finally {
+      in.reset();
+    }
+
+    // The magic string is written with a two byte length prefix
+    return header[0] == 0
+        && header[1] == magic.length
+        && Arrays.equals(Arrays.copyOfRange(header, 2, header.length), magic);
+  }
+
+  /**
+   * Reads a catalog delta, and applies it to its base catalog. The base catalog is loaded by name,
+   * and is modified in place, so it should not be used for anything else.
+   *
+   * @param in Input stream with the catalog delta
+   * @param baseCatalogLoader Loads the base catalog, given the name that was recorded when the
+   *     delta was written
+   * @return Base catalog, with the delta applied
+   * @throws IOException On an exception reading the delta
+   */
+  @SuppressWarnings("unchecked")
+  public static Catalog readCatalogDelta(
+      final InputStream in, final Function<String, Catalog> baseCatalogLoader)
+      throws IOException {
+    requireNonNull(in, "No input stream provided");
+    requireNonNull(baseCatalogLoader, "No base catalog loader provided");
+
+    final DataInputStream dataIn = new DataInputStream(in);
+    if (!MAGIC.equals(dataIn.readUTF())) {
+      throw new IOException("Not a catalog delta");
+    }
+    final int version = dataIn.readInt();
+    if (version != VERSION) {
+      throw new IOException("Unsupported catalog delta version, " + version);
+    }
+    final String baseName = dataIn.readUTF();
+
+    final MutableCatalog catalog = toMutableCatalog(baseCatalogLoader.apply(baseName));
+    if (catalog.isFrozen()) {
+      throw new IllegalArgumentException("Cannot apply a catalog delta to a frozen catalog");
+    }
+
+    final ObjectInputStream objIn = new DeltaInputStream(in, catalog);
+    try {
+      final Changes<SchemaReference> schemas = (Changes<SchemaReference>) objIn.readObject();
+      final MutableCrawlInfo crawlInfo = (MutableCrawlInfo) objIn.readObject();
+      final MutableDatabaseInfo databaseInfo = (MutableDatabaseInfo) objIn.readObject();
+      final MutableJdbcDriverInfo jdbcDriverInfo = (MutableJdbcDriverInfo) objIn.readObject();
+      final Changes<MutableColumnDataType> columnDataTypes =
+          (Changes<MutableColumnDataType>) objIn.readObject();
+      final Changes<MutableTable> tables = (Changes<MutableTable>) objIn.readObject();
+      final Changes<MutableRoutine> routines = (Changes<MutableRoutine>) objIn.readObject();
+      final Changes<MutableSequence> sequences = (Changes<MutableSequence>) objIn.readObject();
+      final Changes<MutableSynonym> synonyms = (Changes<MutableSynonym>) objIn.readObject();
+      final List<ImmutableDatabaseUser> databaseUsers =
+          (List<ImmutableDatabaseUser>) objIn.readObject();
+
+      catalog.setCatalogInfo(crawlInfo, databaseInfo, jdbcDriverInfo);
+
+      final Set<Object> replacedObjects = newIdentitySet();
+      applyChanges(catalog.getAllSchemas(), schemas, replacedObjects);
+      applyChanges(catalog.getAllColumnDataTypes(), columnDataTypes, replacedObjects);
+      applyChanges(catalog.getAllTables(), tables, replacedObjects);
+      applyChanges(catalog.getAllRoutines(), routines, replacedObjects);
+      applyChanges(catalog.getAllSequences(), sequences, replacedObjects);
+      applyChanges(catalog.getAllSynonyms(), synonyms, replacedObjects);
+      relinkTables(catalog, tables.changed, replacedObjects);
+
+      catalog.getAllDatabaseUsers().clear();
+      for (final ImmutableDatabaseUser databaseUser : databaseUsers) {
+        catalog.addDatabaseUser(databaseUser);
+      }
+
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "Applied catalog delta with %d changed and %d removed tables to <%s>",
+              tables.changed.size(), tables.removed.size(), baseName));
+    } catch (final ClassNotFoundException | ClassCastException e) {
+      throw new IOException("Cannot read catalog delta", e);
+    }
+
+    return catalog;
+  }
+
+  /**
+   * Writes the changes to a catalog since a base catalog was crawled. Both catalogs should be
+   * crawls of the same database, with the same options.
+   *
+   * @param baseCatalog Base catalog
+   * @param baseName Name of the base catalog, such as the file name of the base snapshot, which
+   *     is used to load the base catalog when the delta is read
+   * @param catalog Catalog to write the changes for
+   * @param out Output stream to write the delta to
+   * @throws IOException On an exception writing the delta
+   */
+  public static void writeCatalogDelta(
+      final Catalog baseCatalog,
+      final String baseName,
+      final Catalog catalog,
+      final OutputStream out)
+      throws IOException {
+    final MutableCatalog base = toMutableCatalog(baseCatalog);
+    final MutableCatalog current = toMutableCatalog(catalog);
+    requireNonNull(baseName, "No base catalog name provided");
+    requireNonNull(out, "No output stream provided");
+
+    final Changes<SchemaReference> schemas =
+        findChanges(base.getAllSchemas(), current.getAllSchemas(), (a, b) -> true);
+    final Changes<MutableColumnDataType> columnDataTypes =
+        findChanges(base.getAllColumnDataTypes(), current.getAllColumnDataTypes(), (a, b) -> true);
+    final Changes<MutableTable> tables =
+        findChanges(base.getAllTables(), current.getAllTables(), CatalogDelta::isSame);
+    final Changes<MutableRoutine> routines =
+        findChanges(base.getAllRoutines(), current.getAllRoutines(), CatalogDelta::isSame);
+    final Changes<MutableSequence> sequences =
+        findChanges(base.getAllSequences(), current.getAllSequences(), CatalogDelta::isSame);
+    final Changes<MutableSynonym> synonyms =
+        findChanges(base.getAllSynonyms(), current.getAllSynonyms(), CatalogDelta::isSame);
+    includeChangedViews(current, tables);
+    includeChangedSynonyms(current, synonyms, tables, routines, sequences);
+
+    final Set<Object> changedObjects = newIdentitySet();
+    changedObjects.addAll(tables.changed);
+    changedObjects.addAll(routines.changed);
+    changedObjects.addAll(sequences.changed);
+    changedObjects.addAll(synonyms.changed);
+
+    final DataOutputStream dataOut = new DataOutputStream(out);
+    dataOut.writeUTF(MAGIC);
+    dataOut.writeInt(VERSION);
+    dataOut.writeUTF(baseName);
+    dataOut.flush();
+
+    final ObjectOutputStream objOut =
+        new DeltaOutputStream(
+            out,
+            changedObjects,
+            key -> base.getAllColumnDataTypes().lookup(key).isPresent());
+    objOut.writeObject(schemas);
+    objOut.writeObject(current.getCrawlInfo());
+    objOut.writeObject(current.getDatabaseInfo());
+    objOut.writeObject(current.getJdbcDriverInfo());
+    objOut.writeObject(columnDataTypes);
+    objOut.writeObject(tables);
+    objOut.writeObject(routines);
+    objOut.writeObject(sequences);
+    objOut.writeObject(synonyms);
+    objOut.writeObject(new ArrayList<>(current.getAllDatabaseUsers().values()));
+    objOut.flush();
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Wrote catalog delta with %d changed and %d removed tables, "
+                + "and %d changed and %d removed routines, against <%s>",
+            tables.changed.size(),
+            tables.removed.size(),
+            routines.changed.size(),
+            routines.removed.size(),
+            baseName));
+  }
+
+  /**
+   * Removes objects from the base catalog that were removed or changed, and adds the changed
+   * objects from the delta. The objects that are taken out of the base catalog are collected, so
+   * that references to them can be fixed.
+   */
+  private static <N extends NamedObject> void applyChanges(
+      final NamedObjectList<N> list, final Changes<N> changes, final Set<Object> replacedObjects) {
+    for (final NamedObjectKey key : changes.removed) {
+      final Optional<N> optionalNamedObject = list.lookup(key);
+      if (optionalNamedObject.isPresent()) {
+        replacedObjects.add(optionalNamedObject.get());
+        list.remove(optionalNamedObject.get());
+      }
+    }
+    for (final N namedObject : changes.changed) {
+      list.lookup(namedObject.key()).ifPresent(replacedObjects::add);
+      list.add(namedObject);
+    }
+  }
+
+  /**
+   * Computes a hash of an object, as it would be written in a delta, with references to all other
+   * tables, routines, sequences, synonyms and column data types.
+   */
+  private static byte[] contentHash(final NamedObject namedObject) {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new InternalRuntimeException("Cannot compute hashes for catalog objects", e);
+    }
+
+    final Set<Object> changedObjects = newIdentitySet();
+    changedObjects.add(namedObject);
+    final OutputStream nullOut =
+        new OutputStream() {
+          @Override
+          public void write(final byte[] bytes, final int offset, final int length) {
+            // Discard output, since only the digest is needed
+          }
+
+          @Override
+          public void write(final int b) {
+            // Discard output, since only the digest is needed
+          }
+        };
+    try (final ObjectOutputStream out =
+        new DeltaOutputStream(
+            new DigestOutputStream(nullOut, digest), changedObjects, key -> true)) {
+      out.writeObject(namedObject);
+    } catch (final IOException e) {
+      throw new InternalRuntimeException(
+          String.format("Cannot compute hash for <%s>", namedObject), e);
+    }
+    return digest.digest();
+  }
+
+  private static <N extends NamedObject> Changes<N> findChanges(
+      final NamedObjectList<N> baseList,
+      final NamedObjectList<N> list,
+      final BiPredicate<N, N> isSame) {
+    final Changes<N> changes = new Changes<>();
+    for (final N namedObject : list) {
+      final Optional<N> optionalBaseObject = baseList.lookup(namedObject.key());
+      if (!optionalBaseObject.isPresent() || !isSame.test(optionalBaseObject.get(), namedObject)) {
+        changes.changed.add(namedObject);
+      }
+    }
+    for (final N baseObject : baseList) {
+      if (!list.contains(baseObject)) {
+        changes.removed.add(baseObject.key());
+      }
+    }
+    return changes;
+  }
+
+  /**
+   * Includes synonyms for objects that were changed or removed, since synonyms refer to the
+   * objects themselves.
+   */
+  private static void includeChangedSynonyms(
+      final MutableCatalog catalog,
+      final Changes<MutableSynonym> synonyms,
+      final Changes<?>... referencedObjects) {
+    final Set<MutableSynonym> changedSynonyms = newIdentitySet();
+    changedSynonyms.addAll(synonyms.changed);
+    for (final MutableSynonym synonym : catalog.getAllSynonyms()) {
+      if (changedSynonyms.contains(synonym)) {
+        continue;
+      }
+      final DatabaseObject referencedObject = synonym.getReferencedObject();
+      if (referencedObject == null) {
+        continue;
+      }
+      for (final Changes<?> changes : referencedObjects) {
+        if (changes.isChanged(referencedObject.key())) {
+          synonyms.changed.add(synonym);
+          break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Includes views that use tables or views that were changed or removed, since views refer to
+   * the tables they use.
+   */
+  private static void includeChangedViews(
+      final MutableCatalog catalog, final Changes<MutableTable> tables) {
+    final Set<NamedObjectKey> changedTableKeys = new HashSet<>(tables.removed);
+    for (final MutableTable table : tables.changed) {
+      changedTableKeys.add(table.key());
+    }
+
+    boolean viewsChanged = true;
+    while (viewsChanged) {
+      viewsChanged = false;
+      for (final MutableTable table : catalog.getAllTables()) {
+        if (!(table instanceof MutableView) || changedTableKeys.contains(table.key())) {
+          continue;
+        }
+        for (final Table usedTable : ((MutableView) table).getTableUsage()) {
+          if (changedTableKeys.contains(usedTable.key())) {
+            tables.changed.add(table);
+            changedTableKeys.add(table.key());
+            viewsChanged = true;
+            break;
+          }
+        }
+      }
+    }
+  }
+
+  private static boolean isCarriedOver(final Table table, final Set<MutableTable> tablesFromDelta) {
+    return table instanceof MutableTable && !tablesFromDelta.contains(table);
+  }
+
+  private static boolean isSame(final NamedObject baseObject, final NamedObject namedObject) {
+    return baseObject.getClass() == namedObject.getClass()
+        && Arrays.equals(contentHash(baseObject), contentHash(namedObject));
+  }
+
+  private static <T> Set<T> newIdentitySet() {
+    return Collections.newSetFromMap(new IdentityHashMap<>());
+  }
+
+  /**
+   * Fixes references between tables that were carried over from the base catalog, and tables
+   * from the delta. Foreign keys and weak associations to tables that were replaced are taken from
+   * the delta, and referenced columns are looked up again.
+   */
+  private static void relinkTables(
+      final MutableCatalog catalog,
+      final List<MutableTable> changedTables,
+      final Set<Object> replacedObjects) {
+    final Set<MutableTable> tablesFromDelta = newIdentitySet();
+    tablesFromDelta.addAll(changedTables);
+
+    for (final MutableTable table : catalog.getAllTables()) {
+      if (tablesFromDelta.contains(table)) {
+        continue;
+      }
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        if (replacedObjects.contains(foreignKey.getPrimaryKeyTable())
+            || replacedObjects.contains(foreignKey.getForeignKeyTable())) {
+          table.removeForeignKey((MutableForeignKey) foreignKey);
+        }
+      }
+      for (final WeakAssociation weakAssociation : table.getWeakAssociations()) {
+        if (replacedObjects.contains(weakAssociation.getPrimaryKeyTable())
+            || replacedObjects.contains(weakAssociation.getForeignKeyTable())) {
+          table.removeWeakAssociation((MutableWeakAssociation) weakAssociation);
+        }
+      }
+      for (final MutableColumn column : table.getAllColumns()) {
+        relinkReferencedColumn(catalog, column, replacedObjects);
+      }
+      for (final Column column : table.getHiddenColumns()) {
+        relinkReferencedColumn(catalog, (MutableColumn) column, replacedObjects);
+      }
+    }
+
+    for (final MutableTable table : changedTables) {
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        for (final Table referencedTable :
+            Arrays.asList(foreignKey.getPrimaryKeyTable(), foreignKey.getForeignKeyTable())) {
+          if (isCarriedOver(referencedTable, tablesFromDelta)) {
+            ((MutableTable) referencedTable).addForeignKey((MutableForeignKey) foreignKey);
+          }
+        }
+      }
+      for (final WeakAssociation weakAssociation : table.getWeakAssociations()) {
+        for (final Table referencedTable :
+            Arrays.asList(
+                weakAssociation.getPrimaryKeyTable(), weakAssociation.getForeignKeyTable())) {
+          if (isCarriedOver(referencedTable, tablesFromDelta)) {
+            ((MutableTable) referencedTable)
+                .addWeakAssociation((MutableWeakAssociation) weakAssociation);
+          }
+        }
+      }
+    }
+  }
+
+  private static void relinkReferencedColumn(
+      final MutableCatalog catalog, final MutableColumn column, final Set<Object> replacedObjects) {
+    final Column referencedColumn = column.getReferencedColumn();
+    if (referencedColumn == null || !replacedObjects.contains(referencedColumn.getParent())) {
+      return;
+    }
+    final Optional<MutableColumn> optionalColumn =
+        catalog
+            .lookupTable(referencedColumn.getParent().key())
+            .flatMap(table -> table.lookupColumn(referencedColumn.getName()));
+    column.setReferencedColumn(optionalColumn.orElse(null));
+  }
+
+  private static MutableCatalog toMutableCatalog(final Catalog catalog) {
+    requireNonNull(catalog, "No catalog provided");
+    if (!(catalog instanceof MutableCatalog)) {
+      throw new IllegalArgumentException("Catalog was not created by SchemaCrawler");
+    }
+    return (MutableCatalog) catalog;
+  }
+
+  private CatalogDelta() {
+    // Prevent instantiation
+  }
+}
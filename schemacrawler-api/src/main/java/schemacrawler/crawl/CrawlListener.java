@@ -0,0 +1,111 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaInfoRetrieval;
+import schemacrawler.utility.MetaDataUtility;
+
+/**
+ * Receives database objects while the database is being crawled, as soon as they are complete,
+ * so that they can be processed before the catalog is returned. Tables are provided once all
+ * table retrieval phases are complete, and routines, sequences and synonyms once their own
+ * retrieval phases are complete. If table details are loaded lazily, tables are provided without
+ * their details, which are loaded if the listener accesses them. Since parts of the crawl may run
+ * in parallel, a listener may be called from more than one thread at a time.
+ */
+public interface CrawlListener {
+
+  /**
+   * Whether the details of each table, such as columns, keys, indexes and constraints, are
+   * released once the table has been provided to the listener. Released tables remain in the
+   * catalog with their names, but without their details, so that the listener does not need to
+   * hold the whole catalog in memory.
+   *
+   * <p>Released tables are marked with the {@link MetaDataUtility#DETAILS_RELEASED} attribute, and
+   * can be checked with {@link MetaDataUtility#isTableDetailsReleased(Table)}. The weak
+   * associations loader skips released tables, but other catalog loaders, such as the row counts
+   * loader, and output formatters still process them, and show them without columns, keys or
+   * indexes. Details of lazily loaded tables that were not accessed by the listener are not
+   * loaded once they are released.
+   *
+   * @return Whether table details are released
+   */
+  default boolean isReleaseTableDetails() {
+    return false;
+  }
+
+  /**
+   * Called when a retrieval phase completes.
+   *
+   * @param retrieval Completed retrieval phase
+   */
+  default void onPhaseComplete(final SchemaInfoRetrieval retrieval) {
+    // No-op
+  }
+
+  /**
+   * Called when a routine is complete.
+   *
+   * @param routine Routine metadata
+   */
+  default void onRoutine(final Routine routine) {
+    // No-op
+  }
+
+  /**
+   * Called when a sequence is complete.
+   *
+   * @param sequence Sequence metadata
+   */
+  default void onSequence(final Sequence sequence) {
+    // No-op
+  }
+
+  /**
+   * Called when a synonym is complete.
+   *
+   * @param synonym Synonym metadata
+   */
+  default void onSynonym(final Synonym synonym) {
+    // No-op
+  }
+
+  /**
+   * Called when a table is complete.
+   *
+   * @param table Table metadata
+   */
+  default void onTable(final Table table) {
+    // No-op
+  }
+}
@@ -159,9 +159,9 @@ final class DataTypeRetriever extends AbstractRetriever {
       throw new ExecutionRuntimeException("No system column data types SQL provided");
     }
     final Query typeInfoSql = informationSchemaViews.getQuery(TYPE_INFO);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(TYPE_INFO);
         final MetadataResultSet results =
-            new MetadataResultSet(typeInfoSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(typeInfoSql, statement, getSchemaInclusionRule())) {
       int numSystemColumnDataTypes = 0;
       while (results.next()) {
         numSystemColumnDataTypes = numSystemColumnDataTypes + 1;
@@ -176,7 +176,7 @@ final class DataTypeRetriever extends AbstractRetriever {
   private void retrieveSystemColumnDataTypesFromMetadata(final Schema systemSchema)
       throws SQLException {
     try (final MetadataResultSet results =
-        new MetadataResultSet(getMetaData().getTypeInfo(), "DatabaseMetaData::getTypeInfo")) {
+        createMetadataResultSet(getMetaData().getTypeInfo(), "DatabaseMetaData::getTypeInfo")) {
       int numSystemColumnDataTypes = 0;
       while (results.next()) {
         numSystemColumnDataTypes = numSystemColumnDataTypes + 1;
@@ -207,7 +207,7 @@ final class DataTypeRetriever extends AbstractRetriever {
     final String schemaName = schema.getName();
 
     try (final MetadataResultSet results =
-        new MetadataResultSet(
+        createMetadataResultSet(
             getMetaData().getUDTs(catalogName, schemaName, null, null),
             "DatabaseMetaData::getUDTs")) {
       while (results.next()) {
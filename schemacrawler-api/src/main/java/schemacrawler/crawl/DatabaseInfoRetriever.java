@@ -237,9 +237,9 @@ final class DatabaseInfoRetriever extends AbstractRetriever {
     }
     final Query databaseUsersSql = informationSchemaViews.getQuery(DATABASE_USERS);
 
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(DATABASE_USERS);
         final MetadataResultSet results =
-            new MetadataResultSet(databaseUsersSql, statement, new IncludeAll())) {
+            createMetadataResultSet(databaseUsersSql, statement, new IncludeAll())) {
       while (results.next()) {
         final String username = results.getString("USERNAME");
         if (isBlank(username)) {
@@ -271,9 +271,9 @@ final class DatabaseInfoRetriever extends AbstractRetriever {
     }
     final Query serverInfoSql = informationSchemaViews.getQuery(SERVER_INFORMATION);
 
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(SERVER_INFORMATION);
         final MetadataResultSet results =
-            new MetadataResultSet(serverInfoSql, statement, new IncludeAll())) {
+            createMetadataResultSet(serverInfoSql, statement, new IncludeAll())) {
       while (results.next()) {
         final String propertyName = results.getString("NAME");
         if (isBlank(propertyName)) {
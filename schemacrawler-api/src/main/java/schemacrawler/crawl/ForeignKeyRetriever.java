@@ -45,6 +45,7 @@ import schemacrawler.schema.Column;
 import schemacrawler.schema.ForeignKeyDeferrability;
 import schemacrawler.schema.ForeignKeyUpdateRule;
 import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.Schema;
 import schemacrawler.schema.View;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
@@ -65,17 +66,39 @@ final class ForeignKeyRetriever extends AbstractRetriever {
   }
 
   void retrieveForeignKeys(final NamedObjectList<MutableTable> allTables) throws SQLException {
+    retrieveForeignKeys(allTables, new HashMap<>());
+  }
+
+  /**
+   * Retrieves foreign keys for the provided tables. Foreign keys that were already created are
+   * shared, so that tables can be partitioned, and foreign keys retrieved for each partition in
+   * parallel.
+   *
+   * @param allTables Tables to retrieve foreign keys for
+   * @param foreignKeys Foreign keys already created, by lookup key
+   * @throws SQLException On a SQL exception
+   */
+  void retrieveForeignKeys(
+      final NamedObjectList<MutableTable> allTables,
+      final Map<NamedObjectKey, MutableForeignKey> foreignKeys)
+      throws SQLException {
     requireNonNull(allTables, "No tables provided");
+    requireNonNull(foreignKeys, "No foreign keys provided");
 
     switch (getRetrieverConnection().get(foreignKeysRetrievalStrategy)) {
       case data_dictionary_all:
         LOGGER.log(Level.INFO, "Retrieving foreign keys, using fast data dictionary retrieval");
-        retrieveForeignKeysFromDataDictionary();
+        retrieveForeignKeysFromDataDictionary(allTables, foreignKeys);
         break;
 
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving foreign keys");
-        retrieveForeignKeysFromMetadata(allTables);
+        retrieveForeignKeysFromMetadata(allTables, foreignKeys);
+        break;
+
+      case metadata_bulk:
+        LOGGER.log(Level.INFO, "Retrieving foreign keys, for all tables in each schema");
+        retrieveForeignKeysFromMetadataForSchemas(allTables, foreignKeys);
         break;
 
       default:
@@ -87,6 +110,18 @@ final class ForeignKeyRetriever extends AbstractRetriever {
   private void createForeignKeys(
       final MetadataResultSet results, final Map<NamedObjectKey, MutableForeignKey> foreignKeys)
       throws SQLException {
+    createForeignKeys(results, null, foreignKeys);
+  }
+
+  /**
+   * Creates foreign keys from database metadata results. If tables are provided, foreign keys are
+   * created only if they reference, or are referenced by, one of the tables.
+   */
+  private void createForeignKeys(
+      final MetadataResultSet results,
+      final NamedObjectList<MutableTable> allTables,
+      final Map<NamedObjectKey, MutableForeignKey> foreignKeys)
+      throws SQLException {
     while (results.next()) {
       final String foreignKeyName = results.getString("FK_NAME");
       LOGGER.log(Level.FINE, new StringFormat("Retrieving foreign key: %s", foreignKeyName));
@@ -101,6 +136,12 @@ final class ForeignKeyRetriever extends AbstractRetriever {
       final String fkTableName = results.getString("FKTABLE_NAME");
       final String fkColumnName = results.getString("FKCOLUMN_NAME");
 
+      if (allTables != null
+          && !allTables.lookup(pkTableCatalogName, pkTableSchemaName, pkTableName).isPresent()
+          && !allTables.lookup(fkTableCatalogName, fkTableSchemaName, fkTableName).isPresent()) {
+        continue;
+      }
+
       final int keySequence = results.getInt("KEY_SEQ", 0);
       final ForeignKeyUpdateRule updateRule =
           results.getEnumFromId("UPDATE_RULE", ForeignKeyUpdateRule.unknown);
@@ -109,66 +150,86 @@ final class ForeignKeyRetriever extends AbstractRetriever {
       final ForeignKeyDeferrability deferrability =
           results.getEnumFromId("DEFERRABILITY", ForeignKeyDeferrability.unknown);
 
-      final Column pkColumn =
-          lookupOrCreateColumn(pkTableCatalogName, pkTableSchemaName, pkTableName, pkColumnName);
-      final Column fkColumn =
-          lookupOrCreateColumn(fkTableCatalogName, fkTableSchemaName, fkTableName, fkColumnName);
-      final boolean isPkColumnPartial = pkColumn instanceof ColumnPartial;
-      final boolean isFkColumnPartial = fkColumn instanceof ColumnPartial;
-
-      if (pkColumn == null || fkColumn == null || isFkColumnPartial && isPkColumnPartial) {
-        continue;
-      }
-
-      final NamedObjectKey fkLookupKey =
-          new NamedObjectKey(fkTableCatalogName, fkTableSchemaName, fkTableName, foreignKeyName);
-
-      final Optional<MutableForeignKey> foreignKeyOptional =
-          Optional.ofNullable(foreignKeys.get(fkLookupKey));
-      final MutableForeignKey foreignKey;
-      if (foreignKeyOptional.isPresent()) {
-        foreignKey = foreignKeyOptional.get();
-      } else {
-        foreignKey = new MutableForeignKey(foreignKeyName);
-        foreignKeys.put(fkLookupKey, foreignKey);
-      }
-
-      foreignKey.addColumnReference(keySequence, pkColumn, fkColumn);
-      foreignKey.setUpdateRule(updateRule);
-      foreignKey.setDeleteRule(deleteRule);
-      foreignKey.setDeferrability(deferrability);
-      foreignKey.addAttributes(results.getAttributes());
-
-      if (fkColumn instanceof MutableColumn) {
-        ((MutableColumn) fkColumn).setReferencedColumn(pkColumn);
-        ((MutableTable) fkColumn.getParent()).addForeignKey(foreignKey);
-      } else if (isFkColumnPartial) {
-        ((ColumnPartial) fkColumn).setReferencedColumn(pkColumn);
-        ((TablePartial) fkColumn.getParent()).addForeignKey(foreignKey);
-      }
-
-      if (pkColumn instanceof MutableColumn) {
-        ((MutableTable) pkColumn.getParent()).addForeignKey(foreignKey);
-      } else if (isPkColumnPartial) {
-        ((TablePartial) pkColumn.getParent()).addForeignKey(foreignKey);
+      final Map<String, Object> attributes = results.getAttributes();
+
+      // Foreign keys link tables in different partitions, which may be
+      // retrieved in parallel
+      synchronized (foreignKeys) {
+        final Column pkColumn =
+            lookupOrCreateColumn(pkTableCatalogName, pkTableSchemaName, pkTableName, pkColumnName);
+        final Column fkColumn =
+            lookupOrCreateColumn(fkTableCatalogName, fkTableSchemaName, fkTableName, fkColumnName);
+        final boolean isPkColumnPartial = pkColumn instanceof ColumnPartial;
+        final boolean isFkColumnPartial = fkColumn instanceof ColumnPartial;
+
+        if (pkColumn == null || fkColumn == null || isFkColumnPartial && isPkColumnPartial) {
+          continue;
+        }
+
+        final NamedObjectKey fkLookupKey =
+            new NamedObjectKey(fkTableCatalogName, fkTableSchemaName, fkTableName, foreignKeyName);
+
+        final Optional<MutableForeignKey> foreignKeyOptional =
+            Optional.ofNullable(foreignKeys.get(fkLookupKey));
+        final MutableForeignKey foreignKey;
+        if (foreignKeyOptional.isPresent()) {
+          foreignKey = foreignKeyOptional.get();
+        } else {
+          foreignKey = new MutableForeignKey(foreignKeyName);
+          foreignKeys.put(fkLookupKey, foreignKey);
+        }
+
+        foreignKey.addColumnReference(keySequence, pkColumn, fkColumn);
+        foreignKey.setUpdateRule(updateRule);
+        foreignKey.setDeleteRule(deleteRule);
+        foreignKey.setDeferrability(deferrability);
+        foreignKey.addAttributes(attributes);
+
+        if (fkColumn instanceof MutableColumn) {
+          ((MutableColumn) fkColumn).setReferencedColumn(pkColumn);
+          ((MutableTable) fkColumn.getParent()).addForeignKey(foreignKey);
+        } else if (isFkColumnPartial) {
+          ((ColumnPartial) fkColumn).setReferencedColumn(pkColumn);
+          ((TablePartial) fkColumn.getParent()).addForeignKey(foreignKey);
+        }
+
+        if (pkColumn instanceof MutableColumn) {
+          ((MutableTable) pkColumn.getParent()).addForeignKey(foreignKey);
+        } else if (isPkColumnPartial) {
+          ((TablePartial) pkColumn.getParent()).addForeignKey(foreignKey);
+        }
       }
     }
   }
 
   /**
    * Looks up a column in the database. If the column and table are not found, they are created, and
-   * added to the schema. This is prevent foreign key relationships from having a null pointer.
+   * added to the schema. This is prevent foreign key relationships from having a null pointer. If
+   * the table is in the catalog, and its details are loaded lazily, only its columns are loaded,
+   * without its keys and indexes.
    */
   private Column lookupOrCreateColumn(
       final String catalogName,
       final String schemaName,
       final String tableName,
       final String columnName) {
+    final Optional<MutableTable> optionalTable = lookupTable(catalogName, schemaName, tableName);
+    if (optionalTable.isPresent()) {
+      final MutableTable table = optionalTable.get();
+      table.loadColumns();
+      final Optional<MutableColumn> optionalColumn = table.lookupRetrievedColumn(columnName);
+      if (optionalColumn.isPresent()) {
+        return optionalColumn.get();
+      }
+    }
     return RetrieverUtility.lookupOrCreateColumn(
         catalog, catalogName, schemaName, tableName, columnName);
   }
 
-  private void retrieveForeignKeysFromDataDictionary() throws WrappedSQLException {
+  private void retrieveForeignKeysFromDataDictionary(
+      final NamedObjectList<MutableTable> allTables,
+      final Map<NamedObjectKey, MutableForeignKey> foreignKeys)
+      throws WrappedSQLException {
     final InformationSchemaViews informationSchemaViews =
         getRetrieverConnection().getInformationSchemaViews();
 
@@ -177,21 +238,21 @@ final class ForeignKeyRetriever extends AbstractRetriever {
       return;
     }
 
-    final Map<NamedObjectKey, MutableForeignKey> foreignKeys = new HashMap<>();
     final Query fkSql = informationSchemaViews.getQuery(FOREIGN_KEYS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(FOREIGN_KEYS);
         final MetadataResultSet results =
-            new MetadataResultSet(fkSql, statement, getSchemaInclusionRule())) {
-      createForeignKeys(results, foreignKeys);
+            createMetadataResultSet(fkSql, statement, getSchemaInclusionRule())) {
+      createForeignKeys(results, allTables, foreignKeys);
     } catch (final SQLException e) {
       throw new WrappedSQLException(
           String.format("Could not retrieve foreign keys from SQL:%n%s", fkSql), e);
     }
   }
 
-  private void retrieveForeignKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
+  private void retrieveForeignKeysFromMetadata(
+      final NamedObjectList<MutableTable> allTables,
+      final Map<NamedObjectKey, MutableForeignKey> foreignKeys)
       throws WrappedSQLException {
-    final Map<NamedObjectKey, MutableForeignKey> foreignKeys = new HashMap<>();
     for (final MutableTable table : allTables) {
       if (table instanceof View) {
         continue;
@@ -201,7 +262,7 @@ final class ForeignKeyRetriever extends AbstractRetriever {
 
       // Get imported foreign keys
       try (final MetadataResultSet results =
-          new MetadataResultSet(
+          createMetadataResultSet(
               metaData.getImportedKeys(
                   table.getSchema().getCatalogName(), table.getSchema().getName(), table.getName()),
               "DatabaseMetaData::getImportedKeys")) {
@@ -215,7 +276,7 @@ final class ForeignKeyRetriever extends AbstractRetriever {
       // table is selected, we have not retrieved it's keys that are
       // imported by other tables.
       try (final MetadataResultSet results =
-          new MetadataResultSet(
+          createMetadataResultSet(
               metaData.getExportedKeys(
                   table.getSchema().getCatalogName(), table.getSchema().getName(), table.getName()),
               "DatabaseMetaData::getExportedKeys")) {
@@ -227,4 +288,52 @@ final class ForeignKeyRetriever extends AbstractRetriever {
       }
     }
   }
+
+  /**
+   * Retrieves foreign keys for all the tables in each schema together. Foreign keys of tables that
+   * were not selected are dropped, in the same way as foreign keys between tables that are not in
+   * the catalog.
+   */
+  private void retrieveForeignKeysFromMetadataForSchemas(
+      final NamedObjectList<MutableTable> allTables,
+      final Map<NamedObjectKey, MutableForeignKey> foreignKeys)
+      throws WrappedSQLException {
+    for (final Map.Entry<Schema, NamedObjectList<MutableTable>> entry :
+        groupTablesBySchema(allTables).entrySet()) {
+      final Schema schema = entry.getKey();
+      if (!getRetrieverConnection().isBulkMetadataSupported(schema)) {
+        retrieveForeignKeysFromMetadata(entry.getValue(), foreignKeys);
+        continue;
+      }
+      final DatabaseMetaData metaData = getMetaData();
+
+      // Get imported foreign keys
+      try (final MetadataResultSet results =
+          createMetadataResultSet(
+              metaData.getImportedKeys(schema.getCatalogName(), schema.getName(), null),
+              "DatabaseMetaData::getImportedKeys")) {
+        createForeignKeys(results, foreignKeys);
+      } catch (final SQLException e) {
+        // Not all database drivers support retrieving foreign keys for all tables in a schema, so
+        // retrieve them one table at a time instead
+        logPossiblyUnsupportedSQLFeature(
+            new StringFormat("Could not retrieve foreign keys for schema <%s>", schema), e);
+        retrieveForeignKeysFromMetadata(entry.getValue(), foreignKeys);
+        continue;
+      }
+
+      // Exported keys are needed for references from tables in other schemas
+      try (final MetadataResultSet results =
+          createMetadataResultSet(
+              metaData.getExportedKeys(schema.getCatalogName(), schema.getName(), null),
+              "DatabaseMetaData::getExportedKeys")) {
+        createForeignKeys(results, foreignKeys);
+      } catch (final SQLException e) {
+        // Since not all database drivers may support exported keys, log a warning instead of
+        // throwing an error
+        LOGGER.log(
+            Level.WARNING, "Could not retrieve exported foreign keys for schema " + schema, e);
+      }
+    }
+  }
 }
@@ -199,9 +199,9 @@ final class FunctionParameterRetriever extends AbstractRetriever {
       throw new ExecutionRuntimeException("No function columns SQL provided");
     }
     final Query functionColumnsSql = informationSchemaViews.getQuery(FUNCTION_COLUMNS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(FUNCTION_COLUMNS);
         final MetadataResultSet results =
-            new MetadataResultSet(functionColumnsSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(functionColumnsSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
         createFunctionParameter(results, allRoutines, parameterFilter);
       }
@@ -219,7 +219,7 @@ final class FunctionParameterRetriever extends AbstractRetriever {
 
       LOGGER.log(Level.FINE, "Retrieving function parameters for " + function);
       try (final MetadataResultSet results =
-          new MetadataResultSet(
+          createMetadataResultSet(
               getMetaData()
                   .getFunctionColumns(
                       function.getSchema().getCatalogName(),
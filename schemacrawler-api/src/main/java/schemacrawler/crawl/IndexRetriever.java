@@ -35,6 +35,7 @@ import static us.fatehi.utility.Utility.isBlank;
 
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -75,6 +76,11 @@ final class IndexRetriever extends AbstractRetriever {
         retrieveIndexesFromMetadata(allTables);
         break;
 
+      case metadata_bulk:
+        LOGGER.log(Level.INFO, "Retrieving indexes, for all tables in each schema");
+        retrieveIndexesFromMetadataForSchemas(allTables);
+        break;
+
       default:
         LOGGER.log(Level.INFO, "Not retrieving indexes");
         break;
@@ -116,7 +122,7 @@ final class IndexRetriever extends AbstractRetriever {
     final long pages = results.getLong("PAGES", 0L);
 
     final Column column;
-    final Optional<MutableColumn> columnOptional = table.lookupColumn(columnName);
+    final Optional<MutableColumn> columnOptional = table.lookupRetrievedColumn(columnName);
     if (columnOptional.isPresent()) {
       final MutableColumn mutableColumn = columnOptional.get();
       mutableColumn.markAsPartOfIndex();
@@ -137,7 +143,7 @@ final class IndexRetriever extends AbstractRetriever {
               "SC_%s", Integer.toHexString(column.getFullName().hashCode()).toUpperCase());
     }
 
-    final Optional<MutableIndex> indexOptional = table.lookupIndex(indexName);
+    final Optional<MutableIndex> indexOptional = table.lookupRetrievedIndex(indexName);
     final MutableIndex index;
     if (indexOptional.isPresent()) {
       index = indexOptional.get();
@@ -169,16 +175,18 @@ final class IndexRetriever extends AbstractRetriever {
     }
 
     final Query indexesSql = informationSchemaViews.getQuery(INDEXES);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(INDEXES);
         final MetadataResultSet results =
-            new MetadataResultSet(indexesSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(indexesSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
         final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
         final String tableName = results.getString("TABLE_NAME");
 
+        // Only tables that were selected, such as tables that changed since a previous crawl,
+        // have their details retrieved
         final Optional<MutableTable> optionalTable =
-            lookupTable(catalogName, schemaName, tableName);
+            allTables.lookup(catalogName, schemaName, tableName);
         if (!optionalTable.isPresent()) {
           continue;
         }
@@ -199,12 +207,58 @@ final class IndexRetriever extends AbstractRetriever {
     }
   }
 
+  private void retrieveIndexesFromMetadataForSchemas(final NamedObjectList<MutableTable> allTables)
+      throws SQLException {
+    for (final Map.Entry<Schema, NamedObjectList<MutableTable>> entry :
+        groupTablesBySchema(allTables).entrySet()) {
+      final Schema schema = entry.getKey();
+      final NamedObjectList<MutableTable> schemaTables = entry.getValue();
+      if (!getRetrieverConnection().isBulkMetadataSupported(schema)) {
+        retrieveIndexesFromMetadata(schemaTables);
+        continue;
+      }
+      try {
+        retrieveSchemaIndexesFromMetadata(schema, schemaTables, false);
+        retrieveSchemaIndexesFromMetadata(schema, schemaTables, true);
+      } catch (final SQLException e) {
+        // Not all database drivers support retrieving indexes for all tables in a schema, so
+        // retrieve them one table at a time instead
+        logPossiblyUnsupportedSQLFeature(
+            new StringFormat("Could not retrieve indexes for schema <%s>", schema), e);
+        retrieveIndexesFromMetadata(schemaTables);
+      }
+    }
+  }
+
+  private void retrieveSchemaIndexesFromMetadata(
+      final Schema schema, final NamedObjectList<MutableTable> schemaTables, final boolean unique)
+      throws SQLException {
+    try (final MetadataResultSet results =
+        createMetadataResultSet(
+            getMetaData()
+                .getIndexInfo(
+                    schema.getCatalogName(),
+                    schema.getName(),
+                    null,
+                    unique,
+                    true /* approximate */),
+            "DatabaseMetaData::getIndexInfo")) {
+      while (results.next()) {
+        final Optional<MutableTable> optionalTable = lookupTable(schemaTables, results);
+        if (!optionalTable.isPresent()) {
+          continue;
+        }
+        createIndexForTable(optionalTable.get(), results);
+      }
+    }
+  }
+
   private void retrieveTableIndexesFromMetadata(final MutableTable table, final boolean unique)
       throws SQLException {
 
     final Schema tableSchema = table.getSchema();
     try (final MetadataResultSet results =
-        new MetadataResultSet(
+        createMetadataResultSet(
             getMetaData()
                 .getIndexInfo(
                     tableSchema.getCatalogName(),
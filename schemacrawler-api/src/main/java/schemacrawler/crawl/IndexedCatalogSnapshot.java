@@ -0,0 +1,808 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.WeakAssociation;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.schemacrawler.exceptions.IORuntimeException;
+import us.fatehi.utility.UtilityMarker;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Writes and reads indexed catalog snapshots. An indexed snapshot has the columns, and the other
+ * details of each table, in blocks of their own, followed by the rest of the catalog with tables
+ * that have no details, and an index of the blocks by table lookup key. The blocks are compressed
+ * one at a time, so that each can be read on its own.
+ *
+ * <p>When an indexed snapshot is read, only the rest of the catalog and the index are decoded. The
+ * snapshot file is memory mapped, and the columns or details of a table are decoded the first time
+ * they are accessed. Tables that are filtered out of the catalog after it is read are never
+ * decoded, unless they are referenced by a table that is kept, such as by a foreign key.
+ */
+@UtilityMarker
+public final class IndexedCatalogSnapshot {
+
+  /** Location of the column and details blocks of a table in the snapshot file. */
+  private static final class BlockIndexEntry {
+
+    private final long columnsOffset;
+    private final int columnsLength;
+    private final long detailsOffset;
+    private final int detailsLength;
+
+    BlockIndexEntry(
+        final long columnsOffset,
+        final int columnsLength,
+        final long detailsOffset,
+        final int detailsLength) {
+      this.columnsOffset = columnsOffset;
+      this.columnsLength = columnsLength;
+      this.detailsOffset = detailsOffset;
+      this.detailsLength = detailsLength;
+    }
+  }
+
+  /** Reads from a memory mapped block of the snapshot file. */
+  private static final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(final ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+
+    @Override
+    public int read() {
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) {
+      if (length == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      final int count = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, count);
+      return count;
+    }
+  }
+
+  private enum BlockType {
+    catalog,
+    columns,
+    details;
+  }
+
+  private enum ReferenceType {
+    schema,
+    columnDataType,
+    table,
+    column;
+  }
+
+  /**
+   * Input stream for a block, that reads the compact class descriptors written for the block, only
+   * accepts the same classes as catalog snapshots, and looks up references to catalog objects.
+   */
+  private static final class SnapshotInputStream extends ObjectInputStream {
+
+    private static final List<Pattern> ACCEPT_PATTERNS =
+        Arrays.asList(
+            Pattern.compile("schemacrawler\\.(schema(crawler)?|crawl)\\.[A-Z].*"),
+            Pattern.compile("schemacrawler\\.[A-Z].*"),
+            Pattern.compile("(\\[L)?java.lang\\..*"),
+            Pattern.compile("java.(util|sql|math|time)\\..*"),
+            Pattern.compile("\\[[BC]"));
+
+    private final SnapshotTableLoader loader;
+    private final BlockType blockType;
+
+    SnapshotInputStream(
+        final InputStream in, final SnapshotTableLoader loader, final BlockType blockType)
+        throws IOException {
+      super(in);
+      this.loader = loader;
+      this.blockType = blockType;
+      enableResolveObject(loader != null);
+    }
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+      final String className = readUTF();
+      final long serialVersionUID = readLong();
+      if (!isAccepted(className)) {
+        throw new InvalidClassException(String.format("Not deserializing class <%s>", className));
+      }
+      final ObjectStreamClass objectStreamClass =
+          ObjectStreamClass.lookupAny(
+              Class.forName(className, false, IndexedCatalogSnapshot.class.getClassLoader()));
+      if (objectStreamClass.getSerialVersionUID() != serialVersionUID) {
+        throw new InvalidClassException(className, "Snapshot was written by another version");
+      }
+      return objectStreamClass;
+    }
+
+    @Override
+    protected Class<?> resolveClass(final ObjectStreamClass objectStreamClass)
+        throws IOException, ClassNotFoundException {
+      final Class<?> type = objectStreamClass.forClass();
+      if (type != null) {
+        return type;
+      }
+      return super.resolveClass(objectStreamClass);
+    }
+
+    @Override
+    protected Object resolveObject(final Object obj) throws IOException {
+      if (obj instanceof SnapshotReference) {
+        final SnapshotReference reference = (SnapshotReference) obj;
+        // References to columns of other tables are looked up after the columns of a table
+        // are loaded, so that tables which refer to each other can be loaded
+        if (reference.referenceType == ReferenceType.column && blockType == BlockType.columns) {
+          return obj;
+        }
+        return loader.lookup(reference);
+      }
+      return obj;
+    }
+
+    private boolean isAccepted(final String className) {
+      for (final Pattern pattern : ACCEPT_PATTERNS) {
+        if (pattern.matcher(className).matches()) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Output stream for a block, that writes compact class descriptors, since the class descriptors
+   * would otherwise be repeated in every block, and writes references to catalog objects that are
+   * not part of the block.
+   */
+  private static final class SnapshotOutputStream extends ObjectOutputStream {
+
+    private final SnapshotWriter writer;
+    private final BlockType blockType;
+    private final MutableTable table;
+
+    SnapshotOutputStream(
+        final OutputStream out,
+        final SnapshotWriter writer,
+        final BlockType blockType,
+        final MutableTable table)
+        throws IOException {
+      super(out);
+      this.writer = writer;
+      this.blockType = blockType;
+      this.table = table;
+      enableReplaceObject(true);
+    }
+
+    @Override
+    protected Object replaceObject(final Object obj) {
+      if (blockType == BlockType.catalog) {
+        if (obj instanceof MutableTable && writer.shells.containsKey(obj)) {
+          return writer.shells.get(obj);
+        }
+        return obj;
+      }
+
+      if (obj instanceof MutableTable && writer.shells.containsKey(obj)) {
+        return new SnapshotReference(ReferenceType.table, ((MutableTable) obj).key(), null);
+      } else if (obj instanceof SchemaReference && writer.schemas.contains(obj)) {
+        return new SnapshotReference(ReferenceType.schema, ((SchemaReference) obj).key(), null);
+      } else if (obj instanceof MutableColumnDataType && writer.columnDataTypes.contains(obj)) {
+        return new SnapshotReference(
+            ReferenceType.columnDataType, ((MutableColumnDataType) obj).key(), null);
+      } else if (obj instanceof MutableColumn) {
+        final MutableColumn column = (MutableColumn) obj;
+        final Table parent = column.getParent();
+        if (blockType == BlockType.columns) {
+          // Columns of other tables are only referenced by the columns of this table, and are
+          // written separately
+          return parent == table ? obj : null;
+        }
+        if (writer.shells.containsKey(parent)) {
+          return new SnapshotReference(ReferenceType.column, parent.key(), column.getName());
+        }
+      }
+      return obj;
+    }
+
+    @Override
+    protected void writeClassDescriptor(final ObjectStreamClass objectStreamClass)
+        throws IOException {
+      writeUTF(objectStreamClass.getName());
+      writeLong(objectStreamClass.getSerialVersionUID());
+    }
+  }
+
+  /** Reference to a catalog object that is not part of a block, by lookup key. */
+  private static final class SnapshotReference implements Serializable {
+
+    private static final long serialVersionUID = -2217364019475301896L;
+
+    private final ReferenceType referenceType;
+    private final NamedObjectKey key;
+    private final String name;
+
+    SnapshotReference(
+        final ReferenceType referenceType, final NamedObjectKey key, final String name) {
+      this.referenceType = referenceType;
+      this.key = key;
+      this.name = name;
+    }
+  }
+
+  /**
+   * Loads the columns and details of tables from the blocks of the snapshot file. Tables and other
+   * catalog objects are looked up from the catalog as it was read, so that tables that have been
+   * filtered out of the catalog since can still be referenced.
+   */
+  private static final class SnapshotTableLoader implements TableLoader {
+
+    private final Path snapshotFile;
+    private final boolean compressed;
+    private final Map<NamedObjectKey, BlockIndexEntry> blockIndex;
+    private final Map<NamedObjectKey, MutableTable> tables = new HashMap<>();
+    private final Map<NamedObjectKey, SchemaReference> schemas = new HashMap<>();
+    private final Map<NamedObjectKey, MutableColumnDataType> columnDataTypes = new HashMap<>();
+    private final Set<MutableTable> loadedColumns = newIdentitySet();
+
+    SnapshotTableLoader(
+        final Path snapshotFile,
+        final boolean compressed,
+        final Map<NamedObjectKey, BlockIndexEntry> blockIndex,
+        final MutableCatalog catalog)
+        throws IOException {
+      this.snapshotFile = snapshotFile;
+      this.compressed = compressed;
+      this.blockIndex = blockIndex;
+
+      for (final SchemaReference schema : catalog.getAllSchemas()) {
+        schemas.put(schema.key(), schema);
+      }
+      for (final MutableColumnDataType columnDataType : catalog.getAllColumnDataTypes()) {
+        columnDataTypes.put(columnDataType.key(), columnDataType);
+      }
+      for (final MutableTable table : catalog.getAllTables()) {
+        if (!blockIndex.containsKey(table.key())) {
+          throw new InvalidObjectException(
+              String.format("No index entry for table <%s>", table.key()));
+        }
+        tables.put(table.key(), table);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void loadColumns(final MutableTable table) {
+      if (loadedColumns.contains(table)) {
+        return;
+      }
+      final BlockIndexEntry entry = blockIndex.get(table.key());
+      final TableColumns tableColumns =
+          (TableColumns)
+              readBlock(BlockType.columns, entry.columnsOffset, entry.columnsLength, table);
+      for (final MutableColumn column : tableColumns.columns) {
+        table.addColumn(column);
+      }
+      for (final MutableColumn column : tableColumns.hiddenColumns) {
+        table.addHiddenColumn(column);
+      }
+      loadedColumns.add(table);
+
+      try {
+        for (final Map.Entry<String, SnapshotReference> referencedColumn :
+            tableColumns.referencedColumns.entrySet()) {
+          final Column column = (Column) lookup(referencedColumn.getValue());
+          table
+              .lookupRetrievedColumn(referencedColumn.getKey())
+              .ifPresent(tableColumn -> tableColumn.setReferencedColumn(column));
+        }
+      } catch (final IOException e) {
+        throw new IORuntimeException(
+            String.format("Could not load columns for <%s>", table.getFullName()), e);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void loadDetails(final MutableTable table) {
+      loadColumns(table);
+
+      final BlockIndexEntry entry = blockIndex.get(table.key());
+      final TableDetails details =
+          (TableDetails)
+              readBlock(BlockType.details, entry.detailsOffset, entry.detailsLength, table);
+      details.applyTo(table);
+      table.detailsLoaded();
+    }
+
+    Object lookup(final SnapshotReference reference) throws IOException {
+      final Optional<?> optionalObject;
+      switch (reference.referenceType) {
+        case schema:
+          optionalObject = Optional.ofNullable(schemas.get(reference.key));
+          break;
+        case columnDataType:
+          optionalObject = Optional.ofNullable(columnDataTypes.get(reference.key));
+          break;
+        case table:
+          optionalObject = Optional.ofNullable(tables.get(reference.key));
+          break;
+        case column:
+          final MutableTable table = tables.get(reference.key);
+          if (table == null) {
+            optionalObject = Optional.empty();
+          } else {
+            loadColumns(table);
+            optionalObject = table.lookupRetrievedColumn(reference.name);
+          }
+          break;
+        default:
+          optionalObject = Optional.empty();
+          break;
+      }
+      if (!optionalObject.isPresent()) {
+        throw new InvalidObjectException(
+            String.format(
+                "Cannot find %s <%s%s> in the snapshot",
+                reference.referenceType,
+                reference.key,
+                reference.name == null ? "" : "." + reference.name));
+      }
+      return optionalObject.get();
+    }
+
+    private Object readBlock(
+        final BlockType blockType, final long offset, final int length, final MutableTable table) {
+      final String message =
+          String.format("Could not load %s for <%s>", blockType, table.getFullName());
+      try {
+        final ByteBuffer buffer = map(snapshotFile, offset, length);
+        try (final ObjectInputStream in = openBlock(buffer, compressed, this, blockType)) {
+          return in.readObject();
+        }
+      } catch (final IOException e) {
+        throw new IORuntimeException(message, e);
+      } catch (final ClassNotFoundException | ClassCastException e) {
+        throw new IORuntimeException(message, new IOException(e));
+      }
+    }
+  }
+
+  /** Columns of a table, with references to columns of other tables by column name. */
+  private static final class TableColumns implements Serializable {
+
+    private static final long serialVersionUID = 4317580936529742870L;
+
+    private final List<MutableColumn> columns = new ArrayList<>();
+    private final List<MutableColumn> hiddenColumns = new ArrayList<>();
+    private final Map<String, SnapshotReference> referencedColumns = new LinkedHashMap<>();
+  }
+
+  /** Details of a table, other than columns, which are added to the table when they are read. */
+  private static final class TableDetails implements Serializable {
+
+    private static final long serialVersionUID = -6385712087735416102L;
+
+    private final List<PrimaryKey> alternateKeys = new ArrayList<>();
+    private final List<TableConstraint> constraints = new ArrayList<>();
+    private final List<ForeignKey> foreignKeys = new ArrayList<>();
+    private final List<Index> indexes = new ArrayList<>();
+    private final List<Privilege<Table>> privileges = new ArrayList<>();
+    private final List<Trigger> triggers = new ArrayList<>();
+    private final List<WeakAssociation> weakAssociations = new ArrayList<>();
+    private String definition;
+    private MutablePrimaryKey primaryKey;
+
+    TableDetails(final MutableTable table) {
+      alternateKeys.addAll(table.getAlternateKeys());
+      constraints.addAll(table.getTableConstraints());
+      foreignKeys.addAll(table.getForeignKeys());
+      indexes.addAll(table.getIndexes());
+      privileges.addAll(table.getPrivileges());
+      triggers.addAll(table.getTriggers());
+      weakAssociations.addAll(table.getWeakAssociations());
+      definition = table.getDefinition();
+      primaryKey = table.getPrimaryKey();
+    }
+
+    @SuppressWarnings("unchecked")
+    void applyTo(final MutableTable table) {
+      for (final PrimaryKey alternateKey : alternateKeys) {
+        table.addAlternateKey((MutablePrimaryKey) alternateKey);
+      }
+      for (final TableConstraint constraint : constraints) {
+        table.addTableConstraint(constraint);
+      }
+      for (final ForeignKey foreignKey : foreignKeys) {
+        table.addForeignKey((MutableForeignKey) foreignKey);
+      }
+      for (final Index index : indexes) {
+        table.addIndex((MutableIndex) index);
+      }
+      for (final Privilege<Table> privilege : privileges) {
+        table.addPrivilege((MutablePrivilege<Table>) privilege);
+      }
+      for (final Trigger trigger : triggers) {
+        table.addTrigger((MutableTrigger) trigger);
+      }
+      for (final WeakAssociation weakAssociation : weakAssociations) {
+        table.addWeakAssociation((MutableWeakAssociation) weakAssociation);
+      }
+      table.appendDefinition(definition);
+      table.setPrimaryKey(primaryKey);
+    }
+  }
+
+  /** Catalog objects that are written as references from the blocks of tables. */
+  private static final class SnapshotWriter {
+
+    private final Map<MutableTable, MutableTable> shells = new IdentityHashMap<>();
+    private final Set<SchemaReference> schemas = newIdentitySet();
+    private final Set<MutableColumnDataType> columnDataTypes = newIdentitySet();
+
+    SnapshotWriter(final MutableCatalog catalog) {
+      schemas.addAll(catalog.getAllSchemas().values());
+      columnDataTypes.addAll(catalog.getAllColumnDataTypes().values());
+      for (final MutableTable table : catalog.getAllTables()) {
+        shells.put(table, table.copyWithoutDetails());
+      }
+    }
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(IndexedCatalogSnapshot.class.getName());
+
+  private static final String MAGIC = "SchemaCrawler indexed catalog snapshot";
+  private static final int VERSION = 1;
+  // Offset and length of the catalog block, at the end of the file
+  private static final int TRAILER_LENGTH = Long.BYTES + Integer.BYTES;
+
+  /**
+   * Checks if a file has an indexed catalog snapshot.
+   *
+   * @param snapshotFile Snapshot file
+   * @return True if the file has an indexed catalog snapshot
+   * @throws IOException On an exception reading the file
+   */
+  public static boolean isIndexedSnapshot(final Path snapshotFile) throws IOException {
+    requireNonNull(snapshotFile, "No snapshot file provided");
+
+    final byte[] magic = MAGIC.getBytes(UTF_8);
+    final byte[] header = new byte[magic.length + 2];
+    try (final InputStream in = Files.newInputStream(snapshotFile)) {
+      int count = 0;
+      while (count < header.length) {
+        final int read = in.read(header, count, header.length - count);
+        if (read == -1) {
+          return false;
+        }
+        count += read;
+      }
+    }
+
+    // The magic string is written with a two byte length prefix
+    return header[0] == 0
+        && header[1] == magic.length
+        && Arrays.equals(Arrays.copyOfRange(header, 2, header.length), magic);
+  }
+
+  /**
+   * Reads an indexed catalog snapshot. Only the catalog without table details is read, and the
+   * columns and details of each table are read from the snapshot file when they are first
+   * accessed, so the file should not be changed or removed while the catalog is in use.
+   *
+   * @param snapshotFile Snapshot file
+   * @return Catalog
+   * @throws IOException On an exception reading the snapshot
+   */
+  public static Catalog readIndexedSnapshot(final Path snapshotFile) throws IOException {
+    requireNonNull(snapshotFile, "No snapshot file provided");
+
+    final long size;
+    final boolean compressed;
+    final ByteBuffer trailer;
+    try (final FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+      size = channel.size();
+      final DataInputStream headerIn =
+          new DataInputStream(
+              new ByteBufferInputStream(
+                  channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, 1024))));
+      if (!MAGIC.equals(headerIn.readUTF())) {
+        throw new IOException("Not an indexed catalog snapshot");
+      }
+      final int version = headerIn.readInt();
+      if (version != VERSION) {
+        throw new IOException("Unsupported indexed catalog snapshot version, " + version);
+      }
+      compressed = headerIn.readBoolean();
+      trailer = channel.map(FileChannel.MapMode.READ_ONLY, size - TRAILER_LENGTH, TRAILER_LENGTH);
+    }
+    final long catalogOffset = trailer.getLong();
+    final int catalogLength = trailer.getInt();
+
+    final MutableCatalog catalog;
+    final Map<NamedObjectKey, BlockIndexEntry> blockIndex = new HashMap<>();
+    try (final ObjectInputStream in =
+        openBlock(
+            map(snapshotFile, catalogOffset, catalogLength), compressed, null, BlockType.catalog)) {
+      catalog = (MutableCatalog) in.readObject();
+      final int tableCount = in.readInt();
+      for (int i = 0; i < tableCount; i++) {
+        final NamedObjectKey key = (NamedObjectKey) in.readObject();
+        blockIndex.put(
+            key, new BlockIndexEntry(in.readLong(), in.readInt(), in.readLong(), in.readInt()));
+      }
+    } catch (final ClassNotFoundException | ClassCastException e) {
+      throw new IOException("Cannot read indexed catalog snapshot", e);
+    }
+
+    final SnapshotTableLoader loader =
+        new SnapshotTableLoader(snapshotFile, compressed, blockIndex, catalog);
+    for (final MutableTable table : catalog.getAllTables()) {
+      table.setDetailsLoader(loader);
+    }
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Read indexed catalog snapshot with %d tables from <%s>",
+            blockIndex.size(), snapshotFile));
+    return catalog;
+  }
+
+  /**
+   * Writes an indexed catalog snapshot. Details of tables that are loaded lazily are loaded
+   * first, one table at a time.
+   *
+   * @param catalog Catalog to write
+   * @param out Output stream to write the snapshot to, which should be written to a file that is
+   *     read with {@link #readIndexedSnapshot(Path)}
+   * @param compressionLevel Compression level for each block, from 0 to 9, or -1 for the default
+   *     level, or null to not compress blocks
+   * @throws IOException On an exception writing the snapshot
+   */
+  public static void writeIndexedSnapshot(
+      final Catalog catalog, final OutputStream out, final Integer compressionLevel)
+      throws IOException {
+    requireNonNull(catalog, "No catalog provided");
+    requireNonNull(out, "No output stream provided");
+    if (!(catalog instanceof MutableCatalog)) {
+      throw new IllegalArgumentException("Catalog was not created by SchemaCrawler");
+    }
+    final MutableCatalog mutableCatalog = (MutableCatalog) catalog;
+    final boolean compressed = compressionLevel != null;
+
+    final ByteArrayOutputStream header = new ByteArrayOutputStream();
+    final DataOutputStream headerOut = new DataOutputStream(header);
+    headerOut.writeUTF(MAGIC);
+    headerOut.writeInt(VERSION);
+    headerOut.writeBoolean(compressed);
+    headerOut.flush();
+    header.writeTo(out);
+    long position = header.size();
+
+    final SnapshotWriter writer = new SnapshotWriter(mutableCatalog);
+    final Map<NamedObjectKey, BlockIndexEntry> blockIndex = new LinkedHashMap<>();
+    for (final MutableTable table : mutableCatalog.getAllTables()) {
+      table.loadColumns();
+      table.loadDetails();
+
+      final TableColumns tableColumns = new TableColumns();
+      for (final MutableColumn column : table.getAllColumns()) {
+        tableColumns.columns.add(column);
+        addReferencedColumn(writer, table, column, tableColumns);
+      }
+      for (final Column column : table.getHiddenColumns()) {
+        tableColumns.hiddenColumns.add((MutableColumn) column);
+        addReferencedColumn(writer, table, (MutableColumn) column, tableColumns);
+      }
+      final byte[] columnsBlock =
+          writeBlock(tableColumns, writer, BlockType.columns, table, compressionLevel, null);
+      out.write(columnsBlock);
+      final byte[] detailsBlock =
+          writeBlock(
+              new TableDetails(table), writer, BlockType.details, table, compressionLevel, null);
+      out.write(detailsBlock);
+
+      blockIndex.put(
+          table.key(),
+          new BlockIndexEntry(
+              position,
+              columnsBlock.length,
+              position + columnsBlock.length,
+              detailsBlock.length));
+      position += columnsBlock.length + detailsBlock.length;
+    }
+
+    final byte[] catalogBlock =
+        writeBlock(mutableCatalog, writer, BlockType.catalog, null, compressionLevel, blockIndex);
+    out.write(catalogBlock);
+
+    final DataOutputStream trailerOut = new DataOutputStream(out);
+    trailerOut.writeLong(position);
+    trailerOut.writeInt(catalogBlock.length);
+    trailerOut.flush();
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Wrote indexed catalog snapshot with %d tables, in %d bytes",
+            blockIndex.size(), position + catalogBlock.length + TRAILER_LENGTH));
+  }
+
+  /**
+   * Columns of a table that refer to columns of other tables have the referenced column written
+   * separately, so that the columns of each table can be read on their own.
+   */
+  private static void addReferencedColumn(
+      final SnapshotWriter writer,
+      final MutableTable table,
+      final MutableColumn column,
+      final TableColumns tableColumns) {
+    final Column referencedColumn = column.getReferencedColumn();
+    if (!(referencedColumn instanceof MutableColumn)) {
+      return;
+    }
+    final Table referencedTable = referencedColumn.getParent();
+    if (referencedTable != table && writer.shells.containsKey(referencedTable)) {
+      tableColumns.referencedColumns.put(
+          column.getName(),
+          new SnapshotReference(
+              ReferenceType.column, referencedTable.key(), referencedColumn.getName()));
+    }
+  }
+
+  private static ByteBuffer map(final Path snapshotFile, final long offset, final int length)
+      throws IOException {
+    // The mapping stays valid after the channel is closed
+    try (final FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+    }
+  }
+
+  private static <T> Set<T> newIdentitySet() {
+    return Collections.newSetFromMap(new IdentityHashMap<>());
+  }
+
+  private static ObjectInputStream openBlock(
+      final ByteBuffer buffer,
+      final boolean compressed,
+      final SnapshotTableLoader loader,
+      final BlockType blockType)
+      throws IOException {
+    InputStream in = new ByteBufferInputStream(buffer);
+    if (compressed) {
+      in = new InflaterInputStream(in);
+    }
+    return new SnapshotInputStream(in, loader, blockType);
+  }
+
+  private static byte[] writeBlock(
+      final Object object,
+      final SnapshotWriter writer,
+      final BlockType blockType,
+      final MutableTable table,
+      final Integer compressionLevel,
+      final Map<NamedObjectKey, BlockIndexEntry> blockIndex)
+      throws IOException {
+    final ByteArrayOutputStream block = new ByteArrayOutputStream();
+    Deflater deflater = null;
+    OutputStream out = block;
+    if (compressionLevel != null) {
+      deflater = new Deflater(compressionLevel);
+      out = new DeflaterOutputStream(block, deflater, 8 * 1024);
+    }
+    try (final ObjectOutputStream objOut =
+        new SnapshotOutputStream(out, writer, blockType, table)) {
+      objOut.writeObject(object);
+      if (blockIndex != null) {
+        objOut.writeInt(blockIndex.size());
+        for (final Map.Entry<NamedObjectKey, BlockIndexEntry> entry : blockIndex.entrySet()) {
+          final BlockIndexEntry indexEntry = entry.getValue();
+          objOut.writeObject(entry.getKey());
+          objOut.writeLong(indexEntry.columnsOffset);
+          objOut.writeInt(indexEntry.columnsLength);
+          objOut.writeLong(indexEntry.detailsOffset);
+          objOut.writeInt(indexEntry.detailsLength);
+        }
+      }
+    } finally {
+      if (deflater != null) {
+        deflater.end();
+      }
+    }
+    return block.toByteArray();
+  }
+
+  private IndexedCatalogSnapshot() {
+    // Prevent instantiation
+  }
+}
@@ -35,6 +35,8 @@ import static java.sql.Types.LONGVARBINARY;
 import static java.sql.Types.LONGVARCHAR;
 import static java.sql.Types.NCLOB;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static schemacrawler.schemacrawler.QueryUtility.executeAgainstSchema;
 import static schemacrawler.utility.EnumUtility.enumValue;
 import static schemacrawler.utility.EnumUtility.enumValueFromId;
@@ -50,13 +52,13 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -77,33 +79,71 @@ public final class MetadataResultSet implements AutoCloseable {
 
   private static final Logger LOGGER = Logger.getLogger(MetadataResultSet.class.getName());
 
-  private static final int FETCHSIZE = 20;
+  private static final int DEFAULT_FETCH_SIZE = 20;
 
   private final ResultsColumns resultsColumns;
   private final ResultSet results;
   private final String description;
-  private Set<ResultsColumn> readColumns;
+  private final int fetchSize;
+  private final long startTime;
+  private final ResultsColumn[] columns;
+  private final Map<String, Integer> columnIndexes;
+  private final BitSet readColumns;
+  private String[] attributeNames;
   private int rowCount;
   private boolean showLobs;
+  private StringPool stringPool;
 
   public MetadataResultSet(
       final Query query, final Statement statement, final InclusionRule schemaInclusionRule)
       throws SQLException {
-    this(executeAgainstSchema(query, statement, schemaInclusionRule), query.getName());
+    // The fetch size is set on the statement before the query is executed, so
+    // that it applies to the first round trip as well
+    this(
+        executeAgainstSchema(query, statement, schemaInclusionRule),
+        query.getName(),
+        statement.getFetchSize());
   }
 
   public MetadataResultSet(final ResultSet resultSet, final String description)
       throws SQLException {
+    this(resultSet, description, DEFAULT_FETCH_SIZE);
+  }
+
+  /**
+   * Wraps results, fetching the given number of rows from the database in each round trip.
+   *
+   * @param resultSet Results to wrap
+   * @param description Description of the results, for logging
+   * @param fetchSize Number of rows to fetch in each round trip, or 0 to use the driver default
+   * @throws SQLException On an exception
+   */
+  public MetadataResultSet(
+      final ResultSet resultSet, final String description, final int fetchSize)
+      throws SQLException {
+    startTime = System.nanoTime();
     results = requireNonNull(resultSet, "Cannot use null results");
-    try {
-      results.setFetchSize(FETCHSIZE);
-    } catch (final NullPointerException | SQLException e) {
-      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+    if (fetchSize > 0) {
+      try {
+        results.setFetchSize(fetchSize);
+      } catch (final NullPointerException | SQLException e) {
+        LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+      }
     }
+    this.fetchSize = fetchSize;
     this.description = requireNotBlank(description, "No result-set description provided");
 
     resultsColumns = new ResultsCrawler(results).crawl();
-    readColumns = new HashSet<>();
+    int columnCount = 0;
+    for (final ResultsColumn resultsColumn : resultsColumns) {
+      columnCount = Math.max(columnCount, resultsColumn.getOrdinalPosition());
+    }
+    columns = new ResultsColumn[columnCount];
+    for (final ResultsColumn resultsColumn : resultsColumns) {
+      columns[resultsColumn.getOrdinalPosition() - 1] = resultsColumn;
+    }
+    columnIndexes = new HashMap<>();
+    readColumns = new BitSet(columnCount);
     showLobs = true;
   }
 
@@ -116,7 +156,24 @@ public final class MetadataResultSet implements AutoCloseable {
   @Override
   public void close() throws SQLException {
     results.close();
-    LOGGER.log(Level.FINE, new StringFormat("Processed %d rows for <%s>", rowCount, description));
+    if (LOGGER.isLoggable(Level.FINE)) {
+      final long elapsedMillis = MILLISECONDS.convert(System.nanoTime() - startTime, NANOSECONDS);
+      if (fetchSize > 0) {
+        // Round trips are estimated from the fetch size, since drivers may
+        // treat the fetch size as a hint
+        final int roundTrips = rowCount / fetchSize + 1;
+        LOGGER.log(
+            Level.FINE,
+            new StringFormat(
+                "Processed %d rows in about %d round trips of %d rows, in %d ms, for <%s>",
+                rowCount, roundTrips, fetchSize, elapsedMillis, description));
+      } else {
+        LOGGER.log(
+            Level.FINE,
+            new StringFormat(
+                "Processed %d rows in %d ms, for <%s>", rowCount, elapsedMillis, description));
+      }
+    }
   }
 
   /**
@@ -126,26 +183,37 @@ public final class MetadataResultSet implements AutoCloseable {
    * @return Map of additional attributes to the database object
    */
   public Map<String, Object> getAttributes() {
+    if (readColumns.cardinality() == columns.length) {
+      return Collections.emptyMap();
+    }
+
     final Map<String, Object> attributes = new HashMap<>();
-    for (final ResultsColumn resultsColumn : resultsColumns) {
-      if (!readColumns.contains(resultsColumn)) {
-        try {
-          final String key = resultsColumn.getLabel().toUpperCase();
-          final Object value = getColumnData(resultsColumn);
-          attributes.put(key, value);
-        } catch (final SQLException | ArrayIndexOutOfBoundsException e) {
-          /*
-           * MySQL connector is broken and can cause
-           * ArrayIndexOutOfBoundsExceptions for no good reason (tested
-           * with connector 5.1.26 and server version 5.0.95). Ignoring
-           * the exception, we can still get some useful data out of the
-           * database.
-           */
-          LOGGER.log(
-              Level.WARNING,
-              e,
-              new StringFormat("Could not read value for column <%s>", resultsColumn));
+    for (int i = readColumns.nextClearBit(0);
+        i < columns.length;
+        i = readColumns.nextClearBit(i + 1)) {
+      final ResultsColumn resultsColumn = columns[i];
+      if (resultsColumn == null) {
+        continue;
+      }
+      try {
+        final String key = getAttributeName(i);
+        Object value = getColumnData(resultsColumn);
+        if (value instanceof String) {
+          value = intern((String) value);
         }
+        attributes.put(key, value);
+      } catch (final SQLException | ArrayIndexOutOfBoundsException e) {
+        /*
+         * MySQL connector is broken and can cause
+         * ArrayIndexOutOfBoundsExceptions for no good reason (tested
+         * with connector 5.1.26 and server version 5.0.95). Ignoring
+         * the exception, we can still get some useful data out of the
+         * database.
+         */
+        LOGGER.log(
+            Level.WARNING,
+            e,
+            new StringFormat("Could not read value for column <%s>", resultsColumn));
       }
     }
     return attributes;
@@ -174,14 +242,25 @@ public final class MetadataResultSet implements AutoCloseable {
    * @return Whether the string evaluates to true
    */
   public boolean getBoolean(final String columnName) {
-    if (useColumn(columnName)) {
+    return getBoolean(getColumnIndex(columnName));
+  }
+
+  /**
+   * Checks if the value of a column from the result set evaluates to true.
+   *
+   * @param columnIndex Column index, starting from 1
+   * @return Whether the string evaluates to true
+   */
+  public boolean getBoolean(final int columnIndex) {
+    if (useColumn(columnIndex)) {
       try {
-        final Object booleanValue = results.getObject(columnName);
+        final Object booleanValue = results.getObject(columnIndex);
         final String stringBooleanValue;
         if (results.wasNull() || booleanValue == null) {
           LOGGER.log(
               Level.FINER,
-              new StringFormat("NULL value for column <%s>, so evaluating to 'false'", columnName));
+              new StringFormat(
+                  "NULL value for column <%s>, so evaluating to 'false'", getLabel(columnIndex)));
           return false;
         } else {
           stringBooleanValue = String.valueOf(booleanValue).trim();
@@ -197,12 +276,36 @@ public final class MetadataResultSet implements AutoCloseable {
         LOGGER.log(
             Level.WARNING,
             e,
-            new StringFormat("Could not read boolean value for column <%s>", columnName));
+            new StringFormat(
+                "Could not read boolean value for column <%s>", getLabel(columnIndex)));
       }
     }
     return false;
   }
 
+  /**
+   * Gets the index of a column in the result set, looking it up by name or label. Lookups are
+   * cached, so columns are only looked up by name once for each result set, and values can then be
+   * read by column index.
+   *
+   * @param columnName Column name or label
+   * @return Column index, starting from 1, or 0 if the column is not in the result set
+   */
+  public int getColumnIndex(final String columnName) {
+    if (columnName == null) {
+      return 0;
+    }
+    final Integer cachedColumnIndex = columnIndexes.get(columnName);
+    if (cachedColumnIndex != null) {
+      return cachedColumnIndex;
+    }
+
+    final Optional<ResultsColumn> optionalResultsColumn = resultsColumns.lookupColumn(columnName);
+    final int columnIndex = optionalResultsColumn.map(ResultsColumn::getOrdinalPosition).orElse(0);
+    columnIndexes.put(columnName, columnIndex);
+    return columnIndex;
+  }
+
   public String[] getColumnNames() {
     final List<String> columnNames = new ArrayList<>();
     resultsColumns.forEach(resultsColumn -> columnNames.add(resultsColumn.getName()));
@@ -261,22 +364,36 @@ public final class MetadataResultSet implements AutoCloseable {
    * @return Integer value of the column, or the default if not available
    */
   public int getInt(final String columnName, final int defaultValue) {
+    return getInt(getColumnIndex(columnName), defaultValue);
+  }
+
+  /**
+   * Reads the value of a column from the result set as an integer. If the value was null, returns
+   * the default.
+   *
+   * @param columnIndex Column index, starting from 1
+   * @param defaultValue Default value
+   * @return Integer value of the column, or the default if not available
+   */
+  public int getInt(final int columnIndex, final int defaultValue) {
     int value = defaultValue;
-    if (useColumn(columnName)) {
+    if (useColumn(columnIndex)) {
       try {
-        value = results.getInt(columnName);
+        value = results.getInt(columnIndex);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
               new StringFormat(
-                  "NULL int value for column <%s>, so using default %d", columnName, defaultValue));
+                  "NULL int value for column <%s>, so using default %d",
+                  getLabel(columnIndex), defaultValue));
           value = defaultValue;
         }
       } catch (final SQLException e) {
         LOGGER.log(
             Level.WARNING,
             e,
-            new StringFormat("Could not read integer value for column <%s>", columnName));
+            new StringFormat(
+                "Could not read integer value for column <%s>", getLabel(columnIndex)));
       }
     }
     return value;
@@ -291,23 +408,35 @@ public final class MetadataResultSet implements AutoCloseable {
    * @return Long value of the column, or the default if not available
    */
   public long getLong(final String columnName, final long defaultValue) {
+    return getLong(getColumnIndex(columnName), defaultValue);
+  }
+
+  /**
+   * Reads the value of a column from the result set as a long. If the value was null, returns the
+   * default.
+   *
+   * @param columnIndex Column index, starting from 1
+   * @param defaultValue Default value
+   * @return Long value of the column, or the default if not available
+   */
+  public long getLong(final int columnIndex, final long defaultValue) {
     long value = defaultValue;
-    if (useColumn(columnName)) {
+    if (useColumn(columnIndex)) {
       try {
-        value = results.getLong(columnName);
+        value = results.getLong(columnIndex);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
               new StringFormat(
                   "NULL long value for column <%s>, so using default %d",
-                  columnName, defaultValue));
+                  getLabel(columnIndex), defaultValue));
           value = defaultValue;
         }
       } catch (final SQLException e) {
         LOGGER.log(
             Level.WARNING,
             e,
-            new StringFormat("Could not read long value for column <%s>", columnName));
+            new StringFormat("Could not read long value for column <%s>", getLabel(columnIndex)));
       }
     }
     return value;
@@ -322,23 +451,35 @@ public final class MetadataResultSet implements AutoCloseable {
    * @return Short value of the column, or the default if not available
    */
   public short getShort(final String columnName, final short defaultValue) {
+    return getShort(getColumnIndex(columnName), defaultValue);
+  }
+
+  /**
+   * Reads the value of a column from the result set as a short. If the value was null, returns the
+   * default.
+   *
+   * @param columnIndex Column index, starting from 1
+   * @param defaultValue Default value
+   * @return Short value of the column, or the default if not available
+   */
+  public short getShort(final int columnIndex, final short defaultValue) {
     short value = defaultValue;
-    if (useColumn(columnName)) {
+    if (useColumn(columnIndex)) {
       try {
-        value = results.getShort(columnName);
+        value = results.getShort(columnIndex);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
               new StringFormat(
                   "NULL short value for column <%s>, so using default %d",
-                  columnName, defaultValue));
+                  getLabel(columnIndex), defaultValue));
           value = defaultValue;
         }
       } catch (final SQLException e) {
         LOGGER.log(
             Level.WARNING,
             e,
-            new StringFormat("Could not read short value for column <%s>", columnName));
+            new StringFormat("Could not read short value for column <%s>", getLabel(columnIndex)));
       }
     }
     return value;
@@ -351,22 +492,32 @@ public final class MetadataResultSet implements AutoCloseable {
    * @return String value of the column, or null if not available
    */
   public String getString(final String columnName) {
+    return getString(getColumnIndex(columnName));
+  }
+
+  /**
+   * Reads the value of a column from the result set as a string.
+   *
+   * @param columnIndex Column index, starting from 1
+   * @return String value of the column, or null if not available
+   */
+  public String getString(final int columnIndex) {
     String value = null;
-    if (useColumn(columnName)) {
+    if (useColumn(columnIndex)) {
       try {
-        value = results.getString(columnName);
+        value = results.getString(columnIndex);
         if (results.wasNull()) {
           value = null;
         }
 
         if (value != null) {
-          value = value.trim();
+          value = intern(value.trim());
         }
       } catch (final SQLException e) {
         LOGGER.log(
             Level.WARNING,
             e,
-            new StringFormat("Could not read string value for column <%s>", columnName));
+            new StringFormat("Could not read string value for column <%s>", getLabel(columnIndex)));
       }
     }
     return value;
@@ -382,7 +533,7 @@ public final class MetadataResultSet implements AutoCloseable {
    * @throws SQLException On a database access error
    */
   public boolean next() throws SQLException {
-    readColumns = new HashSet<>();
+    readColumns.clear();
 
     final boolean next = results.next();
     logSQLWarnings(results);
@@ -405,6 +556,35 @@ public final class MetadataResultSet implements AutoCloseable {
     this.showLobs = showLobs;
   }
 
+  /**
+   * Canonicalizes string values and attribute names through a pool of strings for the crawl, as
+   * they are read.
+   *
+   * @param stringPool Pool of strings for the crawl
+   */
+  void setStringPool(final StringPool stringPool) {
+    this.stringPool = stringPool;
+  }
+
+  /**
+   * Gets the name of the attribute for an unread column, which is the upper-case column label.
+   * Names are worked out once for each result set, rather than for each row.
+   *
+   * @param index Column index, starting from 0
+   * @return Attribute name
+   */
+  private String getAttributeName(final int index) {
+    if (attributeNames == null) {
+      attributeNames = new String[columns.length];
+    }
+    String attributeName = attributeNames[index];
+    if (attributeName == null) {
+      attributeName = intern(columns[index].getLabel().toUpperCase());
+      attributeNames[index] = attributeName;
+    }
+    return attributeName;
+  }
+
   private Object getColumnData(final ResultsColumn resultsColumn) throws SQLException {
     final int javaSqlType =
         resultsColumn.getColumnDataType().getJavaSqlType().getVendorTypeNumber();
@@ -444,6 +624,13 @@ public final class MetadataResultSet implements AutoCloseable {
     return columnData;
   }
 
+  private String intern(final String string) {
+    if (stringPool == null) {
+      return string;
+    }
+    return stringPool.intern(string);
+  }
+
   private Object readCharacterData(final Reader reader) {
     try {
       if (reader != null && showLobs) {
@@ -457,9 +644,19 @@ public final class MetadataResultSet implements AutoCloseable {
     return new BinaryData();
   }
 
-  private boolean useColumn(final String columnName) {
-    final Optional<ResultsColumn> optionalResultsColumn = resultsColumns.lookupColumn(columnName);
-    optionalResultsColumn.ifPresent(readColumns::add);
-    return optionalResultsColumn.isPresent();
+  private String getLabel(final int columnIndex) {
+    final ResultsColumn resultsColumn = columns[columnIndex - 1];
+    if (resultsColumn == null) {
+      return String.valueOf(columnIndex);
+    }
+    return resultsColumn.getLabel();
+  }
+
+  private boolean useColumn(final int columnIndex) {
+    if (columnIndex < 1 || columnIndex > columns.length) {
+      return false;
+    }
+    readColumns.set(columnIndex - 1);
+    return true;
   }
 }
@@ -29,19 +29,20 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.NamedObjectList.valuesOf;
 import static us.fatehi.utility.Utility.isBlank;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnDataType;
 import schemacrawler.schema.ConnectionInfo;
 import schemacrawler.schema.CrawlInfo;
-import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.DatabaseUser;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.NamedObjectKey;
@@ -51,6 +52,8 @@ import schemacrawler.schema.Schema;
 import schemacrawler.schema.Sequence;
 import schemacrawler.schema.Synonym;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.SchemaReference;
 
 /**
@@ -61,32 +64,19 @@ import schemacrawler.schemacrawler.SchemaReference;
  */
 final class MutableCatalog extends AbstractNamedObjectWithAttributes implements Catalog {
 
-  private static final class FilterBySchema implements Predicate<DatabaseObject> {
-
-    private final Schema schema;
-
-    public FilterBySchema(final Schema schema) {
-      this.schema = requireNonNull(schema, "No schema provided");
-    }
-
-    @Override
-    public boolean test(final DatabaseObject databaseObject) {
-      return databaseObject != null && databaseObject.getSchema().equals(schema);
-    }
-  }
-
   private static final long serialVersionUID = 4051323422934251828L;
 
   private final NamedObjectList<MutableColumnDataType> columnDataTypes = new NamedObjectList<>();
-  private final MutableDatabaseInfo databaseInfo;
-  private final MutableJdbcDriverInfo jdbcDriverInfo;
+  private MutableDatabaseInfo databaseInfo;
+  private MutableJdbcDriverInfo jdbcDriverInfo;
   private final NamedObjectList<MutableRoutine> routines = new NamedObjectList<>();
   private final NamedObjectList<SchemaReference> schemas = new NamedObjectList<>();
   private final NamedObjectList<MutableSequence> sequences = new NamedObjectList<>();
   private final NamedObjectList<MutableSynonym> synonyms = new NamedObjectList<>();
   private final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
   private final NamedObjectList<ImmutableDatabaseUser> databaseUsers = new NamedObjectList<>();
-  private final MutableCrawlInfo crawlInfo;
+  private MutableCrawlInfo crawlInfo;
+  private transient volatile boolean frozen;
 
   MutableCatalog(final String name, final ConnectionInfo connectionInfo) {
     super(name);
@@ -97,23 +87,42 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
     crawlInfo = new MutableCrawlInfo(connectionInfo);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public synchronized Catalog freeze() {
+    if (frozen) {
+      return this;
+    }
+
+    for (final MutableTable table : tables) {
+      table.freeze();
+    }
+    for (final MutableRoutine routine : routines) {
+      routine.freeze();
+    }
+
+    columnDataTypes.freeze();
+    databaseUsers.freeze();
+    routines.freeze();
+    schemas.freeze();
+    sequences.freeze();
+    synonyms.freeze();
+    tables.freeze();
+
+    frozen = true;
+    return this;
+  }
+
   /** {@inheritDoc} */
   @Override
   public Collection<ColumnDataType> getColumnDataTypes() {
-    return new ArrayList<>(columnDataTypes.values());
+    return valuesOf(columnDataTypes);
   }
 
   /** {@inheritDoc} */
   @Override
   public Collection<ColumnDataType> getColumnDataTypes(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<ColumnDataType> columnDataTypes = new ArrayList<>();
-    for (final ColumnDataType columnDataType : this.columnDataTypes) {
-      if (filter.test(columnDataType)) {
-        columnDataTypes.add(columnDataType);
-      }
-    }
-    return columnDataTypes;
+    return valuesOf(columnDataTypes, schema);
   }
 
   @Override
@@ -129,7 +138,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<DatabaseUser> getDatabaseUsers() {
-    return new ArrayList<>(databaseUsers.values());
+    return valuesOf(databaseUsers);
   }
 
   /** {@inheritDoc} */
@@ -141,7 +150,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Routine> getRoutines() {
-    return new ArrayList<>(routines.values());
+    return valuesOf(routines);
   }
 
   /** {@inheritDoc} */
@@ -153,13 +162,12 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Routine> getRoutines(final Schema schema, final String routineName) {
-    Predicate<DatabaseObject> filter = new FilterBySchema(schema);
-    if (!isBlank(routineName)) {
-      filter = filter.and(routine -> routine.getName().equals(routineName));
+    if (isBlank(routineName)) {
+      return valuesOf(this.routines, schema);
     }
     final Collection<Routine> routines = new ArrayList<>();
-    for (final Routine routine : this.routines) {
-      if (filter.test(routine)) {
+    for (final Routine routine : this.routines.values(schema)) {
+      if (routine.getName().equals(routineName)) {
         routines.add(routine);
       }
     }
@@ -169,45 +177,31 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Schema> getSchemas() {
-    return new ArrayList<>(schemas.values());
+    return valuesOf(schemas);
   }
 
   /** {@inheritDoc} */
   @Override
   public Collection<Sequence> getSequences() {
-    return new ArrayList<>(sequences.values());
+    return valuesOf(sequences);
   }
 
   /** {@inheritDoc} */
   @Override
   public Collection<Sequence> getSequences(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Sequence> sequences = new ArrayList<>();
-    for (final Sequence sequence : this.sequences) {
-      if (filter.test(sequence)) {
-        sequences.add(sequence);
-      }
-    }
-    return sequences;
+    return valuesOf(sequences, schema);
   }
 
   /** {@inheritDoc} */
   @Override
   public Collection<Synonym> getSynonyms() {
-    return new ArrayList<>(synonyms.values());
+    return valuesOf(synonyms);
   }
 
   /** {@inheritDoc} */
   @Override
   public Collection<Synonym> getSynonyms(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Synonym> synonyms = new ArrayList<>();
-    for (final Synonym synonym : this.synonyms) {
-      if (filter.test(synonym)) {
-        synonyms.add(synonym);
-      }
-    }
-    return synonyms;
+    return valuesOf(synonyms, schema);
   }
 
   /** {@inheritDoc} */
@@ -219,20 +213,19 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Table> getTables() {
-    return new ArrayList<>(tables.values());
+    return valuesOf(tables);
   }
 
   /** {@inheritDoc} */
   @Override
   public Collection<Table> getTables(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Table> tables = new ArrayList<>();
-    for (final Table table : this.tables) {
-      if (filter.test(table)) {
-        tables.add(table);
-      }
-    }
-    return tables;
+    return valuesOf(tables, schema);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isFrozen() {
+    return frozen;
   }
 
   /** {@inheritDoc} */
@@ -317,6 +310,12 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
     }
   }
 
+  void addAdaptiveRetrievalStrategy(
+      final SchemaInfoMetadataRetrievalStrategy retrievalStrategy,
+      final MetadataRetrievalStrategy chosenStrategy) {
+    crawlInfo.addAdaptiveRetrievalStrategy(retrievalStrategy.name(), chosenStrategy.name());
+  }
+
   void addColumnDataType(final MutableColumnDataType columnDataType) {
     if (columnDataType != null) {
       columnDataTypes.add(columnDataType);
@@ -352,6 +351,14 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
     tables.add(table);
   }
 
+  NamedObjectList<MutableColumnDataType> getAllColumnDataTypes() {
+    return columnDataTypes;
+  }
+
+  NamedObjectList<ImmutableDatabaseUser> getAllDatabaseUsers() {
+    return databaseUsers;
+  }
+
   NamedObjectList<MutableRoutine> getAllRoutines() {
     return routines;
   }
@@ -360,6 +367,14 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
     return schemas;
   }
 
+  NamedObjectList<MutableSequence> getAllSequences() {
+    return sequences;
+  }
+
+  NamedObjectList<MutableSynonym> getAllSynonyms() {
+    return synonyms;
+  }
+
   NamedObjectList<MutableTable> getAllTables() {
     return tables;
   }
@@ -390,4 +405,27 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   Optional<MutableTable> lookupTable(final NamedObjectKey tableLookupKey) {
     return tables.lookup(tableLookupKey);
   }
+
+  /**
+   * Replaces information about the crawl, the database and the JDBC driver, such as when a catalog
+   * delta from a later crawl is applied to this catalog.
+   */
+  void setCatalogInfo(
+      final MutableCrawlInfo crawlInfo,
+      final MutableDatabaseInfo databaseInfo,
+      final MutableJdbcDriverInfo jdbcDriverInfo) {
+    this.crawlInfo = requireNonNull(crawlInfo, "No crawl information provided");
+    this.databaseInfo = requireNonNull(databaseInfo, "No database information provided");
+    this.jdbcDriverInfo = requireNonNull(jdbcDriverInfo, "No JDBC driver information provided");
+  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    // Load the details of all tables that are loaded lazily before anything is written, since
+    // loading the foreign keys of a table can add them to tables that were already written
+    for (final MutableTable table : tables) {
+      table.loadColumns();
+      table.loadDetails();
+    }
+    out.defaultWriteObject();
+  }
 }
@@ -28,7 +28,8 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
-import java.util.ArrayList;
+import static schemacrawler.crawl.NamedObjectList.valuesOf;
+
 import java.util.Collection;
 import java.util.Optional;
 
@@ -68,7 +69,7 @@ final class MutableColumn extends AbstractColumn<Table> implements Column {
   /** {@inheritDoc} */
   @Override
   public Collection<Privilege<Column>> getPrivileges() {
-    return new ArrayList<>(privileges.values());
+    return valuesOf(privileges);
   }
 
   /** {@inheritDoc} */
@@ -129,6 +130,15 @@ final class MutableColumn extends AbstractColumn<Table> implements Column {
     privileges.add(privilege);
   }
 
+  void clearPrivileges() {
+    privileges.clear();
+  }
+
+  /** Freezes the privileges of the column, so that they can no longer be modified. */
+  void freeze() {
+    privileges.freeze();
+  }
+
   void markAsPartOfIndex() {
     isPartOfIndex = true;
   }
@@ -39,11 +39,16 @@ import static java.time.temporal.ChronoField.SECOND_OF_MINUTE;
 import static java.time.temporal.ChronoField.YEAR;
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.SignStyle;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 
 import schemacrawler.BaseProductVersion;
@@ -89,6 +94,7 @@ final class MutableCrawlInfo implements CrawlInfo {
   private final ProductVersion schemaCrawlerVersion;
   private final ProductVersion databaseVersion;
   private final ProductVersion jdbcDriverVersion;
+  private Map<String, String> adaptiveRetrievalStrategies;
 
   MutableCrawlInfo(final ConnectionInfo connectionInfo) {
     requireNonNull(connectionInfo, "No connection information provided");
@@ -105,6 +111,13 @@ final class MutableCrawlInfo implements CrawlInfo {
 
     crawlTimestamp = Instant.now();
     runId = UUID.randomUUID();
+    adaptiveRetrievalStrategies = new TreeMap<>();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Map<String, String> getAdaptiveRetrievalStrategies() {
+    return Collections.unmodifiableMap(adaptiveRetrievalStrategies);
   }
 
   @Override
@@ -170,7 +183,21 @@ final class MutableCrawlInfo implements CrawlInfo {
     return info.toString();
   }
 
+  void addAdaptiveRetrievalStrategy(final String retrievalStrategy, final String chosenStrategy) {
+    adaptiveRetrievalStrategies.put(
+        requireNonNull(retrievalStrategy, "No retrieval strategy provided"),
+        requireNonNull(chosenStrategy, "No chosen retrieval strategy provided"));
+  }
+
   private ZonedDateTime getCrawlTimestampUTC() {
     return ZonedDateTime.ofInstant(crawlTimestamp, UTC);
   }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    // Crawl information serialized by earlier versions has no adaptive retrieval strategies
+    if (adaptiveRetrievalStrategies == null) {
+      adaptiveRetrievalStrategies = new TreeMap<>();
+    }
+  }
 }
@@ -40,7 +40,7 @@ final class MutableForeignKey extends AbstractTableReference implements ForeignK
 
   private static final long serialVersionUID = 4121411795974895671L;
 
-  private final StringBuilder definition;
+  private String definition;
   private ForeignKeyDeferrability deferrability;
   private ForeignKeyUpdateRule deleteRule;
   private ForeignKeyUpdateRule updateRule;
@@ -48,7 +48,7 @@ final class MutableForeignKey extends AbstractTableReference implements ForeignK
   MutableForeignKey(final String name) {
     super(name);
 
-    definition = new StringBuilder();
+    definition = "";
 
     // Default values
     updateRule = ForeignKeyUpdateRule.unknown;
@@ -65,7 +65,7 @@ final class MutableForeignKey extends AbstractTableReference implements ForeignK
   /** {@inheritDoc} */
   @Override
   public String getDefinition() {
-    return definition.toString();
+    return definition;
   }
 
   /** {@inheritDoc} */
@@ -87,7 +87,7 @@ final class MutableForeignKey extends AbstractTableReference implements ForeignK
 
   @Override
   public boolean hasDefinition() {
-    return definition.length() > 0;
+    return !definition.isEmpty();
   }
 
   @Override
@@ -111,7 +111,7 @@ final class MutableForeignKey extends AbstractTableReference implements ForeignK
 
   void appendDefinition(final String definition) {
     if (definition != null) {
-      this.definition.append(definition);
+      this.definition = this.definition.concat(definition);
     }
   }
 
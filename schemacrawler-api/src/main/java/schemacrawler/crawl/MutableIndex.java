@@ -29,8 +29,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.NamedObjectList.valuesOf;
 
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -52,7 +52,7 @@ class MutableIndex extends AbstractDependantObject<Table> implements Index {
   private static final long serialVersionUID = 4051326747138079028L;
 
   private final NamedObjectList<MutableIndexColumn> columns = new NamedObjectList<>();
-  private final StringBuilder definition;
+  private String definition;
   private long cardinality;
   private IndexType indexType;
   private boolean isUnique;
@@ -62,7 +62,7 @@ class MutableIndex extends AbstractDependantObject<Table> implements Index {
     super(new TablePointer(parent), name);
     // Default values
     indexType = IndexType.unknown;
-    definition = new StringBuilder();
+    definition = "";
   }
 
   /**
@@ -114,13 +114,13 @@ class MutableIndex extends AbstractDependantObject<Table> implements Index {
   /** {@inheritDoc} */
   @Override
   public final List<IndexColumn> getColumns() {
-    return new ArrayList<>(columns.values());
+    return valuesOf(columns);
   }
 
   /** {@inheritDoc} */
   @Override
   public final String getDefinition() {
-    return definition.toString();
+    return definition;
   }
 
   /** {@inheritDoc} */
@@ -143,7 +143,7 @@ class MutableIndex extends AbstractDependantObject<Table> implements Index {
 
   @Override
   public final boolean hasDefinition() {
-    return definition.length() > 0;
+    return !definition.isEmpty();
   }
 
   /** {@inheritDoc} */
@@ -171,10 +171,19 @@ class MutableIndex extends AbstractDependantObject<Table> implements Index {
 
   final void appendDefinition(final String definition) {
     if (definition != null) {
-      this.definition.append(definition);
+      this.definition = this.definition.concat(definition);
     }
   }
 
+  final void clearDefinition() {
+    definition = "";
+  }
+
+  /** Freezes the columns of the index, so that they can no longer be modified. */
+  final void freeze() {
+    columns.freeze();
+  }
+
   final void setCardinality(final long cardinality) {
     this.cardinality = cardinality;
   }
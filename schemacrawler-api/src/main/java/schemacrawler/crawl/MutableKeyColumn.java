@@ -42,13 +42,13 @@ class MutableKeyColumn extends AbstractDependantObject<Table> implements Column,
   private static final long serialVersionUID = 6988029161945610279L;
 
   private final Column column;
-  private final StringBuilder definition;
+  private String definition;
   private int keyOrdinalPosition;
 
   MutableKeyColumn(final Column column) {
     super(new TablePointer(column.getParent()), column.getName());
     this.column = column;
-    definition = new StringBuilder();
+    definition = "";
   }
 
   /** {@inheritDoc} */
@@ -93,7 +93,7 @@ class MutableKeyColumn extends AbstractDependantObject<Table> implements Column,
   /** {@inheritDoc} */
   @Override
   public String getDefinition() {
-    return definition.toString();
+    return definition;
   }
 
   /** {@inheritDoc} */
@@ -139,7 +139,7 @@ class MutableKeyColumn extends AbstractDependantObject<Table> implements Column,
 
   @Override
   public boolean hasDefinition() {
-    return definition.length() > 0;
+    return !definition.isEmpty();
   }
 
   /** {@inheritDoc} */
@@ -198,7 +198,7 @@ class MutableKeyColumn extends AbstractDependantObject<Table> implements Column,
 
   void appendDefinition(final String definition) {
     if (definition != null) {
-      this.definition.append(definition);
+      this.definition = this.definition.concat(definition);
     }
   }
 
@@ -50,7 +50,7 @@ abstract class MutableRoutine extends AbstractDatabaseObject implements Routine
 
   private static final long serialVersionUID = 3906925686089134130L;
 
-  private final StringBuilder definition;
+  private String definition;
   private RoutineBodyType routineBodyType;
   private final String specificName;
   private transient NamedObjectKey key;
@@ -65,7 +65,7 @@ abstract class MutableRoutine extends AbstractDatabaseObject implements Routine
     super(schema, name);
     this.specificName = specificName;
     routineBodyType = RoutineBodyType.unknown;
-    definition = new StringBuilder();
+    definition = "";
   }
 
   @Override
@@ -92,7 +92,7 @@ abstract class MutableRoutine extends AbstractDatabaseObject implements Routine
   /** {@inheritDoc} */
   @Override
   public final String getDefinition() {
-    return definition.toString();
+    return definition;
   }
 
   /** {@inheritDoc} */
@@ -123,7 +123,7 @@ abstract class MutableRoutine extends AbstractDatabaseObject implements Routine
 
   @Override
   public final boolean hasDefinition() {
-    return definition.length() > 0;
+    return !definition.isEmpty();
   }
 
   @Override
@@ -134,10 +134,13 @@ abstract class MutableRoutine extends AbstractDatabaseObject implements Routine
 
   final void appendDefinition(final String definition) {
     if (definition != null) {
-      this.definition.append(definition);
+      this.definition = this.definition.concat(definition);
     }
   }
 
+  /** Freezes the parameters of the routine, so that they can no longer be modified. */
+  abstract void freeze();
+
   final void setRoutineBodyType(final RoutineBodyType routineBodyType) {
     this.routineBodyType = routineBodyType;
   }
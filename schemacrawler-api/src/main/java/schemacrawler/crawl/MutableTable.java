@@ -30,8 +30,12 @@ package schemacrawler.crawl;
 
 import static java.util.Comparator.naturalOrder;
 import static java.util.Comparator.nullsLast;
+import static schemacrawler.crawl.NamedObjectList.valuesOf;
+import static schemacrawler.utility.MetaDataUtility.DETAILS_RELEASED;
 import static schemacrawler.utility.NamedObjectSort.alphabetical;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -70,7 +74,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
 
   private final NamedObjectList<MutableColumn> columns = new NamedObjectList<>();
   private final NamedObjectList<TableConstraint> constraints = new NamedObjectList<>();
-  private final StringBuilder definition;
+  private String definition;
   private final NamedObjectList<MutableForeignKey> foreignKeys = new NamedObjectList<>();
   private final NamedObjectList<MutableWeakAssociation> weakAssociations = new NamedObjectList<>();
   private final NamedObjectList<MutableColumn> hiddenColumns = new NamedObjectList<>();
@@ -81,10 +85,15 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   private MutablePrimaryKey primaryKey;
   private int sortIndex;
   private TableType tableType = TableType.UNKNOWN; // Default value
+  private transient volatile TableLoader detailsLoader;
+  // Related tables are computed from the foreign keys on first use, and discarded whenever the
+  // foreign keys change
+  private transient volatile List<Table> parentTables;
+  private transient volatile List<Table> childTables;
 
   MutableTable(final Schema schema, final String name) {
     super(schema, name);
-    definition = new StringBuilder();
+    definition = "";
   }
 
   /** {@inheritDoc} */
@@ -109,99 +118,108 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   /** {@inheritDoc} */
   @Override
   public Collection<PrimaryKey> getAlternateKeys() {
+    loadDetails();
     return new HashSet<>(alternateKeys.values());
   }
 
   /** {@inheritDoc} */
   @Override
   public List<Column> getColumns() {
-    return new ArrayList<>(columns.values());
+    loadColumns();
+    return valuesOf(columns);
   }
 
   /** {@inheritDoc} */
   @Override
   public String getDefinition() {
-    return definition.toString();
+    loadDetails();
+    return definition;
   }
 
   /** {@inheritDoc} */
   @Override
   public Collection<ForeignKey> getExportedForeignKeys() {
+    loadDetails();
     return getTableReferences(foreignKeys, TableAssociationType.exported);
   }
 
   /** {@inheritDoc} */
   @Override
   public Collection<ForeignKey> getForeignKeys() {
+    loadDetails();
     return getTableReferences(foreignKeys, TableAssociationType.all);
   }
 
   /** {@inheritDoc} */
   @Override
   public Collection<Column> getHiddenColumns() {
+    loadColumns();
     return new HashSet<>(hiddenColumns.values());
   }
 
   @Override
   public Collection<ForeignKey> getImportedForeignKeys() {
+    loadDetails();
     return getTableReferences(foreignKeys, TableAssociationType.imported);
   }
 
   /** {@inheritDoc} */
   @Override
   public Collection<Index> getIndexes() {
-    return new ArrayList<>(indexes.values());
+    loadDetails();
+    return valuesOf(indexes);
   }
 
   /** {@inheritDoc} */
   @Override
   public MutablePrimaryKey getPrimaryKey() {
+    loadDetails();
     return primaryKey;
   }
 
   /** {@inheritDoc} */
   @Override
   public Collection<Privilege<Table>> getPrivileges() {
-    return new ArrayList<>(privileges.values());
+    loadDetails();
+    return valuesOf(privileges);
   }
 
   /** {@inheritDoc} */
   @Override
   public Collection<Table> getRelatedTables(final TableRelationshipType tableRelationshipType) {
-    final Set<Table> relatedTables = new HashSet<>();
-    if (tableRelationshipType != null && tableRelationshipType != TableRelationshipType.none) {
-      final List<MutableForeignKey> foreignKeysList = new ArrayList<>(foreignKeys.values());
-      for (final ForeignKey foreignKey : foreignKeysList) {
-        for (final ColumnReference columnReference : foreignKey) {
-          final Table parentTable = columnReference.getPrimaryKeyColumn().getParent();
-          final Table childTable = columnReference.getForeignKeyColumn().getParent();
-          switch (tableRelationshipType) {
-            case parent:
-              if (equals(childTable)) {
-                relatedTables.add(parentTable);
-              }
-              break;
-            case child:
-              if (equals(parentTable)) {
-                relatedTables.add(childTable);
-              }
-              break;
-            default:
-              break;
-          }
-        }
-      }
+    loadDetails();
+    if (tableRelationshipType == null) {
+      return new ArrayList<>();
     }
 
-    final List<Table> relatedTablesList = new ArrayList<>(relatedTables);
-    relatedTablesList.sort(alphabetical);
-    return relatedTablesList;
+    List<Table> relatedTables;
+    switch (tableRelationshipType) {
+      case parent:
+        relatedTables = parentTables;
+        if (relatedTables == null) {
+          relatedTables = findRelatedTables(tableRelationshipType);
+          parentTables = relatedTables;
+        }
+        break;
+      case child:
+        relatedTables = childTables;
+        if (relatedTables == null) {
+          relatedTables = findRelatedTables(tableRelationshipType);
+          childTables = relatedTables;
+        }
+        break;
+      default:
+        relatedTables = Collections.emptyList();
+        break;
+    }
+    return new ArrayList<>(relatedTables);
   }
 
   /** {@inheritDoc} */
   @Override
   public Collection<TableConstraint> getTableConstraints() {
-    return new ArrayList<>(constraints.values());
+    loadDetails();
+    return valuesOf(constraints);
   }
 
   /** {@inheritDoc} */
@@ -213,7 +231,8 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   /** {@inheritDoc} */
   @Override
   public Collection<Trigger> getTriggers() {
-    return new ArrayList<>(triggers.values());
+    loadDetails();
+    return valuesOf(triggers);
   }
 
   /** {@inheritDoc} */
@@ -225,17 +244,20 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   /** {@inheritDoc} */
   @Override
   public Collection<WeakAssociation> getWeakAssociations() {
+    loadDetails();
     return getTableReferences(weakAssociations, TableAssociationType.all);
   }
 
   @Override
   public boolean hasDefinition() {
-    return definition.length() > 0;
+    loadDetails();
+    return !definition.isEmpty();
   }
 
   /** {@inheritDoc} */
   @Override
   public final boolean hasForeignKeys() {
+    loadDetails();
     return !foreignKeys.isEmpty();
   }
 
@@ -248,41 +270,43 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   /** {@inheritDoc} */
   @Override
   public Optional<MutablePrimaryKey> lookupAlternateKey(final String name) {
+    loadDetails();
     return alternateKeys.lookup(this, name);
   }
 
   /** {@inheritDoc} */
   @Override
   public Optional<MutableColumn> lookupColumn(final String name) {
-    Optional<MutableColumn> optionalColumn = columns.lookup(this, name);
-    if (!optionalColumn.isPresent()) {
-      optionalColumn = hiddenColumns.lookup(this, name);
-    }
-    return optionalColumn;
+    loadColumns();
+    return lookupRetrievedColumn(name);
   }
 
   /** {@inheritDoc} */
   @Override
   public Optional<MutableForeignKey> lookupForeignKey(final String name) {
+    loadDetails();
     return foreignKeys.lookup(this, name);
   }
 
   /** {@inheritDoc} */
   @Override
   public Optional<MutableIndex> lookupIndex(final String name) {
-    return indexes.lookup(this, name);
+    loadDetails();
+    return lookupRetrievedIndex(name);
   }
 
   /** {@inheritDoc} */
   @Override
   public Optional<MutablePrivilege<Table>> lookupPrivilege(final String name) {
-    return privileges.lookup(this, name);
+    loadDetails();
+    return lookupRetrievedPrivilege(name);
   }
 
   /** {@inheritDoc} */
   @Override
   public Optional<TableConstraint> lookupTableConstraint(final String name) {
-    return constraints.lookup(this, name);
+    loadDetails();
+    return lookupRetrievedTableConstraint(name);
   }
 
   /**
@@ -293,7 +317,8 @@ class MutableTable extends AbstractDatabaseObject implements Table {
    */
   @Override
   public Optional<MutableTrigger> lookupTrigger(final String triggerName) {
-    return triggers.lookup(this, triggerName);
+    loadDetails();
+    return lookupRetrievedTrigger(triggerName);
   }
 
   final void addAlternateKey(final MutablePrimaryKey alternateKey) {
@@ -306,6 +331,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
 
   final void addForeignKey(final MutableForeignKey foreignKey) {
     foreignKeys.add(foreignKey);
+    clearRelatedTables();
   }
 
   final void addHiddenColumn(final MutableColumn column) {
@@ -334,18 +360,213 @@ class MutableTable extends AbstractDatabaseObject implements Table {
 
   final void appendDefinition(final String definition) {
     if (definition != null) {
-      this.definition.append(definition);
+      this.definition = this.definition.concat(definition);
+    }
+  }
+
+  /**
+   * Clears details that are retrieved for all tables in the catalog at once, such as table
+   * constraints, triggers, table and column privileges, and definitions. A table that is carried
+   * over from a previous crawl can then have these details retrieved again, without duplicating
+   * them.
+   */
+  void clearCatalogDetails() {
+    constraints.clear();
+    triggers.clear();
+    privileges.clear();
+    weakAssociations.clear();
+    definition = "";
+    for (final MutableColumn column : columns) {
+      column.clearPrivileges();
+    }
+    for (final MutableColumn column : hiddenColumns) {
+      column.clearPrivileges();
+    }
+    for (final MutableIndex index : indexes) {
+      index.clearDefinition();
     }
   }
 
+  /**
+   * Releases the details of the table, such as columns, keys, indexes and constraints, so that
+   * they can be garbage collected once they have been processed. The table is marked as having
+   * its details released, and details that are loaded lazily are no longer loaded.
+   */
+  void releaseDetails() {
+    detailsLoader = null;
+    clearCatalogDetails();
+    columns.clear();
+    hiddenColumns.clear();
+    foreignKeys.clear();
+    clearRelatedTables();
+    alternateKeys.clear();
+    indexes.clear();
+    primaryKey = null;
+    setAttribute(DETAILS_RELEASED, true);
+  }
+
+  /**
+   * Loads any remaining lazily retrieved details, and then freezes the table and its columns, keys
+   * and indexes, so that they can no longer be modified.
+   */
+  void freeze() {
+    loadColumns();
+    loadDetails();
+
+    for (final MutableColumn column : columns) {
+      column.freeze();
+    }
+    for (final MutableColumn column : hiddenColumns) {
+      column.freeze();
+    }
+    for (final MutableIndex index : indexes) {
+      index.freeze();
+    }
+    if (primaryKey != null) {
+      primaryKey.freeze();
+    }
+    for (final MutablePrimaryKey alternateKey : alternateKeys) {
+      alternateKey.freeze();
+    }
+    for (final TableConstraint constraint : constraints) {
+      if (constraint instanceof MutableTableConstraint) {
+        ((MutableTableConstraint) constraint).freeze();
+      }
+    }
+    for (final MutableForeignKey foreignKey : foreignKeys) {
+      foreignKey.freeze();
+    }
+    for (final MutableWeakAssociation weakAssociation : weakAssociations) {
+      weakAssociation.freeze();
+    }
+
+    columns.freeze();
+    constraints.freeze();
+    foreignKeys.freeze();
+    weakAssociations.freeze();
+    hiddenColumns.freeze();
+    alternateKeys.freeze();
+    indexes.freeze();
+    privileges.freeze();
+    triggers.freeze();
+  }
+
+  /**
+   * Copies the table without its columns, keys, indexes or other details, so that the copy can
+   * have its details loaded separately. The copy has the same name, type, sort order, remarks and
+   * attributes as the table.
+   *
+   * @return Copy of the table, without details
+   */
+  MutableTable copyWithoutDetails() {
+    final MutableTable table = new MutableTable(getSchema(), getName());
+    copyTo(table);
+    return table;
+  }
+
+  /**
+   * Indicates that table details have been loaded, and the table no longer needs to load them on
+   * first access.
+   */
+  final void detailsLoaded() {
+    detailsLoader = null;
+  }
+
+  /**
+   * Sets a loader that retrieves the columns, primary key, foreign keys and indexes of the table
+   * the first time they are accessed.
+   *
+   * @param detailsLoader Loader for table details
+   */
+  final void setDetailsLoader(final TableLoader detailsLoader) {
+    this.detailsLoader = detailsLoader;
+  }
+
   NamedObjectList<MutableColumn> getAllColumns() {
     return columns;
   }
 
+  /**
+   * Gets the primary key that has been retrieved so far, without loading table details.
+   *
+   * @return Primary key, or null
+   */
+  final MutablePrimaryKey getRetrievedPrimaryKey() {
+    return primaryKey;
+  }
+
+  /**
+   * Looks up a column, including hidden columns, among the columns that have been retrieved so
+   * far, without loading table details.
+   *
+   * @param name Column name
+   * @return Column, if found
+   */
+  final Optional<MutableColumn> lookupRetrievedColumn(final String name) {
+    Optional<MutableColumn> optionalColumn = columns.lookup(this, name);
+    if (!optionalColumn.isPresent()) {
+      optionalColumn = hiddenColumns.lookup(this, name);
+    }
+    return optionalColumn;
+  }
+
+  /**
+   * Looks up an index among the indexes that have been retrieved so far, without loading table
+   * details.
+   *
+   * @param name Index name
+   * @return Index, if found
+   */
+  final Optional<MutableIndex> lookupRetrievedIndex(final String name) {
+    return indexes.lookup(this, name);
+  }
+
+  /**
+   * Looks up a privilege among the privileges that have been retrieved so far, without loading
+   * table details.
+   *
+   * @param name Privilege name
+   * @return Privilege, if found
+   */
+  final Optional<MutablePrivilege<Table>> lookupRetrievedPrivilege(final String name) {
+    return privileges.lookup(this, name);
+  }
+
+  /**
+   * Looks up a table constraint among the table constraints that have been retrieved so far,
+   * without loading table details.
+   *
+   * @param name Table constraint name
+   * @return Table constraint, if found
+   */
+  final Optional<TableConstraint> lookupRetrievedTableConstraint(final String name) {
+    return constraints.lookup(this, name);
+  }
+
+  /**
+   * Looks up a trigger among the triggers that have been retrieved so far, without loading table
+   * details.
+   *
+   * @param triggerName Trigger name
+   * @return Trigger, if found
+   */
+  final Optional<MutableTrigger> lookupRetrievedTrigger(final String triggerName) {
+    return triggers.lookup(this, triggerName);
+  }
+
+  final void removeForeignKey(final MutableForeignKey foreignKey) {
+    foreignKeys.remove(foreignKey);
+    clearRelatedTables();
+  }
+
   void removeTableConstraint(final TableConstraint tableConstraint) {
     constraints.remove(tableConstraint);
   }
 
+  final void removeWeakAssociation(final MutableWeakAssociation weakAssociation) {
+    weakAssociations.remove(weakAssociation);
+  }
+
   final void setPrimaryKey(final MutablePrimaryKey primaryKey) {
     if (primaryKey == null) {
       return;
@@ -366,6 +587,64 @@ class MutableTable extends AbstractDatabaseObject implements Table {
     }
   }
 
+  final void copyTo(final MutableTable table) {
+    table.setTableType(tableType);
+    table.setSortIndex(sortIndex);
+    table.addAttributes(getAttributes());
+  }
+
+  private void clearRelatedTables() {
+    parentTables = null;
+    childTables = null;
+  }
+
+  private List<Table> findRelatedTables(final TableRelationshipType tableRelationshipType) {
+    final Set<Table> relatedTables = new HashSet<>();
+    for (final ForeignKey foreignKey : foreignKeys) {
+      for (final ColumnReference columnReference : foreignKey) {
+        final Table parentTable = columnReference.getPrimaryKeyColumn().getParent();
+        final Table childTable = columnReference.getForeignKeyColumn().getParent();
+        switch (tableRelationshipType) {
+          case parent:
+            if (equals(childTable)) {
+              relatedTables.add(parentTable);
+            }
+            break;
+          case child:
+            if (equals(parentTable)) {
+              relatedTables.add(childTable);
+            }
+            break;
+          default:
+            break;
+        }
+      }
+    }
+
+    final List<Table> relatedTablesList = new ArrayList<>(relatedTables);
+    relatedTablesList.sort(alphabetical);
+    return Collections.unmodifiableList(relatedTablesList);
+  }
+
+  /** Loads the columns of the table, if they are loaded lazily and have not been loaded yet. */
+  final void loadColumns() {
+    final TableLoader loader = detailsLoader;
+    if (loader != null) {
+      loader.loadColumns(this);
+    }
+  }
+
+  /**
+   * Loads the keys, indexes and other details of the table, if they are loaded lazily and have not
+   * been loaded yet.
+   */
+  final void loadDetails() {
+    final TableLoader loader = detailsLoader;
+    if (loader != null) {
+      loader.loadDetails(this);
+    }
+  }
+
   private <R extends TableReference> Collection<R> getTableReferences(
       final NamedObjectList<? extends R> tableReferences,
       final TableAssociationType tableAssociationType) {
@@ -412,4 +691,12 @@ class MutableTable extends AbstractDatabaseObject implements Table {
 
     return foreignKeysList;
   }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    // Details that are loaded lazily are not loaded on deserialization, since there is no
+    // connection, so load them now
+    loadColumns();
+    loadDetails();
+    out.defaultWriteObject();
+  }
 }
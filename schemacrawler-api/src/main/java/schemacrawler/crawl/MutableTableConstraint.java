@@ -28,7 +28,8 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
-import java.util.ArrayList;
+import static schemacrawler.crawl.NamedObjectList.valuesOf;
+
 import java.util.List;
 
 import schemacrawler.schema.Table;
@@ -42,7 +43,7 @@ class MutableTableConstraint extends AbstractDependantObject<Table> implements T
   private static final long serialVersionUID = 1155277343302693656L;
 
   private final NamedObjectList<MutableTableConstraintColumn> columns = new NamedObjectList<>();
-  private final StringBuilder definition;
+  private String definition;
   private boolean deferrable;
   private boolean initiallyDeferred;
 
@@ -50,19 +51,19 @@ class MutableTableConstraint extends AbstractDependantObject<Table> implements T
 
   MutableTableConstraint(final Table parent, final String name) {
     super(new TablePointer(parent), name);
-    definition = new StringBuilder();
+    definition = "";
   }
 
   /** {@inheritDoc} */
   @Override
   public List<TableConstraintColumn> getConstrainedColumns() {
-    return new ArrayList<>(columns.values());
+    return valuesOf(columns);
   }
 
   /** {@inheritDoc} */
   @Override
   public String getDefinition() {
-    return definition.toString();
+    return definition;
   }
 
   @Override
@@ -76,7 +77,7 @@ class MutableTableConstraint extends AbstractDependantObject<Table> implements T
 
   @Override
   public boolean hasDefinition() {
-    return definition.length() > 0;
+    return !definition.isEmpty();
   }
 
   /** {@inheritDoc} */
@@ -101,10 +102,15 @@ class MutableTableConstraint extends AbstractDependantObject<Table> implements T
 
   void appendDefinition(final String definition) {
     if (definition != null) {
-      this.definition.append(definition);
+      this.definition = this.definition.concat(definition);
     }
   }
 
+  /** Freezes the columns of the constraint, so that they can no longer be modified. */
+  void freeze() {
+    columns.freeze();
+  }
+
   void setDeferrable(final boolean deferrable) {
     this.deferrable = deferrable;
   }
@@ -42,8 +42,8 @@ import schemacrawler.schema.Trigger;
 class MutableTrigger extends AbstractDependantObject<Table> implements Trigger {
 
   private static final long serialVersionUID = -1619291073229701764L;
-  private final StringBuilder actionCondition;
-  private final StringBuilder actionStatement;
+  private String actionCondition;
+  private String actionStatement;
   private int actionOrder;
   private ActionOrientationType actionOrientation;
   private ConditionTimingType conditionTiming;
@@ -55,14 +55,14 @@ class MutableTrigger extends AbstractDependantObject<Table> implements Trigger {
     eventManipulationType = EventManipulationType.unknown;
     actionOrientation = ActionOrientationType.unknown;
     conditionTiming = ConditionTimingType.unknown;
-    actionCondition = new StringBuilder(1024);
-    actionStatement = new StringBuilder(1024);
+    actionCondition = "";
+    actionStatement = "";
   }
 
   /** {@inheritDoc} */
   @Override
   public String getActionCondition() {
-    return actionCondition.toString();
+    return actionCondition;
   }
 
   /** {@inheritDoc} */
@@ -80,7 +80,7 @@ class MutableTrigger extends AbstractDependantObject<Table> implements Trigger {
   /** {@inheritDoc} */
   @Override
   public String getActionStatement() {
-    return actionStatement.toString();
+    return actionStatement;
   }
 
   /** {@inheritDoc} */
@@ -97,13 +97,13 @@ class MutableTrigger extends AbstractDependantObject<Table> implements Trigger {
 
   void appendActionCondition(final String actionCondition) {
     if (actionCondition != null) {
-      this.actionCondition.append(actionCondition);
+      this.actionCondition = this.actionCondition.concat(actionCondition);
     }
   }
 
   void appendActionStatement(final String actionStatement) {
     if (actionStatement != null) {
-      this.actionStatement.append(actionStatement);
+      this.actionStatement = this.actionStatement.concat(actionStatement);
     }
   }
 
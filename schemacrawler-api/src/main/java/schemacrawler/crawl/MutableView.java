@@ -28,7 +28,8 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
-import java.util.ArrayList;
+import static schemacrawler.crawl.NamedObjectList.valuesOf;
+
 import java.util.Collection;
 import java.util.Optional;
 
@@ -62,7 +63,7 @@ class MutableView extends MutableTable implements View {
   /** {@inheritDoc} */
   @Override
   public Collection<Table> getTableUsage() {
-    return new ArrayList<>(tableUsage.values());
+    return valuesOf(tableUsage);
   }
 
   /** {@inheritDoc} */
@@ -83,6 +84,33 @@ class MutableView extends MutableTable implements View {
     }
   }
 
+  /** {@inheritDoc} */
+  @Override
+  void clearCatalogDetails() {
+    super.clearCatalogDetails();
+    tableUsage.clear();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  MutableView copyWithoutDetails() {
+    final MutableView view = new MutableView(getSchema(), getName());
+    copyTo(view);
+    view.setCheckOption(checkOption);
+    view.setUpdatable(updatable);
+    for (final MutableTable table : tableUsage) {
+      view.addTableUsage(table);
+    }
+    return view;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  void freeze() {
+    super.freeze();
+    tableUsage.freeze();
+  }
+
   void setCheckOption(final CheckOptionType checkOption) {
     this.checkOption = checkOption;
   }
@@ -31,10 +31,17 @@ package schemacrawler.crawl;
 import static java.util.Comparator.naturalOrder;
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -43,9 +50,11 @@ import java.util.Set;
 import java.util.function.Predicate;
 
 import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.ReducibleCollection;
+import schemacrawler.schema.Schema;
 import us.fatehi.utility.ObjectToString;
 
 /**
@@ -53,11 +62,61 @@ import us.fatehi.utility.ObjectToString;
  * ability to look up by dependent object which is not created yet. That is, by NamedObject +
  * String. Returns values sorted in natural sort order, and is iterable. The iterator does not allow
  * modifications to the underlying data structure.
+ *
+ * <p>The sorted values, and the sorted values for each schema, are cached until the list is
+ * modified. If the sort order of objects already in the list changes, the list needs to be
+ * re-sorted explicitly.
+ *
+ * <p>Most lists of dependent objects, such as the triggers or privileges of a table, stay empty, so
+ * no storage is allocated for a list until the first object is added to it.
+ *
+ * <p>A list can be frozen once it is complete. The sorted values are then worked out ahead of time,
+ * the list can no longer be modified, and accessors can share the sorted values with all callers
+ * rather than copying them.
+ *
+ * <p>Only the named objects are serialized, in the order in which they were added. The lookup keys
+ * are made again from the objects once they have all been read. Earlier versions serialized the
+ * lookup map as the "objects" field, and lists serialized that way can still be read.
  */
 final class NamedObjectList<N extends NamedObject> implements Serializable, ReducibleCollection<N> {
 
   private static final long serialVersionUID = 3257847666804142128L;
 
+  private static final ObjectStreamField[] serialPersistentFields = {
+    new ObjectStreamField("objects", Map.class)
+  };
+
+  /**
+   * Gets all named objects in a list, in sorted order, for returning from an accessor. If the list
+   * is frozen, the cached sorted values are shared by all callers as an unmodifiable list.
+   * Otherwise, callers get their own copy of the values.
+   *
+   * @param list List of named objects
+   * @return All named objects
+   */
+  static <T> List<T> valuesOf(final NamedObjectList<? extends T> list) {
+    if (list.isFrozen()) {
+      return Collections.unmodifiableList(list.values());
+    }
+    return new ArrayList<>(list.values());
+  }
+
+  /**
+   * Gets all named objects in a list that belong to a schema, in sorted order, for returning from
+   * an accessor. If the list is frozen, the cached sorted values are shared by all callers as an
+   * unmodifiable list. Otherwise, callers get their own copy of the values.
+   *
+   * @param list List of named objects
+   * @param schema Schema to get named objects for
+   * @return Named objects that belong to the schema
+   */
+  static <T> List<T> valuesOf(final NamedObjectList<? extends T> list, final Schema schema) {
+    if (list.isFrozen()) {
+      return Collections.unmodifiableList(list.values(schema));
+    }
+    return new ArrayList<>(list.values(schema));
+  }
+
   private static NamedObjectKey makeLookupKey(final NamedObject namedObject) {
     final NamedObjectKey key;
     if (namedObject == null) {
@@ -76,7 +135,10 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
     return key;
   }
 
-  private final Map<NamedObjectKey, N> objects = new HashMap<>();
+  private transient Map<NamedObjectKey, N> objects = Collections.emptyMap();
+  private transient List<N> sortedValues;
+  private transient Map<Schema, List<N>> sortedValuesBySchema;
+  private transient volatile boolean frozen;
 
   @Override
   public void filter(final Predicate<? super N> predicate) {
@@ -84,6 +146,9 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
       return;
     }
 
+    checkNotFrozen();
+    clearSortedValues();
+
     final Set<Entry<NamedObjectKey, N>> entrySet = objects.entrySet();
     for (final Iterator<Entry<NamedObjectKey, N>> iterator = entrySet.iterator();
         iterator.hasNext(); ) {
@@ -141,24 +206,68 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
    */
   boolean add(final N namedObject) {
     requireNonNull(namedObject, "Cannot add a null object to the list");
+    checkNotFrozen();
     final NamedObjectKey key = makeLookupKey(namedObject);
+    if (objects.isEmpty()) {
+      objects = new LinkedHashMap<>();
+    }
     objects.put(key, namedObject);
+    clearSortedValues();
     return true;
   }
 
+  /** Removes all named objects from the list. */
+  void clear() {
+    checkNotFrozen();
+    objects = Collections.emptyMap();
+    clearSortedValues();
+  }
+
   boolean contains(final NamedObject namedObject) {
     return objects.containsKey(makeLookupKey(namedObject));
   }
 
+  /**
+   * Freezes the list, so that it can no longer be modified. The sorted values, and the sorted
+   * values for each schema, are worked out ahead of time, so that nothing is computed when the list
+   * is read. Once frozen, the list can be read by any number of threads without locking, provided
+   * it is safely published to them.
+   */
+  void freeze() {
+    if (frozen) {
+      return;
+    }
+    values();
+    valuesBySchema();
+    frozen = true;
+  }
+
   boolean isEmpty() {
     return objects.isEmpty();
   }
 
+  boolean isFrozen() {
+    return frozen;
+  }
+
   Optional<N> lookup(final NamedObject namedObject, final String name) {
     final NamedObjectKey key = makeLookupKey(namedObject, name);
     return internalGet(key);
   }
 
+  /**
+   * Looks up a named object by the names that make up its lookup key, such as the catalog, schema
+   * and table names of a table.
+   *
+   * @param catalogName Catalog name, which may be null
+   * @param schemaName Schema name, which may be null
+   * @param name Name of the object
+   * @return Named object
+   */
+  Optional<N> lookup(final String catalogName, final String schemaName, final String name) {
+    return internalGet(new NamedObjectKey(catalogName, schemaName, name));
+  }
+
   /**
    * Looks up a named object by lookup key.
    *
@@ -170,9 +279,20 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   }
 
   N remove(final N namedObject) {
+    checkNotFrozen();
+    clearSortedValues();
     return objects.remove(makeLookupKey(namedObject));
   }
 
+  /**
+   * Re-sorts the list, after the sort order of objects already in the list has changed. For
+   * example, tables are sorted by their foreign key dependencies once they are all retrieved.
+   */
+  void resort() {
+    checkNotFrozen();
+    clearSortedValues();
+  }
+
   /**
    * Returns the number of elements in this list.
    *
@@ -183,17 +303,113 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   }
 
   /**
-   * Gets all named objects in the list, in sorted order.
+   * Gets all named objects in the list, in sorted order. The sorted values are cached, and the same
+   * unmodifiable list is returned until the list is modified or re-sorted.
    *
    * @return All named objects
    */
   List<N> values() {
-    final List<N> all = new ArrayList<>(objects.values());
-    all.sort(naturalOrder());
-    return all;
+    List<N> values = sortedValues;
+    if (values == null) {
+      if (objects.isEmpty()) {
+        values = Collections.emptyList();
+      } else {
+        final List<N> all = new ArrayList<>(objects.values());
+        all.sort(naturalOrder());
+        values = Collections.unmodifiableList(all);
+      }
+      sortedValues = values;
+    }
+    return values;
+  }
+
+  /**
+   * Gets all named objects in the list that belong to a schema, in sorted order. Objects are
+   * grouped by schema in a single pass over the list, and the groups are cached until the list is
+   * modified or re-sorted, so that looking up objects for each schema in turn does not scan the
+   * whole list every time.
+   *
+   * @param schema Schema to get named objects for
+   * @return Named objects that belong to the schema
+   */
+  List<N> values(final Schema schema) {
+    requireNonNull(schema, "No schema provided");
+    return valuesBySchema().getOrDefault(schema, Collections.emptyList());
+  }
+
+  private void checkNotFrozen() {
+    if (frozen) {
+      throw new UnsupportedOperationException("Cannot modify a frozen list");
+    }
+  }
+
+  private void clearSortedValues() {
+    sortedValues = null;
+    sortedValuesBySchema = null;
   }
 
   private Optional<N> internalGet(final NamedObjectKey key) {
     return Optional.ofNullable(objects.get(key));
   }
+
+  @SuppressWarnings("unchecked")
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    final ObjectInputStream.GetField fields = in.readFields();
+    final Map<NamedObjectKey, N> legacyObjects =
+        (Map<NamedObjectKey, N>) fields.get("objects", null);
+
+    final Collection<N> values;
+    if (legacyObjects != null) {
+      // Lookup map serialized by earlier versions
+      values = legacyObjects.values();
+    } else {
+      final int size = in.readInt();
+      values = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        values.add((N) in.readObject());
+      }
+    }
+
+    objects = Collections.emptyMap();
+    // Lookup keys are made from the names of the objects and their parents, which may not be
+    // completely read yet, so wait until the whole object graph has been read
+    in.registerValidation(
+        () -> {
+          for (final N namedObject : values) {
+            add(namedObject);
+          }
+        },
+        0);
+  }
+
+  private Map<Schema, List<N>> valuesBySchema() {
+    Map<Schema, List<N>> valuesBySchema = sortedValuesBySchema;
+    if (valuesBySchema == null) {
+      valuesBySchema = new HashMap<>();
+      for (final N namedObject : values()) {
+        if (namedObject instanceof DatabaseObject) {
+          final Schema objectSchema = ((DatabaseObject) namedObject).getSchema();
+          valuesBySchema.computeIfAbsent(objectSchema, key -> new ArrayList<>()).add(namedObject);
+        }
+      }
+      for (final Entry<Schema, List<N>> entry : valuesBySchema.entrySet()) {
+        entry.setValue(Collections.unmodifiableList(entry.getValue()));
+      }
+      valuesBySchema = Collections.unmodifiableMap(valuesBySchema);
+      sortedValuesBySchema = valuesBySchema;
+    }
+    return valuesBySchema;
+  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    // The lookup map is not written, so that the objects follow in the order they were added
+    final ObjectOutputStream.PutField fields = out.putFields();
+    fields.put("objects", null);
+    out.writeFields();
+
+    out.writeInt(objects.size());
+    for (final N namedObject : objects.values()) {
+      out.writeObject(namedObject);
+    }
+  }
 }
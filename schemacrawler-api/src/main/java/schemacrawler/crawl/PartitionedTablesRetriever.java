@@ -0,0 +1,190 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Comparator.comparingInt;
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.Schema;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Retrieves table details with the tables partitioned by schema, so that each partition is
+ * retrieved on its own connection, in parallel with the others. All the tables in a schema are in
+ * the same partition. Connections are obtained from the connection source the first time they are
+ * needed, and reused for subsequent retrievals. They are closed when the retriever is closed.
+ */
+final class PartitionedTablesRetriever implements AutoCloseable {
+
+  @FunctionalInterface
+  interface TablesRetrieval {
+    void retrieve(RetrieverConnection retrieverConnection, NamedObjectList<MutableTable> tables)
+        throws Exception;
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(PartitionedTablesRetriever.class.getName());
+
+  private final Supplier<Connection> connectionSource;
+  private final RetrieverConnection mainRetrieverConnection;
+  private final int maxThreads;
+  private final List<Connection> connections;
+  private final List<RetrieverConnection> retrieverConnections;
+  private final ExecutorService executorService;
+
+  PartitionedTablesRetriever(
+      final Supplier<Connection> connectionSource,
+      final RetrieverConnection mainRetrieverConnection,
+      final int maxThreads) {
+    this.connectionSource = requireNonNull(connectionSource, "No connection source provided");
+    this.mainRetrieverConnection =
+        requireNonNull(mainRetrieverConnection, "No retriever connection provided");
+    if (maxThreads < 1) {
+      throw new IllegalArgumentException("Invalid maximum number of threads, " + maxThreads);
+    }
+    this.maxThreads = maxThreads;
+
+    connections = new ArrayList<>();
+    retrieverConnections = new ArrayList<>();
+    executorService = Executors.newFixedThreadPool(maxThreads);
+  }
+
+  @Override
+  public void close() {
+    executorService.shutdownNow();
+    for (final Connection connection : connections) {
+      try {
+        connection.close();
+      } catch (final SQLException e) {
+        LOGGER.log(Level.WARNING, "Could not close connection", e);
+      }
+    }
+    connections.clear();
+    retrieverConnections.clear();
+  }
+
+  /**
+   * Partitions tables by schema, and runs the retrieval for each partition in parallel. Returns
+   * once all partitions are retrieved.
+   *
+   * @param allTables Tables to partition
+   * @param retrieval Retrieval to run for each partition
+   * @throws Exception On an exception from any of the partitions
+   */
+  void retrieve(final NamedObjectList<MutableTable> allTables, final TablesRetrieval retrieval)
+      throws Exception {
+    requireNonNull(retrieval, "No retrieval provided");
+
+    final List<NamedObjectList<MutableTable>> partitions = partition(allTables);
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Retrieving details for %d tables in %d partitions",
+            allTables.size(), partitions.size()));
+
+    final List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < partitions.size(); i++) {
+      final RetrieverConnection retrieverConnection = getRetrieverConnection(i);
+      final NamedObjectList<MutableTable> partition = partitions.get(i);
+      futures.add(
+          executorService.submit(
+              () -> {
+                retrieval.retrieve(retrieverConnection, partition);
+                return null;
+              }));
+    }
+
+    Exception exception = null;
+    for (final Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (final ExecutionException e) {
+        final Throwable cause = e.getCause();
+        if (exception == null) {
+          exception = cause instanceof Exception ? (Exception) cause : e;
+        }
+      }
+    }
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
+  private RetrieverConnection getRetrieverConnection(final int index) throws SQLException {
+    while (retrieverConnections.size() <= index) {
+      final Connection connection = connectionSource.get();
+      connections.add(connection);
+      retrieverConnections.add(new RetrieverConnection(connection, mainRetrieverConnection));
+    }
+    return retrieverConnections.get(index);
+  }
+
+  /**
+   * Groups tables by schema, and assigns each group to the partition with the fewest tables, with
+   * the largest groups being assigned first. This balances the number of tables in each partition.
+   */
+  private List<NamedObjectList<MutableTable>> partition(
+      final NamedObjectList<MutableTable> allTables) {
+
+    final Map<Schema, List<MutableTable>> tablesBySchema = new HashMap<>();
+    for (final MutableTable table : allTables) {
+      tablesBySchema.computeIfAbsent(table.getSchema(), schema -> new ArrayList<>()).add(table);
+    }
+
+    final List<List<MutableTable>> schemaGroups = new ArrayList<>(tablesBySchema.values());
+    schemaGroups.sort(comparingInt((List<MutableTable> tables) -> tables.size()).reversed());
+
+    final int partitionCount = Math.min(maxThreads, schemaGroups.size());
+    final List<NamedObjectList<MutableTable>> partitions = new ArrayList<>();
+    for (int i = 0; i < partitionCount; i++) {
+      partitions.add(new NamedObjectList<>());
+    }
+    for (final List<MutableTable> schemaGroup : schemaGroups) {
+      final NamedObjectList<MutableTable> smallestPartition =
+          partitions.stream().min(comparingInt(NamedObjectList::size)).get();
+      for (final MutableTable table : schemaGroup) {
+        smallestPartition.add(table);
+      }
+    }
+    return partitions;
+  }
+}
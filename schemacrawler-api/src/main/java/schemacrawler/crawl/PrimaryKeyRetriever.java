@@ -34,6 +34,7 @@ import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.pr
 
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -73,6 +74,11 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
         retrievePrimaryKeysFromMetadata(allTables);
         break;
 
+      case metadata_bulk:
+        LOGGER.log(Level.INFO, "Retrieving primary keys, for all tables in each schema");
+        retrievePrimaryKeysFromMetadataForSchemas(allTables);
+        break;
+
       default:
         LOGGER.log(Level.INFO, "Not retrieving primary keys");
         break;
@@ -90,14 +96,14 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
         new StringFormat(
             "Retrieving primary column <%s.%s.%s>", table, primaryKeyName, columnName));
 
-    primaryKey = table.getPrimaryKey();
+    primaryKey = table.getRetrievedPrimaryKey();
     if (primaryKey == null) {
       primaryKey = MutablePrimaryKey.newPrimaryKey(table, primaryKeyName);
       table.setPrimaryKey(primaryKey);
     }
 
     // Register primary key information
-    final Optional<MutableColumn> columnOptional = table.lookupColumn(columnName);
+    final Optional<MutableColumn> columnOptional = table.lookupRetrievedColumn(columnName);
     if (columnOptional.isPresent()) {
       final MutableColumn column = columnOptional.get();
       column.markAsPartOfPrimaryKey();
@@ -120,16 +126,18 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
     }
 
     final Query pkSql = informationSchemaViews.getQuery(PRIMARY_KEYS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(PRIMARY_KEYS);
         final MetadataResultSet results =
-            new MetadataResultSet(pkSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(pkSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
         final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
         final String tableName = results.getString("TABLE_NAME");
 
+        // Only tables that were selected, such as tables that changed since a previous crawl,
+        // have their details retrieved
         final Optional<MutableTable> optionalTable =
-            lookupTable(catalogName, schemaName, tableName);
+            allTables.lookup(catalogName, schemaName, tableName);
         if (!optionalTable.isPresent()) {
           continue;
         }
@@ -150,7 +158,7 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
       }
       final Schema tableSchema = table.getSchema();
       try (final MetadataResultSet results =
-          new MetadataResultSet(
+          createMetadataResultSet(
               getMetaData()
                   .getPrimaryKeys(
                       tableSchema.getCatalogName(), tableSchema.getName(), table.getName()),
@@ -164,4 +172,35 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
       }
     }
   }
+
+  private void retrievePrimaryKeysFromMetadataForSchemas(
+      final NamedObjectList<MutableTable> allTables) throws SQLException {
+    for (final Map.Entry<Schema, NamedObjectList<MutableTable>> entry :
+        groupTablesBySchema(allTables).entrySet()) {
+      final Schema schema = entry.getKey();
+      final NamedObjectList<MutableTable> schemaTables = entry.getValue();
+      if (!getRetrieverConnection().isBulkMetadataSupported(schema)) {
+        retrievePrimaryKeysFromMetadata(schemaTables);
+        continue;
+      }
+      try (final MetadataResultSet results =
+          createMetadataResultSet(
+              getMetaData().getPrimaryKeys(schema.getCatalogName(), schema.getName(), null),
+              "DatabaseMetaData::getPrimaryKeys")) {
+        while (results.next()) {
+          final Optional<MutableTable> optionalTable = lookupTable(schemaTables, results);
+          if (!optionalTable.isPresent() || optionalTable.get() instanceof View) {
+            continue;
+          }
+          createPrimaryKeyForTable(optionalTable.get(), results);
+        }
+      } catch (final SQLException e) {
+        // Not all database drivers support retrieving primary keys for all tables in a schema, so
+        // retrieve them one table at a time instead
+        logPossiblyUnsupportedSQLFeature(
+            new StringFormat("Could not retrieve primary keys for schema <%s>", schema), e);
+        retrievePrimaryKeysFromMetadata(schemaTables);
+      }
+    }
+  }
 }
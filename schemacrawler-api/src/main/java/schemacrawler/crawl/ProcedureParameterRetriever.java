@@ -203,9 +203,9 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
       throw new ExecutionRuntimeException("No procedure parameters SQL provided");
     }
     final Query procedureColumnsSql = informationSchemaViews.getQuery(PROCEDURE_COLUMNS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(PROCEDURE_COLUMNS);
         final MetadataResultSet results =
-            new MetadataResultSet(procedureColumnsSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(procedureColumnsSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
         createProcedureParameter(results, allRoutines, parameterFilter);
       }
@@ -224,7 +224,7 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
       final MutableProcedure procedure = (MutableProcedure) routine;
       LOGGER.log(Level.FINE, "Retrieving procedure parameters for " + procedure);
       try (final MetadataResultSet results =
-          new MetadataResultSet(
+          createMetadataResultSet(
               getMetaData()
                   .getProcedureColumns(
                       procedure.getSchema().getCatalogName(),
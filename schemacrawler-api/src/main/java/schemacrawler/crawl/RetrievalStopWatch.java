@@ -44,10 +44,42 @@ public final class RetrievalStopWatch {
 
   private StopWatch stopWatch;
   private final SchemaInfoLevel infoLevel;
+  private final String id;
+  private final CrawlListener crawlListener;
 
   public RetrievalStopWatch(final SchemaInfoLevel infoLevel) {
+    this(infoLevel, null);
+  }
+
+  /**
+   * Stop watch for a part of the crawl, such as a phase that runs in parallel with others. The
+   * timings are reported under the info-level tag, qualified by the part name.
+   *
+   * @param infoLevel Schema info-level
+   * @param part Name of the part of the crawl that is timed
+   */
+  public RetrievalStopWatch(final SchemaInfoLevel infoLevel, final String part) {
+    this(infoLevel, part, new CrawlListener() {});
+  }
+
+  /**
+   * Stop watch for a part of the crawl, that notifies a crawl listener as each retrieval phase
+   * completes.
+   *
+   * @param infoLevel Schema info-level
+   * @param part Name of the part of the crawl that is timed, or null for the whole crawl
+   * @param crawlListener Listener to notify
+   */
+  public RetrievalStopWatch(
+      final SchemaInfoLevel infoLevel, final String part, final CrawlListener crawlListener) {
+    this.crawlListener = requireNonNull(crawlListener, "No crawl listener provided");
     this.infoLevel = requireNonNull(infoLevel, "No info-level provided");
-    newStopWatch(infoLevel);
+    if (part == null) {
+      id = infoLevel.getTag();
+    } else {
+      id = String.format("%s - %s", infoLevel.getTag(), part);
+    }
+    newStopWatch();
   }
 
   /**
@@ -58,7 +90,7 @@ public final class RetrievalStopWatch {
   public Supplier<String> stopAndLogTime() {
     final Supplier<String> stringify = stopWatch.report();
     LOGGER.log(Level.INFO, stopWatch.report());
-    newStopWatch(infoLevel);
+    newStopWatch();
 
     return stringify;
   }
@@ -70,6 +102,9 @@ public final class RetrievalStopWatch {
       throws Exception {
     final boolean run = infoLevel.is(retrieval) && run(additionalRetrievals);
     time(retrieval.name(), run, function);
+    if (run) {
+      crawlListener.onPhaseComplete(retrieval);
+    }
   }
 
   public void time(
@@ -81,8 +116,8 @@ public final class RetrievalStopWatch {
     time(retrievalName, run, function);
   }
 
-  private void newStopWatch(SchemaInfoLevel infoLevel) {
-    stopWatch = new StopWatch(infoLevel.getTag());
+  private void newStopWatch() {
+    stopWatch = new StopWatch(id);
   }
 
   private boolean run(final SchemaInfoRetrieval... additionalRetrievals) {
@@ -34,12 +34,17 @@ import static us.fatehi.utility.database.DatabaseUtility.checkConnection;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import schemacrawler.plugin.EnumDataTypeHelper;
 import schemacrawler.schema.ConnectionInfo;
+import schemacrawler.schema.Schema;
 import schemacrawler.schema.TableTypes;
+import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
@@ -63,10 +68,50 @@ final class RetrieverConnection {
   private final SchemaRetrievalOptions schemaRetrievalOptions;
   private final TableTypes tableTypes;
   private final ConnectionInfo connectionInfo;
+  private final Map<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy>
+      adaptiveRetrievalStrategies;
+  private final StringPool stringPool;
+  private final Set<Schema> schemasWithoutBulkMetadata;
 
   RetrieverConnection(
       final Connection connection, final SchemaRetrievalOptions schemaRetrievalOptions)
       throws SQLException {
+    this(
+        connection,
+        schemaRetrievalOptions,
+        new ConcurrentHashMap<>(),
+        new StringPool(),
+        ConcurrentHashMap.newKeySet());
+  }
+
+  /**
+   * Creates a retriever connection on another connection, which shares the database specific
+   * overrides, the choices of adaptive retrieval strategies, the pool of strings and the schemas
+   * without bulk metadata with the given retriever connection.
+   *
+   * @param connection Live database connection
+   * @param retrieverConnection Retriever connection to share retrieval strategies with
+   * @throws SQLException On an exception
+   */
+  RetrieverConnection(final Connection connection, final RetrieverConnection retrieverConnection)
+      throws SQLException {
+    this(
+        connection,
+        requireNonNull(retrieverConnection, "No retriever connection provided")
+            .schemaRetrievalOptions,
+        retrieverConnection.adaptiveRetrievalStrategies,
+        retrieverConnection.stringPool,
+        retrieverConnection.schemasWithoutBulkMetadata);
+  }
+
+  private RetrieverConnection(
+      final Connection connection,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final Map<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy>
+          adaptiveRetrievalStrategies,
+      final StringPool stringPool,
+      final Set<Schema> schemasWithoutBulkMetadata)
+      throws SQLException {
 
     this.connection = checkConnection(connection);
     metaData = requireNonNull(connection.getMetaData(), "No database metadata obtained");
@@ -78,11 +123,27 @@ final class RetrieverConnection {
     LOGGER.log(Level.CONFIG, new StringFormat("Supported table types are <%s>", tableTypes));
 
     javaSqlTypes = new JavaSqlTypes();
+    this.adaptiveRetrievalStrategies = adaptiveRetrievalStrategies;
+    this.stringPool = stringPool;
+    this.schemasWithoutBulkMetadata = schemasWithoutBulkMetadata;
   }
 
+  /**
+   * Gets the retrieval strategy to use. If the strategy is adaptive, the strategy that was chosen
+   * for it is returned, and if none has been chosen yet, metadata is returned.
+   *
+   * @param schemaInfoMetadataRetrievalStrategy Retrieval strategy key
+   * @return Retrieval strategy to use
+   */
   public MetadataRetrievalStrategy get(
       final SchemaInfoMetadataRetrievalStrategy schemaInfoMetadataRetrievalStrategy) {
-    return schemaRetrievalOptions.get(schemaInfoMetadataRetrievalStrategy);
+    final MetadataRetrievalStrategy metadataRetrievalStrategy =
+        schemaRetrievalOptions.get(schemaInfoMetadataRetrievalStrategy);
+    if (metadataRetrievalStrategy == MetadataRetrievalStrategy.adaptive) {
+      return adaptiveRetrievalStrategies.getOrDefault(
+          schemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy.metadata);
+    }
+    return metadataRetrievalStrategy;
   }
 
   public ConnectionInfo getConnectionInfo() {
@@ -93,6 +154,18 @@ final class RetrieverConnection {
     return connection;
   }
 
+  int getFetchSize() {
+    return schemaRetrievalOptions.getFetchSize();
+  }
+
+  int getFetchSize(final InformationSchemaKey key) {
+    return schemaRetrievalOptions.getFetchSize(key);
+  }
+
+  int getQueryTimeout() {
+    return schemaRetrievalOptions.getQueryTimeout();
+  }
+
   EnumDataTypeHelper getEnumDataTypeHelper() {
     return schemaRetrievalOptions.getEnumDataTypeHelper();
   }
@@ -106,6 +179,16 @@ final class RetrieverConnection {
     return schemaRetrievalOptions.getInformationSchemaViews();
   }
 
+  /**
+   * Gets the pool of strings for the crawl, which is shared by all retriever connections created
+   * from this one.
+   *
+   * @return Pool of strings
+   */
+  StringPool getStringPool() {
+    return stringPool;
+  }
+
   JavaSqlTypes getJavaSqlTypes() {
     return javaSqlTypes;
   }
@@ -122,6 +205,24 @@ final class RetrieverConnection {
     return schemaRetrievalOptions.getTypeMap();
   }
 
+  boolean isAdaptive(
+      final SchemaInfoMetadataRetrievalStrategy schemaInfoMetadataRetrievalStrategy) {
+    return schemaRetrievalOptions.get(schemaInfoMetadataRetrievalStrategy)
+        == MetadataRetrievalStrategy.adaptive;
+  }
+
+  /**
+   * Checks whether table details for all the tables in a schema can be retrieved together from
+   * database metadata. This is known from retrieving table columns, since every table has columns,
+   * so a schema for which no table columns were returned is not supported by the JDBC driver.
+   *
+   * @param schema Schema to check
+   * @return Whether table details can be retrieved for the schema together
+   */
+  boolean isBulkMetadataSupported(final Schema schema) {
+    return !schemasWithoutBulkMetadata.contains(schema);
+  }
+
   boolean isSupportsCatalogs() {
     return schemaRetrievalOptions.isSupportsCatalogs();
   }
@@ -129,4 +230,31 @@ final class RetrieverConnection {
   boolean isSupportsSchemas() {
     return schemaRetrievalOptions.isSupportsSchemas();
   }
+
+  /**
+   * Notes that table details for all the tables in a schema cannot be retrieved together from
+   * database metadata, so other table details for the schema are retrieved one table at a time. The
+   * note is shared with all retriever connections created from this one.
+   *
+   * @param schema Schema that is not supported
+   */
+  void setBulkMetadataUnsupported(final Schema schema) {
+    requireNonNull(schema, "No schema provided");
+    schemasWithoutBulkMetadata.add(schema);
+  }
+
+  /**
+   * Sets the retrieval strategy that was chosen for an adaptive retrieval strategy. The choice is
+   * shared with all retriever connections created from this one.
+   *
+   * @param schemaInfoMetadataRetrievalStrategy Retrieval strategy key
+   * @param metadataRetrievalStrategy Chosen retrieval strategy
+   */
+  void setAdaptiveRetrievalStrategy(
+      final SchemaInfoMetadataRetrievalStrategy schemaInfoMetadataRetrievalStrategy,
+      final MetadataRetrievalStrategy metadataRetrievalStrategy) {
+    requireNonNull(schemaInfoMetadataRetrievalStrategy, "No retrieval strategy key provided");
+    requireNonNull(metadataRetrievalStrategy, "No retrieval strategy provided");
+    adaptiveRetrievalStrategies.put(schemaInfoMetadataRetrievalStrategy, metadataRetrievalStrategy);
+  }
 }
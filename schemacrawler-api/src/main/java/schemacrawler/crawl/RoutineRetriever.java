@@ -199,9 +199,9 @@ final class RoutineRetriever extends AbstractRetriever {
       throw new ExecutionRuntimeException("No functions SQL provided");
     }
     final Query functionsSql = informationSchemaViews.getQuery(FUNCTIONS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(FUNCTIONS);
         final MetadataResultSet results =
-            new MetadataResultSet(functionsSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(functionsSql, statement, getSchemaInclusionRule())) {
       int numFunctions = 0;
       while (results.next()) {
         numFunctions = numFunctions + 1;
@@ -221,7 +221,7 @@ final class RoutineRetriever extends AbstractRetriever {
       final String schemaName = schema.getName();
 
       try (final MetadataResultSet results =
-          new MetadataResultSet(
+          createMetadataResultSet(
               getMetaData().getFunctions(catalogName, schemaName, null),
               "DatabaseMetaData::getFunctions")) {
         int numFunctions = 0;
@@ -275,9 +275,9 @@ final class RoutineRetriever extends AbstractRetriever {
       throw new ExecutionRuntimeException("No procedures SQL provided");
     }
     final Query proceduresSql = informationSchemaViews.getQuery(PROCEDURES);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(PROCEDURES);
         final MetadataResultSet results =
-            new MetadataResultSet(proceduresSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(proceduresSql, statement, getSchemaInclusionRule())) {
       int numProcedures = 0;
       while (results.next()) {
         numProcedures = numProcedures + 1;
@@ -298,7 +298,7 @@ final class RoutineRetriever extends AbstractRetriever {
       final String schemaName = schema.getName();
 
       try (final MetadataResultSet results =
-          new MetadataResultSet(
+          createMetadataResultSet(
               getMetaData().getProcedures(catalogName, schemaName, null),
               "DatabaseMetaData::getProcedures")) {
         int numProcedures = 0;
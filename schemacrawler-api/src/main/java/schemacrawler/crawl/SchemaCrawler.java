@@ -41,6 +41,10 @@ import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleFor
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSequenceInclusion;
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSynonymInclusion;
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveAdditionalColumnAttributes;
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveAdditionalColumnMetadata;
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveAdditionalDatabaseInfo;
@@ -75,19 +79,32 @@ import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveViewTableU
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import schemacrawler.crawl.PartitionedTablesRetriever.TablesRetrieval;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Routine;
 import schemacrawler.schema.RoutineType;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Sequence;
 import schemacrawler.schema.Synonym;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.FilterOptions;
+import schemacrawler.schemacrawler.GrepOptions;
 import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.SchemaReference;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
@@ -97,13 +114,36 @@ import us.fatehi.utility.string.StringFormat;
 /** SchemaCrawler uses database meta-data to get the details about the schema. */
 public final class SchemaCrawler {
 
+  @FunctionalInterface
+  private interface CrawlPhase {
+    void crawl(RetrieverConnection retrieverConnection, RetrievalStopWatch stopWatch)
+        throws Exception;
+  }
+
   private static final Logger LOGGER = Logger.getLogger(SchemaCrawler.class.getName());
 
+  private static void waitFor(final Future<?> future) throws Exception {
+    try {
+      future.get();
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof Exception) {
+        throw (Exception) cause;
+      }
+      throw e;
+    }
+  }
+
   private final SchemaCrawlerOptions options;
-  private final RetrieverConnection retrieverConnection;
+  private final SchemaRetrievalOptions schemaRetrievalOptions;
+  private final Supplier<Connection> connectionSource;
+  private RetrieverConnection retrieverConnection;
+  private PartitionedTablesRetriever partitionedTablesRetriever;
   private final SchemaInfoLevel infoLevel;
-  private final RetrievalStopWatch stopWatch;
+  private RetrievalStopWatch stopWatch;
+  private CrawlListener crawlListener;
   private MutableCatalog catalog;
+  private Catalog previousCatalog;
 
   /**
    * Constructs a SchemaCrawler object, from a connection.
@@ -119,21 +159,98 @@ public final class SchemaCrawler {
       final SchemaCrawlerOptions options) {
     try {
       retrieverConnection = new RetrieverConnection(connection, schemaRetrievalOptions);
+      this.schemaRetrievalOptions = schemaRetrievalOptions;
       this.options = requireNonNull(options, "No SchemaCrawler options provided");
       infoLevel = options.getLoadOptions().getSchemaInfoLevel();
-      stopWatch = new RetrievalStopWatch(infoLevel);
+      crawlListener = new CrawlListener() {};
+      connectionSource = null;
     } catch (final SQLException e) {
       throw new DatabaseAccessException(e);
     }
   }
 
+  /**
+   * Constructs a SchemaCrawler object that crawls independent parts of the schema in parallel.
+   * Tables, routines and sequences do not depend on each other, so each of them is retrieved on a
+   * separate connection obtained from the connection source. Synonyms are retrieved once tables
+   * and routines are available, since they refer to them. If more than one thread is allowed by
+   * the load options, table details such as columns and indexes are retrieved with tables
+   * partitioned by schema, with a connection for each partition. All connections obtained from the
+   * connection source are closed at the end of the crawl.
+   *
+   * @param connectionSource Source of database connections.
+   * @param schemaRetrievalOptions Database-specific schema retrieval overrides
+   * @param options SchemaCrawler options
+   */
+  public SchemaCrawler(
+      final Supplier<Connection> connectionSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions options) {
+    this.connectionSource = requireNonNull(connectionSource, "No connection source provided");
+    this.schemaRetrievalOptions =
+        requireNonNull(schemaRetrievalOptions, "No database specific overrides provided");
+    this.options = requireNonNull(options, "No SchemaCrawler options provided");
+    infoLevel = options.getLoadOptions().getSchemaInfoLevel();
+    crawlListener = new CrawlListener() {};
+  }
+
   /**
    * Crawls the database, to obtain database metadata.
    *
    * @return Database metadata
    */
   public Catalog crawl() {
+    return crawlCatalog(null);
+  }
+
+  /**
+   * Crawls the database incrementally, to obtain database metadata. Tables are retrieved by name,
+   * and tables that have not changed since the previous crawl, according to change markers from
+   * the database plugin, are carried over from the previous catalog with their columns, keys and
+   * indexes. Details are retrieved only for tables that have changed, or are new. All other
+   * database objects are crawled again. The previous catalog should have been crawled with the
+   * same options, with table change markers retrieved, and should not be used after this crawl,
+   * since unchanged tables are moved from it to the new catalog. For the same reason, the previous
+   * catalog cannot be frozen.
+   *
+   * @param previousCatalog Catalog from a previous crawl of the same database
+   * @return Database metadata
+   * @throws IllegalArgumentException If the previous catalog is frozen
+   */
+  public Catalog crawl(final Catalog previousCatalog) {
+    requireNonNull(previousCatalog, "No previous catalog provided");
+    if (previousCatalog.isFrozen()) {
+      throw new IllegalArgumentException("Cannot crawl incrementally from a frozen catalog");
+    }
+    return crawlCatalog(previousCatalog);
+  }
+
+  /**
+   * Sets a listener that receives database objects while the database is being crawled, as soon as
+   * they are complete.
+   *
+   * @param crawlListener Crawl listener
+   */
+  public void setCrawlListener(final CrawlListener crawlListener) {
+    this.crawlListener = requireNonNull(crawlListener, "No crawl listener provided");
+  }
+
+  private Catalog crawlCatalog(final Catalog previousCatalog) {
+    this.previousCatalog = previousCatalog;
+    stopWatch = new RetrievalStopWatch(infoLevel, null, crawlListener);
+    Connection connection = null;
     try {
+      if (connectionSource != null) {
+        connection = connectionSource.get();
+        retrieverConnection = new RetrieverConnection(connection, schemaRetrievalOptions);
+
+        final int maxThreads = options.getLoadOptions().getMaxThreads();
+        if (maxThreads > 1) {
+          partitionedTablesRetriever =
+              new PartitionedTablesRetriever(connectionSource, retrieverConnection, maxThreads);
+        }
+      }
+
       catalog = new MutableCatalog("catalog", retrieverConnection.getConnectionInfo());
 
       crawlDatabaseInfo();
@@ -141,23 +258,42 @@ public final class SchemaCrawler {
 
       crawlSchemas();
       crawlColumnDataTypes();
-      crawlTables();
-      crawlRoutines();
-      crawlSynonyms();
-      crawlSequences();
+      if (connectionSource == null) {
+        crawlTables(retrieverConnection, stopWatch);
+        crawlRoutines(retrieverConnection, stopWatch);
+        crawlSynonyms(retrieverConnection, stopWatch);
+        crawlSequences(retrieverConnection, stopWatch);
+      } else {
+        crawlInParallel();
+      }
+
+      LOGGER.log(Level.INFO, new StringFormat("%s", retrieverConnection.getStringPool()));
 
       return catalog;
     } catch (final RuntimeException e) {
       throw e;
+    } catch (final SQLException e) {
+      throw new DatabaseAccessException(e);
     } catch (final Exception e) {
       throw new ExecutionRuntimeException(e);
     } finally {
       stopWatch.stopAndLogTime();
+      if (partitionedTablesRetriever != null) {
+        partitionedTablesRetriever.close();
+        partitionedTablesRetriever = null;
+      }
+      if (connection != null) {
+        try {
+          connection.close();
+        } catch (final SQLException e) {
+          LOGGER.log(Level.WARNING, "Could not close connection", e);
+        }
+      }
     }
   }
 
-  private void crawlAdditionalTableColumnInformation(final TableExtRetriever retrieverExtra)
-      throws Exception {
+  private void crawlAdditionalTableColumnInformation(
+      final TableExtRetriever retrieverExtra, final RetrievalStopWatch stopWatch) throws Exception {
     LOGGER.log(Level.INFO, "Retrieving additional table column information");
     stopWatch.time(
         retrieveAdditionalColumnAttributes,
@@ -174,7 +310,9 @@ public final class SchemaCrawler {
   }
 
   private void crawlAdditionalTableInformation(
-      final TableConstraintRetriever constraintRetriever, final TableExtRetriever retrieverExtra)
+      final TableConstraintRetriever constraintRetriever,
+      final TableExtRetriever retrieverExtra,
+      final RetrievalStopWatch stopWatch)
       throws Exception {
     stopWatch.time(
         retrieveTableConstraintDefinitions,
@@ -222,7 +360,9 @@ public final class SchemaCrawler {
     stopWatch.time(retrieveAdditionalJdbcDriverInfo, retriever::retrieveAdditionalJdbcDriverInfo);
   }
 
-  private void crawlRoutines() throws Exception {
+  private void crawlRoutines(
+      final RetrieverConnection retrieverConnection, final RetrievalStopWatch stopWatch)
+      throws Exception {
 
     final LimitOptions limitOptions = options.getLimitOptions();
     if (!(infoLevel.is(retrieveRoutines) && !limitOptions.isExcludeAll(ruleForRoutineInclusion))) {
@@ -272,9 +412,16 @@ public final class SchemaCrawler {
         () -> {
           // Filter the list of routines based on grep criteria
           catalog.reduce(Routine.class, getRoutineReducer(options));
+          // Routines are sorted by their parameters, which were retrieved
+          // after the routines were added
+          catalog.getAllRoutines().resort();
         });
 
     stopWatch.time(retrieveRoutineInformation, retrieverExtra::retrieveRoutineInformation);
+
+    for (final MutableRoutine routine : allRoutines) {
+      crawlListener.onRoutine(routine);
+    }
   }
 
   private void crawlSchemas() throws Exception {
@@ -295,7 +442,9 @@ public final class SchemaCrawler {
     LOGGER.log(Level.INFO, new StringFormat("Retrieved %d schemas", schemas.size()));
   }
 
-  private void crawlSequences() throws Exception {
+  private void crawlSequences(
+      final RetrieverConnection retrieverConnection, final RetrievalStopWatch stopWatch)
+      throws Exception {
 
     final LimitOptions limitOptions = options.getLimitOptions();
     if (!(infoLevel.is(retrieveSequenceInformation)
@@ -315,9 +464,15 @@ public final class SchemaCrawler {
     stopWatch.time(
         "filterAndSortSequences",
         () -> catalog.reduce(Sequence.class, getSequenceReducer(options)));
+
+    for (final Sequence sequence : catalog.getSequences()) {
+      crawlListener.onSequence(sequence);
+    }
   }
 
-  private void crawlSynonyms() throws Exception {
+  private void crawlSynonyms(
+      final RetrieverConnection retrieverConnection, final RetrievalStopWatch stopWatch)
+      throws Exception {
 
     final LimitOptions limitOptions = options.getLimitOptions();
     if (!(infoLevel.is(retrieveSynonymInformation)
@@ -335,9 +490,15 @@ public final class SchemaCrawler {
 
     stopWatch.time(
         "filterAndSortSynonms", () -> catalog.reduce(Synonym.class, getSynonymReducer(options)));
+
+    for (final Synonym synonym : catalog.getSynonyms()) {
+      crawlListener.onSynonym(synonym);
+    }
   }
 
-  private void crawlTables() throws Exception {
+  private void crawlTables(
+      final RetrieverConnection retrieverConnection, final RetrievalStopWatch stopWatch)
+      throws Exception {
 
     final LimitOptions limitOptions = options.getLimitOptions();
     if (!(infoLevel.is(retrieveTables) && !limitOptions.isExcludeAll(ruleForTableInclusion))) {
@@ -346,17 +507,10 @@ public final class SchemaCrawler {
     }
 
     final TableRetriever retriever = new TableRetriever(retrieverConnection, catalog, options);
-    final TableColumnRetriever columnRetriever =
-        new TableColumnRetriever(retrieverConnection, catalog, options);
-    final PrimaryKeyRetriever pkRetriever =
-        new PrimaryKeyRetriever(retrieverConnection, catalog, options);
-    final ForeignKeyRetriever fkRetriever =
-        new ForeignKeyRetriever(retrieverConnection, catalog, options);
     final TableConstraintRetriever constraintRetriever =
         new TableConstraintRetriever(retrieverConnection, catalog, options);
     final TableExtRetriever retrieverExtra =
         new TableExtRetriever(retrieverConnection, catalog, options);
-    final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection, catalog, options);
 
     stopWatch.time(
         retrieveTables,
@@ -374,23 +528,80 @@ public final class SchemaCrawler {
       return;
     }
 
+    if (options.getLoadOptions().isLoadTableDetailsLazily()) {
+      if (connectionSource == null) {
+        LOGGER.log(
+            Level.WARNING,
+            "Not loading table details lazily, since no source of connections was provided");
+      } else if (isTableFilterUsingTableDetails()) {
+        LOGGER.log(
+            Level.WARNING,
+            "Not loading table details lazily, since tables are filtered by their columns, "
+                + "definitions or related tables");
+      } else {
+        crawlTablesLazily(allTables, stopWatch);
+        provideTables(allTables);
+        return;
+      }
+    }
+
+    // Only tables that have changed since the previous crawl need their
+    // details to be retrieved
+    final TableChangeRetriever changeRetriever =
+        new TableChangeRetriever(retrieverConnection, catalog, options);
+    if (previousCatalog != null || options.getLoadOptions().isRetrieveTableChangeMarkers()) {
+      stopWatch.time("retrieveTableChangeMarkers", changeRetriever::retrieveChangeMarkers);
+    }
+    final NamedObjectList<MutableTable> changedTables;
+    if (previousCatalog == null) {
+      changedTables = allTables;
+    } else {
+      stopWatch.time(
+          "carryOverUnchangedTables",
+          () -> changeRetriever.carryOverUnchangedTables(previousCatalog));
+      changedTables = changeRetriever.getChangedTables();
+    }
+
+    new AdaptiveRetrievalStrategyChooser(retrieverConnection, catalog)
+        .chooseRetrievalStrategies(changedTables);
+
     stopWatch.time(
         retrieveTableColumns,
         () -> {
           if (!limitOptions.isExcludeAll(ruleForColumnInclusion)) {
-            columnRetriever.retrieveTableColumns(
-                allTables, limitOptions.get(ruleForColumnInclusion));
+            retrieveTableDetails(
+                retrieverConnection,
+                tableColumnsRetrievalStrategy,
+                changedTables,
+                (connection, tables) ->
+                    new TableColumnRetriever(connection, catalog, options)
+                        .retrieveTableColumns(tables, limitOptions.get(ruleForColumnInclusion)));
           }
         });
 
     stopWatch.time(
         retrievePrimaryKeys,
-        () -> pkRetriever.retrievePrimaryKeys(allTables),
+        () ->
+            retrieveTableDetails(
+                retrieverConnection,
+                primaryKeysRetrievalStrategy,
+                changedTables,
+                (connection, tables) ->
+                    new PrimaryKeyRetriever(connection, catalog, options)
+                        .retrievePrimaryKeys(tables)),
         retrieveTableColumns);
 
+    final Map<NamedObjectKey, MutableForeignKey> foreignKeys = new HashMap<>();
     stopWatch.time(
         retrieveForeignKeys,
-        () -> fkRetriever.retrieveForeignKeys(allTables),
+        () ->
+            retrieveTableDetails(
+                retrieverConnection,
+                foreignKeysRetrievalStrategy,
+                changedTables,
+                (connection, tables) ->
+                    new ForeignKeyRetriever(connection, catalog, options)
+                        .retrieveForeignKeys(tables, foreignKeys)),
         retrieveTableColumns);
 
     stopWatch.time(
@@ -400,13 +611,25 @@ public final class SchemaCrawler {
           // parent-child relationships
           catalog.reduce(Table.class, getTableReducer(options));
 
+          if (changedTables != allTables) {
+            changedTables.filter(allTables::contains);
+          }
+
           // Sort the remaining tables
           final TablesGraph tablesGraph = new TablesGraph(allTables);
           tablesGraph.setTablesSortIndexes();
         });
 
     stopWatch.time(
-        retrieveIndexes, () -> indexRetriever.retrieveIndexes(allTables), retrieveTableColumns);
+        retrieveIndexes,
+        () ->
+            retrieveTableDetails(
+                retrieverConnection,
+                indexesRetrievalStrategy,
+                changedTables,
+                (connection, tables) ->
+                    new IndexRetriever(connection, catalog, options).retrieveIndexes(tables)),
+        retrieveTableColumns);
 
     LOGGER.log(Level.INFO, "Retrieving additional table information");
     stopWatch.time(retrieveTableConstraints, constraintRetriever::retrieveTableConstraints);
@@ -422,7 +645,125 @@ public final class SchemaCrawler {
 
     stopWatch.time(retrieveTriggerInformation, retrieverExtra::retrieveTriggerInformation);
 
-    crawlAdditionalTableInformation(constraintRetriever, retrieverExtra);
-    crawlAdditionalTableColumnInformation(retrieverExtra);
+    crawlAdditionalTableInformation(constraintRetriever, retrieverExtra, stopWatch);
+    crawlAdditionalTableColumnInformation(retrieverExtra, stopWatch);
+
+    provideTables(allTables);
+  }
+
+  /**
+   * Sets up tables to load their details the first time they are accessed, using connections from
+   * the connection source. Additional table information, such as constraints and triggers, is not
+   * retrieved, since it is retrieved for the whole catalog at once. Tables are not sorted by their
+   * foreign key dependencies, since that needs the foreign keys of every table. Tables are filtered
+   * only by their names and types, so that no table details are loaded.
+   */
+  private void crawlTablesLazily(
+      final NamedObjectList<MutableTable> allTables, final RetrievalStopWatch stopWatch)
+      throws Exception {
+    LOGGER.log(Level.INFO, "Table details will be loaded the first time they are accessed");
+
+    final TableDetailsLoader detailsLoader =
+        new TableDetailsLoader(connectionSource, schemaRetrievalOptions, catalog, options);
+    for (final MutableTable table : allTables) {
+      table.setDetailsLoader(detailsLoader);
+    }
+
+    stopWatch.time("filterTables", () -> catalog.reduce(Table.class, getTableReducer(options)));
+  }
+
+  /**
+   * Checks whether tables are filtered using their details, such as columns, triggers or foreign
+   * keys. Filtering these tables would load the details of every table, one table at a time.
+   */
+  private boolean isTableFilterUsingTableDetails() {
+    final GrepOptions grepOptions = options.getGrepOptions();
+    final FilterOptions filterOptions = options.getFilterOptions();
+    return grepOptions.isGrepColumns()
+        || grepOptions.isGrepDefinitions()
+        || filterOptions.getChildTableFilterDepth() > 0
+        || filterOptions.getParentTableFilterDepth() > 0;
+  }
+
+  /**
+   * Crawls routines and sequences on their own connections, while tables are crawled on the main
+   * connection. Synonyms refer to tables and routines, so they are crawled after both are
+   * complete.
+   */
+  private void crawlInParallel() throws Exception {
+    LOGGER.log(Level.INFO, "Retrieving tables, routines and sequences in parallel");
+
+    final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try {
+      final Future<?> routinesFuture =
+          executorService.submit(() -> crawlOnNewConnection("routines", this::crawlRoutines));
+      final Future<?> sequencesFuture =
+          executorService.submit(() -> crawlOnNewConnection("sequences", this::crawlSequences));
+
+      crawlTables(retrieverConnection, stopWatch);
+
+      stopWatch.time(
+          "waitForParallelCrawl",
+          () -> {
+            waitFor(routinesFuture);
+            waitFor(sequencesFuture);
+          });
+    } finally {
+      executorService.shutdownNow();
+    }
+
+    crawlSynonyms(retrieverConnection, stopWatch);
+  }
+
+  private Void crawlOnNewConnection(final String part, final CrawlPhase crawlPhase)
+      throws Exception {
+    try (final Connection connection = connectionSource.get()) {
+      final RetrieverConnection partRetrieverConnection =
+          new RetrieverConnection(connection, retrieverConnection);
+      final RetrievalStopWatch partStopWatch =
+          new RetrievalStopWatch(infoLevel, part, crawlListener);
+      try {
+        crawlPhase.crawl(partRetrieverConnection, partStopWatch);
+      } finally {
+        partStopWatch.stopAndLogTime();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Provides tables to the crawl listener, and releases their details once they have been
+   * provided, if the listener asks for that.
+   */
+  private void provideTables(final NamedObjectList<MutableTable> allTables) {
+    final boolean releaseTableDetails = crawlListener.isReleaseTableDetails();
+    for (final MutableTable table : allTables) {
+      crawlListener.onTable(table);
+      if (releaseTableDetails) {
+        table.releaseDetails();
+      }
+    }
+  }
+
+  /**
+   * Retrieves details for tables, such as columns or indexes. If tables are retrieved one at a
+   * time or one schema at a time using database metadata, and a pool of connections is available,
+   * the tables are partitioned by schema, and the partitions are retrieved in parallel.
+   */
+  private void retrieveTableDetails(
+      final RetrieverConnection retrieverConnection,
+      final SchemaInfoMetadataRetrievalStrategy retrievalStrategy,
+      final NamedObjectList<MutableTable> allTables,
+      final TablesRetrieval retrieval)
+      throws Exception {
+    final MetadataRetrievalStrategy metadataRetrievalStrategy =
+        retrieverConnection.get(retrievalStrategy);
+    if (partitionedTablesRetriever != null
+        && (metadataRetrievalStrategy == MetadataRetrievalStrategy.metadata
+            || metadataRetrievalStrategy == MetadataRetrievalStrategy.metadata_bulk)) {
+      partitionedTablesRetriever.retrieve(allTables, retrieval);
+    } else {
+      retrieval.retrieve(retrieverConnection, allTables);
+    }
   }
 }
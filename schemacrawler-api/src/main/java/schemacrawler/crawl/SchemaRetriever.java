@@ -149,7 +149,7 @@ final class SchemaRetriever extends AbstractRetriever {
     if (supportsSchemas) {
       int numSchemas = 0;
       try (final MetadataResultSet results =
-          new MetadataResultSet(getMetaData().getSchemas(), "DatabaseMetaData::getSchemas")) {
+          createMetadataResultSet(getMetaData().getSchemas(), "DatabaseMetaData::getSchemas")) {
         while (results.next()) {
           numSchemas = numSchemas + 1;
           final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -192,9 +192,9 @@ final class SchemaRetriever extends AbstractRetriever {
     }
     final Query schemataSql = informationSchemaViews.getQuery(SCHEMATA);
 
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(SCHEMATA);
         final MetadataResultSet results =
-            new MetadataResultSet(schemataSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(schemataSql, statement, getSchemaInclusionRule())) {
       int numSchemas = 0;
       while (results.next()) {
         numSchemas = numSchemas + 1;
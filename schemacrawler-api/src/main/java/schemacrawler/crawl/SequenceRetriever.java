@@ -91,9 +91,9 @@ final class SequenceRetriever extends AbstractRetriever {
     final NamedObjectList<SchemaReference> schemas = getAllSchemas();
 
     final Query sequencesDefinitionSql = informationSchemaViews.getQuery(SEQUENCES);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(SEQUENCES);
         final MetadataResultSet results =
-            new MetadataResultSet(sequencesDefinitionSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(sequencesDefinitionSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("SEQUENCE_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("SEQUENCE_SCHEMA"));
@@ -0,0 +1,102 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of strings for a crawl. Names of database objects, data type names, remarks and attribute
+ * names repeat across rows of database metadata, such as the same column name in many tables, but
+ * are returned as new strings every time. Strings are canonicalized through the pool as they are
+ * read, so that each distinct string is held in memory only once for the catalog. Long strings,
+ * such as definitions of views and routines, are rarely repeated, and are not pooled. The pool is
+ * safe to use from retrievers that run in parallel, and is discarded at the end of the crawl.
+ */
+final class StringPool {
+
+  private static final int MAX_POOLED_LENGTH = 256;
+
+  /** Estimated size of a string object and its character array, apart from the characters. */
+  private static final int STRING_OVERHEAD_BYTES = 40;
+
+  private final ConcurrentMap<String, String> strings = new ConcurrentHashMap<>();
+  private final LongAdder lookups = new LongAdder();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder bytesSaved = new LongAdder();
+
+  /**
+   * Gets the canonical instance of a string from the pool, adding the string if it is not in the
+   * pool yet.
+   *
+   * @param string String to canonicalize, which may be null
+   * @return Canonical instance of an equal string, or the string itself if it is null or too long
+   *     to be pooled
+   */
+  String intern(final String string) {
+    if (string == null || string.length() > MAX_POOLED_LENGTH) {
+      return string;
+    }
+    lookups.increment();
+    final String pooled = strings.putIfAbsent(string, string);
+    if (pooled == null) {
+      return string;
+    }
+    hits.increment();
+    if (pooled != string) {
+      bytesSaved.add(STRING_OVERHEAD_BYTES + 2L * string.length());
+    }
+    return pooled;
+  }
+
+  int size() {
+    return strings.size();
+  }
+
+  /**
+   * Describes how effective the pool has been, for logging at the end of a crawl.
+   *
+   * @return Number of strings pooled, hit rate, and estimated bytes saved
+   */
+  @Override
+  public String toString() {
+    final long lookupCount = lookups.sum();
+    final long hitCount = hits.sum();
+    final double hitRate;
+    if (lookupCount == 0) {
+      hitRate = 0;
+    } else {
+      hitRate = 100.0 * hitCount / lookupCount;
+    }
+    return String.format(
+        "Pooled %d distinct strings from %d lookups, with a hit rate of %.1f%%, "
+            + "saving about %d bytes",
+        strings.size(), lookupCount, hitRate, bytesSaved.sum());
+  }
+}
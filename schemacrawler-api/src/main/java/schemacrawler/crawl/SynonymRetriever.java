@@ -101,9 +101,9 @@ final class SynonymRetriever extends AbstractRetriever {
     final NamedObjectList<SchemaReference> schemas = getAllSchemas();
 
     final Query synonymsDefinitionSql = informationSchemaViews.getQuery(EXT_SYNONYMS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(EXT_SYNONYMS);
         MetadataResultSet results =
-            new MetadataResultSet(synonymsDefinitionSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(synonymsDefinitionSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("SYNONYM_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("SYNONYM_SCHEMA"));
@@ -0,0 +1,265 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_CHANGE_MARKERS;
+import static us.fatehi.utility.Utility.isBlank;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.PartialDatabaseObject;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.exceptions.WrappedSQLException;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * A retriever that finds tables that have changed since a previous crawl, using change markers
+ * from the data dictionary, such as the time of the last DDL change to a table. Tables that have
+ * not changed are carried over from the previous catalog, so that their columns, keys and indexes
+ * do not need to be retrieved again.
+ */
+final class TableChangeRetriever extends AbstractRetriever {
+
+  private static final Logger LOGGER = Logger.getLogger(TableChangeRetriever.class.getName());
+
+  /** Table attribute with the change marker of the table, at the time it was crawled. */
+  static final String CHANGE_MARKER = "schemacrawler.change_marker";
+
+  private final NamedObjectList<MutableTable> changedTables;
+
+  TableChangeRetriever(
+      final RetrieverConnection retrieverConnection,
+      final MutableCatalog catalog,
+      final SchemaCrawlerOptions options) {
+    super(retrieverConnection, catalog, options);
+    changedTables = new NamedObjectList<>();
+  }
+
+  /**
+   * Carries over tables from the previous catalog that have not changed since it was crawled,
+   * replacing the tables that were retrieved by name only. The tables that have changed, or are
+   * new, are collected so that their details can be retrieved. Tables without change markers are
+   * considered to have changed.
+   *
+   * <p>Tables that are carried over are moved to the new catalog, so the previous catalog should
+   * not be used after it has been used for an incremental crawl.
+   *
+   * @param previousCatalog Catalog from a previous crawl
+   */
+  void carryOverUnchangedTables(final Catalog previousCatalog) {
+    requireNonNull(previousCatalog, "No previous catalog provided");
+
+    changedTables.clear();
+    final Set<NamedObjectKey> unchangedTableKeys = new HashSet<>();
+    // Unchanged tables from the previous catalog, with the tables retrieved by name that they
+    // replace
+    final Map<MutableTable, MutableTable> unchangedTables = new LinkedHashMap<>();
+    for (final MutableTable table : catalog.getAllTables()) {
+      final Optional<MutableTable> optionalPreviousTable =
+          lookupUnchangedTable(previousCatalog, table);
+      if (optionalPreviousTable.isPresent()) {
+        unchangedTableKeys.add(table.key());
+        unchangedTables.put(optionalPreviousTable.get(), table);
+      } else {
+        changedTables.add(table);
+      }
+    }
+
+    for (final Map.Entry<MutableTable, MutableTable> entry : unchangedTables.entrySet()) {
+      carryOverTable(entry.getKey(), entry.getValue(), unchangedTableKeys);
+    }
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Carried over %d unchanged tables, and retrieving details for %d changed tables",
+            unchangedTables.size(), changedTables.size()));
+  }
+
+  /**
+   * Gets the tables that have changed since the previous crawl.
+   *
+   * @return Changed tables
+   */
+  NamedObjectList<MutableTable> getChangedTables() {
+    return changedTables;
+  }
+
+  /**
+   * Retrieves change markers for all tables, and keeps them as table attributes, so that they can
+   * be compared in a later incremental crawl.
+   *
+   * @throws WrappedSQLException On a SQL exception
+   */
+  void retrieveChangeMarkers() throws WrappedSQLException {
+    final InformationSchemaViews informationSchemaViews =
+        getRetrieverConnection().getInformationSchemaViews();
+    if (!informationSchemaViews.hasQuery(EXT_TABLE_CHANGE_MARKERS)) {
+      LOGGER.log(Level.INFO, "No table change markers SQL provided");
+      return;
+    }
+
+    final Query changeMarkersSql = informationSchemaViews.getQuery(EXT_TABLE_CHANGE_MARKERS);
+    try (final Statement statement = createStatement(EXT_TABLE_CHANGE_MARKERS);
+        final MetadataResultSet results =
+            createMetadataResultSet(changeMarkersSql, statement, getSchemaInclusionRule())) {
+      while (results.next()) {
+        // NOTE: The column names in the extension table are different
+        // than the database metadata column names
+        final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
+        final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEMA"));
+        final String tableName = results.getString("TABLE_NAME");
+        final String changeMarker = results.getString("CHANGE_MARKER");
+
+        final Optional<MutableTable> optionalTable =
+            lookupTable(catalogName, schemaName, tableName);
+        if (!optionalTable.isPresent() || isBlank(changeMarker)) {
+          continue;
+        }
+        LOGGER.log(
+            Level.FINER,
+            new StringFormat(
+                "Retrieved change marker <%s> for table <%s>", changeMarker, optionalTable.get()));
+        optionalTable.get().setAttribute(CHANGE_MARKER, changeMarker);
+      }
+    } catch (final SQLException e) {
+      throw new WrappedSQLException(
+          String.format("Could not retrieve table change markers from SQL:%n%s", changeMarkersSql),
+          e);
+    }
+  }
+
+  /**
+   * Moves a table from the previous catalog to the new catalog. Remarks and attributes are taken
+   * from the table that was retrieved by name, since change markers may not cover them. Foreign
+   * keys to tables that have changed or no longer exist are dropped, since they will be retrieved
+   * again with the changed tables. Column data types are replaced with the ones from the new
+   * catalog.
+   */
+  private void carryOverTable(
+      final MutableTable table,
+      final MutableTable retrievedTable,
+      final Set<NamedObjectKey> unchangedTableKeys) {
+    LOGGER.log(Level.FINE, new StringFormat("Carrying over unchanged table <%s>", table));
+
+    table.clearCatalogDetails();
+
+    // Remarks are kept as an attribute, so they are replaced along with all other attributes
+    for (final String name : new ArrayList<>(table.getAttributes().keySet())) {
+      table.removeAttribute(name);
+    }
+    table.addAttributes(retrievedTable.getAttributes());
+
+    for (final ForeignKey foreignKey : table.getForeignKeys()) {
+      if (!isCarriedOver(foreignKey.getPrimaryKeyTable(), unchangedTableKeys)
+          || !isCarriedOver(foreignKey.getForeignKeyTable(), unchangedTableKeys)) {
+        table.removeForeignKey((MutableForeignKey) foreignKey);
+      }
+    }
+
+    for (final MutableColumn column : table.getAllColumns()) {
+      final Column referencedColumn = column.getReferencedColumn();
+      if (referencedColumn != null
+          && !isCarriedOver(referencedColumn.getParent(), unchangedTableKeys)) {
+        column.setReferencedColumn(null);
+      }
+      carryOverColumnDataType(column);
+    }
+    for (final Column column : table.getHiddenColumns()) {
+      carryOverColumnDataType((MutableColumn) column);
+    }
+
+    catalog.addTable(table);
+  }
+
+  private void carryOverColumnDataType(final MutableColumn column) {
+    final ColumnDataType columnDataType = column.getColumnDataType();
+    if (columnDataType == null) {
+      return;
+    }
+    // Column data types are shared by tables and routines, which may be
+    // retrieved in parallel
+    synchronized (catalog) {
+      final Optional<MutableColumnDataType> optionalColumnDataType =
+          catalog.lookupColumnDataType(columnDataType.getSchema(), columnDataType.getName());
+      if (optionalColumnDataType.isPresent()) {
+        column.setColumnDataType(optionalColumnDataType.get());
+      } else if (columnDataType instanceof MutableColumnDataType) {
+        catalog.addColumnDataType((MutableColumnDataType) columnDataType);
+      }
+    }
+  }
+
+  private boolean isCarriedOver(final Table table, final Set<NamedObjectKey> unchangedTableKeys) {
+    return table instanceof PartialDatabaseObject || unchangedTableKeys.contains(table.key());
+  }
+
+  /**
+   * Looks up a table in the previous catalog, and returns it if it is the same kind of table, and
+   * its change marker has not changed.
+   */
+  private Optional<MutableTable> lookupUnchangedTable(
+      final Catalog previousCatalog, final MutableTable table) {
+    final String changeMarker = table.getAttribute(CHANGE_MARKER);
+    if (isBlank(changeMarker)) {
+      return Optional.empty();
+    }
+
+    final Optional<? extends Table> optionalPreviousTable =
+        previousCatalog.lookupTable(table.getSchema(), table.getName());
+    if (!optionalPreviousTable.isPresent()) {
+      return Optional.empty();
+    }
+    final Table previousTable = optionalPreviousTable.get();
+    if (previousTable.getClass() != table.getClass()
+        || !previousTable.getTableType().equals(table.getTableType())
+        || !changeMarker.equals(previousTable.getAttribute(CHANGE_MARKER))) {
+      return Optional.empty();
+    }
+    return Optional.of((MutableTable) previousTable);
+  }
+}
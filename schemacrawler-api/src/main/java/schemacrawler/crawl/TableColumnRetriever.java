@@ -39,6 +39,7 @@ import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Level;
@@ -48,6 +49,7 @@ import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -94,6 +96,12 @@ final class TableColumnRetriever extends AbstractRetriever {
         retrieveTableColumnsFromMetadata(allTables, columnFilter, hiddenTableColumnsLookupKeys);
         break;
 
+      case metadata_bulk:
+        LOGGER.log(Level.INFO, "Retrieving table columns, for all tables in each schema");
+        retrieveTableColumnsFromMetadataForSchemas(
+            allTables, columnFilter, hiddenTableColumnsLookupKeys);
+        break;
+
       default:
         LOGGER.log(Level.INFO, "Not retrieving table columns");
         break;
@@ -126,7 +134,7 @@ final class TableColumnRetriever extends AbstractRetriever {
     }
 
     final Optional<MutableTable> optionalTable =
-        allTables.lookup(new NamedObjectKey(columnCatalogName, schemaName, tableName));
+        allTables.lookup(columnCatalogName, schemaName, tableName);
     if (!optionalTable.isPresent()) {
       return;
     }
@@ -192,7 +200,7 @@ final class TableColumnRetriever extends AbstractRetriever {
 
   private MutableColumn lookupOrCreateTableColumn(
       final MutableTable table, final String columnName) {
-    final Optional<MutableColumn> columnOptional = table.lookupColumn(columnName);
+    final Optional<MutableColumn> columnOptional = table.lookupRetrievedColumn(columnName);
     final MutableColumn column =
         columnOptional.orElseGet(() -> new MutableColumn(table, columnName));
     return column;
@@ -209,9 +217,9 @@ final class TableColumnRetriever extends AbstractRetriever {
       return hiddenTableColumnsLookupKeys;
     }
     final Query hiddenColumnsSql = informationSchemaViews.getQuery(EXT_HIDDEN_TABLE_COLUMNS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(EXT_HIDDEN_TABLE_COLUMNS);
         final MetadataResultSet results =
-            new MetadataResultSet(hiddenColumnsSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(hiddenColumnsSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
         // NOTE: The column names in the extension table are different
         // than the database metadata column names
@@ -246,9 +254,9 @@ final class TableColumnRetriever extends AbstractRetriever {
       throw new ExecutionRuntimeException("No table columns SQL provided");
     }
     final Query tableColumnsSql = informationSchemaViews.getQuery(TABLE_COLUMNS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(TABLE_COLUMNS);
         final MetadataResultSet results =
-            new MetadataResultSet(tableColumnsSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(tableColumnsSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
         createTableColumn(results, allTables, columnFilter, hiddenTableColumnsLookupKeys);
       }
@@ -263,7 +271,7 @@ final class TableColumnRetriever extends AbstractRetriever {
     for (final MutableTable table : allTables) {
       LOGGER.log(Level.FINE, "Retrieving table columns for " + table);
       try (final MetadataResultSet results =
-          new MetadataResultSet(
+          createMetadataResultSet(
               getMetaData()
                   .getColumns(
                       table.getSchema().getCatalogName(),
@@ -282,4 +290,46 @@ final class TableColumnRetriever extends AbstractRetriever {
       }
     }
   }
+
+  private void retrieveTableColumnsFromMetadataForSchemas(
+      final NamedObjectList<MutableTable> allTables,
+      final InclusionRuleFilter<Column> columnFilter,
+      final Set<NamedObjectKey> hiddenTableColumnsLookupKeys)
+      throws WrappedSQLException {
+    for (final Map.Entry<Schema, NamedObjectList<MutableTable>> entry :
+        groupTablesBySchema(allTables).entrySet()) {
+      final Schema schema = entry.getKey();
+      final NamedObjectList<MutableTable> schemaTables = entry.getValue();
+      LOGGER.log(Level.FINE, "Retrieving table columns for schema " + schema);
+      int rowCount = 0;
+      try (final MetadataResultSet results =
+          createMetadataResultSet(
+              getMetaData().getColumns(schema.getCatalogName(), schema.getName(), null, null),
+              "DatabaseMetaData::getColumns")) {
+        while (results.next()) {
+          rowCount++;
+          createTableColumn(results, schemaTables, columnFilter, hiddenTableColumnsLookupKeys);
+        }
+      } catch (final SQLException e) {
+        // Not all database drivers support retrieving columns for all tables in a schema, so
+        // retrieve them one table at a time instead
+        logPossiblyUnsupportedSQLFeature(
+            new StringFormat("Could not retrieve table columns for schema <%s>", schema), e);
+        getRetrieverConnection().setBulkMetadataUnsupported(schema);
+        retrieveTableColumnsFromMetadata(schemaTables, columnFilter, hiddenTableColumnsLookupKeys);
+        continue;
+      }
+      if (rowCount == 0) {
+        // Some database drivers accept a null table name, but do not return any rows for it, so
+        // retrieve table columns, and other table details for the schema, one table at a time
+        getRetrieverConnection().setBulkMetadataUnsupported(schema);
+        LOGGER.log(
+            Level.INFO,
+            new StringFormat(
+                "No table columns returned for schema <%s>, so retrieving them one table at a time",
+                schema));
+        retrieveTableColumnsFromMetadata(schemaTables, columnFilter, hiddenTableColumnsLookupKeys);
+      }
+    }
+  }
 }
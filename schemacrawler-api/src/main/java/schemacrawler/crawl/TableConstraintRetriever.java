@@ -105,9 +105,9 @@ final class TableConstraintRetriever extends AbstractRetriever {
         informationSchemaViews.getQuery(CHECK_CONSTRAINTS);
 
     // Get check constraint definitions
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(CHECK_CONSTRAINTS);
         final MetadataResultSet results =
-            new MetadataResultSet(
+            createMetadataResultSet(
                 extTableConstraintInformationSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
@@ -158,9 +158,9 @@ final class TableConstraintRetriever extends AbstractRetriever {
 
     final Query extTableConstraintsInformationSql =
         informationSchemaViews.getQuery(EXT_TABLE_CONSTRAINTS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(EXT_TABLE_CONSTRAINTS);
         final MetadataResultSet results =
-            new MetadataResultSet(
+            createMetadataResultSet(
                 extTableConstraintsInformationSql, statement, getSchemaInclusionRule())) {
 
       while (results.next()) {
@@ -185,7 +185,7 @@ final class TableConstraintRetriever extends AbstractRetriever {
                 "Retrieving additional table constraint information <%s>", tableConstraintName));
         final MutableTable table = tableOptional.get();
         final Optional<TableConstraint> tableConstraintOptional =
-            table.lookupTableConstraint(tableConstraintName);
+            table.lookupRetrievedTableConstraint(tableConstraintName);
         if (!tableConstraintOptional.isPresent()) {
           LOGGER.log(
               Level.FINE,
@@ -272,9 +272,9 @@ final class TableConstraintRetriever extends AbstractRetriever {
     }
 
     final Query tableConstraintsInformationSql = informationSchemaViews.getQuery(TABLE_CONSTRAINTS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(TABLE_CONSTRAINTS);
         final MetadataResultSet results =
-            new MetadataResultSet(
+            createMetadataResultSet(
                 tableConstraintsInformationSql, statement, getSchemaInclusionRule())) {
 
       while (results.next()) {
@@ -353,9 +353,9 @@ final class TableConstraintRetriever extends AbstractRetriever {
     final Query tableConstraintsColumnsInformationSql =
         informationSchemaViews.getQuery(CONSTRAINT_COLUMN_USAGE);
 
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(CONSTRAINT_COLUMN_USAGE);
         final MetadataResultSet results =
-            new MetadataResultSet(
+            createMetadataResultSet(
                 tableConstraintsColumnsInformationSql, statement, getSchemaInclusionRule())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
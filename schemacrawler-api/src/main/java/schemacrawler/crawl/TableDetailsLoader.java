@@ -0,0 +1,160 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForColumnInclusion;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Loads the columns, primary key, foreign keys and indexes of a table the first time they are
+ * accessed, for catalogs that were crawled with lazy loading of table details. A connection is
+ * obtained from the connection source for each load, and closed once the details are retrieved.
+ *
+ * <p>Details are always retrieved with database metadata calls for the table being loaded, since
+ * data dictionary queries and metadata calls for a whole schema return rows for every table.
+ * Loads are serialized, so that concurrent first access to tables is safe, and so that a table
+ * loading its foreign keys can look up the columns of referenced tables without deadlocking. Only
+ * columns are loaded for referenced tables, with a metadata call for each referenced table, so
+ * loading one table does not cascade over the foreign key graph.
+ */
+final class TableDetailsLoader implements TableLoader {
+
+  @FunctionalInterface
+  private interface TableRetrieval {
+    void retrieve(RetrieverConnection retrieverConnection, NamedObjectList<MutableTable> tables)
+        throws SQLException;
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(TableDetailsLoader.class.getName());
+
+  private final Supplier<Connection> connectionSource;
+  private final SchemaRetrievalOptions schemaRetrievalOptions;
+  private final MutableCatalog catalog;
+  private final SchemaCrawlerOptions options;
+  private final Set<MutableTable> columnsLoaded;
+  private final Set<MutableTable> detailsLoaded;
+
+  TableDetailsLoader(
+      final Supplier<Connection> connectionSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final MutableCatalog catalog,
+      final SchemaCrawlerOptions options) {
+    this.connectionSource = requireNonNull(connectionSource, "No connection source provided");
+    requireNonNull(schemaRetrievalOptions, "No database specific overrides provided");
+    this.schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder(schemaRetrievalOptions)
+            .withEnumDataTypeHelper(schemaRetrievalOptions.getEnumDataTypeHelper())
+            .withTypeMap(schemaRetrievalOptions.getTypeMap())
+            .with(tableColumnsRetrievalStrategy, MetadataRetrievalStrategy.metadata)
+            .with(primaryKeysRetrievalStrategy, MetadataRetrievalStrategy.metadata)
+            .with(foreignKeysRetrievalStrategy, MetadataRetrievalStrategy.metadata)
+            .with(indexesRetrievalStrategy, MetadataRetrievalStrategy.metadata)
+            .toOptions();
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.options = requireNonNull(options, "No SchemaCrawler options provided");
+    columnsLoaded = Collections.newSetFromMap(new IdentityHashMap<>());
+    detailsLoaded = Collections.newSetFromMap(new IdentityHashMap<>());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized void loadColumns(final MutableTable table) {
+    // Mark the table before retrieving columns, since the retriever looks up
+    // columns on the same table
+    if (!columnsLoaded.add(table)) {
+      return;
+    }
+
+    LOGGER.log(Level.FINE, new StringFormat("Loading columns for table <%s>", table));
+    load(
+        table,
+        (retrieverConnection, tables) ->
+            new TableColumnRetriever(retrieverConnection, catalog, options)
+                .retrieveTableColumns(
+                    tables, options.getLimitOptions().get(ruleForColumnInclusion)));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized void loadDetails(final MutableTable table) {
+    // Mark the table before retrieving details, since the retrievers look up
+    // keys and indexes on the same table
+    if (!detailsLoaded.add(table)) {
+      return;
+    }
+
+    loadColumns(table);
+
+    LOGGER.log(Level.FINE, new StringFormat("Loading details for table <%s>", table));
+    load(
+        table,
+        (retrieverConnection, tables) -> {
+          new PrimaryKeyRetriever(retrieverConnection, catalog, options)
+              .retrievePrimaryKeys(tables);
+          new ForeignKeyRetriever(retrieverConnection, catalog, options)
+              .retrieveForeignKeys(tables);
+          new IndexRetriever(retrieverConnection, catalog, options).retrieveIndexes(tables);
+        });
+
+    table.detailsLoaded();
+  }
+
+  private void load(final MutableTable table, final TableRetrieval retrieval) {
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    tables.add(table);
+
+    try (final Connection connection = connectionSource.get()) {
+      final RetrieverConnection retrieverConnection =
+          new RetrieverConnection(connection, schemaRetrievalOptions);
+      retrieval.retrieve(retrieverConnection, tables);
+    } catch (final SQLException e) {
+      throw new DatabaseAccessException(e);
+    }
+  }
+}
@@ -88,9 +88,9 @@ final class TableExtRetriever extends AbstractRetriever {
     }
     final Query columnAttributesSql = informationSchemaViews.getQuery(ADDITIONAL_COLUMN_ATTRIBUTES);
 
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(ADDITIONAL_COLUMN_ATTRIBUTES);
         final MetadataResultSet results =
-            new MetadataResultSet(columnAttributesSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(columnAttributesSql, statement, getSchemaInclusionRule())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -178,9 +178,9 @@ final class TableExtRetriever extends AbstractRetriever {
     }
     final Query tableAttributesSql = informationSchemaViews.getQuery(ADDITIONAL_TABLE_ATTRIBUTES);
 
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(ADDITIONAL_TABLE_ATTRIBUTES);
         final MetadataResultSet results =
-            new MetadataResultSet(tableAttributesSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(tableAttributesSql, statement, getSchemaInclusionRule())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -224,9 +224,10 @@ final class TableExtRetriever extends AbstractRetriever {
     LOGGER.log(Level.INFO, "Retrieving additional index information");
 
     final Query extIndexesInformationSql = informationSchemaViews.getQuery(EXT_INDEXES);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(EXT_INDEXES);
         final MetadataResultSet results =
-            new MetadataResultSet(extIndexesInformationSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(
+                extIndexesInformationSql, statement, getSchemaInclusionRule())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("INDEX_CATALOG"));
@@ -272,7 +273,7 @@ final class TableExtRetriever extends AbstractRetriever {
 
   void retrieveTableColumnPrivileges() throws SQLException {
     try (final MetadataResultSet results =
-        new MetadataResultSet(
+        createMetadataResultSet(
             getMetaData().getColumnPrivileges(null, null, null, null),
             "DatabaseMetaData::getColumnPrivileges")) {
       createPrivileges(results, true);
@@ -299,9 +300,9 @@ final class TableExtRetriever extends AbstractRetriever {
     LOGGER.log(Level.INFO, "Retrieving table definitions");
 
     final Query tableDefinitionsInformationSql = informationSchemaViews.getQuery(EXT_TABLES);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(EXT_TABLES);
         final MetadataResultSet results =
-            new MetadataResultSet(
+            createMetadataResultSet(
                 tableDefinitionsInformationSql, statement, getSchemaInclusionRule())) {
 
       while (results.next()) {
@@ -334,7 +335,7 @@ final class TableExtRetriever extends AbstractRetriever {
 
   void retrieveTablePrivileges() throws SQLException {
     try (final MetadataResultSet results =
-        new MetadataResultSet(
+        createMetadataResultSet(
             getMetaData().getTablePrivileges(null, null, null),
             "DatabaseMetaData::getTablePrivileges")) {
       createPrivileges(results, false);
@@ -360,9 +361,9 @@ final class TableExtRetriever extends AbstractRetriever {
     LOGGER.log(Level.INFO, "Retrieving trigger definitions");
 
     final Query triggerInformationSql = informationSchemaViews.getQuery(TRIGGERS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(TRIGGERS);
         final MetadataResultSet results =
-            new MetadataResultSet(triggerInformationSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(triggerInformationSql, statement, getSchemaInclusionRule())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TRIGGER_CATALOG"));
@@ -399,7 +400,9 @@ final class TableExtRetriever extends AbstractRetriever {
             ConditionTimingType.valueOfFromValue(conditionTimingString);
 
         final MutableTrigger trigger =
-            table.lookupTrigger(triggerName).orElse(new MutableTrigger(table, triggerName));
+            table
+                .lookupRetrievedTrigger(triggerName)
+                .orElse(new MutableTrigger(table, triggerName));
         trigger.setEventManipulationType(eventManipulationType);
         trigger.setActionOrder(actionOrder);
         trigger.appendActionCondition(actionCondition);
@@ -435,9 +438,9 @@ final class TableExtRetriever extends AbstractRetriever {
     LOGGER.log(Level.INFO, "Retrieving additional view information");
 
     final Query viewInformationSql = informationSchemaViews.getQuery(VIEWS);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(VIEWS);
         final MetadataResultSet results =
-            new MetadataResultSet(viewInformationSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(viewInformationSql, statement, getSchemaInclusionRule())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -489,9 +492,9 @@ final class TableExtRetriever extends AbstractRetriever {
     LOGGER.log(Level.INFO, "Retrieving view table usage");
 
     final Query viewTableUsageSql = informationSchemaViews.getQuery(VIEW_TABLE_USAGE);
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(VIEW_TABLE_USAGE);
         final MetadataResultSet results =
-            new MetadataResultSet(viewTableUsageSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(viewTableUsageSql, statement, getSchemaInclusionRule())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("VIEW_CATALOG"));
@@ -577,7 +580,7 @@ final class TableExtRetriever extends AbstractRetriever {
                 new MutablePrivilege<>(new ColumnPointer(column), privilegeName));
       } else {
         final Optional<MutablePrivilege<Table>> privilegeOptional =
-            table.lookupPrivilege(privilegeName);
+            table.lookupRetrievedPrivilege(privilegeName);
         privilege =
             privilegeOptional.orElse(
                 new MutablePrivilege<>(new TablePointer(table), privilegeName));
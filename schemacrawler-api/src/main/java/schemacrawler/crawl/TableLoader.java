@@ -0,0 +1,52 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+/**
+ * Loads the details of a table the first time they are accessed, such as from the database for a
+ * catalog that was crawled with lazy loading of table details, or from an indexed offline snapshot.
+ * Columns are loaded separately from other details, so that looking up the columns of a referenced
+ * table does not load the whole table.
+ */
+interface TableLoader {
+
+  /**
+   * Loads the columns of a table, if they have not already been loaded.
+   *
+   * @param table Table to load columns for
+   */
+  void loadColumns(MutableTable table);
+
+  /**
+   * Loads the columns, keys, indexes and other details of a table, if they have not already been
+   * loaded. Once the details are loaded, the table no longer needs to be loaded on access.
+   *
+   * @param table Table to load details for
+   */
+  void loadDetails(MutableTable table);
+}
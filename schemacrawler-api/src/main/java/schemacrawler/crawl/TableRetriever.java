@@ -164,9 +164,9 @@ final class TableRetriever extends AbstractRetriever {
     } else {
       filteredTableTypes = tableTypes;
     }
-    try (final Statement statement = createStatement();
+    try (final Statement statement = createStatement(TABLES);
         final MetadataResultSet results =
-            new MetadataResultSet(tablesSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(tablesSql, statement, getSchemaInclusionRule())) {
       int numTables = 0;
       while (results.next()) {
         numTables = numTables + 1;
@@ -193,7 +193,7 @@ final class TableRetriever extends AbstractRetriever {
       final String schemaName = schema.getName();
 
       try (final MetadataResultSet results =
-          new MetadataResultSet(
+          createMetadataResultSet(
               getMetaData()
                   .getTables(
                       catalogName, schemaName, tableNamePattern, filteredTableTypes.toArray()),
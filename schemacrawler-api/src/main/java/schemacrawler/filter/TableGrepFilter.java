@@ -29,6 +29,7 @@ package schemacrawler.filter;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Level;
@@ -89,7 +90,13 @@ class TableGrepFilter implements Predicate<Table> {
       }
     }
 
-    final List<Column> columns = table.getColumns();
+    // Columns are only needed to match columns or definitions
+    final List<Column> columns;
+    if (checkIncludeForColumns || checkIncludeForDefinitions) {
+      columns = table.getColumns();
+    } else {
+      columns = Collections.emptyList();
+    }
     // Check if info-level=minimum, and no columns were retrieved
     if (columns.isEmpty()) {
       includeForColumns = true;
@@ -28,13 +28,12 @@ http://www.gnu.org/licenses/
 package schemacrawler.filter;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.utility.MetaDataUtility.relatedTables;
 
-import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Predicate;
 
-import schemacrawler.schema.PartialDatabaseObject;
 import schemacrawler.schema.Reducer;
 import schemacrawler.schema.ReducibleCollection;
 import schemacrawler.schema.Table;
@@ -72,11 +71,11 @@ final class TablesReducer implements Reducer<Table> {
     // Add in referenced tables
     final FilterOptions filterOptions = options.getFilterOptions();
     final int childTableFilterDepth = filterOptions.getChildTableFilterDepth();
-    final Collection<Table> childTables =
-        includeRelatedTables(TableRelationshipType.child, childTableFilterDepth, reducedTables);
+    final Set<Table> childTables =
+        relatedTables(reducedTables, TableRelationshipType.child, childTableFilterDepth);
     final int parentTableFilterDepth = filterOptions.getParentTableFilterDepth();
-    final Collection<Table> parentTables =
-        includeRelatedTables(TableRelationshipType.parent, parentTableFilterDepth, reducedTables);
+    final Set<Table> parentTables =
+        relatedTables(reducedTables, TableRelationshipType.parent, parentTableFilterDepth);
 
     final Set<Table> keepTables = new HashSet<>();
     keepTables.addAll(reducedTables);
@@ -85,28 +84,4 @@ final class TablesReducer implements Reducer<Table> {
 
     allTables.filter(keepTables::contains);
   }
-
-  private Collection<Table> includeRelatedTables(
-      final TableRelationshipType tableRelationshipType,
-      final int depth,
-      final Set<Table> greppedTables) {
-    final Set<Table> includedTables = new HashSet<>();
-    includedTables.addAll(greppedTables);
-
-    for (int i = 0; i < depth; i++) {
-      for (final Table table : new HashSet<>(includedTables)) {
-        for (final Table relatedTable : table.getRelatedTables(tableRelationshipType)) {
-          if (!isTablePartial(relatedTable)) {
-            includedTables.add(relatedTable);
-          }
-        }
-      }
-    }
-
-    return includedTables;
-  }
-
-  private boolean isTablePartial(final Table table) {
-    return table instanceof PartialDatabaseObject;
-  }
 }
@@ -38,6 +38,21 @@ import java.util.Optional;
  */
 public interface Catalog extends NamedObject, AttributedObject, DescribedObject, Reducible {
 
+  /**
+   * Freezes the catalog, so that it can be shared by any number of threads that read it
+   * concurrently. A frozen catalog can no longer be modified or reduced. Collections of database
+   * objects are sorted ahead of time, and are returned as shared unmodifiable lists rather than as
+   * copies. Details of tables that are loaded lazily are loaded when the catalog is frozen. The
+   * frozen catalog should be published to other threads safely, for example through a final or
+   * volatile field, or a concurrent collection.
+   *
+   * @return This catalog, frozen
+   * @throws UnsupportedOperationException If the catalog cannot be frozen
+   */
+  default Catalog freeze() {
+    throw new UnsupportedOperationException("Catalog cannot be frozen");
+  }
+
   /**
    * Gets the column data types
    *
@@ -144,6 +159,15 @@ public interface Catalog extends NamedObject, AttributedObject, DescribedObject,
    */
   Collection<Table> getTables(Schema schema);
 
+  /**
+   * Checks whether the catalog has been frozen, and can no longer be modified.
+   *
+   * @return Whether the catalog is frozen
+   */
+  default boolean isFrozen() {
+    return false;
+  }
+
   /**
    * Gets a table column by unqualified name.
    *
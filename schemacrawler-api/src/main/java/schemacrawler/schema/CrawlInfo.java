@@ -29,11 +29,24 @@ package schemacrawler.schema;
 
 import java.io.Serializable;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
 
 import schemacrawler.ProductVersion;
 
 public interface CrawlInfo extends Serializable {
 
+  /**
+   * Gets the metadata retrieval strategies that were chosen during the crawl, for retrieval
+   * strategies that were set to adaptive. The map is empty if no strategy was adaptive.
+   *
+   * @return Names of the chosen retrieval strategies, keyed by the name of the retrieval
+   *     strategy they were chosen for
+   */
+  default Map<String, String> getAdaptiveRetrievalStrategies() {
+    return Collections.emptyMap();
+  }
+
   /**
    * Gets the timestamp of when the database was crawled, in UTC to the second.
    *
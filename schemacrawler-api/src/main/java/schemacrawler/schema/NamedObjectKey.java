@@ -27,21 +27,44 @@ http://www.gnu.org/licenses/
 */
 package schemacrawler.schema;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
-import java.util.Arrays;
+import java.util.Objects;
 
+/**
+ * A key that uniquely identifies a named object, made up of the names of the object and its
+ * parents, such as catalog, schema, table and column names.
+ *
+ * <p>A key is a chain of name segments, each of which links to the key of its parent, so that the
+ * key of a column shares the segments of the key of its table rather than copying them. The hash
+ * code is computed once, when the key is created.
+ *
+ * <p>Keys are serialized as an array of names, which is the serialized form of earlier versions,
+ * so that existing offline snapshots can still be read.
+ */
 public final class NamedObjectKey implements Serializable {
 
   private static final long serialVersionUID = -5008609072012459037L;
 
-  private final String[] key;
+  private static final ObjectStreamField[] serialPersistentFields = {
+    new ObjectStreamField("key", String[].class)
+  };
+
+  private NamedObjectKey parent;
+  private String name;
+  private int hash;
 
   public NamedObjectKey(final String... key) {
-    if (key == null || key.length == 0) {
-      this.key = new String[0];
-    } else {
-      this.key = Arrays.copyOf(key, key.length);
-    }
+    initialize(key);
+  }
+
+  private NamedObjectKey(final NamedObjectKey parent, final String name) {
+    this.parent = parent;
+    this.name = name;
+    hash = calculateHash();
   }
 
   @Override
@@ -52,24 +75,105 @@ public final class NamedObjectKey implements Serializable {
     if (!(obj instanceof NamedObjectKey)) {
       return false;
     }
-    final NamedObjectKey other = (NamedObjectKey) obj;
-    return Arrays.equals(key, other.key);
+    NamedObjectKey thisKey = this;
+    NamedObjectKey otherKey = (NamedObjectKey) obj;
+    if (thisKey.hash != otherKey.hash) {
+      return false;
+    }
+    while (thisKey != null && otherKey != null) {
+      if (thisKey == otherKey) {
+        return true;
+      }
+      if (!Objects.equals(thisKey.name, otherKey.name)) {
+        return false;
+      }
+      thisKey = thisKey.parent;
+      otherKey = otherKey.parent;
+    }
+    return thisKey == otherKey;
   }
 
   @Override
   public int hashCode() {
-    return Arrays.hashCode(key);
+    return hash;
   }
 
   @Override
   public String toString() {
-    return "{\"key\": \"" + String.join("/", key) + "\"}";
+    return "{\"key\": \"" + String.join("/", toArray()) + "\"}";
   }
 
+  /**
+   * Creates a key for a child object, by adding a name segment to this key. The new key links to
+   * this key, and does not copy it.
+   *
+   * @param name Name of the child object
+   * @return Key for the child object
+   */
   public NamedObjectKey with(final String name) {
-    final int currentLength = key.length;
-    final String[] newKey = Arrays.copyOf(key, currentLength + 1);
-    newKey[currentLength] = name;
-    return new NamedObjectKey(newKey);
+    if (isEmpty()) {
+      return new NamedObjectKey(null, name);
+    }
+    return new NamedObjectKey(this, name);
+  }
+
+  /**
+   * Computes the hash code in the same way as {@link java.util.Arrays#hashCode(Object[])} would for
+   * the name segments of the key. The key with no name segments has a hash code of 1.
+   */
+  private int calculateHash() {
+    final int parentHash;
+    if (parent == null) {
+      parentHash = 1;
+    } else {
+      parentHash = parent.hash;
+    }
+    return 31 * parentHash + Objects.hashCode(name);
+  }
+
+  private void initialize(final String[] key) {
+    if (key == null || key.length == 0) {
+      parent = null;
+      name = null;
+      hash = 1;
+    } else {
+      NamedObjectKey parentKey = null;
+      for (int i = 0; i < key.length - 1; i++) {
+        parentKey = new NamedObjectKey(parentKey, key[i]);
+      }
+      parent = parentKey;
+      name = key[key.length - 1];
+      hash = calculateHash();
+    }
+  }
+
+  private boolean isEmpty() {
+    return parent == null && name == null && hash == 1;
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    final ObjectInputStream.GetField fields = in.readFields();
+    initialize((String[]) fields.get("key", null));
+  }
+
+  private String[] toArray() {
+    if (isEmpty()) {
+      return new String[0];
+    }
+    int length = 0;
+    for (NamedObjectKey key = this; key != null; key = key.parent) {
+      length++;
+    }
+    final String[] names = new String[length];
+    for (NamedObjectKey key = this; key != null; key = key.parent) {
+      names[--length] = key.name;
+    }
+    return names;
+  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    final ObjectOutputStream.PutField fields = out.putFields();
+    fields.put("key", toArray());
+    out.writeFields();
   }
 }
@@ -34,9 +34,34 @@ import us.fatehi.utility.ObjectToString;
 public final class LoadOptions implements Options {
 
   private final SchemaInfoLevel schemaInfoLevel;
+  private final int maxThreads;
+  private final boolean loadTableDetailsLazily;
+  private final boolean retrieveTableChangeMarkers;
 
-  LoadOptions(final SchemaInfoLevel schemaInfoLevel) {
+  LoadOptions(
+      final SchemaInfoLevel schemaInfoLevel,
+      final int maxThreads,
+      final boolean loadTableDetailsLazily,
+      final boolean retrieveTableChangeMarkers) {
     this.schemaInfoLevel = requireNonNull(schemaInfoLevel, "No schema info level provided");
+
+    if (maxThreads < 1) {
+      throw new IllegalArgumentException("Invalid maximum number of threads, " + maxThreads);
+    }
+    this.maxThreads = maxThreads;
+    this.loadTableDetailsLazily = loadTableDetailsLazily;
+    this.retrieveTableChangeMarkers = retrieveTableChangeMarkers;
+  }
+
+  /**
+   * Gets the maximum number of threads, each with its own connection, that are used to retrieve
+   * table details in parallel. This only applies when SchemaCrawler is provided with a source of
+   * connections.
+   *
+   * @return Maximum number of threads used to crawl.
+   */
+  public int getMaxThreads() {
+    return maxThreads;
   }
 
   /**
@@ -48,6 +73,29 @@ public final class LoadOptions implements Options {
     return schemaInfoLevel;
   }
 
+  /**
+   * Whether table details, such as columns, primary keys, foreign keys and indexes, are loaded the
+   * first time they are accessed, instead of when the database is crawled. This only applies when
+   * SchemaCrawler is provided with a source of connections, which needs to remain available for as
+   * long as the catalog is used.
+   *
+   * @return Whether table details are loaded lazily.
+   */
+  public boolean isLoadTableDetailsLazily() {
+    return loadTableDetailsLazily;
+  }
+
+  /**
+   * Whether change markers, such as the time of the last DDL change to a table, are retrieved for
+   * tables, so that the catalog can be used as the previous catalog for an incremental crawl.
+   * Change markers are always retrieved for an incremental crawl.
+   *
+   * @return Whether table change markers are retrieved.
+   */
+  public boolean isRetrieveTableChangeMarkers() {
+    return retrieveTableChangeMarkers;
+  }
+
   /** {@inheritDoc} */
   @Override
   public String toString() {
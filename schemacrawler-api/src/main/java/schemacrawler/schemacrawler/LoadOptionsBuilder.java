@@ -39,10 +39,16 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
   }
 
   private SchemaInfoLevel schemaInfoLevel;
+  private int maxThreads;
+  private boolean loadTableDetailsLazily;
+  private boolean retrieveTableChangeMarkers;
 
   /** Default options. */
   private LoadOptionsBuilder() {
     schemaInfoLevel = SchemaInfoLevelBuilder.standard();
+    maxThreads = 1;
+    loadTableDetailsLazily = false;
+    retrieveTableChangeMarkers = false;
   }
 
   @Override
@@ -52,13 +58,17 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
     }
 
     schemaInfoLevel = options.getSchemaInfoLevel();
+    maxThreads = options.getMaxThreads();
+    loadTableDetailsLazily = options.isLoadTableDetailsLazily();
+    retrieveTableChangeMarkers = options.isRetrieveTableChangeMarkers();
 
     return this;
   }
 
   @Override
   public LoadOptions toOptions() {
-    return new LoadOptions(schemaInfoLevel);
+    return new LoadOptions(
+        schemaInfoLevel, maxThreads, loadTableDetailsLazily, retrieveTableChangeMarkers);
   }
 
   public LoadOptionsBuilder withInfoLevel(final InfoLevel infoLevel) {
@@ -68,6 +78,22 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
     return this;
   }
 
+  public LoadOptionsBuilder withLoadTableDetailsLazily(final boolean loadTableDetailsLazily) {
+    this.loadTableDetailsLazily = loadTableDetailsLazily;
+    return this;
+  }
+
+  public LoadOptionsBuilder withMaxThreads(final int maxThreads) {
+    this.maxThreads = Math.max(maxThreads, 1);
+    return this;
+  }
+
+  public LoadOptionsBuilder withRetrieveTableChangeMarkers(
+      final boolean retrieveTableChangeMarkers) {
+    this.retrieveTableChangeMarkers = retrieveTableChangeMarkers;
+    return this;
+  }
+
   public LoadOptionsBuilder withSchemaInfoLevel(final SchemaInfoLevel schemaInfoLevel) {
     if (schemaInfoLevel != null) {
       this.schemaInfoLevel = schemaInfoLevel;
@@ -33,7 +33,15 @@ public enum MetadataRetrievalStrategy {
   // use JDBC metadata calls to retrieve information one database object at a time;
   // each JDBC driver decides how to honor these requests
   metadata,
+  // use JDBC metadata calls to retrieve information for all tables in a schema together,
+  // for table columns, primary keys, foreign keys and indexes; falls back to metadata
+  // for a schema if the JDBC driver does not support it, or returns no table columns for it
+  metadata_bulk,
   // use the INFORMATION_SCHEMA or database-specific data dictionary queries to
   // retrieve information for all database objects together
-  data_dictionary_all
+  data_dictionary_all,
+  // choose between metadata, metadata_bulk and data_dictionary_all for table columns,
+  // primary keys, foreign keys and indexes, based on the number of tables that are crawled;
+  // otherwise the same as metadata
+  adaptive
 }
@@ -27,12 +27,15 @@ http://www.gnu.org/licenses/
 */
 package schemacrawler.schemacrawler;
 
+import static us.fatehi.utility.TemplatingUtility.compileTemplate;
 import static us.fatehi.utility.TemplatingUtility.extractTemplateVariables;
 import static us.fatehi.utility.Utility.requireNotBlank;
 
 import java.io.Serializable;
 import java.util.Set;
 
+import us.fatehi.utility.CompiledTemplate;
+
 /**
  * A SQL query. May be parameterized with ant-like variable references.
  *
@@ -44,6 +47,7 @@ public final class Query implements Serializable {
 
   private final String name;
   private final String query;
+  private transient volatile CompiledTemplate compiledQuery;
 
   /**
    * Definition of a query, including a name, and parameterized or regular SQL.
@@ -56,6 +60,21 @@ public final class Query implements Serializable {
     this.query = requireNotBlank(query, "No query SQL provided");
   }
 
+  /**
+   * Gets the query SQL, parsed as a template. The template is parsed the first time it is needed,
+   * and reused after that.
+   *
+   * @return Query SQL template
+   */
+  public CompiledTemplate getCompiledQuery() {
+    CompiledTemplate compiledQuery = this.compiledQuery;
+    if (compiledQuery == null) {
+      compiledQuery = compileTemplate(query);
+      this.compiledQuery = compiledQuery;
+    }
+    return compiledQuery;
+  }
+
   /**
    * Gets the query name.
    *
@@ -28,7 +28,6 @@ http://www.gnu.org/licenses/
 package schemacrawler.schemacrawler;
 
 import static java.util.Objects.requireNonNull;
-import static us.fatehi.utility.TemplatingUtility.expandTemplate;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.database.DatabaseUtility.executeSql;
 import static us.fatehi.utility.database.DatabaseUtility.executeSqlForLong;
@@ -38,6 +37,8 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +52,7 @@ import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
 import schemacrawler.utility.MetaDataUtility;
 import schemacrawler.utility.NamedObjectSort;
+import us.fatehi.utility.CompiledTemplate;
 import us.fatehi.utility.UtilityMarker;
 import us.fatehi.utility.string.StringFormat;
 
@@ -96,6 +98,29 @@ public final class QueryUtility {
     return executeSqlForLong(connection, sql);
   }
 
+  /**
+   * Executes a query for a table, using a statement that can be reused for other tables. The
+   * statement is not closed.
+   *
+   * @param query Query, which can use table variables
+   * @param statement Statement to execute the query with
+   * @param table Table to execute the query for
+   * @param identifiers Identifiers used to quote the table name
+   * @return Value returned by the query
+   * @throws SQLException On an exception
+   */
+  public static long executeForLong(
+      final Query query,
+      final Statement statement,
+      final Table table,
+      final Identifiers identifiers)
+      throws SQLException {
+    requireNonNull(query, "No query provided");
+    final String sql = getQuery(query, table, true, identifiers);
+    LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.getName(), sql));
+    return executeSqlForLong(statement, sql);
+  }
+
   public static Object executeForScalar(final Query query, final Connection connection)
       throws SQLException {
     requireNonNull(query, "No query provided");
@@ -116,8 +141,31 @@ public final class QueryUtility {
     return executeSqlForScalar(connection, sql);
   }
 
+  /**
+   * Executes a query for a table, using a statement that can be reused for other tables. The
+   * statement is not closed.
+   *
+   * @param query Query, which can use table variables
+   * @param statement Statement to execute the query with
+   * @param table Table to execute the query for
+   * @param identifiers Identifiers used to quote the table name
+   * @return Value returned by the query
+   * @throws SQLException On an exception
+   */
+  public static Object executeForScalar(
+      final Query query,
+      final Statement statement,
+      final Table table,
+      final Identifiers identifiers)
+      throws SQLException {
+    requireNonNull(query, "No query provided");
+    final String sql = getQuery(query, table, true, identifiers);
+    LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.getName(), sql));
+    return executeSqlForScalar(statement, sql);
+  }
+
   private static String getQuery(final Query query) {
-    return expandTemplate(query.getQuery());
+    return query.getCompiledQuery().expandWithSystemProperties(Collections.emptyMap());
   }
 
   /**
@@ -141,11 +189,7 @@ public final class QueryUtility {
       }
     }
 
-    String sql = query.getQuery();
-    sql = expandTemplate(sql, properties);
-    sql = expandTemplate(sql);
-
-    return sql;
+    return query.getCompiledQuery().expandWithSystemProperties(properties);
   }
 
   private static String getQuery(
@@ -153,13 +197,9 @@ public final class QueryUtility {
       final Table table,
       final boolean isAlphabeticalSortForTableColumns,
       final Identifiers identifiers) {
+    final CompiledTemplate template = query.getCompiledQuery();
     final Map<String, String> tableProperties = new HashMap<>();
     if (table != null) {
-      final NamedObjectSort columnsSort =
-          NamedObjectSort.getNamedObjectSort(isAlphabeticalSortForTableColumns);
-      final List<Column> columns = table.getColumns();
-      columns.sort(columnsSort);
-
       final Schema schema = table.getSchema();
       if (schema != null) {
         final String schemaName = identifiers.quoteFullName(schema);
@@ -167,17 +207,22 @@ public final class QueryUtility {
       }
       tableProperties.put("table", identifiers.quoteFullName(table));
       tableProperties.put("tablename", table.getName());
-      tableProperties.put("columns", MetaDataUtility.joinColumns(columns, false, identifiers));
-      tableProperties.put(
-          "orderbycolumns", MetaDataUtility.joinColumns(columns, true, identifiers));
       tableProperties.put("tabletype", table.getTableType().toString());
-    }
 
-    String sql = query.getQuery();
-    sql = expandTemplate(sql, tableProperties);
-    sql = expandTemplate(sql);
+      // Only sort and list the columns if the query needs them
+      if (template.hasVariable("columns") || template.hasVariable("orderbycolumns")) {
+        final NamedObjectSort columnsSort =
+            NamedObjectSort.getNamedObjectSort(isAlphabeticalSortForTableColumns);
+        final List<Column> columns = new ArrayList<>(table.getColumns());
+        columns.sort(columnsSort);
+
+        tableProperties.put("columns", MetaDataUtility.joinColumns(columns, false, identifiers));
+        tableProperties.put(
+            "orderbycolumns", MetaDataUtility.joinColumns(columns, true, identifiers));
+      }
+    }
 
-    return sql;
+    return template.expandWithSystemProperties(tableProperties);
   }
 
   private QueryUtility() {
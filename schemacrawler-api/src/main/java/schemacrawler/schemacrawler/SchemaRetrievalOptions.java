@@ -56,6 +56,9 @@ public final class SchemaRetrievalOptions implements Options {
   private final EnumDataTypeHelper enumDataTypeHelper;
   EnumMap<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy>
       metadataRetrievalStrategyMap;
+  private final int fetchSize;
+  private final EnumMap<InformationSchemaKey, Integer> fetchSizeMap;
+  private final int queryTimeout;
 
   protected SchemaRetrievalOptions(final SchemaRetrievalOptionsBuilder builder) {
     final SchemaRetrievalOptionsBuilder bldr =
@@ -70,6 +73,10 @@ public final class SchemaRetrievalOptions implements Options {
     typeMap = bldr.overridesTypeMap.orElse(new TypeMap());
     enumDataTypeHelper = bldr.enumDataTypeHelper;
     metadataRetrievalStrategyMap = new EnumMap<>(bldr.metadataRetrievalStrategyMap);
+    fetchSize = bldr.fetchSize;
+    fetchSizeMap = new EnumMap<>(InformationSchemaKey.class);
+    fetchSizeMap.putAll(bldr.fetchSizeMap);
+    queryTimeout = bldr.queryTimeout;
   }
 
   public MetadataRetrievalStrategy get(
@@ -94,6 +101,27 @@ public final class SchemaRetrievalOptions implements Options {
     return identifierQuoteString;
   }
 
+  /**
+   * Gets the number of rows fetched from the database in each round trip.
+   *
+   * @return Fetch size, or 0 to use the driver default
+   */
+  public int getFetchSize() {
+    return fetchSize;
+  }
+
+  /**
+   * Gets the number of rows fetched from the database in each round trip, for a given data
+   * dictionary query.
+   *
+   * @param key Data dictionary query key
+   * @return Fetch size, or 0 to use the driver default
+   */
+  public int getFetchSize(final InformationSchemaKey key) {
+    requireNonNull(key, "No SQL query key provided");
+    return fetchSizeMap.getOrDefault(key, fetchSize);
+  }
+
   public Identifiers getIdentifiers() {
     return identifiers;
   }
@@ -102,6 +130,15 @@ public final class SchemaRetrievalOptions implements Options {
     return informationSchemaViews;
   }
 
+  /**
+   * Gets the number of seconds to wait for data dictionary queries to complete.
+   *
+   * @return Query timeout in seconds, or 0 for no timeout
+   */
+  public int getQueryTimeout() {
+    return queryTimeout;
+  }
+
   public TypeMap getTypeMap() {
     return typeMap;
   }
@@ -128,6 +165,13 @@ public final class SchemaRetrievalOptions implements Options {
     return ObjectToString.toString(this);
   }
 
+  Map<InformationSchemaKey, Integer> getFetchSizeMap() {
+    final Map<InformationSchemaKey, Integer> fetchSizes =
+        new EnumMap<>(InformationSchemaKey.class);
+    fetchSizes.putAll(fetchSizeMap);
+    return fetchSizes;
+  }
+
   Map<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy>
       getMetadataRetrievalStrategyMap() {
     return new EnumMap<>(metadataRetrievalStrategyMap);
@@ -45,6 +45,8 @@ import schemacrawler.utility.TypeMap;
 public final class SchemaRetrievalOptionsBuilder
     implements OptionsBuilder<SchemaRetrievalOptionsBuilder, SchemaRetrievalOptions> {
 
+  private static final int DEFAULT_FETCH_SIZE = 20;
+
   public static SchemaRetrievalOptionsBuilder builder() {
     return new SchemaRetrievalOptionsBuilder();
   }
@@ -68,6 +70,9 @@ public final class SchemaRetrievalOptionsBuilder
   boolean supportsSchemas;
   EnumDataTypeHelper enumDataTypeHelper;
   Map<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy> metadataRetrievalStrategyMap;
+  int fetchSize;
+  Map<InformationSchemaKey, Integer> fetchSizeMap;
+  int queryTimeout;
 
   private SchemaRetrievalOptionsBuilder() {
     dbServerType = DatabaseServerType.UNKNOWN;
@@ -86,6 +91,10 @@ public final class SchemaRetrievalOptionsBuilder
         SchemaInfoMetadataRetrievalStrategy.values()) {
       metadataRetrievalStrategyMap.put(key, metadata);
     }
+
+    fetchSize = DEFAULT_FETCH_SIZE;
+    fetchSizeMap = new EnumMap<>(InformationSchemaKey.class);
+    queryTimeout = 0;
   }
 
   public SchemaRetrievalOptionsBuilder fromConnnection(final Connection connection) {
@@ -134,6 +143,9 @@ public final class SchemaRetrievalOptionsBuilder
     identifiers = options.getIdentifiers();
     overridesTypeMap = Optional.empty();
     metadataRetrievalStrategyMap = options.getMetadataRetrievalStrategyMap();
+    fetchSize = options.getFetchSize();
+    fetchSizeMap = options.getFetchSizeMap();
+    queryTimeout = options.getQueryTimeout();
 
     return this;
   }
@@ -224,6 +236,34 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the number of rows fetched from the database in each round trip, for database metadata
+   * calls and data dictionary queries. Larger fetch sizes reduce the number of round trips for
+   * large data dictionary queries, at the cost of more memory per round trip. Drivers may treat the
+   * fetch size as a hint.
+   *
+   * @param fetchSize Number of rows to fetch in each round trip, or 0 to use the driver default
+   */
+  public SchemaRetrievalOptionsBuilder withFetchSize(final int fetchSize) {
+    this.fetchSize = Math.max(fetchSize, 0);
+    return this;
+  }
+
+  /**
+   * Sets the number of rows fetched from the database in each round trip, for a given data
+   * dictionary query. The value overrides the global fetch size for this query only.
+   *
+   * @param key Data dictionary query key
+   * @param fetchSize Number of rows to fetch in each round trip, or 0 to use the driver default
+   */
+  public SchemaRetrievalOptionsBuilder withFetchSize(
+      final InformationSchemaKey key, final int fetchSize) {
+    if (key != null) {
+      fetchSizeMap.put(key, Math.max(fetchSize, 0));
+    }
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withInformationSchemaViews(
       final InformationSchemaViews informationSchemaViews) {
     this.informationSchemaViews =
@@ -246,6 +286,16 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the number of seconds to wait for data dictionary queries to complete.
+   *
+   * @param queryTimeout Query timeout in seconds, or 0 for no timeout
+   */
+  public SchemaRetrievalOptionsBuilder withQueryTimeout(final int queryTimeout) {
+    this.queryTimeout = Math.max(queryTimeout, 0);
+    return this;
+  }
+
   /**
    * Overrides the JDBC driver provided information about whether the database supports catalogs.
    */
@@ -34,7 +34,9 @@ import static schemacrawler.schemacrawler.Identifiers.identifiers;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnReference;
@@ -77,6 +79,9 @@ public final class MetaDataUtility {
     }
   }
 
+  /** Table attribute that marks tables whose details were released during the crawl. */
+  public static final String DETAILS_RELEASED = "schemacrawler.details_released";
+
   public static Collection<List<String>> allIndexCoumnNames(final Table table) {
     return indexCoumnNames(table, false);
   }
@@ -228,6 +233,21 @@ public final class MetaDataUtility {
     return uniqueIndexCoumnNames.contains(foreignKeyColumnNames);
   }
 
+  /**
+   * Checks whether the details of a table, such as columns, keys and indexes, were released during
+   * the crawl, after the table was provided to a crawl listener. Released tables only have their
+   * names, and should not be analyzed for their details.
+   *
+   * @param table Table to check
+   * @return Whether the table details were released
+   */
+  public static boolean isTableDetailsReleased(final Table table) {
+    if (table == null) {
+      return false;
+    }
+    return table.getAttribute(DETAILS_RELEASED, false);
+  }
+
   public static String joinColumns(
       final List<? extends Column> columns,
       final boolean omitLargeObjectColumns,
@@ -253,6 +273,45 @@ public final class MetaDataUtility {
     return String.join(", ", columnsList);
   }
 
+  /**
+   * Expands a set of tables with the tables related to them, to the given depth, in a breadth-first
+   * manner. Each table is visited at most once, and partial tables are not included.
+   *
+   * @param tables Tables to start from, which are always included in the result
+   * @param tableRelationshipType Parent or child tables
+   * @param depth Number of levels of related tables to include
+   * @return Tables, along with their related tables
+   */
+  public static Set<Table> relatedTables(
+      final Collection<? extends Table> tables,
+      final TableRelationshipType tableRelationshipType,
+      final int depth) {
+    requireNonNull(tables, "No tables provided");
+
+    final Set<Table> includedTables = new HashSet<>(tables);
+    if (tableRelationshipType == null || tableRelationshipType == TableRelationshipType.none) {
+      return includedTables;
+    }
+
+    Collection<Table> currentLevel = new ArrayList<>(includedTables);
+    for (int i = 0; i < depth && !currentLevel.isEmpty(); i++) {
+      final Collection<Table> nextLevel = new ArrayList<>();
+      for (final Table table : currentLevel) {
+        for (final Table relatedTable : table.getRelatedTables(tableRelationshipType)) {
+          if (relatedTable instanceof PartialDatabaseObject) {
+            continue;
+          }
+          if (includedTables.add(relatedTable)) {
+            nextLevel.add(relatedTable);
+          }
+        }
+      }
+      currentLevel = nextLevel;
+    }
+
+    return includedTables;
+  }
+
   public static Collection<List<String>> uniqueIndexCoumnNames(final Table table) {
     return indexCoumnNames(table, true);
   }
@@ -0,0 +1,161 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static schemacrawler.crawl.AdaptiveRetrievalStrategyChooser.chooseRetrievalStrategy;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.adaptive;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata_bulk;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+
+import java.sql.Connection;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class AdaptiveRetrievalStrategyChooserTest {
+
+  private static SchemaRetrievalOptions adaptiveSchemaRetrievalOptions() {
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder()
+            .withSql(
+                InformationSchemaKey.PRIMARY_KEYS,
+                "SELECT * FROM INFORMATION_SCHEMA.SYSTEM_PRIMARYKEYS")
+            .toOptions();
+    return SchemaRetrievalOptionsBuilder.builder()
+        .with(primaryKeysRetrievalStrategy, adaptive)
+        .with(indexesRetrievalStrategy, adaptive)
+        .withInformationSchemaViews(informationSchemaViews)
+        .toOptions();
+  }
+
+  private static SchemaCrawlerOptions minimumSchemaCrawlerOptions() {
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.minimum());
+    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+        .withLoadOptions(loadOptionsBuilder.toOptions());
+  }
+
+  @Test
+  public void adaptiveCrawl(final Connection connection) throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+    final Catalog catalog =
+        getCatalog(connection, adaptiveSchemaRetrievalOptions(), schemaCrawlerOptions);
+
+    // The test database has fewer tables than the threshold
+    final Map<String, String> adaptiveRetrievalStrategies =
+        catalog.getCrawlInfo().getAdaptiveRetrievalStrategies();
+    assertThat(adaptiveRetrievalStrategies.size(), is(2));
+    assertThat(
+        adaptiveRetrievalStrategies,
+        hasEntry(primaryKeysRetrievalStrategy.name(), metadata.name()));
+    assertThat(
+        adaptiveRetrievalStrategies, hasEntry(indexesRetrievalStrategy.name(), metadata.name()));
+
+    final Schema schema = catalog.lookupSchema("PUBLIC.BOOKS").get();
+    final Table table = catalog.lookupTable(schema, "BOOKS").get();
+    assertThat(table.getPrimaryKey(), is(not(nullValue())));
+  }
+
+  @Test
+  public void chooseForManyTables(final Connection connection) throws Exception {
+    final MutableCatalog catalog =
+        (MutableCatalog) getCatalog(connection, minimumSchemaCrawlerOptions());
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(connection, adaptiveSchemaRetrievalOptions());
+
+    new AdaptiveRetrievalStrategyChooser(retrieverConnection, catalog, 0)
+        .chooseRetrievalStrategies(catalog.getAllTables());
+
+    assertThat(retrieverConnection.get(primaryKeysRetrievalStrategy), is(data_dictionary_all));
+    assertThat(retrieverConnection.get(indexesRetrievalStrategy), is(metadata_bulk));
+    assertThat(retrieverConnection.get(foreignKeysRetrievalStrategy), is(metadata));
+
+    final Map<String, String> adaptiveRetrievalStrategies =
+        catalog.getCrawlInfo().getAdaptiveRetrievalStrategies();
+    assertThat(adaptiveRetrievalStrategies.size(), is(2));
+    assertThat(
+        adaptiveRetrievalStrategies,
+        hasEntry(primaryKeysRetrievalStrategy.name(), data_dictionary_all.name()));
+    assertThat(
+        adaptiveRetrievalStrategies,
+        hasEntry(indexesRetrievalStrategy.name(), metadata_bulk.name()));
+
+    // Choices are shared with retriever connections created from this one
+    final RetrieverConnection sharedRetrieverConnection =
+        new RetrieverConnection(connection, retrieverConnection);
+    assertThat(
+        sharedRetrieverConnection.get(primaryKeysRetrievalStrategy), is(data_dictionary_all));
+  }
+
+  @Test
+  public void chooseRetrievalStrategies() {
+    assertThat(chooseRetrievalStrategy(1, 1, 50, true), is(metadata));
+    assertThat(chooseRetrievalStrategy(50, 1, 50, true), is(metadata));
+    assertThat(chooseRetrievalStrategy(51, 1, 50, true), is(data_dictionary_all));
+    assertThat(chooseRetrievalStrategy(51, 1, 50, false), is(metadata_bulk));
+    assertThat(chooseRetrievalStrategy(51, 51, 50, false), is(metadata));
+  }
+
+  @Test
+  public void unchosenAdaptiveRetrievalStrategy(final Connection connection) throws Exception {
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(connection, adaptiveSchemaRetrievalOptions());
+    assertThat(retrieverConnection.isAdaptive(primaryKeysRetrievalStrategy), is(true));
+    assertThat(retrieverConnection.isAdaptive(foreignKeysRetrievalStrategy), is(false));
+    assertThat(retrieverConnection.get(primaryKeysRetrievalStrategy), is(metadata));
+  }
+}
@@ -0,0 +1,179 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaReference;
+
+public class CatalogDeltaTest {
+
+  @Test
+  public void changedTable() throws Exception {
+    final MutableCatalog baseCatalog = newCatalog();
+    final MutableCatalog catalog = newCatalog();
+    final MutableTable orders = catalog.lookupTable(SCHEMA, "ORDERS").get();
+    orders.addColumn(new MutableColumn(orders, "SHIPPED_DATE"));
+
+    final Table customers = baseCatalog.lookupTable(SCHEMA, "CUSTOMERS").get();
+
+    final MutableCatalog appliedCatalog = applyDelta(baseCatalog, "base", catalog);
+
+    assertThat(appliedCatalog.getTables().size(), is(3));
+    assertThat(appliedCatalog.lookupTable(SCHEMA, "CUSTOMERS").get(), is(sameInstance(customers)));
+    final Table appliedOrders = appliedCatalog.lookupTable(SCHEMA, "ORDERS").get();
+    assertThat(appliedOrders.getColumns().size(), is(3));
+    assertThat(appliedOrders.lookupColumn("SHIPPED_DATE").isPresent(), is(true));
+
+    // Unchanged table is carried over, and linked to the changed table
+    assertThat(customers.getForeignKeys().size(), is(1));
+    final ForeignKey foreignKey = customers.getForeignKeys().iterator().next();
+    assertThat(foreignKey.getForeignKeyTable(), is(sameInstance(appliedOrders)));
+    assertThat(
+        foreignKey.getColumnReferences().get(0).getPrimaryKeyColumn().getParent(),
+        is(sameInstance(customers)));
+  }
+
+  @Test
+  public void deltaToFrozenCatalog() throws Exception {
+    final MutableCatalog catalog = newCatalog();
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    CatalogDelta.writeCatalogDelta(newCatalog(), "base", catalog, out);
+
+    final MutableCatalog frozenCatalog = newCatalog();
+    frozenCatalog.freeze();
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> CatalogDelta.readCatalogDelta(toInputStream(out), name -> frozenCatalog));
+  }
+
+  @Test
+  public void notCatalogDelta() throws Exception {
+    final InputStream in = toInputStream(new ByteArrayOutputStream());
+    assertThat(CatalogDelta.isCatalogDelta(in), is(false));
+    assertThrows(IOException.class, () -> CatalogDelta.readCatalogDelta(in, name -> null));
+  }
+
+  @Test
+  public void removedTable() throws Exception {
+    final MutableCatalog catalog = newCatalog();
+    catalog.getAllTables().remove(catalog.lookupTable(SCHEMA, "PRODUCTS").get());
+
+    final MutableCatalog appliedCatalog = applyDelta(newCatalog(), "base", catalog);
+
+    assertThat(appliedCatalog.getTables().size(), is(2));
+    assertThat(appliedCatalog.lookupTable(SCHEMA, "PRODUCTS").isPresent(), is(false));
+  }
+
+  @Test
+  public void unchangedCatalog() throws Exception {
+    final MutableCatalog baseCatalog = newCatalog();
+    final Table customers = baseCatalog.lookupTable(SCHEMA, "CUSTOMERS").get();
+    final Table orders = baseCatalog.lookupTable(SCHEMA, "ORDERS").get();
+
+    final MutableCatalog appliedCatalog = applyDelta(baseCatalog, "base", newCatalog());
+
+    assertThat(appliedCatalog, is(sameInstance(baseCatalog)));
+    assertThat(appliedCatalog.getTables().size(), is(3));
+    assertThat(appliedCatalog.lookupTable(SCHEMA, "CUSTOMERS").get(), is(sameInstance(customers)));
+    assertThat(appliedCatalog.lookupTable(SCHEMA, "ORDERS").get(), is(sameInstance(orders)));
+    assertThat(customers.getForeignKeys().size(), is(1));
+  }
+
+  private static final SchemaReference SCHEMA = new SchemaReference("CATALOG", "SCHEMA");
+
+  private MutableCatalog applyDelta(
+      final MutableCatalog baseCatalog, final String baseName, final MutableCatalog catalog)
+      throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    CatalogDelta.writeCatalogDelta(newCatalog(), baseName, catalog, out);
+
+    final Catalog appliedCatalog =
+        CatalogDelta.readCatalogDelta(
+            toInputStream(out),
+            name -> {
+              assertThat(name, is(baseName));
+              return baseCatalog;
+            });
+    assertThat(appliedCatalog, is(not(sameInstance(catalog))));
+    return (MutableCatalog) appliedCatalog;
+  }
+
+  private MutableCatalog newCatalog() {
+    final MutableCatalog catalog =
+        new MutableCatalog(
+            "catalog",
+            new ImmutableConnectionInfo(
+                "product", "1.0", "url", "user", "driver", "1.0", 1, 0, 4, 2));
+    catalog.addSchema(SCHEMA);
+
+    final MutableTable customers = new MutableTable(SCHEMA, "CUSTOMERS");
+    final MutableColumn customerId = new MutableColumn(customers, "ID");
+    customers.addColumn(customerId);
+    customers.addColumn(new MutableColumn(customers, "NAME"));
+
+    final MutableTable orders = new MutableTable(SCHEMA, "ORDERS");
+    final MutableColumn orderId = new MutableColumn(orders, "ID");
+    final MutableColumn orderCustomerId = new MutableColumn(orders, "CUSTOMER_ID");
+    orders.addColumn(orderId);
+    orders.addColumn(orderCustomerId);
+
+    final MutableForeignKey foreignKey = new MutableForeignKey("FK_ORDERS_CUSTOMERS");
+    foreignKey.addColumnReference(1, customerId, orderCustomerId);
+    customers.addForeignKey(foreignKey);
+    orders.addForeignKey(foreignKey);
+
+    final MutableTable products = new MutableTable(SCHEMA, "PRODUCTS");
+    products.addColumn(new MutableColumn(products, "ID"));
+
+    catalog.addTable(customers);
+    catalog.addTable(orders);
+    catalog.addTable(products);
+    return catalog;
+  }
+
+  private InputStream toInputStream(final ByteArrayOutputStream out) {
+    return new BufferedInputStream(new ByteArrayInputStream(out.toByteArray()));
+  }
+}
@@ -0,0 +1,179 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveRoutines;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveTableColumns;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveTables;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+import static schemacrawler.utility.MetaDataUtility.isTableDetailsReleased;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoRetrieval;
+import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class CrawlListenerTest {
+
+  private static class CollectingCrawlListener implements CrawlListener {
+
+    private final boolean releaseTableDetails;
+    private final List<SchemaInfoRetrieval> phases =
+        Collections.synchronizedList(new ArrayList<>());
+    private final List<Routine> routines = Collections.synchronizedList(new ArrayList<>());
+    private final List<Table> tables = Collections.synchronizedList(new ArrayList<>());
+    private int columnCount;
+
+    CollectingCrawlListener(final boolean releaseTableDetails) {
+      this.releaseTableDetails = releaseTableDetails;
+    }
+
+    @Override
+    public boolean isReleaseTableDetails() {
+      return releaseTableDetails;
+    }
+
+    @Override
+    public void onPhaseComplete(final SchemaInfoRetrieval retrieval) {
+      phases.add(retrieval);
+    }
+
+    @Override
+    public void onRoutine(final Routine routine) {
+      routines.add(routine);
+    }
+
+    @Override
+    public synchronized void onTable(final Table table) {
+      tables.add(table);
+      columnCount = columnCount + table.getColumns().size();
+    }
+  }
+
+  @Test
+  public void crawlListener(final Connection connection) throws Exception {
+    final CollectingCrawlListener crawlListener = new CollectingCrawlListener(false);
+
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            connection,
+            schemaRetrievalOptionsDefault,
+            SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions());
+    schemaCrawler.setCrawlListener(crawlListener);
+    final Catalog catalog = schemaCrawler.crawl();
+
+    assertThat(crawlListener.tables, hasSize(catalog.getTables().size()));
+    assertThat(crawlListener.routines, hasSize(catalog.getRoutines().size()));
+    assertThat(
+        crawlListener.phases, hasItems(retrieveTables, retrieveTableColumns, retrieveRoutines));
+
+    final Table table = crawlListener.tables.get(0);
+    assertThat(table.getColumns(), is(not(empty())));
+  }
+
+  @Test
+  public void releaseTableDetails(final Connection connection) throws Exception {
+    final CollectingCrawlListener crawlListener = new CollectingCrawlListener(true);
+
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            connection,
+            schemaRetrievalOptionsDefault,
+            SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions());
+    schemaCrawler.setCrawlListener(crawlListener);
+    final Catalog catalog = schemaCrawler.crawl();
+
+    // Tables had their details when they were provided to the listener
+    assertThat(crawlListener.columnCount > 0, is(true));
+
+    // Tables in the catalog no longer have their details
+    assertThat(catalog.getTables(), hasSize(crawlListener.tables.size()));
+    for (final Table table : catalog.getTables()) {
+      assertThat(table.getColumns(), is(empty()));
+      assertThat(table.getForeignKeys(), is(empty()));
+      assertThat(table.getPrimaryKey(), is(nullValue()));
+      assertThat(isTableDetailsReleased(table), is(true));
+    }
+  }
+
+  @Test
+  public void crawlListenerWithLazyLoading(final DatabaseConnectionInfo connectionInfo)
+      throws Exception {
+    final CollectingCrawlListener crawlListener = new CollectingCrawlListener(false);
+
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLoadOptions(
+                LoadOptionsBuilder.builder().withLoadTableDetailsLazily(true).toOptions());
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            () -> {
+              try {
+                return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+              } catch (final SQLException e) {
+                throw new DatabaseAccessException(e);
+              }
+            },
+            schemaRetrievalOptionsDefault,
+            schemaCrawlerOptions);
+    schemaCrawler.setCrawlListener(crawlListener);
+    final Catalog catalog = schemaCrawler.crawl();
+
+    // Tables are provided, and their details are loaded when the listener accesses them
+    assertThat(crawlListener.tables, hasSize(catalog.getTables().size()));
+    assertThat(crawlListener.columnCount > 0, is(true));
+    for (final Table table : catalog.getTables()) {
+      assertThat(isTableDetailsReleased(table), is(false));
+    }
+  }
+}
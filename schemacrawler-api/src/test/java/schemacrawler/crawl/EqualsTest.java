@@ -112,7 +112,15 @@ public class EqualsTest {
 
   @Test
   public void namedObjectKey() {
-    EqualsVerifier.forClass(NamedObjectKey.class).withNonnullFields("key").verify();
+    EqualsVerifier.forClass(NamedObjectKey.class)
+        .withPrefabValues(
+            NamedObjectKey.class,
+            new NamedObjectKey("catalog", "schema"),
+            new NamedObjectKey("catalog", "other_schema"))
+        .withCachedHashCode(
+            "hash", "calculateHash", new NamedObjectKey("catalog", "schema", "table"))
+        .suppress(Warning.NONFINAL_FIELDS)
+        .verify();
   }
 
   @Test
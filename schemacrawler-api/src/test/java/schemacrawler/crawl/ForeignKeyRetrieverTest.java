@@ -35,6 +35,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata_bulk;
 import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
 import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
 import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
@@ -161,6 +162,25 @@ public class ForeignKeyRetrieverTest {
     verifyRetrieveForeignKeys(catalog);
   }
 
+  @Test
+  @DisplayName("Retrieve foreign keys for all tables in each schema")
+  public void fkFromMetadataForSchemas(final Connection connection) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .with(foreignKeysRetrievalStrategy, metadata_bulk)
+            .toOptions();
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(connection, schemaRetrievalOptions);
+
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+    final ForeignKeyRetriever foreignKeyRetriever =
+        new ForeignKeyRetriever(retrieverConnection, catalog, options);
+    foreignKeyRetriever.retrieveForeignKeys(catalog.getAllTables());
+
+    verifyRetrieveForeignKeys(catalog);
+  }
+
   @BeforeAll
   public void loadBaseCatalog(final Connection connection) {
     final LimitOptionsBuilder limitOptionsBuilder =
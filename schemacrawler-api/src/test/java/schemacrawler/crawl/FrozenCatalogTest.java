@@ -0,0 +1,139 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+
+import java.sql.Connection;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class FrozenCatalogTest {
+
+  @Test
+  public void freezeCatalog(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(
+            connection,
+            schemaRetrievalOptionsDefault,
+            schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    assertThat(catalog.isFrozen(), is(false));
+
+    final Collection<Table> mutableTables = catalog.getTables();
+    mutableTables.clear();
+    assertThat(catalog.getTables(), is(not(empty())));
+
+    assertThat(catalog.freeze(), is(sameInstance(catalog)));
+    assertThat(catalog.isFrozen(), is(true));
+    // Freezing again has no effect
+    assertThat(catalog.freeze().isFrozen(), is(true));
+
+    final Collection<Table> tables = catalog.getTables();
+    assertThat(tables, is(not(empty())));
+    assertThat(catalog.getTables(), is(sameInstance(tables)));
+    assertThrows(UnsupportedOperationException.class, () -> tables.clear());
+
+    for (final Schema schema : catalog.getSchemas()) {
+      final Collection<Table> schemaTables = catalog.getTables(schema);
+      assertThat(catalog.getTables(schema), is(sameInstance(schemaTables)));
+      assertThrows(UnsupportedOperationException.class, () -> schemaTables.clear());
+    }
+
+    for (final Table table : tables) {
+      final List<Column> columns = table.getColumns();
+      assertThat(table.getColumns(), is(sameInstance(columns)));
+      assertThrows(UnsupportedOperationException.class, () -> columns.clear());
+    }
+    assertThrows(UnsupportedOperationException.class, () -> catalog.getRoutines().clear());
+  }
+
+  @Test
+  public void incrementalCrawlFromFrozenCatalog(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(
+            connection,
+            schemaRetrievalOptionsDefault,
+            schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    catalog.freeze();
+
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            connection,
+            schemaRetrievalOptionsDefault,
+            schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    assertThrows(IllegalArgumentException.class, () -> schemaCrawler.crawl(catalog));
+    // The frozen catalog is left as it was
+    assertThat(catalog.getTables(), is(not(empty())));
+  }
+
+  @Test
+  public void freezeTable() {
+    final Schema schema = new SchemaReference(null, "SCHEMA");
+    final MutableTable table = new MutableTable(schema, "TABLE");
+    table.addColumn(new MutableColumn(table, "COLUMN1"));
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    tables.add(table);
+    assertThat(tables.isFrozen(), is(false));
+
+    table.freeze();
+    tables.freeze();
+
+    assertThat(tables.isFrozen(), is(true));
+    assertThat(tables.size(), is(1));
+    assertThat(table.getColumns().size(), is(1));
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> table.addColumn(new MutableColumn(table, "COLUMN2")));
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> tables.add(new MutableTable(schema, "OTHER_TABLE")));
+    assertThrows(UnsupportedOperationException.class, () -> tables.clear());
+    assertThat(tables.lookup(schema, "TABLE").get(), is(sameInstance(table)));
+    assertThat(table.getColumns().size(), is(1));
+  }
+}
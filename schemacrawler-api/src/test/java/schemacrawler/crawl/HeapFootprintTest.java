@@ -0,0 +1,104 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.TableType;
+import schemacrawler.schemacrawler.SchemaReference;
+
+/**
+ * Records the heap used by tables and columns in a catalog. The measurement is approximate, since
+ * it depends on garbage collection, so only generous upper bounds are checked, to catch large
+ * regressions.
+ */
+public class HeapFootprintTest {
+
+  private static final Logger LOGGER = Logger.getLogger(HeapFootprintTest.class.getName());
+
+  private static final int NUMBER_OF_TABLES = 10_000;
+  private static final int COLUMNS_PER_TABLE = 10;
+
+  private static long usedMemory() {
+    final Runtime runtime = Runtime.getRuntime();
+    long usedMemory = Long.MAX_VALUE;
+    for (int i = 0; i < 5; i++) {
+      System.gc();
+      usedMemory = Math.min(usedMemory, runtime.totalMemory() - runtime.freeMemory());
+    }
+    return usedMemory;
+  }
+
+  @Test
+  public void heapFootprint() {
+    final Schema schema = new SchemaReference("CATALOG", "SCHEMA");
+    final TableType tableType = new TableType("TABLE");
+
+    final long start = usedMemory();
+
+    final List<MutableTable> tables = new ArrayList<>(NUMBER_OF_TABLES);
+    for (int i = 0; i < NUMBER_OF_TABLES; i++) {
+      final MutableTable table = new MutableTable(schema, "TABLE_" + i);
+      table.setTableType(tableType);
+      tables.add(table);
+    }
+    final long afterTables = usedMemory();
+
+    for (final MutableTable table : tables) {
+      for (int j = 0; j < COLUMNS_PER_TABLE; j++) {
+        final MutableColumn column = new MutableColumn(table, "COLUMN_" + j);
+        column.setOrdinalPosition(j + 1);
+        table.addColumn(column);
+      }
+    }
+    final long afterColumns = usedMemory();
+
+    final long bytesPerTable = (afterTables - start) / NUMBER_OF_TABLES;
+    final long bytesPerColumn =
+        (afterColumns - afterTables) / ((long) NUMBER_OF_TABLES * COLUMNS_PER_TABLE);
+    LOGGER.log(
+        Level.INFO,
+        String.format(
+            "Heap footprint is %d bytes per table, and %d bytes per column",
+            bytesPerTable, bytesPerColumn));
+
+    assertThat(tables.size(), is(NUMBER_OF_TABLES));
+    assertThat(bytesPerTable, is(lessThan(2048L)));
+    assertThat(bytesPerColumn, is(lessThan(1024L)));
+  }
+}
@@ -33,7 +33,15 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata_bulk;
 import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
 import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
 import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
@@ -43,6 +51,7 @@ import static schemacrawler.test.utility.FileHasContent.outputOf;
 
 import java.io.IOException;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.util.Arrays;
 import java.util.Collection;
 
@@ -130,6 +139,31 @@ public class IndexRetrieverTest {
     verifyRetrieveIndexes(catalog);
   }
 
+  @Test
+  @DisplayName("Retrieve indexes for all tables in each schema")
+  public void indexesFromMetadataForSchemas(final Connection connection) throws Exception {
+    final DatabaseMetaData metaData = spy(connection.getMetaData());
+    final Connection spyConnection = spy(connection);
+    doReturn(metaData).when(spyConnection).getMetaData();
+
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .with(indexesRetrievalStrategy, metadata_bulk)
+            .toOptions();
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(spyConnection, schemaRetrievalOptions);
+
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+    final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection, catalog, options);
+    indexRetriever.retrieveIndexes(catalog.getAllTables());
+
+    // Schemas without indexes are not retrieved again one table at a time
+    verify(metaData, never()).getIndexInfo(any(), any(), notNull(), anyBoolean(), anyBoolean());
+
+    verifyRetrieveIndexes(catalog);
+  }
+
   @BeforeAll
   public void loadBaseCatalog(final Connection connection) {
     final LimitOptionsBuilder limitOptionsBuilder =
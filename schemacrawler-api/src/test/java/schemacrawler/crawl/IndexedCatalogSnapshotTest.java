@@ -0,0 +1,173 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaReference;
+import us.fatehi.utility.IOUtility;
+
+public class IndexedCatalogSnapshotTest {
+
+  @Test
+  public void compressedSnapshot() throws Exception {
+    final MutableCatalog catalog = readSnapshot(newCatalog(), -1);
+
+    final Table orders = catalog.lookupTable(SCHEMA, "ORDERS").get();
+    assertThat(orders.getColumns().size(), is(2));
+    assertThat(orders.getForeignKeys().size(), is(1));
+  }
+
+  @Test
+  public void filteredTablesAreNotLoaded() throws Exception {
+    final MutableCatalog catalog = readSnapshot(newCatalog(), null);
+    final MutableTable products = catalog.lookupTable(SCHEMA, "PRODUCTS").get();
+
+    catalog.reduce(
+        Table.class, tables -> tables.filter(table -> !table.getName().equals("PRODUCTS")));
+
+    assertThat(catalog.getTables().size(), is(2));
+    for (final Table table : catalog.getTables()) {
+      assertThat(table.getForeignKeys().size(), is(1));
+    }
+    assertThat(products.getAllColumns().isEmpty(), is(true));
+  }
+
+  @Test
+  public void notIndexedSnapshot() throws Exception {
+    final Path snapshotFile = IOUtility.createTempFilePath("snapshot", "ser");
+    Files.write(snapshotFile, new byte[] {0, 1, 2});
+
+    assertThat(IndexedCatalogSnapshot.isIndexedSnapshot(snapshotFile), is(false));
+    assertThrows(IOException.class, () -> IndexedCatalogSnapshot.readIndexedSnapshot(snapshotFile));
+  }
+
+  @Test
+  public void tableDetailsAreLoadedOnAccess() throws Exception {
+    final MutableCatalog catalog = readSnapshot(newCatalog(), null);
+
+    assertThat(catalog.getTables().size(), is(3));
+    assertThat(catalog.lookupTable(SCHEMA, "CUSTOMERS").get().getRemarks(), is("Customers"));
+    for (final MutableTable table : catalog.getAllTables()) {
+      assertThat(table.getAllColumns().isEmpty(), is(true));
+    }
+
+    // Columns of a table are loaded without loading other details
+    final MutableTable orders = catalog.lookupTable(SCHEMA, "ORDERS").get();
+    final MutableTable customers = catalog.lookupTable(SCHEMA, "CUSTOMERS").get();
+    final Column orderCustomerId = orders.lookupColumn("CUSTOMER_ID").get();
+    assertThat(orderCustomerId.getParent(), is(sameInstance(orders)));
+    assertThat(orders.getRetrievedPrimaryKey() == null, is(true));
+
+    // Referenced columns of other tables are loaded with the columns
+    final Column customerId = orderCustomerId.getReferencedColumn();
+    assertThat(customerId.getParent(), is(sameInstance(customers)));
+    assertThat(customers.lookupColumn("ID").get(), is(sameInstance(customerId)));
+    assertThat(
+        catalog.lookupTable(SCHEMA, "PRODUCTS").get().getAllColumns().isEmpty(), is(true));
+
+    // Foreign keys refer to the columns of each table
+    assertThat(orders.getPrimaryKey().getName(), is("PK_ORDERS"));
+    assertThat(orders.getDefinition(), is("CREATE TABLE ORDERS"));
+    final ForeignKey foreignKey = orders.getForeignKeys().iterator().next();
+    assertThat(
+        foreignKey.getColumnReferences().get(0).getForeignKeyColumn(),
+        is(sameInstance(orderCustomerId)));
+    assertThat(
+        foreignKey.getColumnReferences().get(0).getPrimaryKeyColumn(),
+        is(sameInstance(customerId)));
+    assertThat(customers.getForeignKeys().size(), is(1));
+    assertThat(customers.getForeignKeys().iterator().next(), is(foreignKey));
+  }
+
+  private static final SchemaReference SCHEMA = new SchemaReference("CATALOG", "SCHEMA");
+
+  private MutableCatalog newCatalog() {
+    final MutableCatalog catalog =
+        new MutableCatalog(
+            "catalog",
+            new ImmutableConnectionInfo(
+                "product", "1.0", "url", "user", "driver", "1.0", 1, 0, 4, 2));
+    catalog.addSchema(SCHEMA);
+
+    final MutableTable customers = new MutableTable(SCHEMA, "CUSTOMERS");
+    customers.setRemarks("Customers");
+    final MutableColumn customerId = new MutableColumn(customers, "ID");
+    customers.addColumn(customerId);
+    customers.addColumn(new MutableColumn(customers, "NAME"));
+
+    final MutableTable orders = new MutableTable(SCHEMA, "ORDERS");
+    final MutableColumn orderId = new MutableColumn(orders, "ID");
+    final MutableColumn orderCustomerId = new MutableColumn(orders, "CUSTOMER_ID");
+    orderCustomerId.setReferencedColumn(customerId);
+    orders.addColumn(orderId);
+    orders.addColumn(orderCustomerId);
+    orders.appendDefinition("CREATE TABLE ORDERS");
+    final MutablePrimaryKey primaryKey = MutablePrimaryKey.newPrimaryKey(orders, "PK_ORDERS");
+    primaryKey.addColumn(new MutableTableConstraintColumn(primaryKey, orderId));
+    orders.setPrimaryKey(primaryKey);
+
+    final MutableForeignKey foreignKey = new MutableForeignKey("FK_ORDERS_CUSTOMERS");
+    foreignKey.addColumnReference(1, customerId, orderCustomerId);
+    customers.addForeignKey(foreignKey);
+    orders.addForeignKey(foreignKey);
+
+    final MutableTable products = new MutableTable(SCHEMA, "PRODUCTS");
+    products.addColumn(new MutableColumn(products, "ID"));
+
+    catalog.addTable(customers);
+    catalog.addTable(orders);
+    catalog.addTable(products);
+    return catalog;
+  }
+
+  private MutableCatalog readSnapshot(final Catalog catalog, final Integer compressionLevel)
+      throws IOException {
+    final Path snapshotFile = IOUtility.createTempFilePath("snapshot", "ser");
+    try (final OutputStream out = Files.newOutputStream(snapshotFile)) {
+      IndexedCatalogSnapshot.writeIndexedSnapshot(catalog, out, compressionLevel);
+    }
+
+    assertThat(IndexedCatalogSnapshot.isIndexedSnapshot(snapshotFile), is(true));
+    return (MutableCatalog) IndexedCatalogSnapshot.readIndexedSnapshot(snapshotFile);
+  }
+}
@@ -33,6 +33,7 @@ import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.ByteArrayInputStream;
@@ -45,6 +46,7 @@ import java.sql.Statement;
 import java.time.DayOfWeek;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 
 import org.junit.jupiter.api.DisplayName;
@@ -148,6 +150,47 @@ public class MetadataResultSetTest {
     }
   }
 
+  @Test
+  @DisplayName("Retrieve values by column index, and unread values as attributes")
+  public void columnIndexValues(final Connection connection) throws Exception {
+
+    try (final Statement statement = connection.createStatement(); ) {
+      final String sql = "SELECT 'A' AS COLUMN1, 2 AS COLUMN2 FROM (VALUES(0), (1))";
+      try (final MetadataResultSet results =
+          new MetadataResultSet(DatabaseUtility.executeSql(statement, sql), "columnIndexValues")) {
+
+        final int column1Index = results.getColumnIndex("COLUMN1");
+        final int column2Index = results.getColumnIndex("column2");
+        assertThat(column1Index, is(1));
+        assertThat(column2Index, is(2));
+        assertThat(results.getColumnIndex("COLUMN3"), is(0));
+        assertThat(results.getColumnIndex(null), is(0));
+
+        int rowCount = 0;
+        while (results.next()) {
+          rowCount++;
+
+          assertThat(results.getString(0), is(nullValue()));
+          assertThat(results.getString(3), is(nullValue()));
+
+          final Map<String, Object> unreadAttributes = results.getAttributes();
+          assertThat(unreadAttributes.size(), is(2));
+
+          assertThat(results.getString(column1Index), is("A"));
+          final Map<String, Object> attributes = results.getAttributes();
+          assertThat(attributes.size(), is(1));
+          assertThat(attributes.get("COLUMN2"), is(2));
+
+          assertThat(results.getInt(column2Index, 0), is(2));
+          assertThat(results.getLong(column2Index, 0L), is(2L));
+          assertThat(results.getShort(column2Index, (short) 0), is((short) 2));
+          assertThat(results.getAttributes().isEmpty(), is(true));
+        }
+        assertThat(rowCount, is(2));
+      }
+    }
+  }
+
   @Test
   @DisplayName("Retrieve large object values from results")
   public void largeObjectValues(final Connection connection) throws Exception {
@@ -305,4 +348,41 @@ public class MetadataResultSetTest {
       }
     }
   }
+
+  @Test
+  @DisplayName("Canonicalize string values and attribute names through a pool of strings")
+  public void pooledValues(final Connection connection) throws Exception {
+
+    final StringPool stringPool = new StringPool();
+    try (final Statement statement = connection.createStatement(); ) {
+      final String sql = "SELECT 'A' AS COLUMN1, 'B' AS COLUMN2 FROM (VALUES(0), (1))";
+      try (final MetadataResultSet results =
+          new MetadataResultSet(DatabaseUtility.executeSql(statement, sql), "pooledValues")) {
+        results.setStringPool(stringPool);
+
+        String previousValue = null;
+        String previousAttributeName = null;
+        Object previousAttributeValue = null;
+        while (results.next()) {
+          final String value = results.getString("COLUMN1");
+          final Map<String, Object> attributes = results.getAttributes();
+          final String attributeName = attributes.keySet().iterator().next();
+          final Object attributeValue = attributes.get(attributeName);
+          assertThat(attributeName, is("COLUMN2"));
+          assertThat(attributeValue, is("B"));
+          if (previousValue != null) {
+            assertThat(value, is(sameInstance(previousValue)));
+            assertThat(attributeName, is(sameInstance(previousAttributeName)));
+            assertThat(attributeValue, is(sameInstance(previousAttributeValue)));
+          }
+          previousValue = value;
+          previousAttributeName = attributeName;
+          previousAttributeValue = attributeValue;
+        }
+      }
+    }
+
+    assertThat(stringPool.size(), is(3));
+    assertThat(stringPool.toString(), containsString("Pooled 3 distinct strings from 5 lookups"));
+  }
 }
@@ -28,10 +28,25 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.TableType;
@@ -41,6 +56,121 @@ public class NamedObjectTest {
 
   public static final TableType TABLE = new TableType("TABLE");
 
+  @Test
+  public void namedObjectKey() {
+    final NamedObjectKey tableKey = new NamedObjectKey(null, "SCHEMA", "TABLE");
+    final NamedObjectKey columnKey = tableKey.with("COLUMN");
+
+    assertThat(columnKey, is(new NamedObjectKey(null, "SCHEMA", "TABLE", "COLUMN")));
+    assertThat(
+        columnKey.hashCode(),
+        is(Arrays.hashCode(new String[] {null, "SCHEMA", "TABLE", "COLUMN"})));
+    assertThat(columnKey, is(not(tableKey)));
+    assertThat(columnKey, is(not(new NamedObjectKey("SCHEMA", "TABLE", "COLUMN"))));
+    assertThat(columnKey.toString(), is("{\"key\": \"null/SCHEMA/TABLE/COLUMN\"}"));
+
+    assertThat(new NamedObjectKey(), is(new NamedObjectKey((String[]) null)));
+    assertThat(new NamedObjectKey(), is(not(new NamedObjectKey((String) null))));
+    assertThat(new NamedObjectKey().with("TABLE"), is(new NamedObjectKey("TABLE")));
+    assertThat(new NamedObjectKey().toString(), is("{\"key\": \"\"}"));
+
+    final Schema schema = new SchemaReference(null, "SCHEMA");
+    final MutableTable table = new MutableTable(schema, "TABLE");
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    tables.add(table);
+    assertThat(tables.lookup(null, "SCHEMA", "TABLE").get(), is(sameInstance(table)));
+    assertThat(tables.lookup(schema, "TABLE").get(), is(sameInstance(table)));
+    assertThat(tables.lookup(null, "SCHEMA", "OTHER_TABLE").isPresent(), is(false));
+  }
+
+  @Test
+  public void namedObjectKeySerialization() throws Exception {
+    // Serialized form is an array of names, as it was in earlier versions
+    final ObjectStreamClass streamClass = ObjectStreamClass.lookup(NamedObjectKey.class);
+    assertThat(streamClass.getSerialVersionUID(), is(-5008609072012459037L));
+    assertThat(streamClass.getField("key"), is(notNullValue()));
+    assertThat(streamClass.getFields().length, is(1));
+
+    final NamedObjectKey columnKey = new NamedObjectKey(null, "SCHEMA", "TABLE").with("COLUMN");
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(columnKey);
+      out.writeObject(new NamedObjectKey());
+    }
+    try (final ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      final NamedObjectKey readColumnKey = (NamedObjectKey) in.readObject();
+      assertThat(readColumnKey, is(columnKey));
+      assertThat(readColumnKey.hashCode(), is(columnKey.hashCode()));
+      assertThat(readColumnKey.toString(), is("{\"key\": \"null/SCHEMA/TABLE/COLUMN\"}"));
+      assertThat(in.readObject(), is(new NamedObjectKey()));
+    }
+  }
+
+  @Test
+  public void schemaValues() {
+    final Schema schema1 = new SchemaReference("CATALOG", "SCHEMA1");
+    final Schema schema2 = new SchemaReference("CATALOG", "SCHEMA2");
+
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final MutableTable table1 = new MutableTable(schema1, "TABLE1");
+    final MutableTable table2 = new MutableTable(schema2, "TABLE2");
+    final MutableTable table3 = new MutableTable(schema1, "TABLE3");
+    for (final MutableTable table : new MutableTable[] {table3, table2, table1}) {
+      table.setTableType(TABLE);
+      tables.add(table);
+    }
+
+    assertThat(tables.values(new SchemaReference("CATALOG", "SCHEMA1")), contains(table1, table3));
+    assertThat(tables.values(schema2), contains(table2));
+    assertThat(tables.values(new SchemaReference("CATALOG", "SCHEMA3")), is(empty()));
+
+    // Schema values are kept consistent when the list is modified
+    tables.filter(table -> table != table1);
+    assertThat(tables.values(schema1), contains(table3));
+    tables.remove(table2);
+    assertThat(tables.values(schema2), is(empty()));
+    tables.add(table1);
+    assertThat(tables.values(schema1), contains(table1, table3));
+  }
+
+  @Test
+  public void sortedValues() {
+    final Schema schema = new SchemaReference("CATALOG", "PUBLIC");
+    final MutableTable table1 = new MutableTable(schema, "TABLE1");
+    final MutableTable table2 = new MutableTable(schema, "TABLE2");
+    final MutableTable table3 = new MutableTable(schema, "TABLE3");
+    for (final MutableTable table : new MutableTable[] {table1, table2, table3}) {
+      table.setTableType(TABLE);
+    }
+
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    tables.add(table3);
+    tables.add(table1);
+
+    // Sorted values are cached until the list is modified
+    final List<MutableTable> values = tables.values();
+    assertThat(values, contains(table1, table3));
+    assertThat(tables.values(), is(sameInstance(values)));
+    assertThrows(UnsupportedOperationException.class, () -> values.add(table2));
+
+    tables.add(table2);
+    assertThat(tables.values(), contains(table1, table2, table3));
+
+    tables.remove(table2);
+    assertThat(tables.values(), contains(table1, table3));
+
+    // Changes in sort order need an explicit re-sort
+    table1.setSortIndex(2);
+    table3.setSortIndex(1);
+    assertThat(tables.values(), contains(table1, table3));
+    tables.resort();
+    assertThat(tables.values(), contains(table3, table1));
+
+    tables.filter(table -> table != table3);
+    assertThat(tables.values(), contains(table1));
+  }
+
   @Test
   public void tableNames() {
     final String[] schemaNames = new String[] {"DBO", "PUBLIC"};
@@ -0,0 +1,329 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableRelationshipType;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import us.fatehi.utility.IOUtility;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class SchemaCrawlerParallelTest {
+
+  private static void assertSameCatalog(
+      final Connection connection,
+      final SchemaCrawlerOptions schemaCrawlerOptions,
+      final Catalog parallelCatalog) {
+
+    final Catalog serialCatalog =
+        getCatalog(connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions);
+
+    assertThat(fullNames(parallelCatalog.getTables()), is(not(empty())));
+    assertThat(fullNames(parallelCatalog.getRoutines()), is(not(empty())));
+
+    assertThat(fullNames(parallelCatalog.getSchemas()), is(fullNames(serialCatalog.getSchemas())));
+    assertThat(fullNames(parallelCatalog.getTables()), is(fullNames(serialCatalog.getTables())));
+    assertThat(
+        fullNames(parallelCatalog.getRoutines()), is(fullNames(serialCatalog.getRoutines())));
+    assertThat(
+        fullNames(parallelCatalog.getSequences()), is(fullNames(serialCatalog.getSequences())));
+    assertThat(
+        fullNames(parallelCatalog.getSynonyms()), is(fullNames(serialCatalog.getSynonyms())));
+    assertThat(
+        fullNames(parallelCatalog.getColumnDataTypes()),
+        is(fullNames(serialCatalog.getColumnDataTypes())));
+
+    for (final Table table : serialCatalog.getTables()) {
+      final Table parallelTable =
+          parallelCatalog.lookupTable(table.getSchema(), table.getName()).get();
+      assertThat(fullNames(parallelTable.getColumns()), is(fullNames(table.getColumns())));
+      assertThat(fullNames(parallelTable.getIndexes()), is(fullNames(table.getIndexes())));
+      assertThat(
+          fullNames(parallelTable.getForeignKeys()), is(fullNames(table.getForeignKeys())));
+      assertThat(
+          fullNames(parallelTable.getRelatedTables(TableRelationshipType.parent)),
+          is(fullNames(table.getRelatedTables(TableRelationshipType.parent))));
+    }
+  }
+
+  private static Supplier<Connection> connectionSource(
+      final DatabaseConnectionInfo connectionInfo) {
+    return connectionSource(connectionInfo, new AtomicInteger());
+  }
+
+  private static Supplier<Connection> connectionSource(
+      final DatabaseConnectionInfo connectionInfo, final AtomicInteger connectionCount) {
+    return () -> {
+      try {
+        connectionCount.incrementAndGet();
+        return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+      } catch (final SQLException e) {
+        throw new DatabaseAccessException(e);
+      }
+    };
+  }
+
+  private static List<String> fullNames(final Collection<? extends NamedObject> namedObjects) {
+    return namedObjects.stream().map(NamedObject::getFullName).collect(Collectors.toList());
+  }
+
+  @Test
+  public void parallelCrawl(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            connectionSource(connectionInfo),
+            schemaRetrievalOptionsDefault,
+            schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    final Catalog parallelCatalog = schemaCrawler.crawl();
+
+    assertSameCatalog(connection, schemaCrawlerOptionsWithMaximumSchemaInfoLevel, parallelCatalog);
+  }
+
+  @Test
+  public void partitionedCrawl(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        schemaCrawlerOptionsWithMaximumSchemaInfoLevel.withLoadOptions(
+            LoadOptionsBuilder.builder()
+                .fromOptions(schemaCrawlerOptionsWithMaximumSchemaInfoLevel.getLoadOptions())
+                .withMaxThreads(3)
+                .toOptions());
+
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            connectionSource(connectionInfo), schemaRetrievalOptionsDefault, schemaCrawlerOptions);
+    final Catalog partitionedCatalog = schemaCrawler.crawl();
+
+    assertSameCatalog(connection, schemaCrawlerOptions, partitionedCatalog);
+  }
+
+  @Test
+  public void lazyCrawl(final Connection connection, final DatabaseConnectionInfo connectionInfo)
+      throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        schemaCrawlerOptionsWithMaximumSchemaInfoLevel.withLoadOptions(
+            LoadOptionsBuilder.builder()
+                .fromOptions(schemaCrawlerOptionsWithMaximumSchemaInfoLevel.getLoadOptions())
+                .withLoadTableDetailsLazily(true)
+                .toOptions());
+
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            connectionSource(connectionInfo), schemaRetrievalOptionsDefault, schemaCrawlerOptions);
+    final Catalog lazyCatalog = schemaCrawler.crawl();
+
+    final Catalog serialCatalog =
+        getCatalog(connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions);
+
+    // Tables are not sorted by foreign key dependencies when details are loaded lazily
+    assertThat(
+        fullNames(lazyCatalog.getTables()),
+        containsInAnyOrder(fullNames(serialCatalog.getTables()).toArray()));
+
+    // Load table details concurrently
+    lazyCatalog.getTables().parallelStream().forEach(Table::getForeignKeys);
+
+    for (final Table table : serialCatalog.getTables()) {
+      final Table lazyTable = lazyCatalog.lookupTable(table.getSchema(), table.getName()).get();
+      assertThat(fullNames(lazyTable.getColumns()), is(fullNames(table.getColumns())));
+      assertThat(fullNames(lazyTable.getIndexes()), is(fullNames(table.getIndexes())));
+      assertThat(fullNames(lazyTable.getForeignKeys()), is(fullNames(table.getForeignKeys())));
+      assertThat(lazyTable.hasPrimaryKey(), is(table.hasPrimaryKey()));
+      assertThat(
+          fullNames(lazyTable.getRelatedTables(TableRelationshipType.parent)),
+          is(fullNames(table.getRelatedTables(TableRelationshipType.parent))));
+    }
+  }
+
+  @Test
+  public void lazyCrawlSerialization(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        schemaCrawlerOptionsWithMaximumSchemaInfoLevel.withLoadOptions(
+            LoadOptionsBuilder.builder()
+                .fromOptions(schemaCrawlerOptionsWithMaximumSchemaInfoLevel.getLoadOptions())
+                .withLoadTableDetailsLazily(true)
+                .toOptions());
+
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            connectionSource(connectionInfo), schemaRetrievalOptionsDefault, schemaCrawlerOptions);
+    final Catalog lazyCatalog = schemaCrawler.crawl();
+
+    // Serialize without accessing any table, so that no details have been loaded yet
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(lazyCatalog);
+    }
+    final Catalog deserializedCatalog;
+    try (final ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      deserializedCatalog = (Catalog) in.readObject();
+    }
+
+    final Catalog serialCatalog =
+        getCatalog(connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions);
+
+    for (final Table table : serialCatalog.getTables()) {
+      final Table deserializedTable =
+          deserializedCatalog.lookupTable(table.getSchema(), table.getName()).get();
+      assertThat(fullNames(deserializedTable.getColumns()), is(fullNames(table.getColumns())));
+      assertThat(fullNames(deserializedTable.getIndexes()), is(fullNames(table.getIndexes())));
+      assertThat(
+          fullNames(deserializedTable.getForeignKeys()), is(fullNames(table.getForeignKeys())));
+      assertThat(deserializedTable.hasPrimaryKey(), is(table.hasPrimaryKey()));
+    }
+  }
+
+  @Test
+  public void lazyCrawlWithDataDictionary(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .with(tableColumnsRetrievalStrategy, data_dictionary_all)
+            .with(primaryKeysRetrievalStrategy, data_dictionary_all)
+            .with(foreignKeysRetrievalStrategy, data_dictionary_all)
+            .with(indexesRetrievalStrategy, data_dictionary_all)
+            .withInformationSchemaViews(
+                InformationSchemaViewsBuilder.builder()
+                    .withSql(
+                        InformationSchemaKey.TABLE_COLUMNS,
+                        IOUtility.readResourceFully("/TABLE_COLUMNS.sql"))
+                    .withSql(
+                        InformationSchemaKey.PRIMARY_KEYS,
+                        "SELECT * FROM INFORMATION_SCHEMA.SYSTEM_PRIMARYKEYS")
+                    .withSql(
+                        InformationSchemaKey.FOREIGN_KEYS,
+                        "SELECT * FROM INFORMATION_SCHEMA.SYSTEM_CROSSREFERENCE")
+                    .withSql(
+                        InformationSchemaKey.INDEXES,
+                        "SELECT * FROM INFORMATION_SCHEMA.SYSTEM_INDEXINFO")
+                    .toOptions())
+            .toOptions();
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        schemaCrawlerOptionsWithMaximumSchemaInfoLevel.withLoadOptions(
+            LoadOptionsBuilder.builder()
+                .fromOptions(schemaCrawlerOptionsWithMaximumSchemaInfoLevel.getLoadOptions())
+                .withLoadTableDetailsLazily(true)
+                .toOptions());
+
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            connectionSource(connectionInfo, connectionCount),
+            schemaRetrievalOptions,
+            schemaCrawlerOptions);
+    final Catalog lazyCatalog = schemaCrawler.crawl();
+
+    final Catalog serialCatalog =
+        getCatalog(connection, schemaRetrievalOptions, schemaCrawlerOptions);
+
+    for (final Table table : serialCatalog.getTables()) {
+      if (!table.hasForeignKeys()) {
+        continue;
+      }
+      final Table lazyTable = lazyCatalog.lookupTable(table.getSchema(), table.getName()).get();
+
+      // Loading a table only loads the columns of the tables that it references, or that
+      // reference it, with a connection for each table
+      connectionCount.set(0);
+      assertThat(fullNames(lazyTable.getForeignKeys()), is(fullNames(table.getForeignKeys())));
+      final int relatedTableCount =
+          table.getRelatedTables(TableRelationshipType.parent).size()
+              + table.getRelatedTables(TableRelationshipType.child).size();
+      assertThat(connectionCount.get(), is(lessThanOrEqualTo(2 + relatedTableCount)));
+
+      assertThat(fullNames(lazyTable.getColumns()), is(fullNames(table.getColumns())));
+      assertThat(fullNames(lazyTable.getIndexes()), is(fullNames(table.getIndexes())));
+      assertThat(lazyTable.hasPrimaryKey(), is(table.hasPrimaryKey()));
+    }
+  }
+
+  @Test
+  public void parallelCrawlWithBadConnectionSource() throws Exception {
+    assertThrows(
+        NullPointerException.class,
+        () ->
+            new SchemaCrawler(
+                (Supplier<Connection>) null,
+                schemaRetrievalOptionsDefault,
+                schemaCrawlerOptionsWithMaximumSchemaInfoLevel));
+
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            () -> {
+              throw new DatabaseAccessException(new SQLException("Cannot connect"));
+            },
+            schemaRetrievalOptionsDefault,
+            schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    assertThrows(DatabaseAccessException.class, () -> schemaCrawler.crawl());
+  }
+}
@@ -0,0 +1,265 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+
+import java.sql.Connection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class TableChangeRetrieverTest {
+
+  private static InformationSchemaViewsBuilder changeMarkerInformationSchemaViews(
+      final String booksChangeMarker) {
+    return InformationSchemaViewsBuilder.builder()
+        .withSql(
+            InformationSchemaKey.EXT_TABLE_CHANGE_MARKERS,
+            String.format(
+                "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, "
+                    + "CASE WHEN TABLE_NAME = 'BOOKS' THEN '%s' ELSE 'v1' END "
+                    + "AS CHANGE_MARKER FROM INFORMATION_SCHEMA.TABLES",
+                booksChangeMarker));
+  }
+
+  private static SchemaRetrievalOptions changeMarkerSchemaRetrievalOptions(
+      final String booksChangeMarker) {
+    final InformationSchemaViews informationSchemaViews =
+        changeMarkerInformationSchemaViews(booksChangeMarker).toOptions();
+    return SchemaRetrievalOptionsBuilder.builder()
+        .withInformationSchemaViews(informationSchemaViews)
+        .toOptions();
+  }
+
+  private static SchemaRetrievalOptions dataDictionarySchemaRetrievalOptions(
+      final String booksChangeMarker) {
+    final InformationSchemaViews informationSchemaViews =
+        changeMarkerInformationSchemaViews(booksChangeMarker)
+            .withSql(
+                InformationSchemaKey.PRIMARY_KEYS,
+                "SELECT * FROM INFORMATION_SCHEMA.SYSTEM_PRIMARYKEYS")
+            .withSql(
+                InformationSchemaKey.FOREIGN_KEYS,
+                "SELECT * FROM INFORMATION_SCHEMA.SYSTEM_CROSSREFERENCE")
+            .withSql(
+                InformationSchemaKey.INDEXES, "SELECT * FROM INFORMATION_SCHEMA.SYSTEM_INDEXINFO")
+            .toOptions();
+    return SchemaRetrievalOptionsBuilder.builder()
+        .with(primaryKeysRetrievalStrategy, data_dictionary_all)
+        .with(foreignKeysRetrievalStrategy, data_dictionary_all)
+        .with(indexesRetrievalStrategy, data_dictionary_all)
+        .withInformationSchemaViews(informationSchemaViews)
+        .toOptions();
+  }
+
+  private static SchemaCrawlerOptions withChangeMarkers(
+      final SchemaCrawlerOptions schemaCrawlerOptions) {
+    return schemaCrawlerOptions.withLoadOptions(
+        LoadOptionsBuilder.builder()
+            .fromOptions(schemaCrawlerOptions.getLoadOptions())
+            .withRetrieveTableChangeMarkers(true)
+            .toOptions());
+  }
+
+  private static int columnPrivilegeCount(final Table table) {
+    int count = 0;
+    for (final Column column : table.getColumns()) {
+      count = count + column.getPrivileges().size();
+    }
+    return count;
+  }
+
+  private static Table lookupTable(final Catalog catalog, final String tableName) {
+    final Schema schema = catalog.lookupSchema("PUBLIC.BOOKS").get();
+    return catalog.lookupTable(schema, tableName).get();
+  }
+
+  @Test
+  public void changeMarkers(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(
+            connection,
+            changeMarkerSchemaRetrievalOptions("v1"),
+            withChangeMarkers(SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()));
+
+    final Table table = lookupTable(catalog, "AUTHORS");
+    assertThat(table.getAttribute(TableChangeRetriever.CHANGE_MARKER), is("v1"));
+  }
+
+  @Test
+  public void changeMarkersNotRequested(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(
+            connection,
+            changeMarkerSchemaRetrievalOptions("v1"),
+            SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions());
+
+    final Table table = lookupTable(catalog, "AUTHORS");
+    assertThat(table.getAttribute(TableChangeRetriever.CHANGE_MARKER), is(nullValue()));
+  }
+
+  @Test
+  public void incrementalCrawl(final Connection connection) throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        withChangeMarkers(SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions());
+
+    final Catalog previousCatalog =
+        getCatalog(connection, changeMarkerSchemaRetrievalOptions("v1"), schemaCrawlerOptions);
+    final Table previousAuthors = lookupTable(previousCatalog, "AUTHORS");
+    final Table previousBooks = lookupTable(previousCatalog, "BOOKS");
+    final int tableCount = previousCatalog.getTables().size();
+
+    // Simulate remarks and attributes that changed without a change to the change marker
+    final String authorsRemarks = previousAuthors.getRemarks();
+    ((MutableTable) previousAuthors).setRemarks("Stale remarks");
+    ((MutableTable) previousAuthors).setAttribute("stale_attribute", "stale");
+
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            connection, changeMarkerSchemaRetrievalOptions("v2"), schemaCrawlerOptions);
+    final Catalog catalog = schemaCrawler.crawl(previousCatalog);
+
+    assertThat(catalog.getTables(), hasSize(tableCount));
+
+    // Unchanged tables are carried over
+    final Table authors = lookupTable(catalog, "AUTHORS");
+    assertThat(authors, is(sameInstance(previousAuthors)));
+    assertThat(authors.getColumns(), hasSize(9));
+    assertThat(authors.getPrimaryKey(), is(not(nullValue())));
+    // with remarks and attributes from the new crawl
+    assertThat(authors.getRemarks(), is(authorsRemarks));
+    assertThat(authors.hasAttribute("stale_attribute"), is(false));
+    assertThat(authors.getAttribute(TableChangeRetriever.CHANGE_MARKER), is("v1"));
+
+    // Changed tables are retrieved again
+    final Table books = lookupTable(catalog, "BOOKS");
+    assertThat(books, is(not(sameInstance(previousBooks))));
+    assertThat(books.getAttribute(TableChangeRetriever.CHANGE_MARKER), is("v2"));
+    assertThat(books.getColumns(), hasSize(previousBooks.getColumns().size()));
+    assertThat(books.getPrimaryKey(), is(not(nullValue())));
+    assertThat(books.getIndexes(), hasSize(previousBooks.getIndexes().size()));
+
+    // Foreign keys of carried over tables refer to the changed tables
+    final Table bookAuthors = lookupTable(catalog, "BOOKAUTHORS");
+    assertThat(bookAuthors.getForeignKeys(), hasSize(2));
+    for (final ForeignKey foreignKey : bookAuthors.getForeignKeys()) {
+      final Table referencedTable = foreignKey.getReferencedTable();
+      if (referencedTable.getName().equals("BOOKS")) {
+        assertThat(referencedTable, is(sameInstance(books)));
+      } else {
+        assertThat(referencedTable, is(sameInstance(authors)));
+      }
+    }
+  }
+
+  @Test
+  public void incrementalCrawlWithDataDictionary(final Connection connection) throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        withChangeMarkers(schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+
+    final Catalog previousCatalog =
+        getCatalog(connection, dataDictionarySchemaRetrievalOptions("v1"), schemaCrawlerOptions);
+    final Table previousAuthors = lookupTable(previousCatalog, "AUTHORS");
+    final int authorsIndexCount = previousAuthors.getIndexes().size();
+    final int authorsColumnPrivilegeCount = columnPrivilegeCount(previousAuthors);
+
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            connection, dataDictionarySchemaRetrievalOptions("v2"), schemaCrawlerOptions);
+    final Catalog catalog = schemaCrawler.crawl(previousCatalog);
+
+    // Details of carried over tables are not retrieved again
+    final Table authors = lookupTable(catalog, "AUTHORS");
+    assertThat(authors, is(sameInstance(previousAuthors)));
+    assertThat(authors.getIndexes(), hasSize(authorsIndexCount));
+    assertThat(authors.getPrimaryKey().getConstrainedColumns(), hasSize(1));
+    assertThat(columnPrivilegeCount(authors), is(authorsColumnPrivilegeCount));
+
+    // Changed tables are retrieved again
+    final Table books = lookupTable(catalog, "BOOKS");
+    assertThat(books.getPrimaryKey(), is(not(nullValue())));
+
+    final Table bookAuthors = lookupTable(catalog, "BOOKAUTHORS");
+    assertThat(bookAuthors.getForeignKeys(), hasSize(2));
+    for (final ForeignKey foreignKey : bookAuthors.getForeignKeys()) {
+      if (foreignKey.getReferencedTable().getName().equals("BOOKS")) {
+        assertThat(foreignKey.getReferencedTable(), is(sameInstance(books)));
+      }
+    }
+  }
+
+  @Test
+  public void incrementalCrawlWithoutChangeMarkers(final Connection connection) throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+    final Catalog previousCatalog = getCatalog(connection, schemaCrawlerOptions);
+    final Table previousAuthors = lookupTable(previousCatalog, "AUTHORS");
+
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            connection,
+            SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+            schemaCrawlerOptions);
+    final Catalog catalog = schemaCrawler.crawl(previousCatalog);
+
+    // All tables are retrieved again
+    final Table authors = lookupTable(catalog, "AUTHORS");
+    assertThat(authors, is(not(sameInstance(previousAuthors))));
+    assertThat(authors.getColumns(), hasSize(9));
+  }
+}
@@ -32,8 +32,18 @@ import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata_bulk;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
 import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
 import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
 import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
@@ -42,6 +52,7 @@ import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
 import static schemacrawler.test.utility.FileHasContent.outputOf;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map.Entry;
@@ -69,6 +80,7 @@ import schemacrawler.schemacrawler.LoadOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaReference;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
 import schemacrawler.test.utility.TestContextParameterResolver;
@@ -179,6 +191,82 @@ public class TableColumnRetrieverTest {
     assertThat(hiddenColumnCount, is(1));
   }
 
+  @Test
+  @DisplayName("Retrieve table columns for all tables in each schema")
+  public void tableColumnsFromMetadataForSchemas(final Connection connection) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .with(tableColumnsRetrievalStrategy, metadata_bulk)
+            .toOptions();
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(connection, schemaRetrievalOptions);
+
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+    final TableColumnRetriever tableColumnRetriever =
+        new TableColumnRetriever(retrieverConnection, catalog, options);
+    tableColumnRetriever.retrieveTableColumns(catalog.getAllTables(), new IncludeAll());
+
+    // Fix foreign-keys in the original catalog
+    final ForeignKeyRetriever foreignKeyRetriever =
+        new ForeignKeyRetriever(retrieverConnection, catalog, options);
+    foreignKeyRetriever.retrieveForeignKeys(catalog.getAllTables());
+    final PrimaryKeyRetriever primaryKeyRetriever =
+        new PrimaryKeyRetriever(retrieverConnection, catalog, options);
+    primaryKeyRetriever.retrievePrimaryKeys(catalog.getAllTables());
+
+    verifyRetrieveTableColumns(catalog);
+  }
+
+  @Test
+  @DisplayName("Retrieve table details one table at a time, if a schema returns no columns")
+  public void tableColumnsFromMetadataForSchemasWithNoRows(final Connection connection)
+      throws Exception {
+    // Simulate a driver that accepts a null table name, but does not return any rows for it
+    final DatabaseMetaData metaData = spy(connection.getMetaData());
+    doAnswer(
+            invocation ->
+                connection.getMetaData().getColumns(null, null, "NO_SUCH_TABLE", null))
+        .when(metaData)
+        .getColumns(any(), any(), isNull(), isNull());
+    final Connection noRowsConnection = spy(connection);
+    doReturn(metaData).when(noRowsConnection).getMetaData();
+
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .with(tableColumnsRetrievalStrategy, metadata_bulk)
+            .with(primaryKeysRetrievalStrategy, metadata_bulk)
+            .toOptions();
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(noRowsConnection, schemaRetrievalOptions);
+
+    final SchemaCrawlerOptions options =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLoadOptions(
+                LoadOptionsBuilder.builder()
+                    .withSchemaInfoLevel(SchemaInfoLevelBuilder.minimum())
+                    .toOptions());
+    final MutableCatalog minimumCatalog =
+        (MutableCatalog) getCatalog(connection, schemaRetrievalOptionsDefault, options);
+
+    final TableColumnRetriever tableColumnRetriever =
+        new TableColumnRetriever(retrieverConnection, minimumCatalog, options);
+    tableColumnRetriever.retrieveTableColumns(minimumCatalog.getAllTables(), new IncludeAll());
+
+    for (final Table table : minimumCatalog.getTables()) {
+      assertThat(table.getColumns(), is(not(empty())));
+    }
+
+    // Primary keys are retrieved one table at a time, without trying the schema first
+    final PrimaryKeyRetriever primaryKeyRetriever =
+        new PrimaryKeyRetriever(retrieverConnection, minimumCatalog, options);
+    primaryKeyRetriever.retrievePrimaryKeys(minimumCatalog.getAllTables());
+
+    verify(metaData, never()).getPrimaryKeys(any(), any(), isNull());
+    final Schema schema = new SchemaReference("PUBLIC", "BOOKS");
+    assertThat(minimumCatalog.lookupTable(schema, "AUTHORS").get().hasPrimaryKey(), is(true));
+  }
+
   @BeforeAll
   public void loadBaseCatalog(final Connection connection) {
     final LimitOptionsBuilder limitOptionsBuilder =
@@ -176,6 +176,31 @@ public class SchemaRetrievalOptionsBuilderTest {
         is(EnumDataTypeInfo.EnumDataTypeTypes.not_enumerated));
   }
 
+  @Test
+  public void fetchSize() {
+    final SchemaRetrievalOptionsBuilder builder = SchemaRetrievalOptionsBuilder.builder();
+
+    assertThat(builder.toOptions().getFetchSize(), is(20));
+    assertThat(builder.toOptions().getFetchSize(InformationSchemaKey.TABLE_COLUMNS), is(20));
+    assertThat(builder.toOptions().getQueryTimeout(), is(0));
+
+    builder
+        .withFetchSize(500)
+        .withFetchSize(InformationSchemaKey.TABLE_COLUMNS, 5000)
+        .withQueryTimeout(-1);
+    final SchemaRetrievalOptions options = builder.toOptions();
+    assertThat(options.getFetchSize(), is(500));
+    assertThat(options.getFetchSize(InformationSchemaKey.TABLES), is(500));
+    assertThat(options.getFetchSize(InformationSchemaKey.TABLE_COLUMNS), is(5000));
+    assertThat(options.getQueryTimeout(), is(0));
+
+    final SchemaRetrievalOptions copiedOptions =
+        SchemaRetrievalOptionsBuilder.builder(options).withQueryTimeout(60).toOptions();
+    assertThat(copiedOptions.getFetchSize(), is(500));
+    assertThat(copiedOptions.getFetchSize(InformationSchemaKey.TABLE_COLUMNS), is(5000));
+    assertThat(copiedOptions.getQueryTimeout(), is(60));
+  }
+
   @Test
   public void fromOptions() {
     final SchemaRetrievalOptions options =
@@ -30,6 +30,8 @@ package schemacrawler.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -37,7 +39,10 @@ import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
 import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
 
 import java.sql.Connection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -179,6 +184,37 @@ public class MetadataUtilityTest {
     }
   }
 
+  @Test
+  public void relatedTables() throws Exception {
+
+    final Schema schema = catalog.lookupSchema("PUBLIC.BOOKS").get();
+    final Table bookAuthors = catalog.lookupTable(schema, "BOOKAUTHORS").get();
+    final Table authors = catalog.lookupTable(schema, "AUTHORS").get();
+    final Set<Table> startTables = Collections.singleton(bookAuthors);
+
+    assertThat(
+        MetaDataUtility.relatedTables(startTables, TableRelationshipType.parent, 0),
+        is(startTables));
+    assertThat(
+        MetaDataUtility.relatedTables(startTables, TableRelationshipType.none, 3), is(startTables));
+
+    final Set<Table> parentTables = new HashSet<>(startTables);
+    parentTables.addAll(bookAuthors.getRelatedTables(TableRelationshipType.parent));
+    assertThat(
+        MetaDataUtility.relatedTables(startTables, TableRelationshipType.parent, 1),
+        is(parentTables));
+    assertThat(parentTables, hasItem(authors));
+
+    final Set<Table> deeperParentTables =
+        MetaDataUtility.relatedTables(startTables, TableRelationshipType.parent, 3);
+    assertThat(deeperParentTables, hasItems(parentTables.toArray(new Table[0])));
+
+    assertThat(
+        MetaDataUtility.relatedTables(
+            Collections.singleton(authors), TableRelationshipType.child, 1),
+        hasItem(bookAuthors));
+  }
+
   @Test
   public void tableUtilities() throws Exception {
 
@@ -40,7 +40,6 @@ import static us.fatehi.utility.html.TagOutputFormat.html;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 
 import schemacrawler.crawl.NotLoadedException;
@@ -181,7 +180,7 @@ public final class SchemaDotFormatter extends BaseDotFormatter implements Schema
 
     printTableColumns(table.getColumns());
     if (isVerbose) {
-      printTableColumns(new ArrayList<>(table.getHiddenColumns()));
+      printTableColumns(table.getHiddenColumns());
       printIndexes(table);
     }
     printAlternateKeys(table);
@@ -647,13 +646,13 @@ public final class SchemaDotFormatter extends BaseDotFormatter implements Schema
     formattingHelper.append(remarksRow.render(html)).println();
   }
 
-  private void printTableColumns(final List<Column> columns) {
-    if (columns.isEmpty()) {
+  private void printTableColumns(final Collection<Column> tableColumns) {
+    if (tableColumns.isEmpty()) {
       return;
     }
 
-    Collections.sort(
-        columns, NamedObjectSort.getNamedObjectSort(options.isAlphabeticalSortForTableColumns()));
+    final List<Column> columns = new ArrayList<>(tableColumns);
+    columns.sort(NamedObjectSort.getNamedObjectSort(options.isAlphabeticalSortForTableColumns()));
 
     for (final Column column : columns) {
       if (isBrief && !isColumnSignificant(column)) {
@@ -145,17 +145,21 @@ public abstract class BaseLinter extends Linter {
     this.catalog = requireNonNull(catalog, "No catalog provided");
 
     start(connection);
-    for (final Table table : catalog.getTables()) {
-      if (tableInclusionRule.test(table.getFullName()) && tableTypesFilter.test(table)) {
-        lint(table, connection);
-      } else {
-        LOGGER.log(
-            Level.FINE,
-            new StringFormat("Excluding table <%s> for lint <%s>", table, getLinterId()));
+    try {
+      for (final Table table : catalog.getTables()) {
+        if (tableInclusionRule.test(table.getFullName()) && tableTypesFilter.test(table)) {
+          lint(table, connection);
+        } else {
+          LOGGER.log(
+              Level.FINE,
+              new StringFormat("Excluding table <%s> for lint <%s>", table, getLinterId()));
+        }
       }
+    } finally {
+      // Linters may hold resources, such as statements, until the end of the lint run
+      end(connection);
+      this.catalog = null;
     }
-    end(connection);
-    this.catalog = null;
   }
 
   private final void setColumnInclusionRule(final InclusionRule columnInclusionRule) {
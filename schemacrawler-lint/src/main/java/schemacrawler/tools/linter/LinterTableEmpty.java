@@ -29,9 +29,11 @@ package schemacrawler.tools.linter;
 
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.schemacrawler.QueryUtility.executeForLong;
+import static us.fatehi.utility.database.DatabaseUtility.createStatement;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.logging.Level;
 
 import java.util.logging.Logger;
@@ -48,6 +50,12 @@ public class LinterTableEmpty extends BaseLinter {
   private static final Logger LOGGER =
       Logger.getLogger(LinterTableEmpty.class.getName());
 
+  private static final Query QUERY = new Query("Count", "SELECT COUNT(*) FROM ${table}");
+
+  // Identifiers and statement are created for the first table, and reused for the rest
+  private Identifiers identifiers;
+  private Statement statement;
+
   public LinterTableEmpty() {
     setSeverity(LintSeverity.low);
     setTableTypesFilter(new TableTypesFilter("TABLE"));
@@ -58,15 +66,32 @@ public class LinterTableEmpty extends BaseLinter {
     return "empty table";
   }
 
+  @Override
+  protected void end(final Connection connection) {
+    if (statement != null) {
+      try {
+        statement.close();
+      } catch (final SQLException e) {
+        LOGGER.log(Level.FINE, "Could not close statement", e);
+      }
+    }
+    statement = null;
+    identifiers = null;
+
+    super.end(connection);
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
     requireNonNull(connection, "No connection provided");
 
-    final Query query = new Query("Count", "SELECT COUNT(*) FROM ${table}");
     try {
-      final Identifiers identifiers = Identifiers.identifiers().withConnection(connection).build();
-      final long count = executeForLong(query, connection, table, identifiers);
+      if (statement == null) {
+        identifiers = Identifiers.identifiers().withConnection(connection).build();
+        statement = createStatement(connection);
+      }
+      final long count = executeForLong(QUERY, statement, table, identifiers);
       if (count == 0) {
         addTableLint(table, getSummary());
       }
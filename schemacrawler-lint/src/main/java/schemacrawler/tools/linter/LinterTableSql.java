@@ -31,9 +31,11 @@ import static java.util.Objects.requireNonNull;
 import static schemacrawler.schemacrawler.QueryUtility.executeForScalar;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.requireNotBlank;
+import static us.fatehi.utility.database.DatabaseUtility.createStatement;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.logging.Level;
 
 import java.util.logging.Logger;
@@ -50,7 +52,10 @@ public class LinterTableSql extends BaseLinter {
       Logger.getLogger(LinterTableSql.class.getName());
 
   private String message;
-  private String sql;
+  private Query query;
+  // Identifiers and statement are created for the first table, and reused for the rest
+  private Identifiers identifiers;
+  private Statement statement;
 
   @Override
   public String getSummary() {
@@ -69,23 +74,42 @@ public class LinterTableSql extends BaseLinter {
     message = config.getStringValue("message", "");
     requireNotBlank(message, "No message provided");
 
-    sql = config.getStringValue("sql", "");
+    final String sql = config.getStringValue("sql", "");
     requireNotBlank(sql, "No SQL provided");
+
+    query = new Query(message, sql);
+  }
+
+  @Override
+  protected void end(final Connection connection) {
+    if (statement != null) {
+      try {
+        statement.close();
+      } catch (final SQLException e) {
+        LOGGER.log(Level.FINE, "Could not close statement", e);
+      }
+    }
+    statement = null;
+    identifiers = null;
+
+    super.end(connection);
   }
 
   @Override
   protected void lint(final Table table, final Connection connection) {
-    if (isBlank(sql)) {
+    if (query == null) {
       return;
     }
 
     requireNonNull(table, "No table provided");
     requireNonNull(connection, "No connection provided");
 
-    final Query query = new Query(message, sql);
     try {
-      final Identifiers identifiers = Identifiers.identifiers().withConnection(connection).build();
-      final Object queryResult = executeForScalar(query, connection, table, identifiers);
+      if (statement == null) {
+        identifiers = Identifiers.identifiers().withConnection(connection).build();
+        statement = createStatement(connection);
+      }
+      final Object queryResult = executeForScalar(query, statement, table, identifiers);
       if (queryResult != null) {
         addTableLint(table, getSummary() + " " + queryResult);
       }
@@ -31,9 +31,13 @@ import static java.util.Objects.requireNonNull;
 import static schemacrawler.loader.counts.TableRowCountsUtility.addRowCountToTable;
 import static schemacrawler.schemacrawler.QueryUtility.executeForLong;
 import static us.fatehi.utility.database.DatabaseUtility.checkConnection;
+import static us.fatehi.utility.database.DatabaseUtility.createStatement;
+import static us.fatehi.utility.database.DatabaseUtility.executeSql;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
@@ -49,9 +53,15 @@ import us.fatehi.utility.string.StringFormat;
 @Retriever
 public final class TableRowCountsRetriever {
 
+  /** Number of tables to count in a single query, by default. */
+  static final int DEFAULT_BATCH_SIZE = 100;
+
   private static final Logger LOGGER =
       Logger.getLogger(TableRowCountsRetriever.class.getName());
 
+  private static final Query ROW_COUNT_QUERY =
+      new Query("schemacrawler.table.row_counts", "SELECT COUNT(*) FROM ${table}");
+
   private final Connection connection;
   private final Catalog catalog;
 
@@ -62,6 +72,19 @@ public final class TableRowCountsRetriever {
   }
 
   public void retrieveTableRowCounts() {
+    retrieveTableRowCounts(DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Retrieves row counts for all tables in the catalog. Tables are counted in batches, with the
+   * counts for a batch combined into a single query using UNION ALL, so that there is one round
+   * trip to the database for each batch. If a batch fails, for example because one of the tables
+   * cannot be read, the tables in that batch are counted one at a time.
+   *
+   * @param batchSize Number of tables to count in a single query, or 1 to count each table with a
+   *     separate query
+   */
+  void retrieveTableRowCounts(final int batchSize) {
 
     Identifiers identifiers;
     try {
@@ -76,16 +99,78 @@ public final class TableRowCountsRetriever {
       return;
     }
 
-    final Query query =
-        new Query("schemacrawler.table.row_counts", "SELECT COUNT(*) FROM ${table}");
+    final int tablesPerQuery = Math.max(batchSize, 1);
     final List<Table> allTables = new ArrayList<>(catalog.getTables());
-    for (final Table table : allTables) {
-      try {
-        final long count = executeForLong(query, connection, table, identifiers);
-        addRowCountToTable(table, count);
-      } catch (final SQLException e) {
-        LOGGER.log(Level.WARNING, e, new StringFormat("Could not get count for table <%s>", table));
+    try (final Statement statement = createStatement(connection)) {
+      for (int i = 0; i < allTables.size(); i = i + tablesPerQuery) {
+        final List<Table> batch =
+            allTables.subList(i, Math.min(i + tablesPerQuery, allTables.size()));
+        if (batch.size() == 1 || !retrieveTableRowCounts(statement, batch, identifiers)) {
+          for (final Table table : batch) {
+            retrieveTableRowCount(statement, table, identifiers);
+          }
+        }
       }
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not get counts for tables", e);
+    }
+  }
+
+  private void retrieveTableRowCount(
+      final Statement statement, final Table table, final Identifiers identifiers) {
+    try {
+      final long count = executeForLong(ROW_COUNT_QUERY, statement, table, identifiers);
+      addRowCountToTable(table, count);
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, e, new StringFormat("Could not get count for table <%s>", table));
+    }
+  }
+
+  private boolean retrieveTableRowCounts(
+      final Statement statement, final List<Table> tables, final Identifiers identifiers) {
+    // Each row is tagged with the position of the table in the batch, since UNION ALL does not
+    // guarantee the order of the rows
+    final StringBuilder sql = new StringBuilder(tables.size() * 64);
+    for (int i = 0; i < tables.size(); i++) {
+      if (i > 0) {
+        sql.append(System.lineSeparator()).append("UNION ALL").append(System.lineSeparator());
+      }
+      sql.append("SELECT ")
+          .append(i)
+          .append(" AS TABLE_INDEX, COUNT(*) AS ROW_COUNT FROM ")
+          .append(identifiers.quoteFullName(tables.get(i)));
+    }
+
+    final long[] counts = new long[tables.size()];
+    final boolean[] counted = new boolean[tables.size()];
+    try (final ResultSet results = executeSql(statement, sql.toString())) {
+      if (results == null) {
+        return false;
+      }
+      while (results.next()) {
+        final int index = results.getInt(1);
+        if (index < 0 || index >= counts.length) {
+          return false;
+        }
+        counts[index] = results.getLong(2);
+        counted[index] = true;
+      }
+    } catch (final SQLException e) {
+      LOGGER.log(
+          Level.FINE,
+          e,
+          new StringFormat("Could not get counts for a batch of %d tables", tables.size()));
+      return false;
+    }
+
+    for (final boolean isCounted : counted) {
+      if (!isCounted) {
+        return false;
+      }
+    }
+    for (int i = 0; i < counts.length; i++) {
+      addRowCountToTable(tables.get(i), counts[i]);
     }
+    return true;
   }
 }
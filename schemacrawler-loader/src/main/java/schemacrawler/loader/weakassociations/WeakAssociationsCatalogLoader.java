@@ -27,6 +27,8 @@ http://www.gnu.org/licenses/
 */
 package schemacrawler.loader.weakassociations;
 
+import static schemacrawler.utility.MetaDataUtility.isTableDetailsReleased;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -59,7 +61,17 @@ public final class WeakAssociationsCatalogLoader extends BaseCatalogLoader {
 
   public void findWeakAssociations() {
     final Catalog catalog = getCatalog();
-    final List<Table> allTables = new ArrayList<>(catalog.getTables());
+    final List<Table> allTables = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      // Tables without their details cannot be matched by their columns
+      if (isTableDetailsReleased(table)) {
+        LOGGER.log(
+            Level.FINE,
+            new StringFormat("Not analyzing table <%s>, since its details were released", table));
+        continue;
+      }
+      allTables.add(table);
+    }
     final WeakAssociationsAnalyzer weakAssociationsAnalyzer =
         new WeakAssociationsAnalyzer(allTables);
     final Collection<ProposedWeakAssociation> proposedWeakAssociations =
@@ -0,0 +1,41 @@
+SELECT
+  KCU.REFERENCED_TABLE_SCHEMA AS PKTABLE_CAT,
+  NULL AS PKTABLE_SCHEM,
+  KCU.REFERENCED_TABLE_NAME AS PKTABLE_NAME,
+  KCU.REFERENCED_COLUMN_NAME AS PKCOLUMN_NAME,
+  KCU.TABLE_SCHEMA AS FKTABLE_CAT,
+  NULL AS FKTABLE_SCHEM,
+  KCU.TABLE_NAME AS FKTABLE_NAME,
+  KCU.COLUMN_NAME AS FKCOLUMN_NAME,
+  KCU.ORDINAL_POSITION AS KEY_SEQ,
+  CASE RC.UPDATE_RULE
+    WHEN 'CASCADE' THEN 0
+    WHEN 'RESTRICT' THEN 1
+    WHEN 'SET NULL' THEN 2
+    WHEN 'SET DEFAULT' THEN 4
+    ELSE 3
+  END AS UPDATE_RULE,
+  CASE RC.DELETE_RULE
+    WHEN 'CASCADE' THEN 0
+    WHEN 'RESTRICT' THEN 1
+    WHEN 'SET NULL' THEN 2
+    WHEN 'SET DEFAULT' THEN 4
+    ELSE 3
+  END AS DELETE_RULE,
+  KCU.CONSTRAINT_NAME AS FK_NAME,
+  RC.UNIQUE_CONSTRAINT_NAME AS PK_NAME,
+  7 AS DEFERRABILITY -- JDBC "Not deferrable"
+FROM
+  INFORMATION_SCHEMA.KEY_COLUMN_USAGE KCU
+  INNER JOIN INFORMATION_SCHEMA.REFERENTIAL_CONSTRAINTS RC
+    ON KCU.CONSTRAINT_SCHEMA = RC.CONSTRAINT_SCHEMA
+      AND KCU.CONSTRAINT_NAME = RC.CONSTRAINT_NAME
+      AND KCU.TABLE_NAME = RC.TABLE_NAME
+WHERE
+  KCU.REFERENCED_TABLE_NAME IS NOT NULL
+  AND (KCU.TABLE_SCHEMA REGEXP '${schemas}' OR KCU.REFERENCED_TABLE_SCHEMA REGEXP '${schemas}')
+ORDER BY
+  PKTABLE_CAT,
+  PKTABLE_NAME,
+  FK_NAME,
+  KEY_SEQ
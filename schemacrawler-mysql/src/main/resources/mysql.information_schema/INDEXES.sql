@@ -0,0 +1,28 @@
+SELECT
+  S.TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  S.TABLE_NAME,
+  S.NON_UNIQUE,
+  S.TABLE_SCHEMA AS INDEX_QUALIFIER,
+  S.INDEX_NAME,
+  CASE
+    WHEN S.INDEX_TYPE = 'HASH' THEN 2 -- JDBC index type "Hashed"
+    ELSE 3 -- JDBC index type "Other"
+  END AS TYPE,
+  S.SEQ_IN_INDEX AS ORDINAL_POSITION,
+  S.COLUMN_NAME,
+  S.COLLATION AS ASC_OR_DESC,
+  S.CARDINALITY,
+  0 AS PAGES,
+  NULL AS FILTER_CONDITION
+FROM
+  INFORMATION_SCHEMA.STATISTICS S
+WHERE
+  S.TABLE_SCHEMA REGEXP '${schemas}'
+ORDER BY
+  TABLE_CAT,
+  TABLE_NAME,
+  INDEX_NAME,
+  NON_UNIQUE,
+  TYPE,
+  ORDINAL_POSITION
@@ -0,0 +1,17 @@
+SELECT
+  S.TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  S.TABLE_NAME,
+  S.INDEX_NAME AS PK_NAME,
+  S.SEQ_IN_INDEX AS KEY_SEQ,
+  S.COLUMN_NAME
+FROM
+  INFORMATION_SCHEMA.STATISTICS S
+WHERE
+  S.INDEX_NAME = 'PRIMARY'
+  AND S.TABLE_SCHEMA REGEXP '${schemas}'
+ORDER BY
+  TABLE_CAT,
+  TABLE_NAME,
+  PK_NAME,
+  KEY_SEQ
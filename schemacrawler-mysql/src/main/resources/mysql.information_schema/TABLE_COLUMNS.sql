@@ -1,5 +1,3 @@
--- Not used by default. Used only when table column retrieval strategy is
--- explicitly set to data_dictionary_all
 SELECT
   C.TABLE_SCHEMA AS TABLE_CAT,
   NULL AS TABLE_SCHEM,
@@ -8,14 +6,62 @@ SELECT
   C.ORDINAL_POSITION,
   C.COLUMN_DEFAULT AS COLUMN_DEF,
   CASE WHEN C.IS_NULLABLE = 'YES' THEN 1 ELSE 0 END AS NULLABLE,
-  C.DATA_TYPE AS TYPE_NAME,
-  C.CHARACTER_MAXIMUM_LENGTH,
-  C.CHARACTER_OCTET_LENGTH AS COLUMN_SIZE,
-  C.NUMERIC_PRECISION AS DECIMAL_DIGITS,
-  C.NUMERIC_SCALE,
-  C.DATETIME_PRECISION,
-  CASE WHEN EXTRA = 'auto_increment' THEN 1 ELSE 0 END AS IS_AUTOINCREMENT,
-  CASE WHEN EXTRA LIKE '%GENERATED%' THEN 1 ELSE 0 END AS IS_GENERATEDCOLUMN,
+  CASE LOWER(C.DATA_TYPE)
+    WHEN 'bit' THEN -7
+    WHEN 'tinyint' THEN -6
+    WHEN 'smallint' THEN 5
+    WHEN 'mediumint' THEN 4
+    WHEN 'int' THEN 4
+    WHEN 'integer' THEN 4
+    WHEN 'bigint' THEN -5
+    WHEN 'decimal' THEN 3
+    WHEN 'float' THEN 7
+    WHEN 'double' THEN 8
+    WHEN 'date' THEN 91
+    WHEN 'year' THEN 91
+    WHEN 'time' THEN 92
+    WHEN 'datetime' THEN 93
+    WHEN 'timestamp' THEN 93
+    WHEN 'char' THEN 1
+    WHEN 'enum' THEN 1
+    WHEN 'set' THEN 1
+    WHEN 'varchar' THEN 12
+    WHEN 'tinytext' THEN 12
+    WHEN 'text' THEN -1
+    WHEN 'mediumtext' THEN -1
+    WHEN 'longtext' THEN -1
+    WHEN 'json' THEN -1
+    WHEN 'binary' THEN -2
+    WHEN 'geometry' THEN -2
+    WHEN 'varbinary' THEN -3
+    WHEN 'tinyblob' THEN -3
+    WHEN 'blob' THEN -4
+    WHEN 'mediumblob' THEN -4
+    WHEN 'longblob' THEN -4
+    ELSE 1111 -- JDBC type "Other"
+  END AS DATA_TYPE,
+  CASE
+    WHEN C.COLUMN_TYPE LIKE '%unsigned%' THEN CONCAT(UPPER(C.DATA_TYPE), ' UNSIGNED')
+    ELSE UPPER(C.DATA_TYPE)
+  END AS TYPE_NAME,
+  CASE
+    WHEN C.CHARACTER_MAXIMUM_LENGTH IS NOT NULL THEN C.CHARACTER_MAXIMUM_LENGTH
+    WHEN C.NUMERIC_PRECISION IS NOT NULL THEN C.NUMERIC_PRECISION
+    WHEN LOWER(C.DATA_TYPE) = 'date' THEN 10
+    WHEN LOWER(C.DATA_TYPE) = 'year' THEN 4
+    WHEN LOWER(C.DATA_TYPE) = 'time'
+      THEN 8 + CASE WHEN C.DATETIME_PRECISION > 0 THEN C.DATETIME_PRECISION + 1 ELSE 0 END
+    WHEN LOWER(C.DATA_TYPE) IN ('datetime', 'timestamp')
+      THEN 19 + CASE WHEN C.DATETIME_PRECISION > 0 THEN C.DATETIME_PRECISION + 1 ELSE 0 END
+    ELSE NULL
+  END AS COLUMN_SIZE,
+  CASE
+    WHEN C.NUMERIC_SCALE IS NOT NULL THEN C.NUMERIC_SCALE
+    WHEN C.DATETIME_PRECISION IS NOT NULL THEN C.DATETIME_PRECISION
+    ELSE NULL
+  END AS DECIMAL_DIGITS,
+  CASE WHEN C.EXTRA LIKE '%auto_increment%' THEN 'YES' ELSE 'NO' END AS IS_AUTOINCREMENT,
+  CASE WHEN C.EXTRA LIKE '%GENERATED%' THEN 'YES' ELSE 'NO' END AS IS_GENERATEDCOLUMN,
   C.CHARACTER_SET_NAME,
   C.COLLATION_NAME,
   C.COLUMN_TYPE,
@@ -26,7 +72,9 @@ SELECT
   C.GENERATION_EXPRESSION
 FROM
   INFORMATION_SCHEMA.COLUMNS C
+WHERE
+  C.TABLE_SCHEMA REGEXP '${schemas}'
 ORDER BY
   TABLE_CAT,
   TABLE_NAME,
-  COLUMN_NAME
+  ORDINAL_POSITION
@@ -1,6 +1,5 @@
 package schemacrawler.tools.offline;
 
-import static java.nio.file.Files.newInputStream;
 import static schemacrawler.filter.ReducerFactory.getRoutineReducer;
 import static schemacrawler.filter.ReducerFactory.getSchemaReducer;
 import static schemacrawler.filter.ReducerFactory.getSequenceReducer;
@@ -8,11 +7,9 @@ import static schemacrawler.filter.ReducerFactory.getSynonymReducer;
 import static schemacrawler.filter.ReducerFactory.getTableReducer;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.zip.GZIPInputStream;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Reducible;
@@ -26,7 +23,7 @@ import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
 import schemacrawler.schemacrawler.exceptions.IORuntimeException;
 import schemacrawler.tools.catalogloader.BaseCatalogLoader;
 import schemacrawler.tools.executable.CommandDescription;
-import schemacrawler.tools.formatter.serialize.JavaSerializedCatalog;
+import schemacrawler.tools.formatter.serialize.SnapshotUtility;
 import schemacrawler.tools.offline.jdbc.OfflineConnection;
 
 public final class OfflineCatalogLoader extends BaseCatalogLoader {
@@ -62,12 +59,7 @@ public final class OfflineCatalogLoader extends BaseCatalogLoader {
       }
 
       final Path offlineDatabasePath = dbConnection.getOfflineDatabasePath();
-      try (final InputStream inputFileStream =
-          new GZIPInputStream(newInputStream(offlineDatabasePath)); ) {
-        final JavaSerializedCatalog deserializedCatalog =
-            new JavaSerializedCatalog(inputFileStream);
-        catalog = deserializedCatalog.getCatalog();
-      }
+      catalog = SnapshotUtility.loadSnapshot(offlineDatabasePath);
       reduceCatalog(catalog);
     } catch (final IOException e) {
       throw new IORuntimeException("Could not load offline database", e);
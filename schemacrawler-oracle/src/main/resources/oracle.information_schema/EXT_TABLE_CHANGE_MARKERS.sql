@@ -0,0 +1,33 @@
+SELECT
+  NULL AS TABLE_CATALOG,
+  OBJECTS.OWNER AS TABLE_SCHEMA,
+  OBJECTS.OBJECT_NAME AS TABLE_NAME,
+  TO_CHAR(OBJECTS.LAST_DDL_TIME, 'YYYY-MM-DD"T"HH24:MI:SS')
+    || '.' || (
+      SELECT
+        COUNT(*) || ':'
+          || TO_CHAR(MAX(INDEX_OBJECTS.LAST_DDL_TIME), 'YYYY-MM-DD"T"HH24:MI:SS')
+      FROM
+        ${catalogscope}_INDEXES INDEXES
+        INNER JOIN ${catalogscope}_OBJECTS INDEX_OBJECTS
+          ON INDEX_OBJECTS.OWNER = INDEXES.OWNER
+            AND INDEX_OBJECTS.OBJECT_NAME = INDEXES.INDEX_NAME
+            AND INDEX_OBJECTS.OBJECT_TYPE = 'INDEX'
+      WHERE
+        INDEXES.TABLE_OWNER = OBJECTS.OWNER
+        AND INDEXES.TABLE_NAME = OBJECTS.OBJECT_NAME)
+    AS CHANGE_MARKER
+FROM
+  ${catalogscope}_OBJECTS OBJECTS
+  INNER JOIN ${catalogscope}_USERS USERS
+    ON OBJECTS.OWNER = USERS.USERNAME
+      AND USERS.ORACLE_MAINTAINED = 'N'
+      AND NOT REGEXP_LIKE(USERS.USERNAME, '^APEX_[0-9]{6}$')
+      AND NOT REGEXP_LIKE(USERS.USERNAME, '^FLOWS_[0-9]{5}$')
+WHERE
+  REGEXP_LIKE(OBJECTS.OWNER, '${schemas}')
+  AND OBJECTS.OBJECT_TYPE IN ('TABLE', 'VIEW')
+  AND OBJECTS.OBJECT_NAME NOT LIKE 'BIN$%'
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
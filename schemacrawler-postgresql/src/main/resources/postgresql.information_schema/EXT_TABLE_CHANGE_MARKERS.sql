@@ -0,0 +1,55 @@
+SELECT
+  CURRENT_DATABASE() AS TABLE_CATALOG,
+  NAMESPACES.NSPNAME AS TABLE_SCHEMA,
+  TABLES.RELNAME AS TABLE_NAME,
+  TABLES.XMIN::TEXT
+    || '.' || TABLES.RELFILENODE::TEXT
+    || '.' || (
+      SELECT
+        COUNT(*) || ':' || COALESCE(MAX(COLUMNS.XMIN::TEXT::BIGINT), 0)
+      FROM
+        PG_CATALOG.PG_ATTRIBUTE COLUMNS
+      WHERE
+        COLUMNS.ATTRELID = TABLES.OID
+        AND COLUMNS.ATTNUM > 0)
+    || '.' || (
+      SELECT
+        COUNT(*) || ':' || COALESCE(MAX(INDEXES.XMIN::TEXT::BIGINT), 0)
+      FROM
+        PG_CATALOG.PG_INDEX INDEXES
+      WHERE
+        INDEXES.INDRELID = TABLES.OID)
+    || '.' || (
+      SELECT
+        COUNT(*) || ':' || COALESCE(MAX(CONSTRAINTS.XMIN::TEXT::BIGINT), 0)
+      FROM
+        PG_CATALOG.PG_CONSTRAINT CONSTRAINTS
+      WHERE
+        CONSTRAINTS.CONRELID = TABLES.OID
+        OR CONSTRAINTS.CONFRELID = TABLES.OID)
+    || '.' || (
+      SELECT
+        COUNT(*) || ':' || COALESCE(MAX(TRIGGERS.XMIN::TEXT::BIGINT), 0)
+      FROM
+        PG_CATALOG.PG_TRIGGER TRIGGERS
+      WHERE
+        TRIGGERS.TGRELID = TABLES.OID)
+    || '.' || (
+      SELECT
+        COUNT(*) || ':' || COALESCE(MAX(DESCRIPTIONS.XMIN::TEXT::BIGINT), 0)
+      FROM
+        PG_CATALOG.PG_DESCRIPTION DESCRIPTIONS
+      WHERE
+        DESCRIPTIONS.OBJOID = TABLES.OID
+        AND DESCRIPTIONS.CLASSOID = 'pg_catalog.pg_class'::REGCLASS)
+    AS CHANGE_MARKER
+FROM
+  PG_CATALOG.PG_CLASS TABLES
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON TABLES.RELNAMESPACE = NAMESPACES.OID
+WHERE
+  TABLES.RELKIND IN ('r', 'p', 'v', 'm', 'f')
+  AND NAMESPACES.NSPNAME ~ '${schemas}'
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
@@ -0,0 +1,59 @@
+SELECT
+  CURRENT_DATABASE() AS PKTABLE_CAT,
+  PK_NAMESPACES.NSPNAME AS PKTABLE_SCHEM,
+  PK_TABLES.RELNAME AS PKTABLE_NAME,
+  PK_COLUMNS.ATTNAME AS PKCOLUMN_NAME,
+  CURRENT_DATABASE() AS FKTABLE_CAT,
+  FK_NAMESPACES.NSPNAME AS FKTABLE_SCHEM,
+  FK_TABLES.RELNAME AS FKTABLE_NAME,
+  FK_COLUMNS.ATTNAME AS FKCOLUMN_NAME,
+  KEY_COLUMNS.KEY_SEQ,
+  CASE CONSTRAINTS.CONFUPDTYPE
+    WHEN 'c' THEN 0
+    WHEN 'r' THEN 1
+    WHEN 'n' THEN 2
+    WHEN 'd' THEN 4
+    ELSE 3
+  END AS UPDATE_RULE,
+  CASE CONSTRAINTS.CONFDELTYPE
+    WHEN 'c' THEN 0
+    WHEN 'r' THEN 1
+    WHEN 'n' THEN 2
+    WHEN 'd' THEN 4
+    ELSE 3
+  END AS DELETE_RULE,
+  CONSTRAINTS.CONNAME AS FK_NAME,
+  PK_INDEXES.RELNAME AS PK_NAME,
+  CASE
+    WHEN CONSTRAINTS.CONDEFERRED THEN 5
+    WHEN CONSTRAINTS.CONDEFERRABLE THEN 6
+    ELSE 7
+  END AS DEFERRABILITY
+FROM
+  PG_CATALOG.PG_CONSTRAINT CONSTRAINTS
+  CROSS JOIN LATERAL UNNEST(CONSTRAINTS.CONKEY, CONSTRAINTS.CONFKEY)
+    WITH ORDINALITY AS KEY_COLUMNS(FK_ATTNUM, PK_ATTNUM, KEY_SEQ)
+  INNER JOIN PG_CATALOG.PG_CLASS FK_TABLES
+    ON CONSTRAINTS.CONRELID = FK_TABLES.OID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE FK_NAMESPACES
+    ON FK_TABLES.RELNAMESPACE = FK_NAMESPACES.OID
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE FK_COLUMNS
+    ON FK_COLUMNS.ATTRELID = FK_TABLES.OID
+      AND FK_COLUMNS.ATTNUM = KEY_COLUMNS.FK_ATTNUM
+  INNER JOIN PG_CATALOG.PG_CLASS PK_TABLES
+    ON CONSTRAINTS.CONFRELID = PK_TABLES.OID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE PK_NAMESPACES
+    ON PK_TABLES.RELNAMESPACE = PK_NAMESPACES.OID
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE PK_COLUMNS
+    ON PK_COLUMNS.ATTRELID = PK_TABLES.OID
+      AND PK_COLUMNS.ATTNUM = KEY_COLUMNS.PK_ATTNUM
+  LEFT OUTER JOIN PG_CATALOG.PG_CLASS PK_INDEXES
+    ON CONSTRAINTS.CONINDID = PK_INDEXES.OID
+WHERE
+  CONSTRAINTS.CONTYPE = 'f'
+  AND (FK_NAMESPACES.NSPNAME ~ '${schemas}' OR PK_NAMESPACES.NSPNAME ~ '${schemas}')
+ORDER BY
+  PKTABLE_SCHEM,
+  PKTABLE_NAME,
+  FK_NAME,
+  KEY_SEQ
@@ -0,0 +1,50 @@
+SELECT
+  CURRENT_DATABASE() AS TABLE_CAT,
+  NAMESPACES.NSPNAME AS TABLE_SCHEM,
+  TABLES.RELNAME AS TABLE_NAME,
+  NOT INDEXES.INDISUNIQUE AS NON_UNIQUE,
+  NULL AS INDEX_QUALIFIER,
+  INDEX_TABLES.RELNAME AS INDEX_NAME,
+  CASE
+    WHEN INDEXES.INDISCLUSTERED THEN 1 -- JDBC index type "Clustered"
+    WHEN ACCESS_METHODS.AMNAME = 'hash' THEN 2 -- JDBC index type "Hashed"
+    ELSE 3 -- JDBC index type "Other"
+  END AS TYPE,
+  INDEX_COLUMNS.ORDINAL_POSITION,
+  CASE
+    WHEN INDEX_COLUMNS.ATTNUM = 0
+      THEN PG_CATALOG.PG_GET_INDEXDEF(INDEXES.INDEXRELID, INDEX_COLUMNS.ORDINAL_POSITION::INTEGER, FALSE)
+    ELSE COLUMNS.ATTNAME
+  END AS COLUMN_NAME,
+  CASE
+    WHEN ACCESS_METHODS.AMNAME <> 'btree' THEN NULL
+    WHEN INDEXES.INDOPTION[INDEX_COLUMNS.ORDINAL_POSITION - 1] & 1 = 1 THEN 'D'
+    ELSE 'A'
+  END AS ASC_OR_DESC,
+  CAST(INDEX_TABLES.RELTUPLES AS BIGINT) AS CARDINALITY,
+  INDEX_TABLES.RELPAGES AS PAGES,
+  PG_CATALOG.PG_GET_EXPR(INDEXES.INDPRED, INDEXES.INDRELID) AS FILTER_CONDITION
+FROM
+  PG_CATALOG.PG_INDEX INDEXES
+  INNER JOIN PG_CATALOG.PG_CLASS TABLES
+    ON INDEXES.INDRELID = TABLES.OID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON TABLES.RELNAMESPACE = NAMESPACES.OID
+  INNER JOIN PG_CATALOG.PG_CLASS INDEX_TABLES
+    ON INDEXES.INDEXRELID = INDEX_TABLES.OID
+  INNER JOIN PG_CATALOG.PG_AM ACCESS_METHODS
+    ON INDEX_TABLES.RELAM = ACCESS_METHODS.OID
+  CROSS JOIN LATERAL UNNEST(INDEXES.INDKEY)
+    WITH ORDINALITY AS INDEX_COLUMNS(ATTNUM, ORDINAL_POSITION)
+  LEFT OUTER JOIN PG_CATALOG.PG_ATTRIBUTE COLUMNS
+    ON COLUMNS.ATTRELID = TABLES.OID
+      AND COLUMNS.ATTNUM = INDEX_COLUMNS.ATTNUM
+WHERE
+  NAMESPACES.NSPNAME ~ '${schemas}'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  INDEX_NAME,
+  NON_UNIQUE,
+  TYPE,
+  ORDINAL_POSITION
@@ -0,0 +1,26 @@
+SELECT
+  CURRENT_DATABASE() AS TABLE_CAT,
+  NAMESPACES.NSPNAME AS TABLE_SCHEM,
+  TABLES.RELNAME AS TABLE_NAME,
+  CONSTRAINTS.CONNAME AS PK_NAME,
+  KEY_COLUMNS.KEY_SEQ,
+  COLUMNS.ATTNAME AS COLUMN_NAME
+FROM
+  PG_CATALOG.PG_CONSTRAINT CONSTRAINTS
+  INNER JOIN PG_CATALOG.PG_CLASS TABLES
+    ON CONSTRAINTS.CONRELID = TABLES.OID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON TABLES.RELNAMESPACE = NAMESPACES.OID
+  CROSS JOIN LATERAL UNNEST(CONSTRAINTS.CONKEY)
+    WITH ORDINALITY AS KEY_COLUMNS(ATTNUM, KEY_SEQ)
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE COLUMNS
+    ON COLUMNS.ATTRELID = TABLES.OID
+      AND COLUMNS.ATTNUM = KEY_COLUMNS.ATTNUM
+WHERE
+  CONSTRAINTS.CONTYPE = 'p'
+  AND NAMESPACES.NSPNAME ~ '${schemas}'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  PK_NAME,
+  KEY_SEQ
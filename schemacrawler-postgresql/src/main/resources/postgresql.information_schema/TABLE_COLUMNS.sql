@@ -0,0 +1,111 @@
+SELECT
+  CURRENT_DATABASE() AS TABLE_CAT,
+  COLUMNS.TABLE_SCHEM,
+  COLUMNS.TABLE_NAME,
+  COLUMNS.COLUMN_NAME,
+  CASE
+    WHEN COLUMNS.TYPCATEGORY = 'A' THEN 2003
+    WHEN COLUMNS.TYPNAME IN ('bool', 'bit') THEN -7
+    WHEN COLUMNS.TYPNAME = 'int2' THEN 5
+    WHEN COLUMNS.TYPNAME = 'int4' THEN 4
+    WHEN COLUMNS.TYPNAME IN ('int8', 'oid') THEN -5
+    WHEN COLUMNS.TYPNAME = 'numeric' THEN 2
+    WHEN COLUMNS.TYPNAME = 'float4' THEN 7
+    WHEN COLUMNS.TYPNAME IN ('float8', 'money') THEN 8
+    WHEN COLUMNS.TYPNAME IN ('char', 'bpchar') THEN 1
+    WHEN COLUMNS.TYPNAME IN ('varchar', 'text', 'name') THEN 12
+    WHEN COLUMNS.TYPNAME = 'bytea' THEN -2
+    WHEN COLUMNS.TYPNAME = 'date' THEN 91
+    WHEN COLUMNS.TYPNAME IN ('time', 'timetz') THEN 92
+    WHEN COLUMNS.TYPNAME IN ('timestamp', 'timestamptz') THEN 93
+    WHEN COLUMNS.TYPNAME = 'xml' THEN 2009
+    WHEN COLUMNS.TYPNAME = 'refcursor' THEN 2012
+    ELSE 1111 -- JDBC type "Other"
+  END AS DATA_TYPE,
+  CASE
+    WHEN COLUMNS.COLUMN_DEF LIKE 'nextval(%' AND COLUMNS.TYPNAME = 'int2' THEN 'smallserial'
+    WHEN COLUMNS.COLUMN_DEF LIKE 'nextval(%' AND COLUMNS.TYPNAME = 'int4' THEN 'serial'
+    WHEN COLUMNS.COLUMN_DEF LIKE 'nextval(%' AND COLUMNS.TYPNAME = 'int8' THEN 'bigserial'
+    ELSE COLUMNS.TYPNAME
+  END AS TYPE_NAME,
+  CASE
+    WHEN COLUMNS.TYPNAME IN ('varchar', 'bpchar') AND COLUMNS.TYPMOD > 4 THEN COLUMNS.TYPMOD - 4
+    WHEN COLUMNS.TYPNAME = 'numeric' AND COLUMNS.TYPMOD > 4 THEN ((COLUMNS.TYPMOD - 4) >> 16) & 65535
+    WHEN COLUMNS.TYPNAME = 'numeric' THEN 1000
+    WHEN COLUMNS.TYPNAME = 'bool' THEN 1
+    WHEN COLUMNS.TYPNAME = 'int2' THEN 5
+    WHEN COLUMNS.TYPNAME = 'int4' THEN 10
+    WHEN COLUMNS.TYPNAME IN ('int8', 'oid') THEN 19
+    WHEN COLUMNS.TYPNAME = 'float4' THEN 8
+    WHEN COLUMNS.TYPNAME IN ('float8', 'money') THEN 17
+    WHEN COLUMNS.TYPNAME = 'date' THEN 13
+    WHEN COLUMNS.TYPNAME = 'time' THEN 15
+    WHEN COLUMNS.TYPNAME = 'timetz' THEN 21
+    WHEN COLUMNS.TYPNAME = 'timestamp' THEN 29
+    WHEN COLUMNS.TYPNAME = 'timestamptz' THEN 35
+    WHEN COLUMNS.TYPNAME = 'char' THEN 1
+    WHEN COLUMNS.TYPNAME = 'name' THEN 63
+    ELSE 2147483647
+  END AS COLUMN_SIZE,
+  CASE
+    WHEN COLUMNS.TYPNAME = 'numeric' AND COLUMNS.TYPMOD > 4 THEN (COLUMNS.TYPMOD - 4) & 65535
+    WHEN COLUMNS.TYPNAME = 'float4' THEN 8
+    WHEN COLUMNS.TYPNAME IN ('float8', 'money') THEN 17
+    WHEN COLUMNS.TYPNAME IN ('time', 'timetz', 'timestamp', 'timestamptz')
+      THEN CASE WHEN COLUMNS.TYPMOD >= 0 THEN COLUMNS.TYPMOD ELSE 6 END
+    ELSE 0
+  END AS DECIMAL_DIGITS,
+  CASE WHEN COLUMNS.NOT_NULL THEN 0 ELSE 1 END AS NULLABLE,
+  COLUMNS.REMARKS,
+  COLUMNS.COLUMN_DEF,
+  COLUMNS.ORDINAL_POSITION,
+  CASE
+    WHEN COLUMNS.COLUMN_DEF LIKE 'nextval(%' OR COLUMNS.ATTIDENTITY <> '' THEN 'YES'
+    ELSE 'NO'
+  END AS IS_AUTOINCREMENT,
+  'NO' AS IS_GENERATEDCOLUMN
+FROM
+  (
+    SELECT
+      NAMESPACES.NSPNAME AS TABLE_SCHEM,
+      TABLES.RELNAME AS TABLE_NAME,
+      ATTRIBUTES.ATTNAME AS COLUMN_NAME,
+      ATTRIBUTES.ATTNUM AS ORDINAL_POSITION,
+      ATTRIBUTES.ATTIDENTITY,
+      BASE_TYPES.TYPNAME,
+      BASE_TYPES.TYPCATEGORY,
+      CASE
+        WHEN TYPES.TYPTYPE = 'd' THEN TYPES.TYPTYPMOD
+        ELSE ATTRIBUTES.ATTTYPMOD
+      END AS TYPMOD,
+      ATTRIBUTES.ATTNOTNULL OR TYPES.TYPNOTNULL AS NOT_NULL,
+      PG_CATALOG.PG_GET_EXPR(DEFAULTS.ADBIN, DEFAULTS.ADRELID) AS COLUMN_DEF,
+      DESCRIPTIONS.DESCRIPTION AS REMARKS
+    FROM
+      PG_CATALOG.PG_ATTRIBUTE ATTRIBUTES
+      INNER JOIN PG_CATALOG.PG_CLASS TABLES
+        ON ATTRIBUTES.ATTRELID = TABLES.OID
+      INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+        ON TABLES.RELNAMESPACE = NAMESPACES.OID
+      INNER JOIN PG_CATALOG.PG_TYPE TYPES
+        ON ATTRIBUTES.ATTTYPID = TYPES.OID
+      INNER JOIN PG_CATALOG.PG_TYPE BASE_TYPES
+        ON BASE_TYPES.OID =
+          CASE WHEN TYPES.TYPTYPE = 'd' THEN TYPES.TYPBASETYPE ELSE TYPES.OID END
+      LEFT OUTER JOIN PG_CATALOG.PG_ATTRDEF DEFAULTS
+        ON ATTRIBUTES.ATTRELID = DEFAULTS.ADRELID
+          AND ATTRIBUTES.ATTNUM = DEFAULTS.ADNUM
+      LEFT OUTER JOIN PG_CATALOG.PG_DESCRIPTION DESCRIPTIONS
+        ON DESCRIPTIONS.OBJOID = TABLES.OID
+          AND DESCRIPTIONS.OBJSUBID = ATTRIBUTES.ATTNUM
+          AND DESCRIPTIONS.CLASSOID = 'pg_catalog.pg_class'::REGCLASS
+    WHERE
+      TABLES.RELKIND IN ('r', 'p', 'v', 'm', 'f')
+      AND ATTRIBUTES.ATTNUM > 0
+      AND NOT ATTRIBUTES.ATTISDROPPED
+      AND NAMESPACES.NSPNAME ~ '${schemas}'
+  ) COLUMNS
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  ORDINAL_POSITION
@@ -30,19 +30,25 @@ package schemacrawler.tools.command.serialize;
 
 import static java.nio.file.Files.newOutputStream;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.zip.GZIPOutputStream;
 
+import schemacrawler.crawl.CatalogDelta;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.exceptions.ConfigurationException;
 import schemacrawler.schemacrawler.exceptions.IORuntimeException;
 import schemacrawler.schemacrawler.exceptions.InternalRuntimeException;
+import schemacrawler.tools.command.serialize.options.SerializationCompression;
 import schemacrawler.tools.command.serialize.options.SerializationFormat;
 import schemacrawler.tools.command.serialize.options.SerializationOptions;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
 import schemacrawler.tools.formatter.serialize.CatalogSerializer;
+import schemacrawler.tools.formatter.serialize.IndexedSerializedCatalog;
+import schemacrawler.tools.formatter.serialize.SnapshotUtility;
 import schemacrawler.tools.options.OutputOptionsBuilder;
 
 /** Main executor for the serialization integration. */
@@ -67,6 +73,7 @@ public final class SerializationCommand extends BaseSchemaCrawlerCommand<Seriali
 
     final SerializationFormat serializationFormat =
         SerializationFormat.fromFormat(outputOptions.getOutputFormatValue());
+    checkBinaryFormatOptions(serializationFormat);
 
     final String serializerClassName = serializationFormat.getSerializerClassName();
     final CatalogSerializer catalogSerializer;
@@ -87,8 +94,22 @@ public final class SerializationCommand extends BaseSchemaCrawlerCommand<Seriali
       outputOptions =
           OutputOptionsBuilder.builder(outputOptions).withOutputFile(outputFile).toOptions();
 
-      try (final OutputStream out = new GZIPOutputStream(newOutputStream(outputFile))) {
-        catalogSerializer.save(out);
+      final SerializationCompression compression = commandOptions.getCompression();
+      if (catalogSerializer instanceof IndexedSerializedCatalog) {
+        saveIndexedSnapshot((IndexedSerializedCatalog) catalogSerializer, outputFile, compression);
+        return;
+      }
+
+      final Catalog baseCatalog = loadBaseSnapshot(outputFile);
+
+      try (final OutputStream out =
+          compression.newOutputStream(
+              newOutputStream(outputFile), commandOptions.getCompressionLevel())) {
+        if (baseCatalog == null) {
+          catalogSerializer.save(out);
+        } else {
+          CatalogDelta.writeCatalogDelta(baseCatalog, baseSnapshotName(outputFile), catalog, out);
+        }
       } catch (final IOException e) {
         throw new IORuntimeException("Could not save catalog", e);
       }
@@ -98,4 +119,97 @@ public final class SerializationCommand extends BaseSchemaCrawlerCommand<Seriali
       // NOTE: Jackson closes the output writer, so no need for a try-with-resources block
     }
   }
+
+  /**
+   * Names the base snapshot relative to the directory of the output file where possible, so that
+   * snapshots can be moved together.
+   */
+  private String baseSnapshotName(final Path outputFile) {
+    final Path baseSnapshot = commandOptions.getBaseSnapshot().toAbsolutePath().normalize();
+    final Path outputDirectory = outputFile.toAbsolutePath().normalize().getParent();
+    try {
+      return outputDirectory.relativize(baseSnapshot).toString();
+    } catch (final IllegalArgumentException e) {
+      return baseSnapshot.toString();
+    }
+  }
+
+  /**
+   * Catalog deltas and compression are only supported for binary formats, so fail rather than
+   * ignore the options. Indexed snapshots are read a table at a time from a file, so they cannot be
+   * saved as catalog deltas.
+   */
+  private void checkBinaryFormatOptions(final SerializationFormat serializationFormat) {
+    if (serializationFormat == SerializationFormat.indexed && commandOptions.hasBaseSnapshot()) {
+      throw new ConfigurationException(
+          String.format(
+              "Base snapshot cannot be used with <%s> serialization",
+              serializationFormat.getFormat()));
+    }
+    if (serializationFormat.isBinaryFormat()) {
+      return;
+    }
+    if (commandOptions.hasBaseSnapshot()) {
+      throw new ConfigurationException(
+          String.format(
+              "Base snapshot cannot be used with <%s> serialization, only with binary formats",
+              serializationFormat.getFormat()));
+    }
+    if (commandOptions.hasCompression()) {
+      throw new ConfigurationException(
+          String.format(
+              "Compression cannot be used with <%s> serialization, only with binary formats",
+              serializationFormat.getFormat()));
+    }
+  }
+
+  /**
+   * Indexed snapshots are compressed one block at a time, so that blocks can be read directly from
+   * the file, rather than compressing the whole file.
+   */
+  private void saveIndexedSnapshot(
+      final IndexedSerializedCatalog catalogSerializer,
+      final Path outputFile,
+      final SerializationCompression compression) {
+    final Integer compressionLevel;
+    if (compression == SerializationCompression.none) {
+      compressionLevel = null;
+    } else {
+      compressionLevel = commandOptions.getCompressionLevel();
+    }
+    try (final OutputStream out =
+        new BufferedOutputStream(newOutputStream(outputFile), 64 * 1024)) {
+      catalogSerializer.save(out, compressionLevel);
+    } catch (final IOException e) {
+      throw new IORuntimeException("Could not save catalog", e);
+    }
+  }
+
+  private boolean isSameFile(final Path baseSnapshot, final Path outputFile) throws IOException {
+    if (baseSnapshot.toAbsolutePath().normalize().equals(outputFile.toAbsolutePath().normalize())) {
+      return true;
+    }
+    return Files.exists(baseSnapshot)
+        && Files.exists(outputFile)
+        && Files.isSameFile(baseSnapshot, outputFile);
+  }
+
+  private Catalog loadBaseSnapshot(final Path outputFile) {
+    if (!commandOptions.hasBaseSnapshot()) {
+      return null;
+    }
+    final Path baseSnapshot = commandOptions.getBaseSnapshot();
+    try {
+      // A delta that is its own base snapshot could never be loaded
+      if (isSameFile(baseSnapshot, outputFile)) {
+        throw new ConfigurationException(
+            String.format(
+                "Base snapshot <%s> cannot be the same as the output file", baseSnapshot));
+      }
+      return SnapshotUtility.loadSnapshot(baseSnapshot);
+    } catch (final IOException e) {
+      throw new IORuntimeException(
+          String.format("Could not load base snapshot <%s>", baseSnapshot), e);
+    }
+  }
 }
@@ -29,8 +29,12 @@ package schemacrawler.tools.command.serialize;
 
 import static schemacrawler.tools.executable.commandline.PluginCommand.newPluginCommand;
 
+import java.nio.file.Path;
+
+import schemacrawler.tools.command.serialize.options.SerializationCompression;
 import schemacrawler.tools.command.serialize.options.SerializationFormat;
 import schemacrawler.tools.command.serialize.options.SerializationOptions;
+import schemacrawler.tools.command.serialize.options.SerializationOptionsBuilder;
 import schemacrawler.tools.executable.BaseCommandProvider;
 import schemacrawler.tools.executable.CommandDescription;
 import schemacrawler.tools.executable.commandline.PluginCommand;
@@ -59,7 +63,30 @@ public class SerializationCommandProvider extends BaseCommandProvider {
                 new String[] {
                   "Deserialization is possible with the \"offline\" command for Java serialization"
                 });
-
+    pluginCommand
+        .addOption(
+            "base-snapshot",
+            Path.class,
+            "Path to a base snapshot, to save only the changes since the base snapshot "
+                + "as a catalog delta%n"
+                + "Optional, defaults to saving a complete snapshot%n"
+                + "Corresponds to the configuration file setting: "
+                + "schemacrawler.serialize.base-snapshot")
+        .addOption(
+            "compression",
+            SerializationCompression.class,
+            "Compression for Java serialization snapshots%n"
+                + "Optional, defaults to gzip%n"
+                + "Corresponds to the configuration file setting: "
+                + "schemacrawler.serialize.compression")
+        .addOption(
+            "compression-level",
+            int.class,
+            "Compression level, from 0 for fastest to 9 for smallest, "
+                + "or -1 for the default level%n"
+                + "Optional, defaults to -1%n"
+                + "Corresponds to the configuration file setting: "
+                + "schemacrawler.serialize.compression-level");
     return pluginCommand;
   }
 
@@ -77,8 +104,11 @@ public class SerializationCommandProvider extends BaseCommandProvider {
 
   @Override
   public SerializationCommand newSchemaCrawlerCommand(final String command, final Config config) {
+    final SerializationOptions serializationOptions =
+        SerializationOptionsBuilder.builder().fromConfig(config).toOptions();
+
     final SerializationCommand scCommand = new SerializationCommand();
-    scCommand.setCommandOptions(new SerializationOptions());
+    scCommand.setCommandOptions(serializationOptions);
     return scCommand;
   }
 
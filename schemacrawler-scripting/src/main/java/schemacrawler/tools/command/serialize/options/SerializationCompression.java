@@ -0,0 +1,66 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.command.serialize.options;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+
+import us.fatehi.utility.ioresource.ParallelGZIPOutputStream;
+
+/** Compression for binary serialization formats, such as offline catalog snapshots. */
+public enum SerializationCompression {
+
+  /** No compression, for snapshots that are kept in a fast local cache. */
+  none {
+    @Override
+    public OutputStream newOutputStream(final OutputStream out, final int level) {
+      return new BufferedOutputStream(out, 64 * 1024);
+    }
+  },
+
+  /**
+   * Gzip compression, in blocks that are compressed in parallel. The output can be read by any
+   * gzip reader.
+   */
+  gzip {
+    @Override
+    public OutputStream newOutputStream(final OutputStream out, final int level) {
+      return new ParallelGZIPOutputStream(out, level);
+    }
+  };
+
+  /**
+   * Wraps an output stream, so that data written to it is compressed.
+   *
+   * @param out Output stream to write compressed data to
+   * @param level Compression level, from 0 to 9, or -1 for the default level
+   * @return Compressing output stream
+   */
+  public abstract OutputStream newOutputStream(OutputStream out, int level);
+}
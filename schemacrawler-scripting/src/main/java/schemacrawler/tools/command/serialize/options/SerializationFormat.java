@@ -46,7 +46,11 @@ public enum SerializationFormat implements OutputFormat {
   yaml(
       "YAML Ain't Markup Language (YAML) serialization format",
       "schemacrawler.tools.formatter.serialize.YamlSerializedCatalog",
-      false);
+      false),
+  indexed(
+      "Java serialization, indexed by table",
+      "schemacrawler.tools.formatter.serialize.IndexedSerializedCatalog",
+      true);
 
   private static final Logger LOGGER =
       Logger.getLogger(SerializationFormat.class.getName());
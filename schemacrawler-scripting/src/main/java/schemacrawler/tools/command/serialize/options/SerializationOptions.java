@@ -27,6 +27,77 @@ http://www.gnu.org/licenses/
 */
 package schemacrawler.tools.command.serialize.options;
 
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+
 import schemacrawler.tools.executable.CommandOptions;
 
-public class SerializationOptions implements CommandOptions {}
+public class SerializationOptions implements CommandOptions {
+
+  private final Path baseSnapshot;
+  private final SerializationCompression compression;
+  private final int compressionLevel;
+
+  /** Creates serialization options with default settings. */
+  public SerializationOptions() {
+    this(SerializationOptionsBuilder.builder());
+  }
+
+  public SerializationOptions(final SerializationOptionsBuilder builder) {
+    requireNonNull(builder, "No builder provided");
+    compression = builder.compression;
+    compressionLevel = builder.compressionLevel;
+    baseSnapshot = builder.baseSnapshot;
+  }
+
+  /**
+   * Gets the base snapshot for binary serialization formats. If there is a base snapshot, only the
+   * changes since the base snapshot are saved, as a catalog delta.
+   *
+   * @return Base snapshot file, or null if complete snapshots are saved
+   */
+  public Path getBaseSnapshot() {
+    return baseSnapshot;
+  }
+
+  /**
+   * Gets the compression for binary serialization formats.
+   *
+   * @return Compression
+   */
+  public SerializationCompression getCompression() {
+    if (compression == null) {
+      return SerializationCompression.gzip;
+    }
+    return compression;
+  }
+
+  /**
+   * Gets the compression level, from 0 to 9, or -1 for the default level.
+   *
+   * @return Compression level
+   */
+  public int getCompressionLevel() {
+    return compressionLevel;
+  }
+
+  /**
+   * Checks if compression, or a compression level, was set rather than defaulted.
+   *
+   * @return True if compression was set
+   */
+  public boolean hasCompression() {
+    return compression != null || compressionLevel != Deflater.DEFAULT_COMPRESSION;
+  }
+
+  /**
+   * Checks if there is a base snapshot to save catalog deltas against.
+   *
+   * @return True if there is a base snapshot
+   */
+  public boolean hasBaseSnapshot() {
+    return baseSnapshot != null;
+  }
+}
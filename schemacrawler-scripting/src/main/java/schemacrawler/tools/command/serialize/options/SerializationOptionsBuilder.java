@@ -0,0 +1,178 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.command.serialize.options;
+
+import static us.fatehi.utility.Utility.isBlank;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.Deflater;
+
+import schemacrawler.schemacrawler.OptionsBuilder;
+import schemacrawler.tools.options.Config;
+import schemacrawler.tools.options.ConfigOptionsBuilder;
+
+public final class SerializationOptionsBuilder
+    implements OptionsBuilder<SerializationOptionsBuilder, SerializationOptions>,
+        ConfigOptionsBuilder<SerializationOptionsBuilder, SerializationOptions> {
+
+  private static final String CLI_BASE_SNAPSHOT = "base-snapshot";
+  private static final String CLI_COMPRESSION = "compression";
+  private static final String CLI_COMPRESSION_LEVEL = "compression-level";
+  private static final String SCHEMACRAWLER_SERIALIZE_PREFIX = "schemacrawler.serialize.";
+  private static final String BASE_SNAPSHOT = SCHEMACRAWLER_SERIALIZE_PREFIX + CLI_BASE_SNAPSHOT;
+  private static final String COMPRESSION = SCHEMACRAWLER_SERIALIZE_PREFIX + CLI_COMPRESSION;
+  private static final String COMPRESSION_LEVEL =
+      SCHEMACRAWLER_SERIALIZE_PREFIX + CLI_COMPRESSION_LEVEL;
+
+  public static SerializationOptionsBuilder builder() {
+    return new SerializationOptionsBuilder();
+  }
+
+  public static SerializationOptionsBuilder builder(final SerializationOptions options) {
+    return new SerializationOptionsBuilder().fromOptions(options);
+  }
+
+  Path baseSnapshot;
+  SerializationCompression compression;
+  int compressionLevel;
+
+  private SerializationOptionsBuilder() {
+    compressionLevel = Deflater.DEFAULT_COMPRESSION;
+  }
+
+  @Override
+  public SerializationOptionsBuilder fromConfig(final Config config) {
+    if (config == null) {
+      return this;
+    }
+
+    final String compressionKey;
+    if (config.containsKey(CLI_COMPRESSION)) {
+      // Honor command-line option first
+      compressionKey = CLI_COMPRESSION;
+    } else {
+      // Otherwise, take option from SchemaCrawler configuration file
+      compressionKey = COMPRESSION;
+    }
+    if (config.containsKey(compressionKey)) {
+      withCompression(config.getEnumValue(compressionKey, SerializationCompression.gzip));
+    } else {
+      withCompression(null);
+    }
+
+    final String compressionLevelKey;
+    if (config.containsKey(CLI_COMPRESSION_LEVEL)) {
+      // Honor command-line option first
+      compressionLevelKey = CLI_COMPRESSION_LEVEL;
+    } else {
+      // Otherwise, take option from SchemaCrawler configuration file
+      compressionLevelKey = COMPRESSION_LEVEL;
+    }
+    withCompressionLevel(
+        config.getIntegerValue(compressionLevelKey, Deflater.DEFAULT_COMPRESSION));
+
+    final String baseSnapshotKey;
+    if (config.containsKey(CLI_BASE_SNAPSHOT)) {
+      // Honor command-line option first
+      baseSnapshotKey = CLI_BASE_SNAPSHOT;
+    } else {
+      // Otherwise, take option from SchemaCrawler configuration file
+      baseSnapshotKey = BASE_SNAPSHOT;
+    }
+    final String baseSnapshotValue = config.getStringValue(baseSnapshotKey, null);
+    if (isBlank(baseSnapshotValue)) {
+      withBaseSnapshot(null);
+    } else {
+      withBaseSnapshot(Paths.get(baseSnapshotValue));
+    }
+
+    return this;
+  }
+
+  @Override
+  public SerializationOptionsBuilder fromOptions(final SerializationOptions options) {
+    if (options == null) {
+      return this;
+    }
+
+    compression = options.hasCompression() ? options.getCompression() : null;
+    compressionLevel = options.getCompressionLevel();
+    baseSnapshot = options.getBaseSnapshot();
+
+    return this;
+  }
+
+  @Override
+  public Config toConfig() {
+    final Config config = new Config();
+    if (compression != null) {
+      config.put(COMPRESSION, compression);
+    }
+    config.put(COMPRESSION_LEVEL, compressionLevel);
+    if (baseSnapshot != null) {
+      config.put(BASE_SNAPSHOT, baseSnapshot.toString());
+    }
+    return config;
+  }
+
+  @Override
+  public SerializationOptions toOptions() {
+    return new SerializationOptions(this);
+  }
+
+  /**
+   * With a base snapshot for binary serialization formats, so that only the changes since the
+   * base snapshot are saved. A null value saves complete snapshots.
+   */
+  public SerializationOptionsBuilder withBaseSnapshot(final Path baseSnapshot) {
+    this.baseSnapshot = baseSnapshot;
+    return this;
+  }
+
+  /**
+   * With compression for binary serialization formats. A null value uses the default gzip
+   * compression.
+   */
+  public SerializationOptionsBuilder withCompression(final SerializationCompression compression) {
+    this.compression = compression;
+    return this;
+  }
+
+  /** With compression level, from 0 to 9, or -1 for the default level. */
+  public SerializationOptionsBuilder withCompressionLevel(final int compressionLevel) {
+    if (compressionLevel < Deflater.DEFAULT_COMPRESSION
+        || compressionLevel > Deflater.BEST_COMPRESSION) {
+      this.compressionLevel = Deflater.DEFAULT_COMPRESSION;
+    } else {
+      this.compressionLevel = compressionLevel;
+    }
+    return this;
+  }
+}
@@ -32,17 +32,21 @@ import static com.fasterxml.jackson.databind.SerializationFeature.ORDER_MAP_ENTR
 import static com.fasterxml.jackson.databind.SerializationFeature.USE_EQUALITY_FOR_OBJECT_ID;
 import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_ENUMS_USING_TO_STRING;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.naturalOrder;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
@@ -73,9 +77,16 @@ public abstract class BaseJacksonSerializedCatalog implements CatalogSerializer
 
   private static class IgnoreExceptionBeanPropertyFilter extends SimpleBeanPropertyFilter {
 
-    private static final List<String> PARTIAL_PROPERTIES =
-        Arrays.asList(
-            "name", "short-name", "full-name", "attributes", "parent-partial", "remarks", "schema");
+    private static final Set<String> PARTIAL_PROPERTIES =
+        new HashSet<>(
+            Arrays.asList(
+                "name",
+                "short-name",
+                "full-name",
+                "attributes",
+                "parent-partial",
+                "remarks",
+                "schema"));
 
     @Override
     public void serializeAsField(
@@ -110,17 +121,46 @@ public abstract class BaseJacksonSerializedCatalog implements CatalogSerializer
     }
   }
 
+  /** Read-only set view of a sorted list of distinct columns. */
+  private static final class SortedColumns extends AbstractSet<Column> {
+
+    private final List<Column> columns;
+
+    SortedColumns(final List<Column> columns) {
+      this.columns = Collections.unmodifiableList(columns);
+    }
+
+    @Override
+    public Iterator<Column> iterator() {
+      return columns.iterator();
+    }
+
+    @Override
+    public int size() {
+      return columns.size();
+    }
+  }
+
   private final Catalog catalog;
-  private final SortedSet<Column> allTableColumns;
 
   public BaseJacksonSerializedCatalog(final Catalog catalog) {
     this.catalog = requireNonNull(catalog, "No catalog provided");
-    allTableColumns = new TreeSet<>();
-    loadAllTableColumns();
   }
 
+  /**
+   * Gets the columns of all tables in the catalog, in sorted order. The columns are collected only
+   * when they are serialized, and are held in a sorted list rather than a tree, since there can be
+   * millions of them in a large catalog. The returned set is a read-only view of that list.
+   *
+   * @return Columns of all tables
+   */
   public Set<Column> getAllTableColumns() {
-    return new TreeSet<>(allTableColumns);
+    final List<Column> allTableColumns = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      allTableColumns.addAll(table.getColumns());
+    }
+    allTableColumns.sort(naturalOrder());
+    return new SortedColumns(allTableColumns);
   }
 
   @Override
@@ -149,14 +189,6 @@ public abstract class BaseJacksonSerializedCatalog implements CatalogSerializer
 
   protected abstract ObjectMapper newObjectMapper();
 
-  private void loadAllTableColumns() {
-    for (final Table table : catalog.getTables()) {
-      for (final Column column : table.getColumns()) {
-        allTableColumns.add(column);
-      }
-    }
-  }
-
   private ObjectMapper newConfiguredObjectMapper() {
 
     @JsonIgnoreProperties({
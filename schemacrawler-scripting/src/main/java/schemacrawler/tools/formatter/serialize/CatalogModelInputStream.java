@@ -56,6 +56,7 @@ final class CatalogModelInputStream extends ObjectInputStream {
 
   CatalogModelInputStream(final InputStream input) throws IOException {
     super(requireNonNull(input, "No input stream provided"));
+    enableResolveObject(true);
   }
 
   @Override
@@ -65,6 +66,18 @@ final class CatalogModelInputStream extends ObjectInputStream {
     return super.resolveClass(objectStreamClass);
   }
 
+  /**
+   * Definitions, and trigger action conditions and statements, were serialized as string builders
+   * by earlier versions, and are now strings.
+   */
+  @Override
+  protected Object resolveObject(final Object obj) throws IOException {
+    if (obj instanceof StringBuilder) {
+      return obj.toString();
+    }
+    return super.resolveObject(obj);
+  }
+
   private void validateClassName(final String className) throws InvalidClassException {
     for (final Pattern pattern : acceptPatterns) {
       if (pattern.matcher(className).matches()) {
@@ -0,0 +1,89 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.formatter.serialize;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.zip.Deflater;
+
+import schemacrawler.crawl.IndexedCatalogSnapshot;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.exceptions.IORuntimeException;
+
+/**
+ * Decorates a database to allow for serialization to an indexed snapshot, which has the details of
+ * each table in a block of its own, so that they can be read when they are first accessed. Indexed
+ * snapshots are read from files, with {@link SnapshotUtility}.
+ */
+public final class IndexedSerializedCatalog implements CatalogSerializer {
+
+  private final Catalog catalog;
+
+  public IndexedSerializedCatalog(final Catalog catalog) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+  }
+
+  @Override
+  public Catalog getCatalog() {
+    return catalog;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void save(final OutputStream out) {
+    save(out, Deflater.DEFAULT_COMPRESSION);
+  }
+
+  /**
+   * Serialize catalog to a binary stream, with each block of the snapshot compressed on its own.
+   * The output stream should not compress the snapshot as a whole, since blocks are read directly
+   * from the snapshot file.
+   *
+   * @param out Output stream
+   * @param compressionLevel Compression level for each block, from 0 to 9, or -1 for the default
+   *     level, or null to not compress blocks
+   */
+  public void save(final OutputStream out, final Integer compressionLevel) {
+    requireNonNull(out, "No output stream provided");
+    try {
+      IndexedCatalogSnapshot.writeIndexedSnapshot(catalog, out, compressionLevel);
+      out.flush();
+    } catch (final IOException e) {
+      throw new IORuntimeException("Could not serialize catalog", e);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void save(final Writer out) {
+    throw new UnsupportedOperationException("Cannot serialize binary format using character data");
+  }
+}
@@ -0,0 +1,124 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.formatter.serialize;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import schemacrawler.crawl.CatalogDelta;
+import schemacrawler.crawl.IndexedCatalogSnapshot;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.exceptions.IORuntimeException;
+import us.fatehi.utility.UtilityMarker;
+import us.fatehi.utility.ioresource.ParallelGZIPInputStream;
+
+/**
+ * Loads catalogs from offline snapshot files. A snapshot file has either a complete catalog, or a
+ * catalog delta against a base snapshot file, which is loaded first. The base snapshot may itself
+ * be a delta, so a chain of deltas is applied in turn to the first complete snapshot. A complete
+ * catalog may also be an indexed snapshot, which has table details read from the file on access.
+ */
+@UtilityMarker
+public final class SnapshotUtility {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * Loads a catalog from a snapshot file, which may be gzip compressed. Base snapshots of catalog
+   * deltas are looked up relative to the directory of the snapshot file that refers to them.
+   *
+   * @param snapshotFile Snapshot file
+   * @return Catalog
+   * @throws IOException On an exception reading a snapshot file
+   */
+  public static Catalog loadSnapshot(final Path snapshotFile) throws IOException {
+    requireNonNull(snapshotFile, "No snapshot file provided");
+    return loadSnapshot(snapshotFile, new HashSet<>());
+  }
+
+  private static Catalog loadSnapshot(final Path snapshotFile, final Set<Path> loadedFiles)
+      throws IOException {
+    if (!loadedFiles.add(snapshotFile.toAbsolutePath().normalize())) {
+      throw new IOException(String.format("Base snapshots refer back to <%s>", snapshotFile));
+    }
+
+    if (IndexedCatalogSnapshot.isIndexedSnapshot(snapshotFile)) {
+      return IndexedCatalogSnapshot.readIndexedSnapshot(snapshotFile);
+    }
+
+    try (final InputStream in = openSnapshot(snapshotFile)) {
+      if (CatalogDelta.isCatalogDelta(in)) {
+        return CatalogDelta.readCatalogDelta(
+            in,
+            baseName -> {
+              try {
+                return loadSnapshot(snapshotFile.resolveSibling(baseName), loadedFiles);
+              } catch (final IOException e) {
+                throw new IORuntimeException(
+                    String.format("Could not load base snapshot <%s>", baseName), e);
+              }
+            });
+      }
+      return new JavaSerializedCatalog(in).getCatalog();
+    }
+  }
+
+  /**
+   * Opens a snapshot file, which is gzip compressed unless compression was turned off when the
+   * snapshot was written. Compressed snapshots are found by the gzip magic number.
+   */
+  private static InputStream openSnapshot(final Path snapshotFile) throws IOException {
+    final InputStream in = new BufferedInputStream(Files.newInputStream(snapshotFile), BUFFER_SIZE);
+    in.mark(2);
+    final boolean isCompressed = in.read() == 0x1f && in.read() == 0x8b;
+    in.reset();
+    if (isCompressed) {
+      try {
+        // Buffer the decompressed stream too, so that it can be checked for a catalog delta
+        return new BufferedInputStream(new ParallelGZIPInputStream(in), BUFFER_SIZE);
+      } catch (final IOException | RuntimeException e) {
+        // The gzip header is read on construction, so close the file if it is not valid
+        in.close();
+        throw e;
+      }
+    }
+    return in;
+  }
+
+  private SnapshotUtility() {
+    // Prevent instantiation
+  }
+}
@@ -35,10 +35,12 @@ import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
 import static schemacrawler.test.utility.TestUtility.fileHeaderOf;
 import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
 
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
@@ -47,7 +49,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
 import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.Trigger;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.test.utility.DatabaseTestUtility;
 import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
@@ -89,4 +95,45 @@ public class CatalogJavaSerializationTest {
         catalogDeserialized.getTables(schemaDeserialized),
         hasSize(10));
   }
+
+  /** Snapshot saved by an earlier version, with the lookup maps and string builders of the time. */
+  @Test
+  public void catalogDeserializationFromEarlierVersion() throws Exception {
+    final Catalog catalog;
+    try (final InputStream in =
+        CatalogJavaSerializationTest.class.getResourceAsStream("/legacy_catalog.ser")) {
+      catalog = new JavaSerializedCatalog(in).getCatalog();
+    }
+    assertThat(catalog.getCrawlInfo().getAdaptiveRetrievalStrategies().isEmpty(), is(true));
+
+    final Schema schema = catalog.lookupSchema("PUBLIC.BOOKS").orElse(null);
+    assertThat("Could not obtain schema", schema, notNullValue());
+    assertThat("Unexpected number of tables in the schema", catalog.getTables(schema), hasSize(2));
+
+    final Table authors = catalog.lookupTable(schema, "AUTHORS").orElse(null);
+    assertThat("Could not obtain table", authors, notNullValue());
+    assertThat(authors.getRemarks(), is("Contact details for book authors"));
+    assertThat(authors.getDefinition(), is("CREATE TABLE AUTHORS"));
+    assertThat(authors.getColumns(), hasSize(2));
+    assertThat(authors.lookupColumn("ID").isPresent(), is(true));
+    assertThat(authors.getPrimaryKey().getName(), is("PK_AUTHORS"));
+    assertThat(authors.getPrimaryKey().getDefinition(), is("PRIMARY KEY (ID)"));
+
+    final Index index = authors.lookupIndex("IDX_AUTHORS").orElse(null);
+    assertThat("Could not obtain index", index, notNullValue());
+    assertThat(index.getDefinition(), is("CREATE UNIQUE INDEX IDX_AUTHORS ON AUTHORS (ID)"));
+
+    final Trigger trigger = authors.lookupTrigger("TRG_AUTHORS").orElse(null);
+    assertThat("Could not obtain trigger", trigger, notNullValue());
+    assertThat(trigger.getActionCondition(), is("TRUE"));
+    assertThat(trigger.getActionStatement(), is("CALL AUDIT()"));
+
+    final Table books = catalog.lookupTable(schema, "BOOKS").orElse(null);
+    assertThat("Could not obtain table", books, notNullValue());
+    assertThat(books.getPrimaryKey(), is(nullValue()));
+    final ForeignKey foreignKey = books.lookupForeignKey("FK_BOOKS_AUTHORS").orElse(null);
+    assertThat("Could not obtain foreign key", foreignKey, notNullValue());
+    assertThat(foreignKey.getDefinition(), is("FOREIGN KEY (AUTHOR_ID) REFERENCES AUTHORS (ID)"));
+    assertThat(foreignKey.getPrimaryKeyTable(), is(authors));
+  }
 }
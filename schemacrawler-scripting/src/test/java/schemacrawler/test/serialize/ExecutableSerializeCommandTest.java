@@ -30,10 +30,14 @@ package schemacrawler.test.serialize;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.oneOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
 import static schemacrawler.test.utility.ExecutableTestUtility.executableExecution;
+import static schemacrawler.test.utility.ExecutableTestUtility.newOutputOptions;
 import static schemacrawler.test.utility.TestUtility.fileHeaderOf;
+import static us.fatehi.utility.IOUtility.createTempFilePath;
 
 import java.nio.file.Path;
 import java.sql.Connection;
@@ -43,14 +47,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.exceptions.ConfigurationException;
 import schemacrawler.test.utility.TestAssertNoSystemErrOutput;
 import schemacrawler.test.utility.TestAssertNoSystemOutOutput;
 import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
 import schemacrawler.tools.command.serialize.options.SerializationFormat;
 import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.formatter.serialize.SnapshotUtility;
+import schemacrawler.tools.options.Config;
 
 @ExtendWith(TestAssertNoSystemErrOutput.class)
 @ExtendWith(TestAssertNoSystemOutOutput.class)
@@ -73,6 +82,78 @@ public class ExecutableSerializeCommandTest {
     return executableExecution(connection, executable, serializationFormat);
   }
 
+  @Test
+  public void executableSerializeBaseSnapshotAsOutput(final Connection connection)
+      throws Exception {
+    final Path snapshotFile = createTempFilePath("sc_serialize", "ser");
+
+    final Config config = new Config();
+    config.put("schemacrawler.serialize.base-snapshot", snapshotFile.toString());
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable("serialize");
+    executable.setSchemaRetrievalOptions(schemaRetrievalOptionsDefault);
+    executable.setAdditionalConfiguration(config);
+    executable.setOutputOptions(
+        newOutputOptions(SerializationFormat.ser.getFormat(), snapshotFile));
+    executable.setConnection(connection);
+
+    final ConfigurationException exception =
+        assertThrows(ConfigurationException.class, () -> executable.execute());
+    assertThat(exception.getMessage(), containsString("cannot be the same as the output file"));
+  }
+
+  @Test
+  public void executableSerializeBaseSnapshotWithJson(final Connection connection)
+      throws Exception {
+    final Path snapshotFile = createTempFilePath("sc_serialize", "ser");
+
+    final Config config = new Config();
+    config.put("schemacrawler.serialize.base-snapshot", snapshotFile.toString());
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable("serialize");
+    executable.setSchemaRetrievalOptions(schemaRetrievalOptionsDefault);
+    executable.setAdditionalConfiguration(config);
+    executable.setOutputOptions(
+        newOutputOptions(
+            SerializationFormat.json.getFormat(), createTempFilePath("sc_serialize", "json")));
+    executable.setConnection(connection);
+
+    final ConfigurationException exception =
+        assertThrows(ConfigurationException.class, () -> executable.execute());
+    assertThat(exception.getMessage(), containsString("only with binary formats"));
+  }
+
+  @Test
+  public void executableSerializeCompressionWithYaml(final Connection connection)
+      throws Exception {
+    final Config config = new Config();
+    config.put("schemacrawler.serialize.compression", "none");
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable("serialize");
+    executable.setSchemaRetrievalOptions(schemaRetrievalOptionsDefault);
+    executable.setAdditionalConfiguration(config);
+    executable.setOutputOptions(
+        newOutputOptions(
+            SerializationFormat.yaml.getFormat(), createTempFilePath("sc_serialize", "yaml")));
+    executable.setConnection(connection);
+
+    final ConfigurationException exception =
+        assertThrows(ConfigurationException.class, () -> executable.execute());
+    assertThat(exception.getMessage(), containsString("Compression cannot be used"));
+  }
+
+  @Test
+  public void executableSerializeIndexed(final Connection connection) throws Exception {
+    final Path snapshotFile = executeSerialize(connection, SerializationFormat.indexed);
+    assertThat(fileHeaderOf(snapshotFile), is("0026"));
+
+    final Catalog catalog = SnapshotUtility.loadSnapshot(snapshotFile);
+    assertThat(catalog.getTables().isEmpty(), is(false));
+    for (final Table table : catalog.getTables()) {
+      assertThat(table.getColumns().isEmpty(), is(false));
+    }
+  }
+
   @Test
   @Disabled("Cannot compare files during testing, since a new file is generated")
   public void executableSerializeJava(final Connection connection) throws Exception {
@@ -0,0 +1,44 @@
+SELECT
+  DB_NAME() AS TABLE_CATALOG,
+  SCHEMA_NAME(T.SCHEMA_ID) AS TABLE_SCHEMA,
+  T.NAME AS TABLE_NAME,
+  CONVERT(VARCHAR(30), T.MODIFY_DATE, 126)
+    + '.' + CONVERT(VARCHAR(10), (
+      SELECT
+        COUNT(*)
+      FROM
+        SYS.OBJECTS CHILDREN
+      WHERE
+        CHILDREN.PARENT_OBJECT_ID = T.OBJECT_ID))
+    + '.' + COALESCE((
+      SELECT
+        CONVERT(VARCHAR(30), MAX(CHILDREN.MODIFY_DATE), 126)
+      FROM
+        SYS.OBJECTS CHILDREN
+      WHERE
+        CHILDREN.PARENT_OBJECT_ID = T.OBJECT_ID), '')
+    + '.' + CONVERT(VARCHAR(10), (
+      SELECT
+        COUNT(*)
+      FROM
+        SYS.INDEXES I
+      WHERE
+        I.OBJECT_ID = T.OBJECT_ID))
+    + '.' + (
+      SELECT
+        CONVERT(VARCHAR(10), COUNT(*)) + ':'
+          + CONVERT(VARCHAR(12), COALESCE(CHECKSUM_AGG(CHECKSUM(
+            EP.MINOR_ID, EP.NAME, CONVERT(NVARCHAR(4000), EP.VALUE))), 0))
+      FROM
+        SYS.EXTENDED_PROPERTIES EP
+      WHERE
+        EP.CLASS = 1
+        AND EP.MAJOR_ID = T.OBJECT_ID)
+    AS CHANGE_MARKER
+FROM
+  SYS.OBJECTS T
+WHERE
+  T.TYPE IN ('U', 'V')
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
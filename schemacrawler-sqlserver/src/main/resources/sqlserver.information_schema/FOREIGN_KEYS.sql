@@ -0,0 +1,47 @@
+SELECT
+  DB_NAME() AS PKTABLE_CAT,
+  SCHEMA_NAME(PKT.SCHEMA_ID) AS PKTABLE_SCHEM,
+  PKT.NAME AS PKTABLE_NAME,
+  PKC.NAME AS PKCOLUMN_NAME,
+  DB_NAME() AS FKTABLE_CAT,
+  SCHEMA_NAME(FKT.SCHEMA_ID) AS FKTABLE_SCHEM,
+  FKT.NAME AS FKTABLE_NAME,
+  FKC.NAME AS FKCOLUMN_NAME,
+  FKCOL.CONSTRAINT_COLUMN_ID AS KEY_SEQ,
+  CASE FK.UPDATE_REFERENTIAL_ACTION
+    WHEN 1 THEN 0
+    WHEN 2 THEN 2
+    WHEN 3 THEN 4
+    ELSE 3
+  END AS UPDATE_RULE,
+  CASE FK.DELETE_REFERENTIAL_ACTION
+    WHEN 1 THEN 0
+    WHEN 2 THEN 2
+    WHEN 3 THEN 4
+    ELSE 3
+  END AS DELETE_RULE,
+  FK.NAME AS FK_NAME,
+  KI.NAME AS PK_NAME,
+  7 AS DEFERRABILITY -- JDBC "Not deferrable"
+FROM
+  SYS.FOREIGN_KEYS FK
+  INNER JOIN SYS.FOREIGN_KEY_COLUMNS FKCOL
+    ON FK.OBJECT_ID = FKCOL.CONSTRAINT_OBJECT_ID
+  INNER JOIN SYS.TABLES FKT
+    ON FKCOL.PARENT_OBJECT_ID = FKT.OBJECT_ID
+  INNER JOIN SYS.COLUMNS FKC
+    ON FKC.OBJECT_ID = FKCOL.PARENT_OBJECT_ID
+      AND FKC.COLUMN_ID = FKCOL.PARENT_COLUMN_ID
+  INNER JOIN SYS.TABLES PKT
+    ON FKCOL.REFERENCED_OBJECT_ID = PKT.OBJECT_ID
+  INNER JOIN SYS.COLUMNS PKC
+    ON PKC.OBJECT_ID = FKCOL.REFERENCED_OBJECT_ID
+      AND PKC.COLUMN_ID = FKCOL.REFERENCED_COLUMN_ID
+  LEFT OUTER JOIN SYS.INDEXES KI
+    ON KI.OBJECT_ID = FK.REFERENCED_OBJECT_ID
+      AND KI.INDEX_ID = FK.KEY_INDEX_ID
+ORDER BY
+  PKTABLE_SCHEM,
+  PKTABLE_NAME,
+  FK_NAME,
+  KEY_SEQ
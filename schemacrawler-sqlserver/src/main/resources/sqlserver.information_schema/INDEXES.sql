@@ -0,0 +1,40 @@
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  SCHEMA_NAME(O.SCHEMA_ID) AS TABLE_SCHEM,
+  O.NAME AS TABLE_NAME,
+  CASE WHEN I.IS_UNIQUE = 1 THEN 0 ELSE 1 END AS NON_UNIQUE,
+  O.NAME AS INDEX_QUALIFIER,
+  I.NAME AS INDEX_NAME,
+  CASE
+    WHEN I.TYPE = 1 THEN 1 -- JDBC index type "Clustered"
+    ELSE 3 -- JDBC index type "Other"
+  END AS TYPE,
+  IC.KEY_ORDINAL AS ORDINAL_POSITION,
+  C.NAME AS COLUMN_NAME,
+  CASE WHEN IC.IS_DESCENDING_KEY = 1 THEN 'D' ELSE 'A' END AS ASC_OR_DESC,
+  NULL AS CARDINALITY,
+  NULL AS PAGES,
+  I.FILTER_DEFINITION AS FILTER_CONDITION
+FROM
+  SYS.INDEXES I
+  INNER JOIN SYS.OBJECTS O
+    ON I.OBJECT_ID = O.OBJECT_ID
+  INNER JOIN SYS.INDEX_COLUMNS IC
+    ON IC.OBJECT_ID = I.OBJECT_ID
+      AND IC.INDEX_ID = I.INDEX_ID
+  INNER JOIN SYS.COLUMNS C
+    ON C.OBJECT_ID = IC.OBJECT_ID
+      AND C.COLUMN_ID = IC.COLUMN_ID
+WHERE
+  O.TYPE IN ('U', 'V')
+  AND O.IS_MS_SHIPPED = 0
+  AND I.TYPE IN (1, 2)
+  AND I.IS_HYPOTHETICAL = 0
+  AND IC.KEY_ORDINAL > 0
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  INDEX_NAME,
+  NON_UNIQUE,
+  TYPE,
+  ORDINAL_POSITION
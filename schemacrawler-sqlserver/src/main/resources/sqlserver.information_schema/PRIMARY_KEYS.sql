@@ -0,0 +1,24 @@
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  SCHEMA_NAME(T.SCHEMA_ID) AS TABLE_SCHEM,
+  T.NAME AS TABLE_NAME,
+  KC.NAME AS PK_NAME,
+  IC.KEY_ORDINAL AS KEY_SEQ,
+  C.NAME AS COLUMN_NAME
+FROM
+  SYS.KEY_CONSTRAINTS KC
+  INNER JOIN SYS.TABLES T
+    ON KC.PARENT_OBJECT_ID = T.OBJECT_ID
+  INNER JOIN SYS.INDEX_COLUMNS IC
+    ON IC.OBJECT_ID = KC.PARENT_OBJECT_ID
+      AND IC.INDEX_ID = KC.UNIQUE_INDEX_ID
+  INNER JOIN SYS.COLUMNS C
+    ON C.OBJECT_ID = IC.OBJECT_ID
+      AND C.COLUMN_ID = IC.COLUMN_ID
+WHERE
+  KC.TYPE = 'PK'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  PK_NAME,
+  KEY_SEQ
@@ -0,0 +1,82 @@
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  SCHEMA_NAME(O.SCHEMA_ID) AS TABLE_SCHEM,
+  O.NAME AS TABLE_NAME,
+  C.NAME AS COLUMN_NAME,
+  CASE TYPE_NAME(C.SYSTEM_TYPE_ID)
+    WHEN 'bit' THEN -7
+    WHEN 'tinyint' THEN -6
+    WHEN 'smallint' THEN 5
+    WHEN 'int' THEN 4
+    WHEN 'bigint' THEN -5
+    WHEN 'decimal' THEN 3
+    WHEN 'numeric' THEN 2
+    WHEN 'money' THEN 3
+    WHEN 'smallmoney' THEN 3
+    WHEN 'float' THEN 8
+    WHEN 'real' THEN 7
+    WHEN 'date' THEN 91
+    WHEN 'time' THEN 92
+    WHEN 'datetime' THEN 93
+    WHEN 'datetime2' THEN 93
+    WHEN 'smalldatetime' THEN 93
+    WHEN 'datetimeoffset' THEN -155
+    WHEN 'char' THEN 1
+    WHEN 'varchar' THEN 12
+    WHEN 'text' THEN -1
+    WHEN 'nchar' THEN -15
+    WHEN 'nvarchar' THEN -9
+    WHEN 'ntext' THEN -16
+    WHEN 'xml' THEN -16
+    WHEN 'binary' THEN -2
+    WHEN 'timestamp' THEN -2
+    WHEN 'varbinary' THEN -3
+    WHEN 'image' THEN -4
+    WHEN 'uniqueidentifier' THEN 1
+    WHEN 'sql_variant' THEN -150
+    ELSE 1111 -- JDBC type "Other"
+  END AS DATA_TYPE,
+  CASE
+    WHEN C.IS_IDENTITY = 1 THEN TYPE_NAME(C.USER_TYPE_ID) + ' identity'
+    ELSE TYPE_NAME(C.USER_TYPE_ID)
+  END AS TYPE_NAME,
+  CASE
+    WHEN TYPE_NAME(C.SYSTEM_TYPE_ID) IN ('varchar', 'varbinary') AND C.MAX_LENGTH = -1
+      THEN 2147483647
+    WHEN TYPE_NAME(C.SYSTEM_TYPE_ID) = 'nvarchar' AND C.MAX_LENGTH = -1
+      THEN 1073741823
+    WHEN TYPE_NAME(C.SYSTEM_TYPE_ID) IN ('nchar', 'nvarchar')
+      THEN C.MAX_LENGTH / 2
+    WHEN TYPE_NAME(C.SYSTEM_TYPE_ID) IN ('char', 'varchar', 'binary', 'varbinary', 'timestamp')
+      THEN C.MAX_LENGTH
+    WHEN TYPE_NAME(C.SYSTEM_TYPE_ID) IN ('text', 'image')
+      THEN 2147483647
+    WHEN TYPE_NAME(C.SYSTEM_TYPE_ID) IN ('ntext', 'xml')
+      THEN 1073741823
+    WHEN TYPE_NAME(C.SYSTEM_TYPE_ID) = 'uniqueidentifier'
+      THEN 36
+    ELSE C.PRECISION
+  END AS COLUMN_SIZE,
+  C.SCALE AS DECIMAL_DIGITS,
+  CASE WHEN C.IS_NULLABLE = 1 THEN 1 ELSE 0 END AS NULLABLE,
+  CAST(EP.VALUE AS NVARCHAR(4000)) AS REMARKS,
+  OBJECT_DEFINITION(C.DEFAULT_OBJECT_ID) AS COLUMN_DEF,
+  C.COLUMN_ID AS ORDINAL_POSITION,
+  CASE WHEN C.IS_IDENTITY = 1 THEN 'YES' ELSE 'NO' END AS IS_AUTOINCREMENT,
+  CASE WHEN C.IS_COMPUTED = 1 THEN 'YES' ELSE 'NO' END AS IS_GENERATEDCOLUMN
+FROM
+  SYS.COLUMNS C
+  INNER JOIN SYS.OBJECTS O
+    ON C.OBJECT_ID = O.OBJECT_ID
+  LEFT OUTER JOIN SYS.EXTENDED_PROPERTIES EP
+    ON EP.MAJOR_ID = C.OBJECT_ID
+      AND EP.MINOR_ID = C.COLUMN_ID
+      AND EP.CLASS = 1
+      AND EP.NAME = 'MS_Description'
+WHERE
+  O.TYPE IN ('U', 'V')
+  AND O.IS_MS_SHIPPED = 0
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  ORDINAL_POSITION
@@ -104,6 +104,8 @@ public final class OperationCommand extends BaseSchemaCrawlerCommand<OperationOp
       final Identifiers identifiers =
           Identifiers.identifiers().withIdentifierQuoteString(identifierQuoteString).build();
 
+      // One statement is reused for all the tables. Queries for different tables return rows
+      // with different columns, so unlike row counts, they cannot be combined with UNION ALL.
       try (final Statement statement = createStatement(connection)) {
         for (final Table table : getSortedTables(catalog)) {
           final boolean isAlphabeticalSortForTableColumns =
@@ -652,11 +652,12 @@ public final class SchemaTextFormatter extends BaseTabularFormatter<SchemaTextOp
     formattingHelper.writeWideRow(object.getRemarks(), "remarks");
   }
 
-  private void printRoutineParameters(final List<? extends RoutineParameter<?>> parameters) {
-    if (parameters.isEmpty()) {
+  private void printRoutineParameters(final List<? extends RoutineParameter<?>> routineParameters) {
+    if (routineParameters.isEmpty()) {
       return;
     }
 
+    final List<RoutineParameter<?>> parameters = new ArrayList<>(routineParameters);
     parameters.sort(
         NamedObjectSort.getNamedObjectSort(options.isAlphabeticalSortForRoutineParameters()));
 
@@ -749,13 +750,14 @@ public final class SchemaTextFormatter extends BaseTabularFormatter<SchemaTextOp
     formattingHelper.writeDetailRow("", "", column.getRemarks(), true, false, "remarks");
   }
 
-  private void printTableColumns(final List<? extends Column> columns, final boolean extraDetails) {
-    if (columns.isEmpty()) {
+  private void printTableColumns(
+      final List<? extends Column> tableColumns, final boolean extraDetails) {
+    if (tableColumns.isEmpty()) {
       return;
     }
 
-    Collections.sort(
-        columns, NamedObjectSort.getNamedObjectSort(options.isAlphabeticalSortForTableColumns()));
+    final List<Column> columns = new ArrayList<>(tableColumns);
+    columns.sort(NamedObjectSort.getNamedObjectSort(options.isAlphabeticalSortForTableColumns()));
 
     for (final Column column : columns) {
       if (isBrief && !isColumnSignificant(column)) {
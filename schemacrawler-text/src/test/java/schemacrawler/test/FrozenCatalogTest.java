@@ -0,0 +1,85 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+import static schemacrawler.test.utility.ExecutableTestUtility.executableExecution;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.command.text.schema.options.SchemaTextDetailType;
+import schemacrawler.tools.command.text.schema.options.SchemaTextOptionsBuilder;
+import schemacrawler.tools.command.text.schema.options.TextOutputFormat;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class FrozenCatalogTest {
+
+  @Test
+  public void textOutputOfFrozenCatalog(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(
+            connection,
+            schemaRetrievalOptionsDefault,
+            schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+
+    final String expectedOutput = textOutputOf(connection, catalog);
+
+    catalog.freeze();
+    assertThat(catalog.isFrozen(), is(true));
+
+    // Column lists of a frozen catalog are unmodifiable, so they cannot be sorted in place
+    assertThat(textOutputOf(connection, catalog), is(expectedOutput));
+  }
+
+  private String textOutputOf(final Connection connection, final Catalog catalog)
+      throws Exception {
+    final SchemaCrawlerExecutable executable =
+        new SchemaCrawlerExecutable(SchemaTextDetailType.details.name());
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    executable.setAdditionalConfiguration(
+        SchemaTextOptionsBuilder.builder().noInfo().sortTables(true).toConfig());
+    executable.setCatalog(catalog);
+
+    final Path outputFile = executableExecution(connection, executable, TextOutputFormat.text);
+    return new String(Files.readAllBytes(outputFile), UTF_8);
+  }
+}
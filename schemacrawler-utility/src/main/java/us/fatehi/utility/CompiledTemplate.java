@@ -0,0 +1,201 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.Utility.isBlank;
+import static us.fatehi.utility.Utility.trimToEmpty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A template that has been parsed once into literal text and variable references, so that it can
+ * be expanded repeatedly without scanning the template again. Variables in the template are in the
+ * form of ${variable}.
+ */
+public final class CompiledTemplate {
+
+  private static final String DELIMITER_END = "}";
+  private static final int DELIMITER_END_LENGTH = DELIMITER_END.length();
+  private static final String DELIMITER_START = "${";
+  private static final int DELIMITER_START_LENGTH = DELIMITER_START.length();
+
+  /**
+   * Looks up a system property for a template variable. Blank variable names, such as from ${},
+   * are not valid system property keys, so they do not have a value.
+   *
+   * @param variable Variable name
+   * @return System property value, or null if there is none
+   */
+  static String systemProperty(final String variable) {
+    if (isBlank(variable)) {
+      return null;
+    }
+    return System.getProperty(variable);
+  }
+
+  private final String template;
+  // Literal text before each variable, followed by the literal text after the last variable
+  private final String[] literals;
+  private final String[] variables;
+  // Variable references as written in the template, to output when there is no value
+  private final String[] references;
+  private final int literalsLength;
+
+  CompiledTemplate(final String template) {
+    this.template = requireNonNull(template, "No template provided");
+
+    final List<String> literals = new ArrayList<>();
+    final List<String> variables = new ArrayList<>();
+    final List<String> references = new ArrayList<>();
+
+    final StringBuilder literal = new StringBuilder();
+    int currentPosition = 0;
+    while (true) {
+      int delimiterStartPosition = template.indexOf(DELIMITER_START, currentPosition);
+      if (delimiterStartPosition == -1) {
+        literal.append(template, currentPosition, template.length());
+        break;
+      }
+
+      literal.append(template, currentPosition, delimiterStartPosition);
+      final int delimiterEndPosition = template.indexOf(DELIMITER_END, delimiterStartPosition);
+      if (delimiterEndPosition > -1) {
+        delimiterStartPosition = delimiterStartPosition + DELIMITER_START_LENGTH;
+        final String variable = template.substring(delimiterStartPosition, delimiterEndPosition);
+        literals.add(literal.toString());
+        literal.setLength(0);
+        variables.add(trimToEmpty(variable));
+        references.add(DELIMITER_START + variable + DELIMITER_END);
+        // Advance current position
+        currentPosition = delimiterEndPosition + DELIMITER_END_LENGTH;
+      } else {
+        // End brace not found, so advance current position
+        literal.append(DELIMITER_START);
+        currentPosition = delimiterStartPosition + DELIMITER_START_LENGTH;
+      }
+    }
+    literals.add(literal.toString());
+
+    this.literals = literals.toArray(new String[0]);
+    this.variables = variables.toArray(new String[0]);
+    this.references = references.toArray(new String[0]);
+
+    int literalsLength = 0;
+    for (final String text : this.literals) {
+      literalsLength = literalsLength + text.length();
+    }
+    this.literalsLength = literalsLength;
+  }
+
+  /**
+   * Expands the template using variable values in the provided map. Variables that do not have a
+   * value are not substituted.
+   *
+   * @param variablesMap Variables and values.
+   * @return Expanded template
+   */
+  public String expand(final Map<String, String> variablesMap) {
+    if (variablesMap == null) {
+      return template;
+    }
+    return expand(variablesMap::get);
+  }
+
+  /**
+   * Expands the template using variable values in the provided map, and then system properties for
+   * variables that are not in the map. System properties are looked up as they are needed, rather
+   * than being copied.
+   *
+   * @param variablesMap Variables and values.
+   * @return Expanded template
+   */
+  public String expandWithSystemProperties(final Map<String, String> variablesMap) {
+    if (variablesMap == null || variablesMap.isEmpty()) {
+      return expand(CompiledTemplate::systemProperty);
+    }
+    return expand(
+        variable -> {
+          final String value = variablesMap.get(variable);
+          if (value != null) {
+            return value;
+          }
+          return systemProperty(variable);
+        });
+  }
+
+  /**
+   * Gets the template text.
+   *
+   * @return Template
+   */
+  public String getTemplate() {
+    return template;
+  }
+
+  /**
+   * Checks whether the template references a variable.
+   *
+   * @param variable Variable name
+   * @return True if the variable is referenced in the template
+   */
+  public boolean hasVariable(final String variable) {
+    return Arrays.asList(variables).contains(variable);
+  }
+
+  @Override
+  public String toString() {
+    return template;
+  }
+
+  String expand(final Function<String, String> variableValues) {
+    if (variables.length == 0) {
+      // No substitutions required at all
+      return template;
+    }
+
+    final StringBuilder buffer = new StringBuilder(literalsLength + variables.length * 16);
+    for (int i = 0; i < variables.length; i++) {
+      buffer.append(literals[i]);
+      final String value = variableValues.apply(variables[i]);
+      if (value != null) {
+        buffer.append(value);
+      } else {
+        // Do not substitute
+        buffer.append(references[i]);
+      }
+    }
+    buffer.append(literals[variables.length]);
+    return buffer.toString();
+  }
+}
@@ -39,9 +39,18 @@ import java.util.Set;
 public final class TemplatingUtility {
 
   private static final String DELIMITER_END = "}";
-  private static final int DELIMITER_END_LENGTH = DELIMITER_END.length();
   private static final String DELIMITER_START = "${";
-  private static final int DELIMITER_START_LENGTH = DELIMITER_START.length();
+
+  /**
+   * Parses a template once, so that it can be expanded repeatedly. Variables in the template are in
+   * the form of ${variable}.
+   *
+   * @param template Template to parse.
+   * @return Compiled template
+   */
+  public static CompiledTemplate compileTemplate(final String template) {
+    return new CompiledTemplate(template);
+  }
 
   /**
    * Expands a template using system properties. Variables in the template are in the form of
@@ -51,7 +60,10 @@ public final class TemplatingUtility {
    * @return Expanded template
    */
   public static String expandTemplate(final String template) {
-    return expandTemplate(template, PropertiesUtility.propertiesMap(System.getProperties()));
+    if (isBlank(template)) {
+      return template;
+    }
+    return new CompiledTemplate(template).expand(CompiledTemplate::systemProperty);
   }
 
   /**
@@ -68,48 +80,7 @@ public final class TemplatingUtility {
       return template;
     }
 
-    final StringBuilder buffer = new StringBuilder(template.length());
-    int currentPosition = 0;
-    int delimiterStartPosition;
-    int delimiterEndPosition;
-
-    while (true) {
-      delimiterStartPosition = template.indexOf(DELIMITER_START, currentPosition);
-      if (delimiterStartPosition == -1) {
-        if (currentPosition == 0) {
-          // No substitutions required at all
-          return template;
-        } else {
-          // No more substitutions
-          buffer.append(template.substring(currentPosition));
-          return buffer.toString();
-        }
-      } else {
-        buffer.append(template, currentPosition, delimiterStartPosition);
-        delimiterEndPosition = template.indexOf(DELIMITER_END, delimiterStartPosition);
-        if (delimiterEndPosition > -1) {
-          delimiterStartPosition = delimiterStartPosition + DELIMITER_START_LENGTH;
-          final String key =
-              trimToEmpty(template.substring(delimiterStartPosition, delimiterEndPosition));
-          final String value = variablesMap.get(key);
-          if (value != null) {
-            buffer.append(value);
-          } else {
-            // Do not substitute
-            buffer
-                .append(DELIMITER_START)
-                .append(template.substring(delimiterStartPosition, delimiterEndPosition))
-                .append(DELIMITER_END);
-          }
-          // Advance current position
-          currentPosition = delimiterEndPosition + DELIMITER_END_LENGTH;
-        } else {
-          // End brace not found, so advance current position
-          buffer.append(DELIMITER_START);
-          currentPosition = delimiterStartPosition + DELIMITER_START_LENGTH;
-        }
-      }
-    }
+    return new CompiledTemplate(template).expand(variablesMap);
   }
 
   /**
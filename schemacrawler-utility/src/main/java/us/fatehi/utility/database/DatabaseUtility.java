@@ -121,10 +121,36 @@ public final class DatabaseUtility {
     return ((Number) longValue).longValue();
   }
 
+  public static long executeSqlForLong(final Statement statement, final String sql)
+      throws SQLException {
+    final Object longValue = executeSqlForScalar(statement, sql);
+    // Error checking
+    if (longValue == null || !(longValue instanceof Number)) {
+      throw new SQLException("Cannot get a long value result from SQL query");
+    }
+
+    return ((Number) longValue).longValue();
+  }
+
   public static Object executeSqlForScalar(final Connection connection, final String sql)
       throws SQLException {
-    try (final Statement statement = createStatement(connection);
-        final ResultSet resultSet = executeSql(statement, sql)) {
+    try (final Statement statement = createStatement(connection)) {
+      return executeSqlForScalar(statement, sql);
+    }
+  }
+
+  /**
+   * Executes SQL that returns a single value, using a statement that can be reused for other
+   * queries. The statement is not closed.
+   *
+   * @param statement Statement to execute the SQL with
+   * @param sql SQL that returns a single row with a single column
+   * @return Value, or null if there are no rows
+   * @throws SQLException On an exception
+   */
+  public static Object executeSqlForScalar(final Statement statement, final String sql)
+      throws SQLException {
+    try (final ResultSet resultSet = executeSql(statement, sql)) {
       if (resultSet == null) {
         return null;
       }
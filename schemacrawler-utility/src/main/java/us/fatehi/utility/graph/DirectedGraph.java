@@ -27,21 +27,35 @@ http://www.gnu.org/licenses/
 */
 package us.fatehi.utility.graph;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * Simple directed graph. Each vertex is numbered in the order in which it was added, and keeps a
+ * list of its outgoing edges, so that graph algorithms can walk the graph in time proportional to
+ * the number of vertices and edges.
+ *
+ * @param <T> Any comparable class
+ */
 public class DirectedGraph<T extends Comparable<? super T>> {
 
   private final Set<DirectedEdge<T>> edges;
   private final String name;
   private final Map<T, Vertex<T>> verticesMap;
+  private final List<Vertex<T>> vertices;
+  private final List<List<DirectedEdge<T>>> outgoingEdges;
 
   public DirectedGraph(final String name) {
     this.name = name;
     verticesMap = new LinkedHashMap<>();
+    vertices = new ArrayList<>();
+    outgoingEdges = new ArrayList<>();
     edges = new LinkedHashSet<>();
   }
 
@@ -54,7 +68,11 @@ public class DirectedGraph<T extends Comparable<? super T>> {
    */
   public void addEdge(final T from, final T to) {
     if (!from.equals(to)) {
-      edges.add(new DirectedEdge<>(addVertex(from), addVertex(to)));
+      final Vertex<T> vertexFrom = addVertex(from);
+      final DirectedEdge<T> edge = new DirectedEdge<>(vertexFrom, addVertex(to));
+      if (edges.add(edge)) {
+        outgoingEdges.get(vertexFrom.getIndex()).add(edge);
+      }
     }
   }
 
@@ -65,12 +83,12 @@ public class DirectedGraph<T extends Comparable<? super T>> {
    * @return The newly added vertex
    */
   public Vertex<T> addVertex(final T value) {
-    final Vertex<T> vertex;
-    if (verticesMap.containsKey(value)) {
-      vertex = verticesMap.get(value);
-    } else {
-      vertex = new Vertex<>(value);
+    Vertex<T> vertex = verticesMap.get(value);
+    if (vertex == null) {
+      vertex = new Vertex<>(value, vertices.size());
       verticesMap.put(value, vertex);
+      vertices.add(vertex);
+      outgoingEdges.add(new ArrayList<>());
     }
     return vertex;
   }
@@ -87,13 +105,11 @@ public class DirectedGraph<T extends Comparable<? super T>> {
   public Set<DirectedEdge<T>> getOutgoingEdges(final Vertex<T> vertexFrom) {
     Objects.requireNonNull(vertexFrom, "No vertex provided");
 
-    final Set<DirectedEdge<T>> outgoingEdges = new LinkedHashSet<>();
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.getFrom().equals(vertexFrom)) {
-        outgoingEdges.add(edge);
-      }
+    final Vertex<T> vertex = verticesMap.get(vertexFrom.getValue());
+    if (vertex == null) {
+      return new LinkedHashSet<>();
     }
-    return outgoingEdges;
+    return new LinkedHashSet<>(outgoingEdges.get(vertex.getIndex()));
   }
 
   @Override
@@ -121,4 +137,32 @@ public class DirectedGraph<T extends Comparable<? super T>> {
   public Set<Vertex<T>> vertexSet() {
     return new LinkedHashSet<>(verticesMap.values());
   }
+
+  /**
+   * Gets the successors of every vertex, as arrays of vertex indexes, in the order in which the
+   * edges were added.
+   *
+   * @return Successor vertex indexes, by vertex index
+   */
+  int[][] successors() {
+    final int[][] successors = new int[vertices.size()][];
+    for (int i = 0; i < successors.length; i++) {
+      final List<DirectedEdge<T>> vertexEdges = outgoingEdges.get(i);
+      final int[] vertexSuccessors = new int[vertexEdges.size()];
+      for (int j = 0; j < vertexSuccessors.length; j++) {
+        vertexSuccessors[j] = vertexEdges.get(j).getTo().getIndex();
+      }
+      successors[i] = vertexSuccessors;
+    }
+    return successors;
+  }
+
+  /**
+   * Gets all vertices, in the order of their indexes.
+   *
+   * @return Vertices, by vertex index
+   */
+  List<Vertex<T>> vertexList() {
+    return Collections.unmodifiableList(vertices);
+  }
 }
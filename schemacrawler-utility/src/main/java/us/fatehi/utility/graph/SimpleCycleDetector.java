@@ -27,7 +27,7 @@ http://www.gnu.org/licenses/
 */
 package us.fatehi.utility.graph;
 
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Objects;
 
 public class SimpleCycleDetector<T extends Comparable<? super T>> {
@@ -49,8 +49,6 @@ public class SimpleCycleDetector<T extends Comparable<? super T>> {
     }
   }
 
-  private static final String ATTRIBUTE_TRAVERSAL_STATE = "traversalstate";
-
   private final DirectedGraph<T> graph;
 
   public SimpleCycleDetector(final DirectedGraph<T> graph) {
@@ -58,50 +56,48 @@ public class SimpleCycleDetector<T extends Comparable<? super T>> {
   }
 
   /**
-   * Checks if the diagram contains a cycle.
+   * Checks if the diagram contains a cycle. The graph is walked depth-first, using an explicit
+   * stack rather than recursion, so that deep graphs do not overflow the call stack.
    *
    * @return true if the diagram contains a cycle, false otherwise
    */
   public boolean containsCycle() {
-    final Collection<Vertex<T>> vertices = clearTraversalStates();
-    for (final Vertex<T> vertex : vertices) {
-      if (vertex.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted) {
-        if (visitForCyles(vertex)) {
-          return true;
-        }
+    final int[][] successors = graph.successors();
+    final int vertexCount = successors.length;
+
+    final TraversalState[] traversalStates = new TraversalState[vertexCount];
+    Arrays.fill(traversalStates, TraversalState.notStarted);
+    // Depth-first search stack, with the position of the next outgoing edge to follow for each
+    // vertex on the stack
+    final int[] stack = new int[vertexCount];
+    final int[] nextEdge = new int[vertexCount];
+
+    for (int start = 0; start < vertexCount; start++) {
+      if (traversalStates[start] != TraversalState.notStarted) {
+        continue;
       }
-    }
-
-    return false;
-  }
 
-  private Collection<Vertex<T>> clearTraversalStates() {
-    final Collection<Vertex<T>> vertices = graph.vertexSet();
-    for (final Vertex<T> vertex : vertices) {
-      vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.notStarted);
-    }
-    return vertices;
-  }
-
-  private boolean visitForCyles(final Vertex<T> vertex) {
-    vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.inProgress);
-
-    for (final DirectedEdge<T> edge : graph.edgeSet()) {
-      if (edge.isFrom(vertex)) {
-        final Vertex<T> to = edge.getTo();
-        if (to.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.inProgress) {
-          to.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.marked);
-          return true;
-        } else if (to.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted) {
-          if (visitForCyles(to)) {
+      int depth = 0;
+      stack[depth++] = start;
+      traversalStates[start] = TraversalState.inProgress;
+      while (depth > 0) {
+        final int vertex = stack[depth - 1];
+        if (nextEdge[vertex] < successors[vertex].length) {
+          final int to = successors[vertex][nextEdge[vertex]++];
+          if (traversalStates[to] == TraversalState.inProgress) {
+            traversalStates[to] = TraversalState.marked;
             return true;
+          } else if (traversalStates[to] == TraversalState.notStarted) {
+            traversalStates[to] = TraversalState.inProgress;
+            stack[depth++] = to;
           }
+        } else {
+          traversalStates[vertex] = TraversalState.complete;
+          depth--;
         }
       }
     }
 
-    vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.complete);
-
     return false;
   }
 }
@@ -30,8 +30,6 @@ package us.fatehi.utility.graph;
 import static java.util.Comparator.naturalOrder;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
@@ -43,84 +41,63 @@ public class SimpleTopologicalSort<T extends Comparable<? super T>> {
     this.graph = Objects.requireNonNull(graph, "No diagram provided");
   }
 
+  /**
+   * Sorts the vertices of the graph level by level. Each level consists of the vertices that have
+   * no incoming edges once the previous levels have been removed, and vertices within a level are
+   * in their natural order.
+   *
+   * @return Sorted vertex values
+   * @throws GraphException If the graph contains a cycle
+   */
   public List<T> topologicalSort() throws GraphException {
-    if (containsCycle()) {
-      throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
-    }
-
-    final Collection<Vertex<T>> vertices = graph.vertexSet();
-    final int collectionSize = vertices.size();
-
-    final Collection<DirectedEdge<T>> edges = new ArrayList<>(graph.edgeSet());
-    final List<T> sortedValues = new ArrayList<>(collectionSize);
-
-    while (!vertices.isEmpty()) {
-
-      final List<T> nodesAtLevel = new ArrayList<>(collectionSize);
-
-      // Remove unattached nodes
-      for (final Iterator<Vertex<T>> iterator = vertices.iterator(); iterator.hasNext(); ) {
-        final Vertex<T> vertex = iterator.next();
-        if (isUnattachedNode(vertex, edges)) {
-          nodesAtLevel.add(vertex.getValue());
-          iterator.remove();
-        }
+    final List<Vertex<T>> vertices = graph.vertexList();
+    final int[][] successors = graph.successors();
+    final int vertexCount = successors.length;
+
+    final int[] inDegrees = new int[vertexCount];
+    for (final int[] vertexSuccessors : successors) {
+      for (final int to : vertexSuccessors) {
+        inDegrees[to]++;
       }
+    }
 
-      // Find all nodes at the current level
-      final List<Vertex<T>> startNodes = new ArrayList<>(collectionSize);
-      for (final Vertex<T> vertex : vertices) {
-        if (isStartNode(vertex, edges)) {
-          startNodes.add(vertex);
-        }
+    // Vertices are queued level by level, as they lose their last incoming edge
+    final int[] queue = new int[vertexCount];
+    int queueEnd = 0;
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      if (inDegrees[vertex] == 0) {
+        queue[queueEnd++] = vertex;
       }
+    }
 
-      for (final Vertex<T> vertex : startNodes) {
+    final List<T> sortedValues = new ArrayList<>(vertexCount);
+    int levelStart = 0;
+    while (levelStart < queueEnd) {
+      final int levelEnd = queueEnd;
+      final List<T> nodesAtLevel = new ArrayList<>(levelEnd - levelStart);
+      for (int i = levelStart; i < levelEnd; i++) {
+        final int vertex = queue[i];
         // Save the vertex value
-        nodesAtLevel.add(vertex.getValue());
+        nodesAtLevel.add(vertices.get(vertex).getValue());
         // Remove all out edges
-        dropOutEdges(vertex, edges);
-        // Remove the vertex itself
-        vertices.remove(vertex);
+        for (final int to : successors[vertex]) {
+          inDegrees[to]--;
+          if (inDegrees[to] == 0) {
+            queue[queueEnd++] = to;
+          }
+        }
       }
 
       nodesAtLevel.sort(naturalOrder());
       sortedValues.addAll(nodesAtLevel);
+      levelStart = levelEnd;
     }
 
-    return sortedValues;
-  }
-
-  private boolean containsCycle() {
-    final SimpleCycleDetector<T> cycleDetector = new SimpleCycleDetector<>(graph);
-    return cycleDetector.containsCycle();
-  }
-
-  private void dropOutEdges(final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final Iterator<DirectedEdge<T>> iterator = edges.iterator(); iterator.hasNext(); ) {
-      final DirectedEdge<T> edge = iterator.next();
-      if (edge.isFrom(vertex)) {
-        iterator.remove();
-      }
-    }
-  }
-
-  private boolean isStartNode(final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.isTo(vertex)) {
-        return false;
-      }
+    // Vertices on a cycle never lose all their incoming edges
+    if (sortedValues.size() < vertexCount) {
+      throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
     }
-    return true;
-  }
 
-  private boolean isUnattachedNode(
-      final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.isTo(vertex) || edge.isFrom(vertex)) {
-        return false;
-      }
-    }
-    return true;
+    return sortedValues;
   }
 }
@@ -27,9 +27,8 @@ http://www.gnu.org/licenses/
 */
 package us.fatehi.utility.graph;
 
-import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -45,68 +44,91 @@ import java.util.Objects;
  */
 public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super T>> {
 
-  private static final String ATTRIBUTE_INDEX = "index";
-  private static final String ATTRIBUTE_LOWLINK = "lowlink";
   private final DirectedGraph<T> graph;
-  private final Deque<Vertex<T>> stack;
-  private final Collection<List<T>> stronglyConnectedComponents;
 
   public TarjanStronglyConnectedComponentFinder(final DirectedGraph<T> graph) {
     this.graph = Objects.requireNonNull(graph, "No diagram provided");
-
-    stronglyConnectedComponents = new HashSet<>();
-    stack = new ArrayDeque<>();
   }
 
   /**
-   * Calculates the sets of strongly connected vertices.
+   * Calculates the sets of strongly connected vertices. The depth-first search uses an explicit
+   * stack rather than recursion, so that deep graphs do not overflow the call stack.
    *
    * @return Set of strongly connected components (sets of vertices)
    */
   public Collection<List<T>> detectCycles() {
-    for (final Vertex<T> vertex : graph.vertexSet()) {
-      if (!vertex.hasAttribute(ATTRIBUTE_INDEX)) {
-        strongConnect(vertex, 0);
-      }
-    }
-    return stronglyConnectedComponents;
-  }
+    final List<Vertex<T>> vertices = graph.vertexList();
+    final int[][] successors = graph.successors();
+    final int vertexCount = successors.length;
+
+    final Collection<List<T>> stronglyConnectedComponents = new HashSet<>();
 
-  private void strongConnect(final Vertex<T> vertexFrom, final int index) {
-    vertexFrom.putAttribute(ATTRIBUTE_INDEX, index);
-    vertexFrom.putAttribute(ATTRIBUTE_LOWLINK, index);
-    stack.push(vertexFrom);
-
-    for (final DirectedEdge<T> edge : graph.getOutgoingEdges(vertexFrom)) {
-      final Vertex<T> vertexTo = edge.getTo();
-      if (!vertexTo.hasAttribute(ATTRIBUTE_INDEX)) {
-        // Successor vertex has not yet been visited; recurse on it
-        strongConnect(vertexTo, index + 1);
-        vertexFrom.putAttribute(
-            ATTRIBUTE_LOWLINK,
-            Math.min(
-                vertexFrom.getAttribute(ATTRIBUTE_LOWLINK),
-                vertexTo.getAttribute(ATTRIBUTE_LOWLINK)));
-      } else if (stack.contains(vertexTo)) {
-        // Successor vertex is on stack, hence in the current SCC
-        vertexFrom.putAttribute(
-            ATTRIBUTE_LOWLINK,
-            Math.min(
-                vertexFrom.getAttribute(ATTRIBUTE_LOWLINK),
-                vertexTo.getAttribute(ATTRIBUTE_INDEX)));
+    final int[] indexes = new int[vertexCount];
+    Arrays.fill(indexes, -1);
+    final int[] lowlinks = new int[vertexCount];
+    final boolean[] onStack = new boolean[vertexCount];
+    // Vertices that have been visited, but not yet assigned to a strongly connected component
+    final int[] stack = new int[vertexCount];
+    int stackSize = 0;
+    // Depth-first search path, with the position of the next outgoing edge to follow for each
+    // vertex on the path
+    final int[] path = new int[vertexCount];
+    final int[] nextEdge = new int[vertexCount];
+    int index = 0;
+
+    for (int start = 0; start < vertexCount; start++) {
+      if (indexes[start] != -1) {
+        continue;
       }
-    }
 
-    if (vertexFrom.getAttribute(ATTRIBUTE_LOWLINK) == vertexFrom.getAttribute(ATTRIBUTE_INDEX)) {
-      final LinkedList<T> scc = new LinkedList<>();
-      Vertex<T> sccVertex;
-      do {
-        sccVertex = stack.pop();
-        scc.addFirst(sccVertex.getValue());
-      } while (!vertexFrom.equals(sccVertex));
-      if (scc.size() > 1) {
-        stronglyConnectedComponents.add(scc);
+      int depth = 0;
+      indexes[start] = index;
+      lowlinks[start] = index;
+      index++;
+      stack[stackSize++] = start;
+      onStack[start] = true;
+      path[depth++] = start;
+
+      while (depth > 0) {
+        final int vertexFrom = path[depth - 1];
+        if (nextEdge[vertexFrom] < successors[vertexFrom].length) {
+          final int vertexTo = successors[vertexFrom][nextEdge[vertexFrom]++];
+          if (indexes[vertexTo] == -1) {
+            // Successor vertex has not yet been visited; descend into it
+            indexes[vertexTo] = index;
+            lowlinks[vertexTo] = index;
+            index++;
+            stack[stackSize++] = vertexTo;
+            onStack[vertexTo] = true;
+            path[depth++] = vertexTo;
+          } else if (onStack[vertexTo]) {
+            // Successor vertex is on stack, hence in the current SCC
+            lowlinks[vertexFrom] = Math.min(lowlinks[vertexFrom], indexes[vertexTo]);
+          }
+          continue;
+        }
+
+        // All successors have been visited
+        depth--;
+        if (lowlinks[vertexFrom] == indexes[vertexFrom]) {
+          final LinkedList<T> scc = new LinkedList<>();
+          int sccVertex;
+          do {
+            sccVertex = stack[--stackSize];
+            onStack[sccVertex] = false;
+            scc.addFirst(vertices.get(sccVertex).getValue());
+          } while (sccVertex != vertexFrom);
+          if (scc.size() > 1) {
+            stronglyConnectedComponents.add(scc);
+          }
+        }
+        if (depth > 0) {
+          final int parent = path[depth - 1];
+          lowlinks[parent] = Math.min(lowlinks[parent], lowlinks[vertexFrom]);
+        }
       }
     }
+
+    return stronglyConnectedComponents;
   }
 }
@@ -34,10 +34,12 @@ import java.util.Map;
 public final class Vertex<T> {
 
   private final Map<String, Object> attributes;
+  private final int index;
   private final T value;
 
-  Vertex(final T value) {
+  Vertex(final T value, final int index) {
     this.value = value;
+    this.index = index;
     attributes = new HashMap<>();
   }
 
@@ -81,6 +83,15 @@ public final class Vertex<T> {
     return (V) attributes.get(key);
   }
 
+  /**
+   * Position of the vertex in the graph it belongs to, in the order in which vertices were added.
+   *
+   * @return Index of the vertex
+   */
+  int getIndex() {
+    return index;
+  }
+
   boolean hasAttribute(final String key) {
     return attributes.containsKey(key);
   }
@@ -0,0 +1,333 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.ioresource;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.ioresource.ParallelGZIPOutputStream.HEADER_SIZE;
+import static us.fatehi.utility.ioresource.ParallelGZIPOutputStream.TRAILER_SIZE;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Input stream that reads gzip data. If the data was written by {@link ParallelGZIPOutputStream},
+ * the gzip members are decompressed in parallel, on a thread pool. Any other gzip data is read as
+ * a single stream.
+ */
+public final class ParallelGZIPInputStream extends InputStream {
+
+  private static final byte[] EMPTY = new byte[0];
+
+  /**
+   * Checks if a header is the header of a gzip member written by {@link ParallelGZIPOutputStream}.
+   */
+  private static boolean isBlockHeader(final byte[] header, final int length) {
+    return length == HEADER_SIZE
+        && (header[0] & 0xFF) == 0x1f
+        && (header[1] & 0xFF) == 0x8b
+        && header[2] == 8
+        && header[3] == 0x04
+        && header[10] == 8
+        && header[11] == 0
+        && header[12] == 'S'
+        && header[13] == 'C'
+        && header[14] == 4
+        && header[15] == 0;
+  }
+
+  /**
+   * Decompresses a complete gzip member, and checks the length and checksum of the data.
+   *
+   * @param member Gzip member
+   * @return Decompressed data
+   */
+  private static byte[] decompress(final byte[] member) throws IOException {
+    final int size = member.length;
+    final int crc = readInt(member, size - 8);
+    final int length = readInt(member, size - 4);
+    if (length < 0) {
+      throw new ZipException("Corrupt gzip block");
+    }
+
+    final byte[] data = new byte[length];
+    final Inflater inflater = new Inflater(true);
+    try {
+      inflater.setInput(member, HEADER_SIZE, size - HEADER_SIZE - TRAILER_SIZE);
+      int count = 0;
+      while (count < length) {
+        final int inflated = inflater.inflate(data, count, length - count);
+        if (inflated == 0
+            && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+          throw new ZipException("Corrupt gzip block");
+        }
+        count += inflated;
+      }
+      // All the data has been read, so the compressed stream should end here
+      if (!inflater.finished()) {
+        final int inflated = inflater.inflate(new byte[1]);
+        if (inflated != 0 || !inflater.finished()) {
+          throw new ZipException("Corrupt gzip block");
+        }
+      }
+    } catch (final DataFormatException e) {
+      throw new ZipException("Corrupt gzip block, " + e.getMessage());
+    } finally {
+      inflater.end();
+    }
+
+    final CRC32 checksum = new CRC32();
+    checksum.update(data, 0, length);
+    if ((int) checksum.getValue() != crc) {
+      throw new ZipException("Corrupt gzip block, checksum does not match");
+    }
+    return data;
+  }
+
+  private static int readFully(final InputStream in, final byte[] bytes, final int offset)
+      throws IOException {
+    int count = offset;
+    while (count < bytes.length) {
+      final int read = in.read(bytes, count, bytes.length - count);
+      if (read == -1) {
+        break;
+      }
+      count += read;
+    }
+    return count;
+  }
+
+  private static int readInt(final byte[] bytes, final int offset) {
+    return (bytes[offset] & 0xFF)
+        | (bytes[offset + 1] & 0xFF) << 8
+        | (bytes[offset + 2] & 0xFF) << 16
+        | (bytes[offset + 3] & 0xFF) << 24;
+  }
+
+  private final InputStream in;
+  private final InputStream delegate;
+  private final ExecutorService executor;
+  private final int maxPendingBlocks;
+  private final Deque<Future<byte[]>> pendingBlocks;
+  private byte[] block;
+  private int position;
+  private boolean endOfInput;
+  private boolean closed;
+
+  public ParallelGZIPInputStream(final InputStream in) throws IOException {
+    this(in, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a decompressing input stream.
+   *
+   * @param in Input stream to read compressed data from
+   * @param executor Executor that decompresses blocks
+   */
+  public ParallelGZIPInputStream(final InputStream in, final ExecutorService executor)
+      throws IOException {
+    requireNonNull(in, "No input stream provided");
+    this.executor = requireNonNull(executor, "No executor provided");
+    if (in.markSupported()) {
+      this.in = in;
+    } else {
+      this.in = new BufferedInputStream(in);
+    }
+
+    // Peek at the first header, to find out how the data was compressed
+    final byte[] header = new byte[HEADER_SIZE];
+    this.in.mark(HEADER_SIZE);
+    final int length = readFully(this.in, header, 0);
+    this.in.reset();
+    if (isBlockHeader(header, length)) {
+      delegate = null;
+    } else {
+      delegate = new GZIPInputStream(this.in, 64 * 1024);
+    }
+
+    // Limit the number of blocks that are held in memory at any time
+    maxPendingBlocks = 2 * Runtime.getRuntime().availableProcessors();
+    pendingBlocks = new ArrayDeque<>();
+    block = EMPTY;
+  }
+
+  @Override
+  public int available() throws IOException {
+    ensureOpen();
+    if (delegate != null) {
+      return delegate.available();
+    }
+    return block.length - position;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    for (final Future<byte[]> pendingBlock : pendingBlocks) {
+      pendingBlock.cancel(true);
+    }
+    pendingBlocks.clear();
+    block = EMPTY;
+    if (delegate != null) {
+      delegate.close();
+    } else {
+      in.close();
+    }
+  }
+
+  @Override
+  public int read() throws IOException {
+    ensureOpen();
+    if (delegate != null) {
+      return delegate.read();
+    }
+    if (!nextBlock()) {
+      return -1;
+    }
+    return block[position++] & 0xFF;
+  }
+
+  @Override
+  public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+    requireNonNull(bytes, "No buffer provided");
+    if (offset < 0 || length < 0 || length > bytes.length - offset) {
+      throw new IndexOutOfBoundsException();
+    }
+    ensureOpen();
+    if (delegate != null) {
+      return delegate.read(bytes, offset, length);
+    }
+    if (length == 0) {
+      return 0;
+    }
+    if (!nextBlock()) {
+      return -1;
+    }
+
+    final int count = Math.min(length, block.length - position);
+    System.arraycopy(block, position, bytes, offset, count);
+    position += count;
+    return count;
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+  }
+
+  /**
+   * Moves on to the next decompressed block once the current block has been read, and keeps enough
+   * blocks submitted for decompression to keep the thread pool busy.
+   *
+   * @return False if there is no more data
+   */
+  private boolean nextBlock() throws IOException {
+    while (position == block.length) {
+      submitBlocks();
+      if (pendingBlocks.isEmpty()) {
+        return false;
+      }
+
+      final Future<byte[]> pendingBlock = pendingBlocks.remove();
+      try {
+        block = pendingBlock.get();
+        position = 0;
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while decompressing data");
+      } catch (final ExecutionException e) {
+        // Report corrupt data as it was found, even if the executor wrapped the exception
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+          if (cause instanceof IOException) {
+            throw (IOException) cause;
+          }
+        }
+        throw new IOException("Could not decompress data", e.getCause());
+      }
+    }
+    submitBlocks();
+    return true;
+  }
+
+  /**
+   * Reads the next gzip member from the input.
+   *
+   * @return Gzip member, or null at the end of the input
+   */
+  private byte[] readMember() throws IOException {
+    final byte[] header = new byte[HEADER_SIZE];
+    final int length = readFully(in, header, 0);
+    if (length == 0) {
+      return null;
+    }
+    if (!isBlockHeader(header, length)) {
+      throw new ZipException("Not a block compressed gzip member");
+    }
+
+    final int size = readInt(header, 16);
+    if (size < HEADER_SIZE + TRAILER_SIZE) {
+      throw new ZipException("Corrupt gzip block header");
+    }
+    final byte[] member = new byte[size];
+    System.arraycopy(header, 0, member, 0, HEADER_SIZE);
+    if (readFully(in, member, HEADER_SIZE) != size) {
+      throw new EOFException("Unexpected end of gzip block");
+    }
+    return member;
+  }
+
+  private void submitBlocks() throws IOException {
+    while (!endOfInput && pendingBlocks.size() < maxPendingBlocks) {
+      final byte[] member = readMember();
+      if (member == null) {
+        endOfInput = true;
+      } else {
+        pendingBlocks.add(executor.submit(() -> decompress(member)));
+      }
+    }
+  }
+}
@@ -0,0 +1,259 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.ioresource;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Output stream that compresses data in blocks, on a thread pool, and writes each block as a
+ * separate gzip member. Any gzip reader can read the output, since gzip allows a file to be made
+ * up of several members. The size of each member is recorded in an extra field of its header, so
+ * that {@link ParallelGZIPInputStream} can decompress the members in parallel as well.
+ */
+public final class ParallelGZIPOutputStream extends OutputStream {
+
+  /** Default size of uncompressed data in a block. */
+  public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+  static final int HEADER_SIZE = 20;
+  static final int TRAILER_SIZE = 8;
+
+  /**
+   * Compresses a block of data into a complete gzip member.
+   *
+   * @param data Data to compress
+   * @param length Length of the data in the buffer
+   * @param level Compression level
+   * @return Gzip member
+   */
+  private static byte[] compress(final byte[] data, final int length, final int level) {
+    final ByteArrayOutputStream member = new ByteArrayOutputStream(length / 2 + 64);
+    // Header, with a placeholder for the member size, which is filled in at the end
+    member.write(
+        new byte[] {
+          0x1f, (byte) 0x8b, Deflater.DEFLATED, 0x04, 0, 0, 0, 0, 0, (byte) 0xff, 8, 0, 'S', 'C', 4,
+          0, 0, 0, 0, 0
+        },
+        0,
+        HEADER_SIZE);
+
+    final Deflater deflater = new Deflater(level, true);
+    try {
+      deflater.setInput(data, 0, length);
+      deflater.finish();
+      final byte[] buffer = new byte[64 * 1024];
+      while (!deflater.finished()) {
+        final int count = deflater.deflate(buffer);
+        member.write(buffer, 0, count);
+      }
+    } finally {
+      deflater.end();
+    }
+
+    final CRC32 crc = new CRC32();
+    crc.update(data, 0, length);
+    writeInt(member, (int) crc.getValue());
+    writeInt(member, length);
+
+    final byte[] bytes = member.toByteArray();
+    final int size = bytes.length;
+    bytes[16] = (byte) size;
+    bytes[17] = (byte) (size >>> 8);
+    bytes[18] = (byte) (size >>> 16);
+    bytes[19] = (byte) (size >>> 24);
+    return bytes;
+  }
+
+  private static void writeInt(final ByteArrayOutputStream out, final int value) {
+    out.write(value);
+    out.write(value >>> 8);
+    out.write(value >>> 16);
+    out.write(value >>> 24);
+  }
+
+  private final OutputStream out;
+  private final int level;
+  private final int blockSize;
+  private final ExecutorService executor;
+  private final int maxPendingBlocks;
+  private final Deque<Future<byte[]>> pendingBlocks;
+  private byte[] block;
+  private int count;
+  private boolean written;
+  private boolean closed;
+
+  public ParallelGZIPOutputStream(final OutputStream out) {
+    this(out, Deflater.DEFAULT_COMPRESSION, DEFAULT_BLOCK_SIZE, ForkJoinPool.commonPool());
+  }
+
+  public ParallelGZIPOutputStream(final OutputStream out, final int level) {
+    this(out, level, DEFAULT_BLOCK_SIZE, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a compressed output stream.
+   *
+   * @param out Output stream to write compressed data to
+   * @param level Compression level, from 0 to 9, or -1 for the default level
+   * @param blockSize Size of uncompressed data in each block
+   * @param executor Executor that compresses blocks
+   */
+  public ParallelGZIPOutputStream(
+      final OutputStream out,
+      final int level,
+      final int blockSize,
+      final ExecutorService executor) {
+    this.out = requireNonNull(out, "No output stream provided");
+    this.executor = requireNonNull(executor, "No executor provided");
+    if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+      throw new IllegalArgumentException("Invalid compression level, " + level);
+    }
+    if (blockSize <= 0) {
+      throw new IllegalArgumentException("Block size must be positive");
+    }
+    this.level = level;
+    this.blockSize = blockSize;
+
+    // Limit the number of blocks that are held in memory at any time
+    maxPendingBlocks = 2 * Runtime.getRuntime().availableProcessors();
+    pendingBlocks = new ArrayDeque<>();
+    block = new byte[blockSize];
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    try {
+      // An empty stream still needs one member to be a valid gzip file
+      if (count > 0 || !written) {
+        submitBlock();
+      }
+      while (!pendingBlocks.isEmpty()) {
+        writeNextBlock();
+      }
+    } finally {
+      for (final Future<byte[]> pendingBlock : pendingBlocks) {
+        pendingBlock.cancel(true);
+      }
+      out.close();
+    }
+  }
+
+  /**
+   * Writes out blocks that have already been submitted for compression. The block that is being
+   * filled is not written out, so that flushing does not produce small blocks.
+   */
+  @Override
+  public void flush() throws IOException {
+    ensureOpen();
+    while (!pendingBlocks.isEmpty()) {
+      writeNextBlock();
+    }
+    out.flush();
+  }
+
+  @Override
+  public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+    requireNonNull(bytes, "No buffer provided");
+    if (offset < 0 || length < 0 || length > bytes.length - offset) {
+      throw new IndexOutOfBoundsException();
+    }
+    ensureOpen();
+
+    int position = offset;
+    int remaining = length;
+    while (remaining > 0) {
+      final int copied = Math.min(remaining, blockSize - count);
+      System.arraycopy(bytes, position, block, count, copied);
+      count += copied;
+      position += copied;
+      remaining -= copied;
+      if (count == blockSize) {
+        submitBlock();
+      }
+    }
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    ensureOpen();
+    block[count++] = (byte) b;
+    if (count == blockSize) {
+      submitBlock();
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+  }
+
+  private void submitBlock() throws IOException {
+    final byte[] data = block;
+    final int length = count;
+    pendingBlocks.add(executor.submit(() -> compress(data, length, level)));
+    written = true;
+    block = new byte[blockSize];
+    count = 0;
+
+    while (pendingBlocks.size() > maxPendingBlocks) {
+      writeNextBlock();
+    }
+  }
+
+  private void writeNextBlock() throws IOException {
+    final Future<byte[]> pendingBlock = pendingBlocks.remove();
+    try {
+      out.write(pendingBlock.get());
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while compressing data");
+    } catch (final ExecutionException e) {
+      throw new IOException("Could not compress data", e.getCause());
+    }
+  }
+}
@@ -221,6 +221,29 @@ public class DatabaseUtilityTest {
     assertThat(exception.getMessage(), startsWith("Too many columns"));
   }
 
+  @Test
+  public void executeSqlForScalarWithStatement() throws SQLException {
+    try (final Statement statement = connection.createStatement()) {
+      // Statement can be reused across queries
+      assertThat(
+          DatabaseUtility.executeSqlForScalar(
+              statement, "SELECT COL3 FROM TABLE1 WHERE COL1 = 'ABC'"),
+          is(new BigDecimal(2)));
+      assertThat(
+          DatabaseUtility.executeSqlForLong(
+              statement, "SELECT COL3 FROM TABLE1 WHERE ENTITY_ID = 1"),
+          is(2L));
+
+      final Exception exception =
+          assertThrows(
+              SQLException.class,
+              () -> DatabaseUtility.executeSqlForScalar(statement, "SELECT COL3 FROM TABLE1"));
+      assertThat(exception.getMessage(), startsWith("Too many rows"));
+
+      assertThat(statement.isClosed(), is(false));
+    }
+  }
+
   @Test
   public void readResultsVector() throws SQLException {
     final Statement statement = connection.createStatement();
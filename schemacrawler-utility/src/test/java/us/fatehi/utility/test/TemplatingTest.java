@@ -40,10 +40,44 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import us.fatehi.utility.CompiledTemplate;
 import us.fatehi.utility.TemplatingUtility;
 
 public class TemplatingTest {
 
+  @Test
+  public void compileTemplate() throws Exception {
+    final Map<String, String> values = new HashMap<>();
+    values.put("one", "one.value");
+    values.put("user.name", "overridden");
+
+    final CompiledTemplate template =
+        TemplatingUtility.compileTemplate("Has ${ one }, ${ undefined } and ${ bad variable");
+    assertThat(template.hasVariable("one"), is(true));
+    assertThat(template.hasVariable("undefined"), is(true));
+    assertThat(template.hasVariable("bad variable"), is(false));
+    assertThat(template.getTemplate(), is("Has ${ one }, ${ undefined } and ${ bad variable"));
+
+    assertThat(template.expand(values), is("Has one.value, ${ undefined } and ${ bad variable"));
+    assertThat(template.expand(values), is("Has one.value, ${ undefined } and ${ bad variable"));
+    assertThat(template.expand(null), is("Has ${ one }, ${ undefined } and ${ bad variable"));
+
+    final CompiledTemplate systemTemplate =
+        TemplatingUtility.compileTemplate("${one} ${user.name}");
+    assertThat(
+        systemTemplate.expandWithSystemProperties(new HashMap<>()),
+        is("${one} " + System.getProperty("user.name")));
+    assertThat(systemTemplate.expandWithSystemProperties(values), is("one.value overridden"));
+
+    final CompiledTemplate blankTemplate = TemplatingUtility.compileTemplate("Has ${} and ${ }");
+    assertThat(blankTemplate.expandWithSystemProperties(null), is("Has ${} and ${ }"));
+    assertThat(blankTemplate.expandWithSystemProperties(values), is("Has ${} and ${ }"));
+    assertThat(TemplatingUtility.expandTemplate("Has ${}"), is("Has ${}"));
+
+    final CompiledTemplate noVariables = TemplatingUtility.compileTemplate("No variables");
+    assertThat(noVariables.expand(values), is("No variables"));
+  }
+
   @Test
   public void expandTemplate() throws Exception {
     final Map<String, String> values = new HashMap<>();
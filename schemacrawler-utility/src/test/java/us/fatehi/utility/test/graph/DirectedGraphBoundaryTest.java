@@ -40,6 +40,24 @@ import us.fatehi.utility.graph.DirectedGraph;
  */
 public class DirectedGraphBoundaryTest extends GraphTestBase {
 
+  @Test
+  public void deepGraph() throws Exception {
+    final int vertexCount = 100_000;
+    final DirectedGraph<Integer> graph = new DirectedGraph<>("");
+    for (int i = 0; i < vertexCount - 1; i++) {
+      graph.addEdge(i, i + 1);
+    }
+
+    assertThat(containsCycleSimple(graph), is(false));
+    assertThat(containsCycleTarjan(graph), is(false));
+    assertThat(topologicalSort(graph).size(), is(vertexCount));
+
+    graph.addEdge(vertexCount - 1, 0);
+
+    assertThat(containsCycleSimple(graph), is(true));
+    assertThat(containsCycleTarjan(graph), is(true));
+  }
+
   @Test
   public void emptyGraph() throws Exception {
     final DirectedGraph<String> graph = new DirectedGraph<>("");
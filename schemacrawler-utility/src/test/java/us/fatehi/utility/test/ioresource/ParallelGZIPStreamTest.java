@@ -0,0 +1,160 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.test.ioresource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.utility.ioresource.ParallelGZIPInputStream;
+import us.fatehi.utility.ioresource.ParallelGZIPOutputStream;
+
+public class ParallelGZIPStreamTest {
+
+  @Test
+  public void badArgs() {
+    final OutputStream out = new ByteArrayOutputStream();
+    assertThrows(IllegalArgumentException.class, () -> new ParallelGZIPOutputStream(out, 10));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ParallelGZIPOutputStream(out, 1, 0, ForkJoinPool.commonPool()));
+    assertThrows(NullPointerException.class, () -> new ParallelGZIPOutputStream(null));
+    assertThrows(NullPointerException.class, () -> new ParallelGZIPInputStream(null));
+  }
+
+  @Test
+  public void corruptBlock() throws IOException {
+    final byte[] compressed = compress(newData(10_000), 1024);
+    // Flip a bit in the checksum of the last block
+    compressed[compressed.length - 6] ^= 1;
+
+    assertThrows(ZipException.class, () -> decompress(new ParallelGZIPInputStream(in(compressed))));
+  }
+
+  @Test
+  public void emptyStream() throws IOException {
+    final byte[] compressed = compress(new byte[0], 1024);
+
+    assertThat(decompress(new GZIPInputStream(in(compressed))).length, is(0));
+    assertThat(decompress(new ParallelGZIPInputStream(in(compressed))).length, is(0));
+  }
+
+  @Test
+  public void plainGzip() throws IOException {
+    final byte[] data = newData(10_000);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final OutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(data);
+    }
+
+    final byte[] compressed = out.toByteArray();
+    assertThat(
+        Arrays.equals(decompress(new ParallelGZIPInputStream(in(compressed))), data), is(true));
+  }
+
+  @Test
+  public void roundTrip() throws IOException {
+    final byte[] data = newData(100_000);
+    // Use a small block size, so that the data is split across many blocks
+    final byte[] compressed = compress(data, 1024);
+
+    assertThat(Arrays.equals(decompress(new GZIPInputStream(in(compressed))), data), is(true));
+    assertThat(
+        Arrays.equals(decompress(new ParallelGZIPInputStream(in(compressed))), data), is(true));
+
+    try (final InputStream in = new ParallelGZIPInputStream(in(compressed))) {
+      for (final byte b : data) {
+        assertThat(in.read(), is(b & 0xFF));
+      }
+      assertThat(in.read(), is(-1));
+    }
+  }
+
+  @Test
+  public void truncatedStream() throws IOException {
+    final byte[] compressed = compress(newData(10_000), 1024);
+    final byte[] truncated = Arrays.copyOf(compressed, compressed.length - 3);
+
+    assertThrows(IOException.class, () -> decompress(new ParallelGZIPInputStream(in(truncated))));
+  }
+
+  private byte[] compress(final byte[] data, final int blockSize) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final OutputStream gzip =
+        new ParallelGZIPOutputStream(out, 6, blockSize, ForkJoinPool.commonPool())) {
+      // Write in uneven chunks, to cross block boundaries
+      int position = 0;
+      while (position < data.length) {
+        final int length = Math.min(700, data.length - position);
+        gzip.write(data, position, length);
+        position += length;
+      }
+    }
+    return out.toByteArray();
+  }
+
+  private byte[] decompress(final InputStream in) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final InputStream gzip = in) {
+      final byte[] buffer = new byte[512];
+      int count;
+      while ((count = gzip.read(buffer)) != -1) {
+        out.write(buffer, 0, count);
+      }
+    }
+    return out.toByteArray();
+  }
+
+  private InputStream in(final byte[] bytes) {
+    return new ByteArrayInputStream(bytes);
+  }
+
+  private byte[] newData(final int size) {
+    final Random random = new Random(1);
+    final byte[] data = new byte[size];
+    for (int i = 0; i < size; i++) {
+      data[i] = (byte) (random.nextInt(4) == 0 ? random.nextInt() : 'a' + i % 7);
+    }
+    return data;
+  }
+}